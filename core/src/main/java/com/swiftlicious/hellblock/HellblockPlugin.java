@@ -12,6 +12,7 @@ import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -20,6 +21,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -37,6 +39,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.swiftlicious.hellblock.api.Metrics;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
 import com.swiftlicious.hellblock.api.Reloadable;
 import com.swiftlicious.hellblock.api.TpsMonitor;
 import com.swiftlicious.hellblock.challenges.ChallengeManager;
@@ -131,6 +134,7 @@ import com.swiftlicious.hellblock.logging.PluginLogger;
 import com.swiftlicious.hellblock.loot.LootManager;
 import com.swiftlicious.hellblock.mechanics.MechanicType;
 import com.swiftlicious.hellblock.placeholders.PlaceholderManager;
+import com.swiftlicious.hellblock.player.GameProfileBuilder;
 import com.swiftlicious.hellblock.player.UserData;
 import com.swiftlicious.hellblock.player.mailbox.MailboxManager;
 import com.swiftlicious.hellblock.protection.ProtectionManager;
@@ -239,6 +243,7 @@ public class HellblockPlugin extends JavaPlugin {
 
 	protected final Map<Class<?>, ActionManager<?>> actionManagers = new HashMap<>();
 	protected final Map<Class<?>, RequirementManager<?>> requirementManagers = new HashMap<>();
+	protected final List<PerformanceReporter> performanceReporters = new CopyOnWriteArrayList<>();
 
 	private static final String ANSI_RESET = "\u001B[0m";
 	private static final String ANSI_RED = "\u001B[31m";
@@ -416,6 +421,7 @@ public class HellblockPlugin extends JavaPlugin {
 		// after ConfigManager
 		this.debugger = getConfigManager().debug() ? (s) -> getPluginLogger().info("[DEBUG] " + s.get()) : (s) -> {
 		};
+		GameProfileBuilder.loadCache(new File(getDataFolder(), "cache/profiles.json"));
 		this.coopManager = new CoopManager(this);
 		this.islandManager = new IslandManager(this);
 		this.storageManager = new StorageManager(this);
@@ -725,6 +731,7 @@ public class HellblockPlugin extends JavaPlugin {
 		if (this.islandLevelManager != null) {
 			this.islandLevelManager.disableSafely().join();
 		}
+		GameProfileBuilder.saveCache(new File(getDataFolder(), "cache/profiles.json"));
 		if (this.senderFactory != null) {
 			this.senderFactory.close();
 		}
@@ -1133,6 +1140,27 @@ public class HellblockPlugin extends JavaPlugin {
 		return this.placementDetector;
 	}
 
+	/**
+	 * Registers a component exposing runtime performance counters. Registering the
+	 * same reporter name twice replaces the previous reporter.
+	 *
+	 * @param reporter the reporter to register
+	 */
+	public void registerPerformanceReporter(@NotNull PerformanceReporter reporter) {
+		this.performanceReporters.removeIf(existing -> existing.getReporterName().equals(reporter.getReporterName()));
+		this.performanceReporters.add(reporter);
+	}
+
+	/**
+	 * Gets all registered performance reporters.
+	 *
+	 * @return an unmodifiable view of the registered reporters
+	 */
+	@NotNull
+	public List<PerformanceReporter> getPerformanceReporters() {
+		return Collections.unmodifiableList(this.performanceReporters);
+	}
+
 	/**
 	 * Gets the tps monitor for handling tps-related functionality.
 	 *
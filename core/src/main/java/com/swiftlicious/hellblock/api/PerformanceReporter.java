@@ -0,0 +1,32 @@
+package com.swiftlicious.hellblock.api;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A component that exposes runtime performance counters, such as cache hit
+ * rates, queue depths or timings.
+ * <p>
+ * Reporters are registered with the plugin through
+ * {@code HellblockPlugin#registerPerformanceReporter(PerformanceReporter)} and
+ * are listed by the {@code /hellblock debug metrics} command.
+ */
+public interface PerformanceReporter {
+
+	/**
+	 * @return a short, unique name identifying this reporter (e.g.
+	 *         {@code protection})
+	 */
+	@NotNull
+	String getReporterName();
+
+	/**
+	 * Captures the current counter values. Implementations should return a fresh,
+	 * ordered map so that the output is stable between invocations.
+	 *
+	 * @return a map of counter labels to their formatted values
+	 */
+	@NotNull
+	Map<String, String> getPerformanceReport();
+}
@@ -47,6 +47,7 @@ import com.swiftlicious.hellblock.commands.sub.CoopTrustCommand;
 import com.swiftlicious.hellblock.commands.sub.CoopUntrustCommand;
 import com.swiftlicious.hellblock.commands.sub.DebugBiomeCommand;
 import com.swiftlicious.hellblock.commands.sub.DebugLootCommand;
+import com.swiftlicious.hellblock.commands.sub.DebugMetricsCommand;
 import com.swiftlicious.hellblock.commands.sub.DebugNBTCommand;
 import com.swiftlicious.hellblock.commands.sub.DebugSNBTCommand;
 import com.swiftlicious.hellblock.commands.sub.DebugWorldsCommand;
@@ -105,8 +106,8 @@ public final class BukkitCommandManager extends AbstractCommandManager<CommandSe
 			new ExportDataCommand(this), new AddStatisticsCommand(this), new SetStatisticsCommand(this),
 			new ResetStatisticsCommand(this), new QueryStatisticsCommand(this), new DebugLootCommand(this),
 			new DebugNBTCommand(this), new DebugBiomeCommand(this), new DebugSNBTCommand(this),
-			worldsCommand = new DebugWorldsCommand(this), new HellblockCommand(this), new AdminTeleportCommand(this),
-			new AdminHelpCommand(this), rollbackCommand = new AdminRollbackCommand(this),
+			worldsCommand = new DebugWorldsCommand(this), new DebugMetricsCommand(this), new HellblockCommand(this),
+			new AdminTeleportCommand(this), new AdminHelpCommand(this), rollbackCommand = new AdminRollbackCommand(this),
 			rollbackCommand.new AdminRollbackListCommand(this), new AdminInspectCommand(this),
 			new AdminUnlockCommand(this), new AdminForceBiomeCommand(this), new AdminForceFlagCommand(this),
 			new AdminForceHomeCommand(this), new AdminFixOwnerCommand(this), new AdminCleanupCommand(this),
@@ -0,0 +1,67 @@
+package com.swiftlicious.hellblock.commands.sub;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.command.CommandSender;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.parser.standard.StringParser;
+import org.incendo.cloud.suggestion.Suggestion;
+
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.commands.BukkitCommandFeature;
+import com.swiftlicious.hellblock.commands.HellblockCommandManager;
+import com.swiftlicious.hellblock.config.locale.MessageConstants;
+import com.swiftlicious.hellblock.handlers.AdventureHelper;
+
+public class DebugMetricsCommand extends BukkitCommandFeature<CommandSender> {
+
+	public DebugMetricsCommand(HellblockCommandManager<CommandSender> commandManager) {
+		super(commandManager);
+	}
+
+	@Override
+	public Command.Builder<? extends CommandSender> assembleCommand(CommandManager<CommandSender> manager,
+			Command.Builder<CommandSender> builder) {
+		return builder.optional("reporter", StringParser.stringComponent().suggestionProvider((context, input) -> {
+			final List<String> suggestions = plugin.getPerformanceReporters().stream()
+					.map(PerformanceReporter::getReporterName).toList();
+			return CompletableFuture.completedFuture(suggestions.stream().map(Suggestion::suggestion).toList());
+		})).handler(context -> {
+			String reporterName = context.getOrDefault("reporter", null);
+			List<PerformanceReporter> reporters = plugin.getPerformanceReporters();
+
+			if (reporters.isEmpty()) {
+				handleFeedback(context, MessageConstants.COMMAND_DEBUG_METRICS_NONE);
+				return;
+			}
+
+			if (reporterName != null) {
+				reporters = reporters.stream()
+						.filter(reporter -> reporter.getReporterName().equalsIgnoreCase(reporterName)).toList();
+				if (reporters.isEmpty()) {
+					handleFeedback(context, MessageConstants.COMMAND_DEBUG_METRICS_NOT_FOUND,
+							AdventureHelper.miniMessageToComponent(reporterName));
+					return;
+				}
+			}
+
+			for (PerformanceReporter reporter : reporters) {
+				handleFeedback(context, MessageConstants.COMMAND_DEBUG_METRICS_HEADER,
+						AdventureHelper.miniMessageToComponent(reporter.getReporterName()));
+				for (Map.Entry<String, String> entry : reporter.getPerformanceReport().entrySet()) {
+					handleFeedback(context, MessageConstants.COMMAND_DEBUG_METRICS_ENTRY,
+							AdventureHelper.miniMessageToComponent(entry.getKey()),
+							AdventureHelper.miniMessageToComponent(entry.getValue()));
+				}
+			}
+		});
+	}
+
+	@Override
+	public String getFeatureID() {
+		return "debug_metrics";
+	}
+}
@@ -89,6 +89,14 @@ public abstract class ConfigHandler implements ConfigLoader, Reloadable {
 	protected String[] blockDetectOrder = new String[0];
 	protected int dataSaveInterval;
 	protected boolean logDataSaving;
+	protected int placeholderCacheRefresh;
+	protected int placeholderCacheExpire;
+	protected String placeholderLoadingValue;
+	protected String profileEndpoint;
+	protected int profileCacheMinutes;
+	protected int profileCacheSize;
+	protected int profileRequestsPerMinute;
+	protected int islandTickBudgetMs;
 	protected boolean metrics;
 	protected boolean checkUpdate;
 	protected boolean debug;
@@ -130,7 +138,12 @@ public abstract class ConfigHandler implements ConfigLoader, Reloadable {
 	protected boolean voidTeleport;
 	protected boolean lightningDeath;
 	protected boolean asyncWorldSaving;
+	protected boolean sectorRegionFiles;
+	protected int worldPoolSize;
+	protected double worldPoolMinTps;
+	protected boolean suspendIdleWorlds;
 	protected String schematicPaster;
+	protected boolean chunkOrderedPaste;
 	protected String worldName;
 	protected String chestInventoryName;
 	protected String spawnCommand;
@@ -171,6 +184,7 @@ public abstract class ConfigHandler implements ConfigLoader, Reloadable {
 	protected int radius;
 	protected int fireChance;
 	protected int delay;
+	protected int weatherSamples;
 	protected boolean warnPlayers;
 	protected boolean hurtCreatures;
 	protected boolean explodeTNT;
@@ -251,10 +265,30 @@ public abstract class ConfigHandler implements ConfigLoader, Reloadable {
 		return asyncWorldSaving;
 	}
 
+	public boolean sectorRegionFiles() {
+		return sectorRegionFiles;
+	}
+
+	public int worldPoolSize() {
+		return worldPoolSize;
+	}
+
+	public double worldPoolMinTps() {
+		return worldPoolMinTps;
+	}
+
+	public boolean suspendIdleWorlds() {
+		return suspendIdleWorlds;
+	}
+
 	public String schematicPaster() {
 		return schematicPaster;
 	}
 
+	public boolean chunkOrderedPaste() {
+		return chunkOrderedPaste;
+	}
+
 	public String worldName() {
 		return worldName;
 	}
@@ -383,6 +417,10 @@ public abstract class ConfigHandler implements ConfigLoader, Reloadable {
 		return delay;
 	}
 
+	public int weatherSamples() {
+		return weatherSamples;
+	}
+
 	public boolean willWarnPlayers() {
 		return warnPlayers;
 	}
@@ -463,6 +501,38 @@ public abstract class ConfigHandler implements ConfigLoader, Reloadable {
 		return logDataSaving;
 	}
 
+	public int placeholderCacheRefresh() {
+		return placeholderCacheRefresh;
+	}
+
+	public int placeholderCacheExpire() {
+		return placeholderCacheExpire;
+	}
+
+	public String placeholderLoadingValue() {
+		return placeholderLoadingValue;
+	}
+
+	public String profileEndpoint() {
+		return profileEndpoint;
+	}
+
+	public int profileCacheMinutes() {
+		return profileCacheMinutes;
+	}
+
+	public int profileCacheSize() {
+		return profileCacheSize;
+	}
+
+	public int profileRequestsPerMinute() {
+		return profileRequestsPerMinute;
+	}
+
+	public int islandTickBudgetMs() {
+		return islandTickBudgetMs;
+	}
+
 	public boolean metrics() {
 		return metrics;
 	}
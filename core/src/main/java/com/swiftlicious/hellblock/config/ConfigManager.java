@@ -71,6 +71,7 @@ import com.swiftlicious.hellblock.loot.operation.MultiplyWeightOperation;
 import com.swiftlicious.hellblock.loot.operation.ReduceWeightOperation;
 import com.swiftlicious.hellblock.loot.operation.WeightOperation;
 import com.swiftlicious.hellblock.mechanics.MechanicType;
+import com.swiftlicious.hellblock.player.GameProfileBuilder;
 import com.swiftlicious.hellblock.utils.EnchantmentUtils;
 import com.swiftlicious.hellblock.utils.ItemStackUtils;
 import com.swiftlicious.hellblock.utils.ListUtils;
@@ -284,14 +285,19 @@ public final class ConfigManager extends ConfigHandler {
 					"The defined general.spawn-command field in the config.yml was not a valid command. Defaulting to /spawn.");
 		}
 		absoluteWorldPath = config.getString("general.worlds.absolute-world-folder-path", "");
+		sectorRegionFiles = config.getBoolean("general.worlds.sector-region-files", false);
 		asyncWorldSaving = config.getBoolean("other-settings.async-world-saving", true);
 		perPlayerWorlds = config.getBoolean("general.worlds.per-player-worlds", false);
+		worldPoolSize = config.getInt("general.worlds.world-pool.size", 2);
+		worldPoolMinTps = config.getDouble("general.worlds.world-pool.min-tps", 19.0);
+		suspendIdleWorlds = config.getBoolean("general.worlds.suspend-idle-worlds", false);
 
 		transferIslands = config.getBoolean("hellblock.can-transfer-islands", true);
 		disableGenerationAnimation = config.getBoolean("hellblock.disable-generation-animation", false);
 		disableForcedIslandDecision = config.getBoolean("hellblock.disable-force-island-decision", false);
 		linkHellblocks = config.getBoolean("hellblock.can-link-hellblocks", true);
 		schematicPaster = config.getString("hellblock.schematic-paster", "worldedit");
+		chunkOrderedPaste = config.getBoolean("hellblock.chunk-ordered-paste", false);
 		config.getStringList("hellblock.island-options", new ArrayList<>()).stream()
 				.forEach(option -> islandOptions.add(IslandOptions.valueOf(option.toUpperCase(Locale.ENGLISH))));
 		height = config.getInt("hellblock.height", 150);
@@ -395,6 +401,7 @@ public final class ConfigManager extends ConfigHandler {
 		radius = Math.abs(config.getInt("nether-weather-options.radius", 16));
 		fireChance = Math.abs(config.getInt("nether-weather-options.fire-chance", 1));
 		delay = Math.abs(config.getInt("nether-weather-options.task-delay", 3));
+		weatherSamples = Math.max(1, config.getInt("nether-weather-options.column-samples", 64));
 		hurtCreatures = config.getBoolean("nether-weather-options.can-hurt-living-creatures", true);
 		explodeTNT = config.getBoolean("nether-weather-options.will-tnt-explode", true);
 
@@ -441,6 +448,15 @@ public final class ConfigManager extends ConfigHandler {
 
 		dataSaveInterval = config.getInt("other-settings.data-saving-interval", 600);
 		logDataSaving = config.getBoolean("other-settings.log-data-saving", true);
+		placeholderCacheRefresh = config.getInt("other-settings.placeholder-cache.refresh-after-seconds", 60);
+		placeholderCacheExpire = config.getInt("other-settings.placeholder-cache.expire-after-minutes", 10);
+		placeholderLoadingValue = config.getString("other-settings.placeholder-cache.loading-value", "");
+		profileEndpoint = config.getString("other-settings.profile-cache.endpoint", GameProfileBuilder.DEFAULT_ENDPOINT);
+		profileCacheMinutes = config.getInt("other-settings.profile-cache.cache-minutes", 360);
+		profileCacheSize = config.getInt("other-settings.profile-cache.max-size", 1000);
+		profileRequestsPerMinute = config.getInt("other-settings.profile-cache.requests-per-minute", 120);
+		GameProfileBuilder.configure(profileEndpoint, profileCacheMinutes, profileCacheSize, profileRequestsPerMinute);
+		islandTickBudgetMs = config.getInt("other-settings.island-tick-budget-ms", 5);
 
 		durabilityLore = new ArrayList<>(
 				config.getStringList("other-settings.custom-durability-format", new ArrayList<>()).stream()
@@ -1034,6 +1034,16 @@ public interface MessageConstants {
 	TranslatableComponent.Builder COMMAND_DEBUG_WORLDS_SUCCESS = Component.translatable()
 			.key("command.debug.worlds.success");
 
+	// Metrics debug messages
+	TranslatableComponent.Builder COMMAND_DEBUG_METRICS_NONE = Component.translatable()
+			.key("command.debug.metrics.none");
+	TranslatableComponent.Builder COMMAND_DEBUG_METRICS_NOT_FOUND = Component.translatable()
+			.key("command.debug.metrics.not.found");
+	TranslatableComponent.Builder COMMAND_DEBUG_METRICS_HEADER = Component.translatable()
+			.key("command.debug.metrics.header");
+	TranslatableComponent.Builder COMMAND_DEBUG_METRICS_ENTRY = Component.translatable()
+			.key("command.debug.metrics.entry");
+
 	public static TranslatableComponent forWeatherWarning(WeatherType type) {
 		switch (type) {
 		case LAVA_RAIN:
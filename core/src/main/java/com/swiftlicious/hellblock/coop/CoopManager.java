@@ -136,6 +136,9 @@ public class CoopManager implements Listener, Reloadable {
 	private static final long OWNERSHIP_CHECK_COOLDOWN_MS = 1000; // 1 second
 	private static final double OWNERSHIP_CHECK_DISTANCE_SQUARED = 1.0; // within 1 block
 
+	// Island ID -> owner UUID, lazily filled from cached owner data
+	private final Map<Integer, UUID> islandOwnerIndex = new ConcurrentHashMap<>();
+
 	private final Map<UUID, Boolean> lastLockedStateCache = new ConcurrentHashMap<>();
 	private final Map<UUID, Integer> lastVisitorCountCache = new ConcurrentHashMap<>();
 
@@ -165,6 +168,7 @@ public class CoopManager implements Listener, Reloadable {
 		lastVisitorCheckTime.clear();
 		ownerCache.clear();
 		proximityCache.clear();
+		islandOwnerIndex.clear();
 		lastLockedStateCache.clear();
 		lastVisitorCountCache.clear();
 		ongoingRefresh = null;
@@ -1153,6 +1157,9 @@ public class CoopManager implements Listener, Reloadable {
 					.forEach((k, v) -> placedBlocksCopy.put(k, new HashMap<>(v)));
 			newOwnerData.getLocationCacheData().setPlacedBlocks(placedBlocksCopy);
 			currentOwnerData.getLocationCacheData().setPlacedBlocks(new HashMap<>());
+			newOwnerData.getLocationCacheData()
+					.setPlacedBlockData(currentOwnerData.getLocationCacheData().getPlacedBlockData());
+			currentOwnerData.getLocationCacheData().setPlacedBlockData(null);
 
 			Map<Integer, List<String>> pistonLocationsCopy = new HashMap<>();
 			currentOwnerData.getLocationCacheData().getPistonLocationsByIsland()
@@ -1548,9 +1555,10 @@ public class CoopManager implements Listener, Reloadable {
 	}
 
 	/**
-	 * Determines if the given owner should be skipped due to ongoing operations.
+	 * Determines if the given owner should be skipped due to ongoing operations
+	 * (island generation, reset, schematic paste, etc.).
 	 */
-	private boolean shouldSkip(@NotNull UUID ownerUUID) {
+	public boolean shouldSkip(@NotNull UUID ownerUUID) {
 		return instance.getIslandGenerator().isAnimating(ownerUUID)
 				|| instance.getHellblockHandler().creationProcessing(ownerUUID)
 				|| instance.getHellblockHandler().resetProcessing(ownerUUID)
@@ -1771,39 +1779,59 @@ public class CoopManager implements Listener, Reloadable {
 			return Optional.empty();
 		}
 
-		for (UUID ownerUUID : cachedIslandOwners) {
-			if (shouldSkip(ownerUUID)) {
-				continue;
-			}
-
-			Optional<UserData> ownerDataOpt = instance.getStorageManager().getCachedUserData(ownerUUID);
-			if (ownerDataOpt.isEmpty()) {
-				continue;
-			}
+		int islandId = instance.getPlacementDetector().findIslandIdAt(world.getName(), location.getX(),
+				location.getY(), location.getZ());
+		if (islandId <= 0) {
+			instance.debug("No island owner found at location: " + location);
+			return Optional.empty();
+		}
 
-			UserData ownerData = ownerDataOpt.get();
-			HellblockData hellblockData = ownerData.getHellblockData();
+		Optional<UserData> ownerDataOpt = getCachedIslandOwnerDataNow(islandId);
+		if (ownerDataOpt.isEmpty() || shouldSkip(ownerDataOpt.get().getUUID())) {
+			instance.debug("No island owner found at location: " + location);
+			return Optional.empty();
+		}
 
-			String formattedWorldName = instance.getWorldManager().getHellblockWorldFormat(hellblockData.getIslandId());
-			Optional<HellblockWorld<?>> worldWrapperOpt = instance.getWorldManager().getWorld(formattedWorldName);
+		instance.debug("Found matching owner: " + ownerDataOpt.get().getUUID() + " at location: " + location);
+		return ownerDataOpt;
+	}
 
-			if (worldWrapperOpt.isEmpty() || worldWrapperOpt.get().bukkitWorld() == null) {
-				continue;
+	/**
+	 * Resolves the cached {@link UserData} of the owner of the given island without
+	 * hitting the database.
+	 * <p>
+	 * Results are remembered in {@link #islandOwnerIndex} and re-validated on every
+	 * hit, so ownership transfers and resets fall back to a single scan of the
+	 * cached owners before the index is corrected.
+	 *
+	 * @param islandId the island ID to resolve
+	 * @return the owner's cached data, or empty if the owner is not cached
+	 */
+	@NotNull
+	public Optional<UserData> getCachedIslandOwnerDataNow(int islandId) {
+		UUID indexedOwner = islandOwnerIndex.get(islandId);
+		if (indexedOwner != null && cachedIslandOwners.contains(indexedOwner)) {
+			Optional<UserData> indexedData = instance.getStorageManager().getCachedUserData(indexedOwner);
+			if (indexedData.isPresent() && indexedData.get().getHellblockData().getIslandId() == islandId) {
+				return indexedData;
 			}
+		}
 
-			UUID expectedWorldId = worldWrapperOpt.get().bukkitWorld().getUID();
-			if (!world.getUID().equals(expectedWorldId)) {
+		for (UUID ownerUUID : cachedIslandOwners) {
+			Optional<UserData> ownerDataOpt = instance.getStorageManager().getCachedUserData(ownerUUID);
+			if (ownerDataOpt.isEmpty()) {
 				continue;
 			}
-
-			BoundingBox bounds = hellblockData.getBoundingBox();
-			if (bounds != null && bounds.contains(location.toVector())) {
-				instance.debug("Found matching owner: " + ownerUUID + " at location: " + location);
-				return Optional.of(ownerData);
+			int ownerIslandId = ownerDataOpt.get().getHellblockData().getIslandId();
+			if (ownerIslandId > 0) {
+				islandOwnerIndex.put(ownerIslandId, ownerUUID);
+			}
+			if (ownerIslandId == islandId) {
+				return ownerDataOpt;
 			}
 		}
 
-		instance.debug("No island owner found at location: " + location);
+		islandOwnerIndex.remove(islandId);
 		return Optional.empty();
 	}
 
@@ -1841,20 +1869,7 @@ public class CoopManager implements Listener, Reloadable {
 		}
 
 		// Search the cache
-		for (UUID ownerUUID : cachedIslandOwners) {
-			Optional<UserData> userDataOpt = instance.getStorageManager().getCachedUserData(ownerUUID);
-			if (userDataOpt.isEmpty())
-				continue;
-
-			UserData userData = userDataOpt.get();
-			HellblockData hellblockData = userData.getHellblockData();
-
-			if (hellblockData.getIslandId() == islandId) {
-				return Optional.of(userData);
-			}
-		}
-
-		return Optional.empty();
+		return getCachedIslandOwnerDataNow(islandId);
 	}
 
 	/**
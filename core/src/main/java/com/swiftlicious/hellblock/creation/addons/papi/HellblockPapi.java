@@ -1,21 +1,21 @@
 package com.swiftlicious.hellblock.creation.addons.papi;
 
 import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.context.Context;
+import com.swiftlicious.hellblock.events.leaderboard.LeaderboardUpdateEvent;
 import com.swiftlicious.hellblock.generation.HellBiome;
 import com.swiftlicious.hellblock.generation.IslandOptions;
 import com.swiftlicious.hellblock.handlers.CoolDownManager;
@@ -28,22 +28,35 @@ import com.swiftlicious.hellblock.utils.StringUtils;
 
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 
-public class HellblockPapi extends PlaceholderExpansion {
+public class HellblockPapi extends PlaceholderExpansion implements Listener {
 
 	private final HellblockPlugin plugin;
-	private final Cache<UUID, Optional<PlayerData>> offlineDataCache;
+	private final OfflineDataCache offlineDataCache;
 
 	public HellblockPapi(HellblockPlugin plugin) {
 		this.plugin = plugin;
-		this.offlineDataCache = Caffeine.newBuilder().expireAfterWrite(3, TimeUnit.MINUTES).build();
+		this.offlineDataCache = new OfflineDataCache(plugin, plugin.getConfigManager().placeholderCacheExpire());
 	}
 
 	public void load() {
 		super.register();
+		Bukkit.getPluginManager().registerEvents(this, plugin);
+		plugin.registerPerformanceReporter(offlineDataCache);
 	}
 
 	public void unload() {
 		super.unregister();
+		HandlerList.unregisterAll(this);
+		offlineDataCache.invalidateAll();
+	}
+
+	/**
+	 * Loads the owners of the top islands in the background, so leaderboard
+	 * placeholders and holograms find their data cached.
+	 */
+	@EventHandler
+	public void onLeaderboardUpdate(LeaderboardUpdateEvent event) {
+		offlineDataCache.prefetchIslands(List.copyOf(event.getTopIslands().keySet()));
 	}
 
 	@SuppressWarnings("deprecation")
@@ -81,6 +94,12 @@ public class HellblockPapi extends PlaceholderExpansion {
 			}
 		}
 
+		// Offline data is loaded in the background, never wait for the database here
+		if (!"random".equals(split[0]) && plugin.getStorageManager().getOnlineUser(targetUUID).isEmpty()
+				&& !offlineDataCache.isLoaded(targetUUID)) {
+			return plugin.getConfigManager().placeholderLoadingValue();
+		}
+
 		switch (split[0]) {
 		case "random" -> {
 			return String.valueOf(RandomUtils.generateRandomDouble(0, 1));
@@ -388,16 +407,7 @@ public class HellblockPapi extends PlaceholderExpansion {
 
 	@NotNull
 	private Optional<PlayerData> loadOfflineData(@NotNull UUID uuid) {
-		return offlineDataCache.get(uuid, (id) -> {
-			final CompletableFuture<Optional<PlayerData>> future = plugin.getStorageManager().getDataSource()
-					.getPlayerData(uuid, false, Runnable::run);
-			try {
-				return future.get();
-			} catch (InterruptedException | ExecutionException e) {
-				e.printStackTrace();
-				return Optional.empty();
-			}
-		});
+		return offlineDataCache.peek(uuid);
 	}
 
 	private enum VisitStatType {
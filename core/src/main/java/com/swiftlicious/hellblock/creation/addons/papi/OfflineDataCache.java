@@ -0,0 +1,188 @@
+package com.swiftlicious.hellblock.creation.addons.papi;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.player.PlayerData;
+
+/**
+ * Offline player data for placeholders, loaded in the background.
+ * <p>
+ * Lookups never wait for the database. A player that is not cached yet is
+ * reported as loading while their data is fetched asynchronously; a cached
+ * entry older than the refresh interval is still returned, and a refresh is
+ * started so the next lookup sees current data. Only one load per player is in
+ * flight at any time.
+ */
+public class OfflineDataCache implements PerformanceReporter {
+
+	private final HellblockPlugin plugin;
+	private final Cache<UUID, CachedData> cache;
+	private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder staleHits = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder failedLoads = new LongAdder();
+	private final LongAdder prefetched = new LongAdder();
+	private final LongAdder loadNanos = new LongAdder();
+
+	public OfflineDataCache(HellblockPlugin plugin, int expireMinutes) {
+		this.plugin = plugin;
+		this.cache = Caffeine.newBuilder().expireAfterAccess(Math.max(1, expireMinutes), TimeUnit.MINUTES)
+				.maximumSize(10_000).build();
+	}
+
+	/**
+	 * Checks whether the data of a player is cached, without blocking. A player
+	 * that is not cached yet is loaded in the background, and cached data older
+	 * than the refresh interval is refreshed.
+	 *
+	 * @param uuid the player
+	 * @return whether the data was loaded and can be read with {@link #peek(UUID)}
+	 */
+	public boolean isLoaded(@NotNull UUID uuid) {
+		final CachedData cached = cache.getIfPresent(uuid);
+		if (cached == null) {
+			misses.increment();
+			load(uuid);
+			return false;
+		}
+		final long refreshAfter = TimeUnit.SECONDS.toMillis(plugin.getConfigManager().placeholderCacheRefresh());
+		if (System.currentTimeMillis() - cached.loadedAt() >= refreshAfter) {
+			staleHits.increment();
+			load(uuid);
+		} else {
+			hits.increment();
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the cached data of a player without counting the lookup or starting a
+	 * load, for repeated reads within one placeholder request.
+	 *
+	 * @param uuid the player
+	 * @return the cached data, empty if the player has no data or it is not
+	 *         loaded, see {@link #isLoaded(UUID)}
+	 */
+	@NotNull
+	public Optional<PlayerData> peek(@NotNull UUID uuid) {
+		final CachedData cached = cache.getIfPresent(uuid);
+		return cached != null ? cached.data() : Optional.empty();
+	}
+
+	/**
+	 * Loads the owners of the given islands ahead of the first lookup. The islands
+	 * are loaded one after another, so a large leaderboard doesn't occupy every
+	 * database connection at once.
+	 *
+	 * @param islandIds the islands, e.g. the current leaderboard
+	 * @return a future completed once every island was loaded
+	 */
+	@NotNull
+	public CompletableFuture<Void> prefetchIslands(@NotNull Collection<Integer> islandIds) {
+		CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+		for (int islandId : islandIds) {
+			chain = chain.thenCompose(v -> plugin.getStorageManager().getDataSource()
+					.getPlayerDataByIslandId(islandId, false, plugin.getScheduler().async())
+					.handle((data, ex) -> {
+						if (ex != null) {
+							failedLoads.increment();
+							plugin.getPluginLogger().warn("Failed to prefetch placeholder data of island " + islandId,
+									ex);
+						} else {
+							data.ifPresent(playerData -> {
+								prefetched.increment();
+								cache.put(playerData.getUUID(),
+										new CachedData(data, System.currentTimeMillis()));
+							});
+						}
+						return null;
+					}));
+		}
+		return chain;
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Starts a background load unless one is already running.
+	 *
+	 * @return whether a load was started
+	 */
+	private boolean load(UUID uuid) {
+		if (!loading.add(uuid)) {
+			return false;
+		}
+		loads.increment();
+		final long start = System.nanoTime();
+		CompletableFuture<Optional<PlayerData>> future;
+		try {
+			future = plugin.getStorageManager().getDataSource().getPlayerData(uuid, false,
+					plugin.getScheduler().async());
+		} catch (RuntimeException ex) {
+			future = CompletableFuture.failedFuture(ex);
+		}
+		future.whenComplete((data, ex) -> {
+			loading.remove(uuid);
+			loadNanos.add(System.nanoTime() - start);
+			if (ex != null) {
+				failedLoads.increment();
+				plugin.getPluginLogger().warn("Failed to load placeholder data of " + uuid, ex);
+				return;
+			}
+			cache.put(uuid, new CachedData(data, System.currentTimeMillis()));
+		});
+		return true;
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "placeholder-cache";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final long hitCount = hits.sum();
+		final long staleCount = staleHits.sum();
+		final long missCount = misses.sum();
+		final long total = hitCount + staleCount + missCount;
+		final long loadCount = loads.sum();
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Cached players", String.valueOf(cache.estimatedSize()));
+		report.put("Loading", String.valueOf(loading.size()));
+		report.put("Hits", String.valueOf(hitCount));
+		report.put("Stale hits", String.valueOf(staleCount));
+		report.put("Misses", String.valueOf(missCount));
+		report.put("Hit ratio",
+				total == 0 ? "n/a" : "%.1f%%".formatted((hitCount + staleCount) * 100.0 / total));
+		report.put("Loads", String.valueOf(loadCount));
+		report.put("Prefetched", String.valueOf(prefetched.sum()));
+		report.put("Failed loads", String.valueOf(failedLoads.sum()));
+		report.put("Avg load", loadCount == 0 ? "n/a" : "%.2fms".formatted(loadNanos.sum() / 1_000_000.0 / loadCount));
+		return report;
+	}
+
+	private record CachedData(Optional<PlayerData> data, long loadedAt) {
+	}
+}
@@ -11,6 +11,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -35,6 +36,7 @@ import org.jetbrains.annotations.Nullable;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.player.HellblockData;
 import com.swiftlicious.hellblock.player.PlayerData;
 import com.swiftlicious.hellblock.player.UserData;
 
@@ -60,7 +62,10 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 	private final Map<UUID, Long> lastAttemptTime = new ConcurrentHashMap<>();
 	private static final long MIN_DELAY_BETWEEN_ATTEMPTS = 5000L; // 5 sec
 
-	private final Cache<Integer, UUID> islandIdToUUIDCache = Caffeine.newBuilder()
+	private static final int ISLAND_BACKFILL_BATCH_SIZE = 500;
+	private volatile boolean islandColumnsReady;
+
+	protected final Cache<Integer, UUID> islandIdToUUIDCache = Caffeine.newBuilder()
 			.expireAfterWrite(30, TimeUnit.MINUTES).maximumSize(10_000).build();
 
 	public AbstractSQLDatabase(HellblockPlugin plugin) {
@@ -80,6 +85,7 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 	 * Create tables for storing data if they don't exist in the database.
 	 */
 	public void createTableIfNotExist() {
+		boolean islandColumns = false;
 		try (Connection connection = getConnection()) {
 			final String[] databaseSchema = getSchema(getStorageType().name().toLowerCase(Locale.ENGLISH));
 			try (Statement statement = connection.createStatement()) {
@@ -101,11 +107,333 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 			} catch (SQLException ex) {
 				plugin.getPluginLogger().warn("Failed to create tables.", ex);
 			}
+			islandColumns = migrateIslandColumns(connection);
 		} catch (SQLException ex) {
 			plugin.getPluginLogger().warn("Failed to get SQL connection.", ex);
 		} catch (IOException ex) {
 			plugin.getPluginLogger().warn("Failed to load schema resource.", ex);
 		}
+		if (islandColumns) {
+			plugin.getScheduler().async().execute(this::backfillIslandColumns);
+		}
+	}
+
+	/**
+	 * Add the {@code island_id} and {@code owner_uuid} lookup columns to tables
+	 * created before they existed and make sure they are indexed.
+	 *
+	 * @param connection The connection used to create the schema.
+	 * @return {@code true} if the columns are available.
+	 */
+	private boolean migrateIslandColumns(@NotNull Connection connection) {
+		final String table = getTableName("data");
+		boolean added = false;
+		try (Statement statement = connection.createStatement()) {
+			if (!hasColumn(connection, table, "island_id")) {
+				statement.execute(SqlConstants.SQL_ADD_INT_COLUMN.formatted(table, "island_id"));
+				added = true;
+			}
+			if (!hasColumn(connection, table, "owner_uuid")) {
+				statement.execute(SqlConstants.SQL_ADD_UUID_COLUMN.formatted(table, "owner_uuid"));
+				added = true;
+			}
+			if (added) {
+				plugin.getPluginLogger().info("Added island lookup columns to %s.".formatted(table));
+			}
+		} catch (SQLException ex) {
+			plugin.getPluginLogger().warn(
+					"Failed to add island lookup columns to %s. Island lookups will scan all player data."
+							.formatted(table),
+					ex);
+			return false;
+		}
+
+		// MySQL has no CREATE INDEX IF NOT EXISTS, new tables get the index from the
+		// schema file instead
+		final boolean ifNotExists = getStorageType() != StorageType.MySQL && getStorageType() != StorageType.MariaDB;
+		if (added || ifNotExists) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(SqlConstants.SQL_CREATE_ISLAND_INDEX.formatted(table, table));
+			} catch (SQLException ex) {
+				plugin.getPluginLogger().warn("Failed to create island index on %s.".formatted(table), ex);
+			}
+		}
+		return true;
+	}
+
+	private boolean hasColumn(@NotNull Connection connection, @NotNull String table, @NotNull String column) {
+		try (Statement statement = connection.createStatement()) {
+			statement.executeQuery(SqlConstants.SQL_PROBE_COLUMN.formatted(column, table)).close();
+			return true;
+		} catch (SQLException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Fill the island lookup columns of rows written before they existed. Rows are
+	 * only updated while their {@code island_id} is still {@code NULL}, so saves
+	 * that happen during the backfill are never overwritten with older data.
+	 * Island lookups keep using the full scan until this has completed.
+	 */
+	private void backfillIslandColumns() {
+		final String table = getTableName("data");
+		final long start = System.currentTimeMillis();
+		try (Connection connection = getConnection()) {
+			final List<IslandColumns> pending = new ArrayList<>();
+			try (PreparedStatement select = connection
+					.prepareStatement(SqlConstants.SQL_SELECT_MISSING_ISLAND_ID.formatted(table));
+					ResultSet rs = select.executeQuery()) {
+				while (rs.next()) {
+					final String uuid = rs.getString("uuid");
+					try {
+						pending.add(IslandColumns.of(uuid, plugin.getStorageManager().fromBytes(readData(rs))));
+					} catch (Exception ex) {
+						// Unreadable rows can't match an island in the full scan either
+						plugin.getPluginLogger().warn("Failed to parse SQL blob for UUID " + uuid, ex);
+						pending.add(new IslandColumns(uuid, 0, null));
+					}
+				}
+			}
+
+			if (!pending.isEmpty()) {
+				connection.setAutoCommit(false);
+				try (PreparedStatement update = connection
+						.prepareStatement(SqlConstants.SQL_BACKFILL_ISLAND_BY_UUID.formatted(table))) {
+					int batched = 0;
+					for (IslandColumns row : pending) {
+						row.bind(update, 1);
+						update.setString(3, row.uuid());
+						update.addBatch();
+						if (++batched % ISLAND_BACKFILL_BATCH_SIZE == 0) {
+							update.executeBatch();
+							connection.commit();
+						}
+					}
+					update.executeBatch();
+					connection.commit();
+				} catch (SQLException ex) {
+					connection.rollback();
+					throw ex;
+				} finally {
+					connection.setAutoCommit(true);
+				}
+				plugin.getPluginLogger().info("Backfilled island lookup columns for %d rows in %dms."
+						.formatted(pending.size(), System.currentTimeMillis() - start));
+			}
+			islandColumnsReady = true;
+		} catch (SQLException ex) {
+			plugin.getPluginLogger().warn("Failed to backfill island lookup columns of %s.".formatted(table), ex);
+		}
+	}
+
+	/**
+	 * Read the serialized player data of the current row.
+	 *
+	 * @param rs The result set positioned on a row that selected {@code data}.
+	 * @return The raw player data.
+	 * @throws SQLException If the column can't be read.
+	 */
+	protected byte[] readData(@NotNull ResultSet rs) throws SQLException {
+		final Blob blob = rs.getBlob("data");
+		final byte[] bytes = blob.getBytes(1, (int) blob.length());
+		blob.free();
+		return bytes;
+	}
+
+	/**
+	 * Bind serialized player data to a {@code data} parameter.
+	 *
+	 * @param statement The statement to bind to.
+	 * @param index     The parameter index.
+	 * @param data      The raw player data.
+	 * @throws SQLException If the parameter can't be set.
+	 */
+	protected void writeData(@NotNull PreparedStatement statement, int index, byte[] data) throws SQLException {
+		statement.setBlob(index, new ByteArrayInputStream(data));
+	}
+
+	/**
+	 * Insert the rows a batched update did not find, so batched saves of new
+	 * players behave like {@link #updatePlayerData(UUID, PlayerData, boolean)}.
+	 * Runs inside the caller's transaction.
+	 *
+	 * @param connection The connection of the batched update.
+	 * @param counts     The update counts returned by the batch.
+	 * @param users      The users of the batch, in batch order.
+	 * @param data       The player data written for each user, in batch order.
+	 * @param unlock     Whether the inserted rows are unlocked.
+	 * @return The number of inserted rows.
+	 * @throws SQLException If an insert fails.
+	 */
+	protected int insertMissingRows(@NotNull Connection connection, int[] counts, @NotNull List<UserData> users,
+			@NotNull List<PlayerData> data, boolean unlock) throws SQLException {
+		PreparedStatement insert = null;
+		int inserted = 0;
+		try {
+			for (int i = 0; i < counts.length && i < users.size(); i++) {
+				// SUCCESS_NO_INFO (-2) means the driver doesn't report counts
+				if (counts[i] != 0) {
+					continue;
+				}
+				if (insert == null) {
+					insert = connection
+							.prepareStatement(SqlConstants.SQL_INSERT_DATA_BY_UUID.formatted(getTableName("data")));
+				}
+				final PlayerData playerData = data.get(i);
+				insert.setString(1, users.get(i).getUUID().toString());
+				insert.setInt(2, unlock ? 0 : getCurrentSeconds());
+				writeData(insert, 3, plugin.getStorageManager().toBytes(playerData));
+				setIslandColumns(insert, 4, playerData);
+				insert.addBatch();
+				inserted++;
+			}
+			if (insert != null) {
+				insert.executeBatch();
+				plugin.debug("Inserted %d missing row(s) during batch update.".formatted(inserted));
+			}
+		} finally {
+			if (insert != null) {
+				insert.close();
+			}
+		}
+		return inserted;
+	}
+
+	/**
+	 * Bind the {@code island_id} and {@code owner_uuid} columns of a player.
+	 *
+	 * @param statement  The statement to bind to.
+	 * @param index      The parameter index of {@code island_id};
+	 *                   {@code owner_uuid} follows it.
+	 * @param playerData The player data the columns are derived from.
+	 * @throws SQLException If a parameter can't be set.
+	 */
+	protected void setIslandColumns(@NotNull PreparedStatement statement, int index, @NotNull PlayerData playerData)
+			throws SQLException {
+		IslandColumns.of(null, playerData).bind(statement, index);
+	}
+
+	/**
+	 * Whether every row has its island lookup columns filled, so
+	 * {@link #findUUIDByIslandId(Connection, int)} can be used instead of
+	 * scanning all player data.
+	 *
+	 * @return {@code true} once the backfill has completed.
+	 */
+	protected boolean isIslandColumnsReady() {
+		return islandColumnsReady;
+	}
+
+	/**
+	 * Resolve the player owning the given island through the indexed
+	 * {@code island_id} column. If several rows carry the island ID, the row of
+	 * the island owner is preferred.
+	 *
+	 * @param connection The connection to use.
+	 * @param islandId   The island ID.
+	 * @return The UUID of the matching player, or {@code null} if none.
+	 * @throws SQLException If the query fails.
+	 */
+	@Nullable
+	protected UUID findUUIDByIslandId(@NotNull Connection connection, int islandId) throws SQLException {
+		try (PreparedStatement statement = connection
+				.prepareStatement(SqlConstants.SQL_SELECT_UUID_BY_ISLAND_ID.formatted(getTableName("data")))) {
+			statement.setInt(1, islandId);
+			try (ResultSet rs = statement.executeQuery()) {
+				UUID first = null;
+				while (rs.next()) {
+					final UUID uuid = parseUUID(rs.getString("uuid"));
+					if (uuid == null) {
+						continue;
+					}
+					if (uuid.equals(parseUUID(rs.getString("owner_uuid")))) {
+						return uuid;
+					}
+					if (first == null) {
+						first = uuid;
+					}
+				}
+				return first;
+			}
+		}
+	}
+
+	/**
+	 * Load the data of the player owning the given island, resolved through
+	 * {@link #findUUIDByIslandId(Connection, int)}. Only valid once
+	 * {@link #isIslandColumnsReady()} returns {@code true}.
+	 *
+	 * @param islandId The island ID.
+	 * @param lock     Whether to lock the player data.
+	 * @param executor The executor to run the lookup and load on.
+	 * @return A future with the player data, or empty if no player owns the island.
+	 */
+	protected CompletableFuture<Optional<PlayerData>> getPlayerDataByIndexedIslandId(int islandId, boolean lock,
+			@NotNull Executor executor) {
+		final CompletableFuture<Optional<PlayerData>> future = new CompletableFuture<>();
+		executor.execute(() -> {
+			try (Connection connection = getConnection()) {
+				final UUID uuid = findUUIDByIslandId(connection, islandId);
+				if (uuid == null) {
+					future.complete(Optional.empty());
+					return;
+				}
+
+				islandIdToUUIDCache.put(islandId, uuid);
+				getPlayerData(uuid, lock, executor).whenComplete((result, throwable) -> {
+					if (throwable != null) {
+						future.completeExceptionally(throwable);
+					} else {
+						future.complete(result);
+					}
+				});
+			} catch (SQLException ex) {
+				plugin.getPluginLogger().warn("Failed to look up islandId=" + islandId, ex);
+				future.completeExceptionally(ex);
+			}
+		});
+		return future;
+	}
+
+	@Nullable
+	private static UUID parseUUID(@Nullable String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return UUID.fromString(value.trim());
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Values of the island lookup columns for a single row.
+	 *
+	 * @param uuid      The UUID of the row, if known.
+	 * @param islandId  The island ID, {@code 0} if the player has no island.
+	 * @param ownerUUID The UUID of the island owner, if any.
+	 */
+	private record IslandColumns(@Nullable String uuid, int islandId, @Nullable String ownerUUID) {
+
+		static IslandColumns of(@Nullable String uuid, @Nullable PlayerData playerData) {
+			final HellblockData data = playerData != null ? playerData.getHellblockData() : null;
+			if (data == null) {
+				return new IslandColumns(uuid, 0, null);
+			}
+			final UUID owner = data.getOwnerUUID();
+			return new IslandColumns(uuid, Math.max(data.getIslandId(), 0), owner != null ? owner.toString() : null);
+		}
+
+		void bind(@NotNull PreparedStatement statement, int index) throws SQLException {
+			statement.setInt(index, islandId);
+			if (ownerUUID != null) {
+				statement.setString(index + 1, ownerUUID);
+			} else {
+				statement.setNull(index + 1, Types.CHAR);
+			}
+		}
 	}
 
 	/**
@@ -387,7 +715,12 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 			return future;
 		}
 
-		// Step 2: Scan SQL to find matching islandId
+		// Step 2: Indexed lookup once every row has its island column filled
+		if (isIslandColumnsReady()) {
+			return getPlayerDataByIndexedIslandId(islandId, lock, finalExecutor);
+		}
+
+		// Step 3: Scan SQL to find matching islandId while the backfill is running
 		finalExecutor.execute(() -> {
 			try (Connection connection = getConnection();
 					PreparedStatement statement = connection
@@ -480,7 +813,8 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 
 								statement.setInt(1, unlock ? 0 : getCurrentSeconds());
 								statement.setBlob(2, new ByteArrayInputStream(playerData.toBytes()));
-								statement.setString(3, uuid.toString());
+								setIslandColumns(statement, 3, playerData);
+								statement.setString(5, uuid.toString());
 
 								int affected = statement.executeUpdate();
 								if (affected == 0) {
@@ -565,15 +899,18 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 						final String sql = SqlConstants.SQL_UPDATE_BY_UUID.formatted(getTableName("data"));
 
 						try (PreparedStatement statement = connection.prepareStatement(sql)) {
+							final List<PlayerData> dataList = new ArrayList<>(userList.size());
 							for (UserData user : userList) {
+								final PlayerData playerData = user.toPlayerData();
+								dataList.add(playerData);
 								statement.setInt(1, unlock ? 0 : getCurrentSeconds());
-								statement.setBlob(2, new ByteArrayInputStream(
-										plugin.getStorageManager().toBytes(user.toPlayerData())));
-								statement.setString(3, user.getUUID().toString());
+								writeData(statement, 2, plugin.getStorageManager().toBytes(playerData));
+								setIslandColumns(statement, 3, playerData);
+								statement.setString(5, user.getUUID().toString());
 								statement.addBatch();
 							}
 
-							statement.executeBatch();
+							insertMissingRows(connection, statement.executeBatch(), userList, dataList, unlock);
 							connection.commit();
 							future.complete(true); // success
 
@@ -638,6 +975,7 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 			statement.setString(1, uuid.toString());
 			statement.setInt(2, lock ? getCurrentSeconds() : 0);
 			statement.setBlob(3, new ByteArrayInputStream(plugin.getStorageManager().toBytes(playerData)));
+			setIslandColumns(statement, 4, playerData);
 			statement.executeUpdate();
 
 			plugin.debug("Inserted data for player %s (lock=%s, trackInsert=%s)".formatted(uuid, lock, trackInsert));
@@ -792,7 +1130,8 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 									update.setInt(1, unlock ? 0 : getCurrentSeconds());
 									update.setBlob(2,
 											new ByteArrayInputStream(plugin.getStorageManager().toBytes(playerData)));
-									update.setString(3, uuid.toString());
+									setIslandColumns(update, 3, playerData);
+									update.setString(5, uuid.toString());
 									update.executeUpdate();
 								}
 							} else {
@@ -882,21 +1221,45 @@ public abstract class AbstractSQLDatabase extends AbstractStorage {
 		public static final String SQL_SELECT_ALL_UUID = "SELECT " + quote("uuid") + ", " + quote("data") + " FROM "
 				+ quote("%s");
 		public static final String SQL_UPDATE_BY_UUID = "UPDATE " + quote("%s") + " SET " + quote("lock") + " = ?, "
-				+ quote("data") + " = ? WHERE " + quote("uuid") + " = ?";
+				+ quote("data") + " = ?, " + quote("island_id") + " = ?, " + quote("owner_uuid") + " = ? WHERE "
+				+ quote("uuid") + " = ?";
+		public static final String SQL_SELECT_UUID_BY_ISLAND_ID = "SELECT " + quote("uuid") + ", " + quote("owner_uuid")
+				+ " FROM " + quote("%s") + " WHERE " + quote("island_id") + " = ?";
+		public static final String SQL_SELECT_MISSING_ISLAND_ID = "SELECT " + quote("uuid") + ", " + quote("data")
+				+ " FROM " + quote("%s") + " WHERE " + quote("island_id") + " IS NULL";
+		public static final String SQL_BACKFILL_ISLAND_BY_UUID = "UPDATE " + quote("%s") + " SET " + quote("island_id")
+				+ " = ?, " + quote("owner_uuid") + " = ? WHERE " + quote("uuid") + " = ? AND " + quote("island_id")
+				+ " IS NULL";
+		public static final String SQL_PROBE_COLUMN = "SELECT " + quote("%s") + " FROM " + quote("%s") + " WHERE 1 = 0";
+		public static final String SQL_ADD_INT_COLUMN = "ALTER TABLE " + quote("%s") + " ADD COLUMN " + quote("%s")
+				+ " INT";
+		public static final String SQL_ADD_UUID_COLUMN = "ALTER TABLE " + quote("%s") + " ADD COLUMN " + quote("%s")
+				+ " CHAR(36)";
+		public static final String SQL_CREATE_ISLAND_INDEX = switch (HellblockPlugin.getInstance().getStorageManager()
+				.getDataSource().getStorageType()) {
+		case MySQL, MariaDB -> "CREATE INDEX " + quote("%s_island_id_idx") + " ON " + quote("%s") + " ("
+				+ quote("island_id") + ")";
+		default -> "CREATE INDEX IF NOT EXISTS " + quote("%s_island_id_idx") + " ON " + quote("%s") + " ("
+				+ quote("island_id") + ")";
+		};
 		public static final String SQL_LOCK_BY_UUID = "UPDATE " + quote("%s") + " SET " + quote("lock") + " = ? WHERE "
 				+ quote("uuid") + " = ?";
 		public static final String SQL_INSERT_DATA_BY_UUID = switch (HellblockPlugin.getInstance().getStorageManager()
 				.getDataSource().getStorageType()) {
-		case H2 -> "MERGE INTO " + quote("%s") + " KEY(" + quote("uuid") + ") VALUES(?, ?, ?)";
+		case H2 -> "MERGE INTO " + quote("%s") + "(" + quote("uuid") + ", " + quote("lock") + ", " + quote("data")
+				+ ", " + quote("island_id") + ", " + quote("owner_uuid") + ") KEY(" + quote("uuid")
+				+ ") VALUES(?, ?, ?, ?, ?)";
 		case MySQL,
 				MariaDB ->
-			"INSERT INTO " + quote("%s") + "(" + quote("uuid") + ", " + quote("lock") + ", " + quote("data") + ") "
-					+ "VALUES(?, ?, ?) ON DUPLICATE KEY UPDATE " + quote("lock") + " = VALUES(" + quote("lock") + "), "
-					+ quote("data") + " = VALUES(" + quote("data") + ")";
+			"INSERT INTO " + quote("%s") + "(" + quote("uuid") + ", " + quote("lock") + ", " + quote("data") + ", "
+					+ quote("island_id") + ", " + quote("owner_uuid") + ") "
+					+ "VALUES(?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE " + quote("lock") + " = VALUES(" + quote("lock")
+					+ "), " + quote("data") + " = VALUES(" + quote("data") + "), " + quote("island_id") + " = VALUES("
+					+ quote("island_id") + "), " + quote("owner_uuid") + " = VALUES(" + quote("owner_uuid") + ")";
 		case PostgreSQL ->
-			"INSERT INTO %s(uuid, lock, data) VALUES(?, ?, ?) ON CONFLICT (uuid) DO UPDATE SET lock = EXCLUDED.lock, data = EXCLUDED.data";
+			"INSERT INTO %s(uuid, lock, data, island_id, owner_uuid) VALUES(?, ?, ?, ?, ?) ON CONFLICT (uuid) DO UPDATE SET lock = EXCLUDED.lock, data = EXCLUDED.data, island_id = EXCLUDED.island_id, owner_uuid = EXCLUDED.owner_uuid";
 		case SQLite -> "INSERT OR REPLACE INTO " + quote("%s") + "(" + quote("uuid") + ", " + quote("lock") + ", "
-				+ quote("data") + ") VALUES(?, ?, ?)";
+				+ quote("data") + ", " + quote("island_id") + ", " + quote("owner_uuid") + ") VALUES(?, ?, ?, ?, ?)";
 		default -> throw new UnsupportedOperationException("No upsert query defined for this database type.");
 		};
 	}
@@ -80,6 +80,9 @@ public class MongoDBHandler extends AbstractStorage {
 
 	private final Cache<UUID, PlayerData> memoryCache = Caffeine.newBuilder().maximumSize(10_000).build();
 
+	private static final int ISLAND_BACKFILL_BATCH_SIZE = 500;
+	private volatile boolean islandFieldsReady;
+
 	public MongoDBHandler(HellblockPlugin plugin) {
 		super(plugin);
 	}
@@ -127,8 +130,12 @@ public class MongoDBHandler extends AbstractStorage {
 			// Ensure 'uuid' index exists on player data collection
 			MongoCollection<Document> collection = this.database.getCollection(getCollectionName("data"));
 			collection.createIndex(Indexes.ascending("uuid"), new IndexOptions().unique(true));
+			// Island lookups query this field instead of deserializing every document
+			collection.createIndex(Indexes.ascending("islandId"));
 			return null;
 		});
+
+		plugin.getScheduler().async().execute(this::backfillIslandFields);
 	}
 
 	/**
@@ -165,6 +172,100 @@ public class MongoDBHandler extends AbstractStorage {
 		return StorageType.MongoDB;
 	}
 
+	/**
+	 * Fill the {@code islandId} and {@code ownerUUID} fields of documents written
+	 * before they existed. Documents are only updated while the field is still
+	 * missing, so saves that happen during the backfill are never overwritten with
+	 * older data. Island lookups keep scanning the collection until this has
+	 * completed.
+	 */
+	private void backfillIslandFields() {
+		if (database == null) {
+			return;
+		}
+
+		final long start = System.currentTimeMillis();
+		try {
+			final MongoCollection<Document> collection = database.getCollection(getCollectionName("data"));
+			final Bson missing = Filters.exists("islandId", false);
+			final List<UpdateOneModel<Document>> batch = new ArrayList<>();
+			int updated = 0;
+
+			try (MongoCursor<Document> cursor = collection.find(missing).projection(Projections.include("_id", "data"))
+					.iterator()) {
+				while (cursor.hasNext()) {
+					final Document doc = cursor.next();
+					PlayerData parsed = null;
+					final Binary binary = doc.get("data", Binary.class);
+					if (binary != null) {
+						try {
+							parsed = plugin.getStorageManager().fromBytes(binary.getData());
+						} catch (Exception ex) {
+							// Unreadable documents can't match an island in the scan either
+							plugin.getPluginLogger().warn("Failed to parse Mongo data for " + doc.get("_id"), ex);
+						}
+					}
+
+					batch.add(new UpdateOneModel<>(Filters.and(Filters.eq("_id", doc.get("_id")), missing),
+							parsed != null ? islandFields(parsed)
+									: Updates.combine(Updates.set("islandId", 0), Updates.set("ownerUUID", null))));
+					if (batch.size() >= ISLAND_BACKFILL_BATCH_SIZE) {
+						collection.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+						updated += batch.size();
+						batch.clear();
+					}
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				collection.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+				updated += batch.size();
+			}
+			if (updated > 0) {
+				plugin.getPluginLogger().info("Backfilled Mongo island fields for %d documents in %dms."
+						.formatted(updated, System.currentTimeMillis() - start));
+			}
+			islandFieldsReady = true;
+		} catch (MongoException ex) {
+			plugin.getPluginLogger().warn("Failed to backfill Mongo island fields.", ex);
+		}
+	}
+
+	/**
+	 * Build the update setting the indexed island lookup fields of a player.
+	 *
+	 * @param playerData The player data the fields are derived from.
+	 * @return The update.
+	 */
+	private Bson islandFields(PlayerData playerData) {
+		return Updates.combine(Updates.set("islandId", getIslandId(playerData)),
+				Updates.set("ownerUUID", getOwnerUUID(playerData)));
+	}
+
+	private int getIslandId(PlayerData playerData) {
+		return playerData.getHellblockData() != null ? Math.max(playerData.getHellblockData().getIslandId(), 0) : 0;
+	}
+
+	private String getOwnerUUID(PlayerData playerData) {
+		final UUID owner = playerData.getHellblockData() != null ? playerData.getHellblockData().getOwnerUUID()
+				: null;
+		return owner != null ? owner.toString() : null;
+	}
+
+	private UUID toUUID(Object value) {
+		if (value instanceof UUID uuid) {
+			return uuid;
+		}
+		if (value instanceof String str) {
+			try {
+				return UUID.fromString(str);
+			} catch (IllegalArgumentException ex) {
+				return null;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Asynchronously retrieve player data from the MongoDB database.
 	 *
@@ -375,7 +476,49 @@ public class MongoDBHandler extends AbstractStorage {
 			return getPlayerData(cachedUUID, lock, finalExecutor);
 		}
 
-		// Step 2: Async Mongo lookup
+		// Step 2: Indexed lookup once every document has its island field
+		if (islandFieldsReady) {
+			finalExecutor.execute(() -> {
+				try {
+					final MongoCollection<Document> collection = database.getCollection(getCollectionName("data"));
+					UUID match = null;
+					for (Document doc : collection.find(Filters.eq("islandId", islandId))
+							.projection(Projections.include("uuid", "ownerUUID"))) {
+						final UUID uuid = toUUID(doc.get("uuid"));
+						if (uuid == null) {
+							continue;
+						}
+						if (uuid.equals(toUUID(doc.get("ownerUUID")))) {
+							match = uuid;
+							break;
+						}
+						if (match == null) {
+							match = uuid;
+						}
+					}
+
+					if (match == null) {
+						future.complete(Optional.empty());
+						return;
+					}
+
+					islandIdToUUIDCache.put(islandId, match);
+					getPlayerData(match, lock, finalExecutor).whenComplete((result, throwable) -> {
+						if (throwable != null) {
+							future.completeExceptionally(throwable);
+						} else {
+							future.complete(result);
+						}
+					});
+				} catch (Exception ex) {
+					plugin.getPluginLogger().warn("Failed to look up Mongo islandId=" + islandId, ex);
+					future.completeExceptionally(ex);
+				}
+			});
+			return future;
+		}
+
+		// Step 3: Async Mongo scan while the island field is being backfilled
 		finalExecutor.execute(() -> {
 			try {
 				final MongoCollection<Document> collection = database.getCollection(getCollectionName("data"));
@@ -477,7 +620,7 @@ public class MongoDBHandler extends AbstractStorage {
 									.getCollection(getCollectionName("data"));
 							final Document query = new Document("uuid", uuid);
 							final Bson updates = Updates.combine(Updates.set("lock", unlock ? 0 : getCurrentSeconds()),
-									Updates.set("data", new Binary(playerData.toBytes())));
+									Updates.set("data", new Binary(playerData.toBytes())), islandFields(playerData));
 
 							collection.updateOne(query, updates, new UpdateOptions().upsert(true));
 							memoryCache.put(uuid, playerData);
@@ -539,7 +682,8 @@ public class MongoDBHandler extends AbstractStorage {
 							memoryCache.put(it.getUUID(), pd);
 							return new UpdateOneModel<Document>(new Document("uuid", it.getUUID()),
 									Updates.combine(Updates.set("lock", lock),
-											Updates.set("data", new Binary(plugin.getStorageManager().toBytes(pd)))),
+											Updates.set("data", new Binary(plugin.getStorageManager().toBytes(pd))),
+											islandFields(pd)),
 									new UpdateOptions().upsert(true));
 						}).toList();
 
@@ -580,8 +724,9 @@ public class MongoDBHandler extends AbstractStorage {
 
 		try {
 			final MongoCollection<Document> collection = database.getCollection(getCollectionName("data"));
-			Document doc = new Document("uuid", uuid).append("lock", lock ? getCurrentSeconds() : 0).append("data",
-					new Binary(plugin.getStorageManager().toBytes(playerData)));
+			Document doc = new Document("uuid", uuid).append("lock", lock ? getCurrentSeconds() : 0)
+					.append("data", new Binary(plugin.getStorageManager().toBytes(playerData)))
+					.append("islandId", getIslandId(playerData)).append("ownerUUID", getOwnerUUID(playerData));
 			collection.insertOne(doc);
 
 			plugin.debug("Inserted Mongo data for player %s (lock=%s)".formatted(uuid, lock));
@@ -0,0 +1,508 @@
+package com.swiftlicious.hellblock.database;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.player.PlayerData;
+import com.swiftlicious.hellblock.utils.ZstdUtils;
+
+/**
+ * Encodes {@link PlayerData} into the blobs stored by the database backends.
+ * <p>
+ * Two formats are supported:
+ * <ul>
+ * <li>{@link Format#JSON}: the Gson JSON text used by earlier versions.</li>
+ * <li>{@link Format#BINARY}: a versioned binary encoding of the same Gson
+ * tree. Every value is prefixed with a type tag, numbers are written as
+ * varints or raw IEEE bits, and object keys and string values are written
+ * once and referenced by index afterwards. Payloads larger than
+ * {@link #COMPRESSION_THRESHOLD} are zstd compressed when enabled.</li>
+ * </ul>
+ * The binary format reuses the Gson type adapters of the storage manager for
+ * the object mapping, so both formats always cover exactly the same fields.
+ * Decoding detects the format from the blob header, which lets existing JSON
+ * rows be read transparently; they are rewritten in the configured format on
+ * their next save.
+ */
+public final class PlayerDataCodec implements PerformanceReporter {
+
+	/**
+	 * Blob format written by {@link #encode(PlayerData, Format)}.
+	 */
+	public enum Format {
+		JSON, BINARY
+	}
+
+	private static final byte[] MAGIC = { 'H', 'B', 'P', 'D' };
+	private static final int BINARY_VERSION = 1;
+	private static final int HEADER_SIZE = MAGIC.length + 2;
+	private static final int FLAG_ZSTD = 1;
+	private static final int COMPRESSION_THRESHOLD = 512;
+
+	private static final int TAG_NULL = 0;
+	private static final int TAG_TRUE = 1;
+	private static final int TAG_FALSE = 2;
+	private static final int TAG_INT = 3;
+	private static final int TAG_FLOAT = 4;
+	private static final int TAG_DOUBLE = 5;
+	private static final int TAG_STRING = 6;
+	private static final int TAG_ARRAY = 7;
+	private static final int TAG_OBJECT = 8;
+
+	private final HellblockPlugin plugin;
+	private final Gson gson;
+	private volatile boolean compress = true;
+
+	private final Map<Format, Stats> encodeStats = new EnumMap<>(Format.class);
+	private final Map<Format, Stats> decodeStats = new EnumMap<>(Format.class);
+
+	public PlayerDataCodec(HellblockPlugin plugin, Gson gson) {
+		this.plugin = plugin;
+		this.gson = gson;
+		for (Format format : Format.values()) {
+			encodeStats.put(format, new Stats());
+			decodeStats.put(format, new Stats());
+		}
+	}
+
+	/**
+	 * @param compress whether binary payloads may be zstd compressed
+	 */
+	public void setCompress(boolean compress) {
+		this.compress = compress;
+	}
+
+	/**
+	 * Checks whether the given blob was written in the binary format.
+	 *
+	 * @param data the stored blob
+	 * @return {@code true} if the blob starts with the binary header
+	 */
+	public static boolean isBinary(byte[] data) {
+		return data != null && data.length >= HEADER_SIZE && Arrays.equals(data, 0, MAGIC.length, MAGIC, 0,
+				MAGIC.length);
+	}
+
+	/**
+	 * Encodes player data in the given format.
+	 *
+	 * @param data   the player data
+	 * @param format the format to write
+	 * @return the encoded blob
+	 */
+	@NotNull
+	public byte[] encode(@NotNull PlayerData data, @NotNull Format format) {
+		final long start = System.nanoTime();
+		final byte[] bytes = switch (format) {
+		case JSON -> gson.toJson(data).getBytes(StandardCharsets.UTF_8);
+		case BINARY -> encodeBinary(gson.toJsonTree(data));
+		};
+		encodeStats.get(format).record(bytes.length, System.nanoTime() - start);
+		return bytes;
+	}
+
+	/**
+	 * Decodes a blob written in either format.
+	 *
+	 * @param data the stored blob
+	 * @return the decoded player data
+	 * @throws RuntimeException if the blob is malformed
+	 */
+	@NotNull
+	public PlayerData decode(byte[] data) {
+		final long start = System.nanoTime();
+		final Format format = isBinary(data) ? Format.BINARY : Format.JSON;
+		final PlayerData result;
+		if (format == Format.BINARY) {
+			try {
+				result = gson.fromJson(decodeBinary(data), PlayerData.class);
+			} catch (JsonParseException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+				plugin.getPluginLogger()
+						.severe("Failed to decode binary PlayerData (%d bytes).".formatted(data.length));
+				throw new RuntimeException(ex);
+			}
+		} else {
+			final String json = new String(data, StandardCharsets.UTF_8);
+			try {
+				result = gson.fromJson(json, PlayerData.class);
+			} catch (JsonSyntaxException ex) {
+				plugin.getPluginLogger().severe("Failed to parse PlayerData from json.");
+				plugin.getPluginLogger().info("Json: %s".formatted(json));
+				throw new RuntimeException(ex);
+			}
+		}
+		decodeStats.get(format).record(data.length, System.nanoTime() - start);
+		return result;
+	}
+
+	private byte[] encodeBinary(JsonElement tree) {
+		final ByteWriter payload = new ByteWriter(1024);
+		writeElement(payload, tree, new HashMap<>());
+
+		int flags = 0;
+		byte[] body = payload.toByteArray();
+		if (compress && body.length > COMPRESSION_THRESHOLD && ZstdUtils.isAvailable()) {
+			final byte[] compressed = ZstdUtils.compress(body);
+			if (compressed.length < body.length) {
+				body = compressed;
+				flags |= FLAG_ZSTD;
+			}
+		}
+
+		final ByteWriter out = new ByteWriter(body.length + HEADER_SIZE + 5);
+		out.writeBytes(MAGIC, 0, MAGIC.length);
+		out.writeByte(BINARY_VERSION);
+		out.writeByte(flags);
+		out.writeVarInt(payload.size());
+		out.writeBytes(body, 0, body.length);
+		return out.toByteArray();
+	}
+
+	private JsonElement decodeBinary(byte[] data) {
+		final ByteReader header = new ByteReader(data, MAGIC.length);
+		final int version = header.readByte();
+		if (version != BINARY_VERSION) {
+			throw new IllegalArgumentException("Unsupported PlayerData format version " + version);
+		}
+		final int flags = header.readByte();
+		final int length = header.readVarInt();
+
+		byte[] payload = Arrays.copyOfRange(data, header.position(), data.length);
+		if ((flags & FLAG_ZSTD) != 0) {
+			if (!ZstdUtils.isAvailable()) {
+				throw new IllegalStateException("PlayerData is zstd compressed but zstd is unavailable");
+			}
+			final byte[] decompressed = new byte[length];
+			ZstdUtils.decompress(decompressed, payload);
+			payload = decompressed;
+		} else if (payload.length != length) {
+			throw new IllegalArgumentException("PlayerData payload length mismatch");
+		}
+
+		return readElement(new ByteReader(payload, 0), new ArrayList<>());
+	}
+
+	private void writeElement(ByteWriter out, JsonElement element, Map<String, Integer> strings) {
+		if (element == null || element.isJsonNull()) {
+			out.writeByte(TAG_NULL);
+		} else if (element.isJsonObject()) {
+			final JsonObject object = element.getAsJsonObject();
+			out.writeByte(TAG_OBJECT);
+			out.writeVarInt(object.size());
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				writeString(out, entry.getKey(), strings);
+				writeElement(out, entry.getValue(), strings);
+			}
+		} else if (element.isJsonArray()) {
+			final JsonArray array = element.getAsJsonArray();
+			out.writeByte(TAG_ARRAY);
+			out.writeVarInt(array.size());
+			for (JsonElement child : array) {
+				writeElement(out, child, strings);
+			}
+		} else {
+			final JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				out.writeByte(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+			} else if (primitive.isNumber()) {
+				writeNumber(out, primitive.getAsNumber());
+			} else {
+				out.writeByte(TAG_STRING);
+				writeString(out, primitive.getAsString(), strings);
+			}
+		}
+	}
+
+	private void writeNumber(ByteWriter out, Number number) {
+		if (number instanceof Integer || number instanceof Long || number instanceof Short
+				|| number instanceof Byte) {
+			out.writeByte(TAG_INT);
+			out.writeVarLong(zigZag(number.longValue()));
+		} else if (number instanceof Float value) {
+			out.writeByte(TAG_FLOAT);
+			out.writeInt(Float.floatToIntBits(value));
+		} else if (number instanceof Double value) {
+			out.writeByte(TAG_DOUBLE);
+			out.writeLong(Double.doubleToLongBits(value));
+		} else {
+			// Lazily parsed or big numbers keep their integral form when possible
+			final String text = number.toString();
+			try {
+				final long value = Long.parseLong(text);
+				out.writeByte(TAG_INT);
+				out.writeVarLong(zigZag(value));
+			} catch (NumberFormatException ex) {
+				out.writeByte(TAG_DOUBLE);
+				out.writeLong(Double.doubleToLongBits(number.doubleValue()));
+			}
+		}
+	}
+
+	/**
+	 * Writes a string as a reference into the table of strings seen so far, or as
+	 * a new literal ({@code 0} followed by the UTF-8 bytes) on first use.
+	 */
+	private void writeString(ByteWriter out, String value, Map<String, Integer> strings) {
+		final Integer index = strings.get(value);
+		if (index != null) {
+			out.writeVarInt(index + 1);
+			return;
+		}
+		strings.put(value, strings.size());
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeVarInt(0);
+		out.writeVarInt(bytes.length);
+		out.writeBytes(bytes, 0, bytes.length);
+	}
+
+	private JsonElement readElement(ByteReader in, List<String> strings) {
+		final int tag = in.readByte();
+		return switch (tag) {
+		case TAG_NULL -> JsonNull.INSTANCE;
+		case TAG_TRUE -> new JsonPrimitive(true);
+		case TAG_FALSE -> new JsonPrimitive(false);
+		case TAG_INT -> {
+			final long value = unZigZag(in.readVarLong());
+			yield value == (int) value ? new JsonPrimitive((int) value) : new JsonPrimitive(value);
+		}
+		case TAG_FLOAT -> new JsonPrimitive(Float.intBitsToFloat(in.readInt()));
+		case TAG_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(in.readLong()));
+		case TAG_STRING -> new JsonPrimitive(readString(in, strings));
+		case TAG_ARRAY -> {
+			final int size = in.readVarInt();
+			final JsonArray array = new JsonArray(Math.min(size, in.remaining()));
+			for (int i = 0; i < size; i++) {
+				array.add(readElement(in, strings));
+			}
+			yield array;
+		}
+		case TAG_OBJECT -> {
+			final int size = in.readVarInt();
+			final JsonObject object = new JsonObject();
+			for (int i = 0; i < size; i++) {
+				final String key = readString(in, strings);
+				object.add(key, readElement(in, strings));
+			}
+			yield object;
+		}
+		default -> throw new IllegalArgumentException("Unknown PlayerData value tag " + tag);
+		};
+	}
+
+	private String readString(ByteReader in, List<String> strings) {
+		final int reference = in.readVarInt();
+		if (reference > 0) {
+			return strings.get(reference - 1);
+		}
+		final int length = in.readVarInt();
+		final String value = new String(in.readBytes(length), StandardCharsets.UTF_8);
+		strings.add(value);
+		return value;
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "player-data-codec";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		for (Format format : Format.values()) {
+			encodeStats.get(format).report(report, "Encode " + format.name());
+			decodeStats.get(format).report(report, "Decode " + format.name());
+		}
+		return report;
+	}
+
+	/**
+	 * Call, byte and time totals of one codec operation.
+	 */
+	private static final class Stats {
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		void record(int size, long elapsed) {
+			calls.increment();
+			bytes.add(size);
+			nanos.add(elapsed);
+		}
+
+		void report(Map<String, String> report, String label) {
+			final long count = calls.sum();
+			if (count == 0) {
+				report.put(label, "n/a");
+				return;
+			}
+			report.put(label, "%d ops, %d bytes/op, %d ns/op".formatted(count, bytes.sum() / count,
+					nanos.sum() / count));
+		}
+	}
+
+	/**
+	 * Minimal growable byte buffer with varint support.
+	 */
+	private static final class ByteWriter {
+		private byte[] buffer;
+		private int size;
+
+		ByteWriter(int capacity) {
+			this.buffer = new byte[Math.max(16, capacity)];
+		}
+
+		void writeByte(int value) {
+			ensure(1);
+			buffer[size++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes, int offset, int length) {
+			ensure(length);
+			System.arraycopy(bytes, offset, buffer, size, length);
+			size += length;
+		}
+
+		void writeInt(int value) {
+			ensure(4);
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				buffer[size++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeLong(long value) {
+			ensure(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				buffer[size++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong(value & 0xFFFFFFFFL);
+		}
+
+		void writeVarLong(long value) {
+			ensure(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		int size() {
+			return size;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, size);
+		}
+
+		private void ensure(int extra) {
+			if (size + extra > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + extra));
+			}
+		}
+	}
+
+	/**
+	 * Bounds-checked reader over a byte array.
+	 */
+	private static final class ByteReader {
+		private final byte[] data;
+		private int position;
+
+		ByteReader(byte[] data, int position) {
+			this.data = data;
+			this.position = position;
+		}
+
+		int position() {
+			return position;
+		}
+
+		int remaining() {
+			return data.length - position;
+		}
+
+		int readByte() {
+			if (position >= data.length) {
+				throw new IndexOutOfBoundsException("Unexpected end of PlayerData");
+			}
+			return data[position++] & 0xFF;
+		}
+
+		byte[] readBytes(int length) {
+			if (length < 0 || length > remaining()) {
+				throw new IndexOutOfBoundsException("Invalid PlayerData string length " + length);
+			}
+			final byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+			position += length;
+			return bytes;
+		}
+
+		int readInt() {
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				value = (value << 8) | readByte();
+			}
+			return value;
+		}
+
+		long readLong() {
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | readByte();
+			}
+			return value;
+		}
+
+		int readVarInt() {
+			final long value = readVarLong();
+			if (value < 0 || value > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Invalid PlayerData length " + value);
+			}
+			return (int) value;
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				final int b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed PlayerData varint");
+		}
+	}
+}
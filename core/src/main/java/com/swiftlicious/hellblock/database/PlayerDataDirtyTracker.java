@@ -0,0 +1,189 @@
+package com.swiftlicious.hellblock.database;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.player.PlayerData;
+import com.swiftlicious.hellblock.player.TrackedData;
+import com.swiftlicious.hellblock.player.UserData;
+
+/**
+ * Tracks which sections of a player's data changed since it was last written
+ * to storage.
+ * <p>
+ * Every section of {@link PlayerData} (island data, challenges, statistics,
+ * mailbox, ...) carries a change stamp that its mutators renew (see
+ * {@link TrackedData}). The stamps of the last saved state are kept per player,
+ * so the periodic save can skip players whose data is unchanged instead of
+ * rewriting every online and cached user, and checking a player only reads a
+ * few fields instead of serializing their data.
+ * <p>
+ * A player without recorded stamps is always considered dirty.
+ */
+public class PlayerDataDirtyTracker implements PerformanceReporter {
+
+	/**
+	 * Independently tracked sections of {@link PlayerData}.
+	 */
+	public enum Section {
+		// The name is fixed per user instance, so its hash serves as the stamp
+		NAME(user -> Objects.hashCode(user.getName())),
+		EARNINGS(user -> user.getEarningData().getChangeStamp()),
+		STATISTICS(user -> user.getStatisticData().getChangeStamp()),
+		CHALLENGES(user -> user.getChallengeData().getChangeStamp()),
+		HELLBLOCK(user -> user.getHellblockData().getChangeStamp()),
+		LOCATION(user -> user.getLocationCacheData().getChangeStamp()),
+		MAILBOX(UserData::getMailboxChangeStamp),
+		NOTIFICATIONS(user -> user.getNotificationSettings().getChangeStamp());
+
+		private final ToLongFunction<UserData> stamp;
+
+		Section(ToLongFunction<UserData> stamp) {
+			this.stamp = stamp;
+		}
+	}
+
+	private static final Section[] SECTIONS = Section.values();
+
+	protected final HellblockPlugin instance;
+
+	// Entries of users that left the caches expire on their own; a missing entry
+	// only costs one extra save
+	private final Cache<UUID, long[]> savedStamps = Caffeine.newBuilder()
+			.expireAfterAccess(Duration.ofMinutes(30)).maximumSize(20_000).build();
+
+	private final LongAdder checks = new LongAdder();
+	private final LongAdder cleanSkips = new LongAdder();
+	private final LongAdder dirtyUsers = new LongAdder();
+	private final Map<Section, LongAdder> sectionChanges = new EnumMap<>(Section.class);
+
+	public PlayerDataDirtyTracker(HellblockPlugin plugin) {
+		this.instance = plugin;
+		for (Section section : SECTIONS) {
+			sectionChanges.put(section, new LongAdder());
+		}
+	}
+
+	/**
+	 * Reads the current section stamps of the given user. Must be called before
+	 * the data is serialized for saving, so changes made meanwhile are picked up
+	 * by the next save.
+	 *
+	 * @param user the user
+	 * @return one stamp per {@link Section}
+	 */
+	@NotNull
+	public long[] stamps(@NotNull UserData user) {
+		final long[] stamps = new long[SECTIONS.length];
+		for (Section section : SECTIONS) {
+			stamps[section.ordinal()] = section.stamp.applyAsLong(user);
+		}
+		return stamps;
+	}
+
+	/**
+	 * Determines which sections differ from the last saved state and records the
+	 * result in the metrics.
+	 *
+	 * @param uuid   the player
+	 * @param stamps the current stamps
+	 * @return the changed sections; all sections if nothing was saved yet
+	 */
+	@NotNull
+	public EnumSet<Section> changedSections(@NotNull UUID uuid, @NotNull long[] stamps) {
+		checks.increment();
+		final long[] saved = savedStamps.getIfPresent(uuid);
+		if (saved == null) {
+			dirtyUsers.increment();
+			return EnumSet.allOf(Section.class);
+		}
+
+		final EnumSet<Section> changed = EnumSet.noneOf(Section.class);
+		for (Section section : SECTIONS) {
+			if (saved[section.ordinal()] != stamps[section.ordinal()]) {
+				changed.add(section);
+				sectionChanges.get(section).increment();
+			}
+		}
+		if (changed.isEmpty()) {
+			cleanSkips.increment();
+		} else {
+			dirtyUsers.increment();
+		}
+		return changed;
+	}
+
+	/**
+	 * Records the stamps of data that was just written to storage.
+	 *
+	 * @param uuid   the player
+	 * @param stamps the stamps read before the data was serialized
+	 */
+	public void markSaved(@NotNull UUID uuid, @NotNull long[] stamps) {
+		savedStamps.put(uuid, stamps);
+	}
+
+	/**
+	 * Convenience for {@link #markSaved(UUID, long[])} with a user that was just
+	 * built from stored data.
+	 *
+	 * @param uuid the player
+	 * @param user the user as stored
+	 */
+	public void markSaved(@NotNull UUID uuid, @NotNull UserData user) {
+		markSaved(uuid, stamps(user));
+	}
+
+	/**
+	 * Forgets the saved state of a player, so the next save writes it.
+	 *
+	 * @param uuid the player
+	 */
+	public void forget(@NotNull UUID uuid) {
+		savedStamps.invalidate(uuid);
+	}
+
+	/**
+	 * Forgets every saved state.
+	 */
+	public void clear() {
+		savedStamps.invalidateAll();
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "save-dirty-tracking";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final long checked = checks.sum();
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Tracked users", String.valueOf(savedStamps.estimatedSize()));
+		report.put("Checks", String.valueOf(checked));
+		report.put("Clean skips", String.valueOf(cleanSkips.sum()));
+		report.put("Dirty users", String.valueOf(dirtyUsers.sum()));
+		report.put("Skip rate", checked == 0 ? "n/a" : "%.2f%%".formatted(cleanSkips.sum() * 100.0 / checked));
+		for (Section section : SECTIONS) {
+			report.put("Changed " + section.name().toLowerCase(Locale.ENGLISH),
+					String.valueOf(sectionChanges.get(section).sum()));
+		}
+		return report;
+	}
+}
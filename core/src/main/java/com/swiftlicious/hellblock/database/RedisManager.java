@@ -5,9 +5,12 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +27,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.database.dependency.Dependency;
 import com.swiftlicious.hellblock.player.PlayerData;
+import com.swiftlicious.hellblock.player.UserData;
 
 import dev.dejvokep.boostedyaml.YamlDocument;
 import dev.dejvokep.boostedyaml.block.implementation.Section;
@@ -388,6 +392,45 @@ public class RedisManager extends AbstractStorage {
 		});
 	}
 
+	/**
+	 * Update the data of several players in a single pipelined round trip.
+	 *
+	 * @param users  The users to update.
+	 * @param unlock Flag indicating whether to unlock the data (not used).
+	 * @return A CompletableFuture indicating whether every entry was written.
+	 */
+	@Override
+	public CompletableFuture<Boolean> updateManyPlayersData(Collection<? extends UserData> users, boolean unlock) {
+		if (users == null || users.isEmpty()) {
+			return CompletableFuture.completedFuture(true);
+		}
+
+		final List<UserData> userList = new ArrayList<>(users);
+		final CompletableFuture<Boolean> future = new CompletableFuture<>();
+		plugin.getScheduler().async().execute(() -> {
+			try (var pipeline = getJedis().pipelined()) {
+				final Map<UUID, PlayerData> written = new HashMap<>();
+				for (UserData user : userList) {
+					final PlayerData playerData = user.toPlayerData();
+					pipeline.setex(getRedisKey("hb_data", user.getUUID()), 10, playerData.toBytes());
+					written.put(user.getUUID(), playerData);
+				}
+				pipeline.sync();
+				memoryCache.putAll(written);
+				plugin.debug("Redis data set for %d players in one pipeline".formatted(written.size()));
+				future.complete(true);
+			} catch (Exception e) {
+				plugin.getPluginLogger().warn("Failed to set pipelined redis data for %d players"
+						.formatted(userList.size()), e);
+				future.completeExceptionally(e);
+			}
+		});
+		return future.orTimeout(3, TimeUnit.SECONDS).exceptionally(ex -> {
+			plugin.getPluginLogger().warn("Timeout while saving pipelined Redis data", ex);
+			return false;
+		});
+	}
+
 	/**
 	 * Get a set of unique player UUIDs from Redis (Returns an empty set). This
 	 * method is designed for importing and exporting so it would not actually be
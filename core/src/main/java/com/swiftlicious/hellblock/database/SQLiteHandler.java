@@ -29,8 +29,6 @@ import org.bukkit.Bukkit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.database.dependency.Dependency;
@@ -62,9 +60,6 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 	private final Map<UUID, Long> lastAttemptTime = new ConcurrentHashMap<>();
 	private static final long MIN_DELAY_BETWEEN_ATTEMPTS = 5000L; // 5 sec
 
-	private final Cache<Integer, UUID> islandIdToUUIDCache = Caffeine.newBuilder()
-			.expireAfterWrite(30, TimeUnit.MINUTES).maximumSize(10_000).build();
-
 	public SQLiteHandler(HellblockPlugin plugin) {
 		super(plugin);
 	}
@@ -383,6 +378,11 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 			return getPlayerData(cachedUUID, lock, finalExecutor);
 		}
 
+		if (isIslandColumnsReady()) {
+			return getPlayerDataByIndexedIslandId(islandId, lock, finalExecutor);
+		}
+
+		// Fall back to scanning every blob until the island column is backfilled
 		Runnable scanTask = () -> finalExecutor.execute(() -> {
 			try (Connection connection = getConnection();
 					PreparedStatement statement = connection
@@ -469,7 +469,8 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 										SqlConstants.SQL_UPDATE_BY_UUID.formatted(getTableName("data")))) {
 									update.setInt(1, unlock ? 0 : getCurrentSeconds());
 									update.setBytes(2, plugin.getStorageManager().toBytes(playerData));
-									update.setString(3, uuid.toString());
+									setIslandColumns(update, 3, playerData);
+									update.setString(5, uuid.toString());
 									update.executeUpdate();
 								}
 							} else {
@@ -527,7 +528,8 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 
 							statement.setInt(1, unlock ? 0 : getCurrentSeconds());
 							statement.setBytes(2, playerData.toBytes());
-							statement.setString(3, uuid.toString());
+							setIslandColumns(statement, 3, playerData);
+							statement.setString(5, uuid.toString());
 
 							int affected = statement.executeUpdate();
 							if (affected == 0) {
@@ -584,14 +586,18 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 						final String sql = SqlConstants.SQL_UPDATE_BY_UUID.formatted(getTableName("data"));
 
 						try (PreparedStatement statement = connection.prepareStatement(sql)) {
+							final List<PlayerData> dataList = new ArrayList<>(userList.size());
 							for (UserData user : userList) {
+								final PlayerData playerData = user.toPlayerData();
+								dataList.add(playerData);
 								statement.setInt(1, unlock ? 0 : getCurrentSeconds());
-								statement.setBytes(2, plugin.getStorageManager().toBytes(user.toPlayerData()));
-								statement.setString(3, user.getUUID().toString());
+								writeData(statement, 2, plugin.getStorageManager().toBytes(playerData));
+								setIslandColumns(statement, 3, playerData);
+								statement.setString(5, user.getUUID().toString());
 								statement.addBatch();
 							}
 
-							statement.executeBatch();
+							insertMissingRows(connection, statement.executeBatch(), userList, dataList, unlock);
 							connection.commit();
 							future.complete(true);
 
@@ -658,6 +664,7 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 			statement.setString(1, uuid.toString());
 			statement.setInt(2, lock ? getCurrentSeconds() : 0);
 			statement.setBytes(3, plugin.getStorageManager().toBytes(playerData));
+			setIslandColumns(statement, 4, playerData);
 			statement.execute();
 
 			plugin.debug("Inserted data for player %s (lock=%s, trackInsert=%s)".formatted(uuid, lock, trackInsert));
@@ -684,8 +691,14 @@ public class SQLiteHandler extends AbstractSQLDatabase {
 	}
 
 	@Override
-	public void invalidateIslandCache(int islandId) {
-		islandIdToUUIDCache.invalidate(islandId);
+	protected byte[] readData(@NotNull ResultSet rs) throws SQLException {
+		// The SQLite driver does not support Blob access
+		return rs.getBytes("data");
+	}
+
+	@Override
+	protected void writeData(@NotNull PreparedStatement statement, int index, byte[] data) throws SQLException {
+		statement.setBytes(index, data);
 	}
 
 	@Override
@@ -3,12 +3,12 @@ package com.swiftlicious.hellblock.database;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -111,14 +111,18 @@ public class StorageManager implements StorageManagerInterface, Listener {
 	private final ConcurrentMap<UUID, UserData> onlineUserMap = new ConcurrentHashMap<>();
 	private final Cache<UUID, UserData> offlineUserCache = Caffeine.newBuilder().maximumSize(10_000)
 			.expireAfterAccess(Duration.ofMinutes(15)).build();
-	// Keeps track of each user's last saved snapshot
-	private final Map<UUID, PlayerData> lastSavedSnapshots = new ConcurrentHashMap<>();
+	// Keeps track of which users changed since their last save
+	private final PlayerDataDirtyTracker dirtyTracker;
+	// Coalesces and batches individual saves
+	private final WriteBehindQueue writeQueue;
 	private final Set<UUID> locked = new HashSet<>();
 	private boolean hasRedis;
 	private RedisManager redisManager;
 	private String serverID;
 	private SchedulerTask timerSaveTask;
 	private final Gson gson;
+	private final PlayerDataCodec codec;
+	private PlayerDataCodec.Format dataFormat = PlayerDataCodec.Format.JSON;
 
 	private final Set<UUID> forceUnlockedPlayers = ConcurrentHashMap.newKeySet();
 	private final Map<UUID, Object> cacheLocks = new ConcurrentHashMap<>();
@@ -194,6 +198,13 @@ public class StorageManager implements StorageManagerInterface, Listener {
 		builder.disableHtmlEscaping();
 
 		gson = builder.create();
+		codec = new PlayerDataCodec(plugin, gson);
+		plugin.registerPerformanceReporter(codec);
+		dirtyTracker = new PlayerDataDirtyTracker(plugin);
+		plugin.registerPerformanceReporter(dirtyTracker);
+		writeQueue = new WriteBehindQueue(plugin,
+				(users, unlock) -> this.dataSource.updateManyPlayersData(users, unlock));
+		plugin.registerPerformanceReporter(writeQueue);
 	}
 
 	public void initialize() {
@@ -218,6 +229,8 @@ public class StorageManager implements StorageManagerInterface, Listener {
 				.valueOf(config.getString("data-storage-method", "H2").toUpperCase(Locale.ENGLISH));
 		if (storageType != previousType) {
 			if (this.dataSource != null) {
+				// Queued saves belong to the old storage
+				this.writeQueue.shutdown(10, TimeUnit.SECONDS);
 				this.dataSource.disable();
 			}
 			this.previousType = storageType;
@@ -243,6 +256,22 @@ public class StorageManager implements StorageManagerInterface, Listener {
 			}
 		}
 
+		// Format of newly written blobs; existing blobs are read in either format
+		final String defaultFormat = config.getString("data-format", "JSON");
+		final String format = config.getString(storageType.name() + ".data-format", defaultFormat);
+		try {
+			this.dataFormat = PlayerDataCodec.Format.valueOf(format.toUpperCase(Locale.ENGLISH));
+		} catch (IllegalArgumentException ex) {
+			instance.getPluginLogger().warn("Unknown data-format '%s', falling back to JSON.".formatted(format));
+			this.dataFormat = PlayerDataCodec.Format.JSON;
+		}
+		this.codec.setCompress(config.getBoolean(storageType.name() + ".compress-data",
+				config.getBoolean("compress-data", true)));
+
+		this.writeQueue.start(config.getBoolean("write-behind.enable", true),
+				config.getLong("write-behind.flush-interval-ms", 250L),
+				config.getInt("write-behind.max-batch-size", 200), config.getInt("write-behind.max-pending", 5000));
+
 		this.retryManager = new RetryManager(
 				(task, delay) -> instance.getScheduler().asyncLater(task, delay, TimeUnit.SECONDS), 4, // max retries
 				1 // initial delay in seconds
@@ -277,17 +306,16 @@ public class StorageManager implements StorageManagerInterface, Listener {
 
 				final long startTime = System.currentTimeMillis();
 
-				// Determine which online users have changed
-				List<UserData> dirtyOnlineUsers = this.onlineUserMap.values().stream().filter(user -> {
-					PlayerData current = user.toPlayerData();
-					PlayerData lastSaved = lastSavedSnapshots.get(user.getUUID());
-					return lastSaved == null || !Arrays.equals(current.toBytes(), lastSaved.toBytes());
-				}).toList();
+				// Determine which online users have changed, remembering the stamps of the
+				// state that is about to be written
+				Map<UUID, long[]> onlineStamps = new HashMap<>();
+				List<UserData> dirtyOnlineUsers = this.onlineUserMap.values().stream()
+						.filter(user -> isDirty(user, onlineStamps)).toList();
 
 				if (!dirtyOnlineUsers.isEmpty()) {
 					this.dataSource.updateManyPlayersData(dirtyOnlineUsers, true).thenRun(() -> {
-						// Update snapshots after successful save
-						dirtyOnlineUsers.forEach(user -> lastSavedSnapshots.put(user.getUUID(), user.toPlayerData()));
+						// Update stamps after successful save
+						onlineStamps.forEach(dirtyTracker::markSaved);
 						instance.debug("Online batch update successful for " + dirtyOnlineUsers.size() + " user"
 								+ (dirtyOnlineUsers.size() == 1 ? "" : "s") + "!");
 					}).exceptionally(ex -> {
@@ -296,21 +324,16 @@ public class StorageManager implements StorageManagerInterface, Listener {
 					});
 				}
 
-				// Handle offline users, but skip ones already updated
-				Set<UUID> updatedOnlineUUIDs = dirtyOnlineUsers.stream().map(UserData::getUUID)
-						.collect(Collectors.toSet());
-
+				// Handle offline users, but skip online ones; they were checked above and their
+				// tracked state must not be overwritten by a stale cached copy
+				Map<UUID, long[]> offlineStamps = new HashMap<>();
 				Collection<UserData> filteredOfflineUsers = this.offlineUserCache.asMap().values().stream()
-						.filter(user -> !updatedOnlineUUIDs.contains(user.getUUID())).filter(user -> {
-							PlayerData current = user.toPlayerData();
-							PlayerData lastSaved = lastSavedSnapshots.get(user.getUUID());
-							return lastSaved == null || !Arrays.equals(current.toBytes(), lastSaved.toBytes());
-						}).toList();
+						.filter(user -> !this.onlineUserMap.containsKey(user.getUUID()))
+						.filter(user -> isDirty(user, offlineStamps)).toList();
 
 				if (!filteredOfflineUsers.isEmpty()) {
 					this.dataSource.updateManyPlayersData(filteredOfflineUsers, true).thenRun(() -> {
-						filteredOfflineUsers
-								.forEach(user -> lastSavedSnapshots.put(user.getUUID(), user.toPlayerData()));
+						offlineStamps.forEach(dirtyTracker::markSaved);
 						instance.debug("Offline batch update successful for " + filteredOfflineUsers.size() + " user"
 								+ (filteredOfflineUsers.size() == 1 ? "" : "s") + "!");
 					}).exceptionally(ex -> {
@@ -335,6 +358,24 @@ public class StorageManager implements StorageManagerInterface, Listener {
 		preloadCachedIslandOwners();
 	}
 
+	/**
+	 * Checks whether a user changed since the last save. The stamps of the current
+	 * state are stored in the given map so they can be recorded once the save
+	 * succeeded.
+	 *
+	 * @param user   the user to check
+	 * @param stamps collects the stamps of dirty users
+	 * @return true if the user needs to be saved
+	 */
+	private boolean isDirty(@NotNull UserData user, @NotNull Map<UUID, long[]> stamps) {
+		final long[] current = dirtyTracker.stamps(user);
+		if (dirtyTracker.changedSections(user.getUUID(), current).isEmpty()) {
+			return false;
+		}
+		stamps.put(user.getUUID(), current);
+		return true;
+	}
+
 	/**
 	 * Disables the storage manager and cleans up resources.
 	 */
@@ -342,6 +383,9 @@ public class StorageManager implements StorageManagerInterface, Listener {
 	public void disable() {
 		HandlerList.unregisterAll(this);
 		if (this.dataSource != null) {
+			// Write queued saves first, the full save below only covers cached users
+			this.writeQueue.shutdown(10, TimeUnit.SECONDS);
+
 			List<UserData> onlineUsers = new ArrayList<>(this.onlineUserMap.values());
 			List<UserData> offlineUsers = new ArrayList<>(this.offlineUserCache.asMap().values());
 
@@ -378,6 +422,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 
 			this.dataSource.disable();
 		}
+		this.dirtyTracker.clear();
 		if (this.redisManager != null) {
 			this.redisManager.disable();
 		}
@@ -477,6 +522,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 			final PlayerData data = optData.get();
 			UserData userData = UserDataInterface.builder().setData(data).build();
 
+			dirtyTracker.markSaved(uuid, userData);
 			offlineUserCache.put(uuid, userData);
 
 			return CompletableFuture.completedFuture(Optional.of(userData));
@@ -498,6 +544,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 
 			UUID ownerUUID = userData.getHellblockData().getOwnerUUID();
 			if (ownerUUID != null) {
+				dirtyTracker.markSaved(ownerUUID, userData);
 				offlineUserCache.put(ownerUUID, userData);
 			}
 
@@ -507,7 +554,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 
 	@Override
 	public CompletableFuture<Boolean> saveUserData(UserData userData, boolean unlock) {
-		return dataSource.updatePlayerData(userData.getUUID(), userData.toPlayerData(), unlock);
+		return writeQueue.enqueue(userData, unlock);
 	}
 
 	@Override
@@ -604,7 +651,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 
 			if (userData.getHellblockData().getOwnerUUID() != null
 					&& userData.getHellblockData().getOwnerUUID().equals(uuid)) {
-				instance.getIslandLevelManager().serializePlacedBlocks(userData.getHellblockData().getIslandId());
+				instance.getIslandLevelManager().storePlacedBlocks(userData);
 				String worldName = instance.getWorldManager()
 						.getHellblockWorldFormat(userData.getHellblockData().getIslandId());
 				Optional<HellblockWorld<?>> hellWorld = instance.getWorldManager().getWorld(worldName);
@@ -638,21 +685,28 @@ public class StorageManager implements StorageManagerInterface, Listener {
 							2, TimeUnit.SECONDS);
 				}
 
+				final long[] stamps = dirtyTracker.stamps(userData);
 				final PlayerData data = userData.toPlayerData();
 
-				if (hasRedis) {
-					redisManager.setChangeServer(uuid).thenCompose(v -> redisManager.updatePlayerData(uuid, data, true))
-							.thenCompose(v -> dataSource.updatePlayerData(uuid, data, true)).thenAccept(result -> {
-								if (result)
-									locked.remove(uuid);
-							});
-				} else {
-					dataSource.updatePlayerData(uuid, data, true).thenAccept(result -> {
-						if (result) {
-							locked.remove(uuid);
-						}
-					});
-				}
+				// The quit save supersedes a queued one, which could otherwise relock the data.
+				// A flush that already took a save of this player has to finish first for the same reason.
+				final CompletableFuture<Boolean> queued = writeQueue.remove(uuid);
+
+				writeQueue.awaitInFlight()
+						.thenCompose(v -> hasRedis
+								? redisManager.setChangeServer(uuid)
+										.thenCompose(x -> redisManager.updatePlayerData(uuid, data, true))
+										.thenCompose(x -> dataSource.updatePlayerData(uuid, data, true))
+								: dataSource.updatePlayerData(uuid, data, true))
+						.thenAccept(result -> {
+							if (result) {
+								locked.remove(uuid);
+								dirtyTracker.markSaved(uuid, stamps);
+							}
+							if (queued != null) {
+								queued.complete(result);
+							}
+						});
 			});
 		});
 	}
@@ -941,6 +995,13 @@ public class StorageManager implements StorageManagerInterface, Listener {
 			String storedName = UserDataInterface.builder().setData(playerData).build().getName();
 			UserData userData = UserDataInterface.builder().setData(playerData).setName(player.getName()).build();
 
+			// Record the stored state, so a renamed player is saved on the next cycle
+			if (Objects.equals(storedName, userData.getName())) {
+				dirtyTracker.markSaved(uuid, userData);
+			} else {
+				dirtyTracker.forget(uuid);
+			}
+
 			// Store user data in cache
 			onlineUserMap.put(uuid, userData);
 
@@ -1344,7 +1405,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 	@NotNull
 	@Override
 	public byte[] toBytes(@NotNull PlayerData data) {
-		return toJson(data).getBytes(StandardCharsets.UTF_8);
+		return codec.encode(data, dataFormat);
 	}
 
 	/**
@@ -1369,13 +1430,7 @@ public class StorageManager implements StorageManagerInterface, Listener {
 	@Override
 	public PlayerData fromJson(String json) {
 		try {
-			PlayerData data = gson.fromJson(json, PlayerData.class);
-
-			if (data.getVersion() < PlayerData.CURRENT_VERSION) {
-				// migratePlayerData(data, data.getVersion());
-				data.setVersion(PlayerData.CURRENT_VERSION);
-			}
-			return data;
+			return upgrade(gson.fromJson(json, PlayerData.class));
 		} catch (JsonSyntaxException ex) {
 			instance.getPluginLogger().severe("Failed to parse PlayerData from json.");
 			instance.getPluginLogger().info("Json: %s".formatted(json));
@@ -1384,7 +1439,8 @@ public class StorageManager implements StorageManagerInterface, Listener {
 	}
 
 	/**
-	 * Converts bytes to PlayerData.
+	 * Converts bytes to PlayerData. Both the binary format and the JSON text
+	 * written by earlier versions are accepted.
 	 *
 	 * @param data The byte array to be converted.
 	 * @return The PlayerData object.
@@ -1392,7 +1448,26 @@ public class StorageManager implements StorageManagerInterface, Listener {
 	@Override
 	@NotNull
 	public PlayerData fromBytes(byte[] data) {
-		return fromJson(new String(data, StandardCharsets.UTF_8));
+		return upgrade(codec.decode(data));
+	}
+
+	/**
+	 * Gets the codec used to encode player data blobs.
+	 *
+	 * @return The player data codec.
+	 */
+	@NotNull
+	public PlayerDataCodec getCodec() {
+		return codec;
+	}
+
+	@NotNull
+	private PlayerData upgrade(@NotNull PlayerData data) {
+		if (data.getVersion() < PlayerData.CURRENT_VERSION) {
+			// migratePlayerData(data, data.getVersion());
+			data.setVersion(PlayerData.CURRENT_VERSION);
+		}
+		return data;
 	}
 
 	public class RetryManager {
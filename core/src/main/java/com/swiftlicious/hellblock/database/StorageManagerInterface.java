@@ -98,7 +98,9 @@ public interface StorageManagerInterface extends Reloadable {
 	CompletableFuture<Optional<UserData>> getOfflineUserDataByIslandId(int islandId, boolean lock);
 
 	/**
-	 * Saves the user data.
+	 * Saves the user data. Saves are buffered for a short time, repeated saves of
+	 * the same player are coalesced and written together with other players in
+	 * one batch.
 	 *
 	 * @param userData the {@link UserData} to be saved
 	 * @param unlock   whether to unlock the user data after saving
@@ -0,0 +1,349 @@
+package com.swiftlicious.hellblock.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.player.UserData;
+import com.swiftlicious.hellblock.scheduler.SchedulerTask;
+
+/**
+ * Buffers individual player data saves and writes them in batches.
+ * <p>
+ * Saves of the same player that arrive within one flush window are coalesced
+ * into a single write; every caller receives the same future, completed once
+ * the batch containing the player was written. Flushes go through
+ * {@link DataStorageProvider#updateManyPlayersData(Collection, boolean)}, which
+ * the backends implement as a JDBC batch, a Mongo {@code bulkWrite} or a Redis
+ * pipeline.
+ * <p>
+ * Only one flush runs at a time. Once the queue holds a full batch an early
+ * flush is requested, and once it reaches its hard limit new players bypass the
+ * queue and are written directly, so the queue never grows without bound and
+ * saving threads are never blocked.
+ * <p>
+ * The future of a flush is published before any entry leaves the queue, and
+ * direct writes are tracked until they complete, so {@link #shutdown(long, TimeUnit)}
+ * always waits for every write that is still in flight.
+ */
+public class WriteBehindQueue implements PerformanceReporter {
+
+	protected final HellblockPlugin instance;
+	private final BiFunction<Collection<UserData>, Boolean, CompletableFuture<Boolean>> writer;
+
+	private final Map<UUID, PendingWrite> pending = new ConcurrentHashMap<>();
+	private final AtomicBoolean flushing = new AtomicBoolean(false);
+	private volatile CompletableFuture<Void> currentFlush = CompletableFuture.completedFuture(null);
+	private final Set<CompletableFuture<Boolean>> directWrites = ConcurrentHashMap.newKeySet();
+	private SchedulerTask flushTask;
+
+	private volatile boolean enabled;
+	private volatile int maxBatchSize = 200;
+	private volatile int maxPending = 5_000;
+
+	private final LongAdder enqueued = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder overflowWrites = new LongAdder();
+	private final LongAdder flushes = new LongAdder();
+	private final LongAdder flushedWrites = new LongAdder();
+	private final LongAdder failedWrites = new LongAdder();
+	private final LongAdder flushNanos = new LongAdder();
+	private final AtomicLong lastFlushNanos = new AtomicLong();
+	private final AtomicLong maxDepth = new AtomicLong();
+
+	/**
+	 * @param plugin the plugin instance
+	 * @param writer writes a batch of users with the given unlock flag
+	 */
+	public WriteBehindQueue(HellblockPlugin plugin,
+			@NotNull BiFunction<Collection<UserData>, Boolean, CompletableFuture<Boolean>> writer) {
+		this.instance = plugin;
+		this.writer = writer;
+	}
+
+	/**
+	 * Applies the configuration and (re)starts the periodic flush.
+	 *
+	 * @param enabled      whether saves are buffered at all
+	 * @param windowMillis the flush interval in milliseconds
+	 * @param maxBatchSize the maximum number of players written per batch
+	 * @param maxPending   the maximum number of buffered players
+	 */
+	public void start(boolean enabled, long windowMillis, int maxBatchSize, int maxPending) {
+		stopTimer();
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.maxPending = Math.max(this.maxBatchSize, maxPending);
+		this.enabled = enabled && windowMillis > 0;
+		if (this.enabled) {
+			this.flushTask = instance.getScheduler().asyncRepeating(this::requestFlush, windowMillis, windowMillis,
+					TimeUnit.MILLISECONDS);
+		} else {
+			// Nothing new is buffered, write what is left
+			requestFlush();
+		}
+	}
+
+	/**
+	 * Queues a save of the given user.
+	 *
+	 * @param user   the user to save
+	 * @param unlock whether to unlock the data after saving; a coalesced save
+	 *               unlocks if any of its requests did
+	 * @return a future completed with the result of the write
+	 */
+	@NotNull
+	public CompletableFuture<Boolean> enqueue(@NotNull UserData user, boolean unlock) {
+		final UUID uuid = user.getUUID();
+		if (!enabled || (pending.size() >= maxPending && !pending.containsKey(uuid))) {
+			if (enabled) {
+				overflowWrites.increment();
+				requestFlush();
+			}
+			return trackDirect(writer.apply(List.of(user), unlock));
+		}
+
+		enqueued.increment();
+		final PendingWrite write = pending.compute(uuid, (id, existing) -> {
+			if (existing == null) {
+				return new PendingWrite(user, unlock);
+			}
+			coalesced.increment();
+			existing.user = user;
+			existing.unlock |= unlock;
+			return existing;
+		});
+
+		final int depth = pending.size();
+		maxDepth.accumulateAndGet(depth, Math::max);
+		if (depth >= maxBatchSize) {
+			requestFlush();
+		}
+		return write.future;
+	}
+
+	/**
+	 * Removes a queued save without writing it, for callers that are about to
+	 * write the player themselves.
+	 *
+	 * @param uuid the player
+	 * @return the future of the removed save, or {@code null} if none was queued
+	 */
+	public CompletableFuture<Boolean> remove(@NotNull UUID uuid) {
+		final PendingWrite write = pending.remove(uuid);
+		return write != null ? write.future : null;
+	}
+
+	/**
+	 * @return the number of players waiting to be written
+	 */
+	public int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Gets a future that completes once the flush and the direct writes that are
+	 * running right now have finished, whether they succeeded or not. Used by
+	 * callers that must not be overtaken by a save that was already taken out of
+	 * the queue.
+	 *
+	 * @return a future completed once the current writes are done
+	 */
+	@NotNull
+	public CompletableFuture<Void> awaitInFlight() {
+		final List<CompletableFuture<?>> writes = new ArrayList<>(directWrites);
+		writes.add(currentFlush);
+		return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).handle((v, ex) -> null);
+	}
+
+	/**
+	 * Starts a flush unless one is already running.
+	 */
+	public void requestFlush() {
+		if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+			return;
+		}
+
+		// Published before the task removes anything from the queue, so a shutdown
+		// that finds the queue empty still waits for these writes
+		final CompletableFuture<Void> flush = new CompletableFuture<>();
+		currentFlush = flush;
+		flush.whenComplete((v, ex) -> {
+			flushing.set(false);
+			if (pending.size() >= maxBatchSize) {
+				requestFlush();
+			}
+		});
+
+		try {
+			instance.getScheduler().async().execute(() -> {
+				try {
+					drain().whenComplete((v, ex) -> flush.complete(null));
+				} catch (RuntimeException ex) {
+					instance.getPluginLogger().warn("Failed to flush queued player data", ex);
+					flush.complete(null);
+				}
+			});
+		} catch (RuntimeException ex) {
+			instance.getPluginLogger().warn("Failed to schedule a flush of queued player data", ex);
+			flush.complete(null);
+		}
+	}
+
+	/**
+	 * Stops buffering and writes everything still queued, waiting at most the
+	 * given time for the writes to finish.
+	 *
+	 * @param timeout the maximum time to wait
+	 * @param unit    the unit of the timeout
+	 */
+	public void shutdown(long timeout, TimeUnit unit) {
+		enabled = false;
+		stopTimer();
+		if (pending.isEmpty() && currentFlush.isDone() && directWrites.isEmpty()) {
+			return;
+		}
+
+		final int remaining = pending.size();
+		final List<CompletableFuture<?>> writes = new ArrayList<>(directWrites);
+		writes.add(currentFlush);
+		writes.add(drain());
+		try {
+			CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).get(timeout, unit);
+			instance.debug("Flushed " + remaining + " queued save" + (remaining == 1 ? "" : "s") + " on shutdown.");
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException ex) {
+			instance.getPluginLogger().warn("Not all queued player data could be written on shutdown", ex);
+		}
+	}
+
+	/**
+	 * Keeps track of a write that bypassed the queue until it completes.
+	 */
+	@NotNull
+	private CompletableFuture<Boolean> trackDirect(@NotNull CompletableFuture<Boolean> write) {
+		directWrites.add(write);
+		write.whenComplete((result, ex) -> directWrites.remove(write));
+		return write;
+	}
+
+	private void stopTimer() {
+		if (flushTask != null && !flushTask.isCancelled()) {
+			flushTask.cancel();
+		}
+		flushTask = null;
+	}
+
+	/**
+	 * Removes every queued save and writes them in batches grouped by their
+	 * unlock flag.
+	 */
+	@NotNull
+	private CompletableFuture<Void> drain() {
+		final List<PendingWrite> unlocking = new ArrayList<>();
+		final List<PendingWrite> locking = new ArrayList<>();
+		for (UUID uuid : pending.keySet()) {
+			final PendingWrite write = pending.remove(uuid);
+			if (write != null) {
+				(write.unlock ? unlocking : locking).add(write);
+			}
+		}
+		if (unlocking.isEmpty() && locking.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		final long start = System.nanoTime();
+		final List<CompletableFuture<Boolean>> batches = new ArrayList<>();
+		writeBatches(unlocking, true, batches);
+		writeBatches(locking, false, batches);
+		flushes.increment();
+
+		return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).handle((v, ex) -> {
+			final long elapsed = System.nanoTime() - start;
+			flushNanos.add(elapsed);
+			lastFlushNanos.set(elapsed);
+			return null;
+		});
+	}
+
+	private void writeBatches(@NotNull List<PendingWrite> writes, boolean unlock,
+			@NotNull List<CompletableFuture<Boolean>> batches) {
+		for (int from = 0; from < writes.size(); from += maxBatchSize) {
+			final List<PendingWrite> batch = writes.subList(from, Math.min(writes.size(), from + maxBatchSize));
+			final List<UserData> users = batch.stream().map(write -> write.user).toList();
+
+			CompletableFuture<Boolean> result;
+			try {
+				result = writer.apply(users, unlock);
+			} catch (RuntimeException ex) {
+				result = CompletableFuture.failedFuture(ex);
+			}
+
+			batches.add(result.whenComplete((success, ex) -> {
+				final boolean written = ex == null && Boolean.TRUE.equals(success);
+				if (written) {
+					flushedWrites.add(batch.size());
+				} else {
+					failedWrites.add(batch.size());
+					instance.getPluginLogger().warn("Failed to write a batch of " + batch.size() + " player"
+							+ (batch.size() == 1 ? "" : "s") + " from the save queue", ex);
+				}
+				batch.forEach(write -> write.future.complete(written));
+			}));
+		}
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "write-behind";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final long flushCount = flushes.sum();
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Enabled", String.valueOf(enabled));
+		report.put("Queue depth", String.valueOf(pending.size()));
+		report.put("Max queue depth", String.valueOf(maxDepth.get()));
+		report.put("Enqueued saves", String.valueOf(enqueued.sum()));
+		report.put("Coalesced saves", String.valueOf(coalesced.sum()));
+		report.put("Overflow writes", String.valueOf(overflowWrites.sum()));
+		report.put("Flushes", String.valueOf(flushCount));
+		report.put("Written players", String.valueOf(flushedWrites.sum()));
+		report.put("Failed players", String.valueOf(failedWrites.sum()));
+		report.put("Avg flush latency",
+				flushCount == 0 ? "n/a" : "%.2fms".formatted(flushNanos.sum() / 1_000_000.0 / flushCount));
+		report.put("Last flush latency", "%.2fms".formatted(lastFlushNanos.get() / 1_000_000.0));
+		return report;
+	}
+
+	private static final class PendingWrite {
+		private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+		private UserData user;
+		private boolean unlock;
+
+		private PendingWrite(UserData user, boolean unlock) {
+			this.user = user;
+			this.unlock = unlock;
+		}
+	}
+}
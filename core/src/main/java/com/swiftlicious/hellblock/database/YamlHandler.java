@@ -335,7 +335,10 @@ public class YamlHandler extends AbstractStorage {
 								: new HashMap<>(),
 						ownerUUID != null && ownerUUID.equals(uuid)
 								? readNestedMap(data.getSection("locationCacheData.placedBlocks"))
-								: new HashMap<>()))
+								: new HashMap<>(),
+						ownerUUID != null && ownerUUID.equals(uuid)
+								? data.getString("locationCacheData.placedBlockData", null)
+								: null))
 				.setNotificationSettings(
 						new NotificationSettings(data.getBoolean("notificationSettings.joinNotifications", true),
 								data.getBoolean("notificationSettings.inviteNotifications", true)))
@@ -540,6 +543,16 @@ public class YamlHandler extends AbstractStorage {
 				&& playerData.getUUID().equals(playerData.getHellblockData().getOwnerUUID())) {
 			serializeLevelBlocks(data, playerData.getLocationCacheData().getPlacedBlocks());
 			cleanIfEmpty(data, "locationCacheData.placedBlocks");
+			// The encoded index replaces the legacy map once it was written
+			String placedBlockData = playerData.getLocationCacheData().getPlacedBlockData();
+			if (placedBlockData != null && !placedBlockData.isEmpty()) {
+				data.set("locationCacheData.placedBlockData", placedBlockData);
+				if (playerData.getLocationCacheData().getPlacedBlocks().isEmpty()) {
+					data.set("locationCacheData.placedBlocks", null);
+				}
+			} else {
+				data.set("locationCacheData.placedBlockData", null);
+			}
 
 			Map<Integer, List<String>> pistonsByIsland = playerData.getLocationCacheData().getPistonLocationsByIsland();
 			if (pistonsByIsland != null && !pistonsByIsland.isEmpty()) {
@@ -1,7 +1,6 @@
 package com.swiftlicious.hellblock.generation;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashSet;
@@ -18,6 +17,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -60,10 +60,7 @@ import com.swiftlicious.hellblock.player.mailbox.MailboxFlag;
 import com.swiftlicious.hellblock.protection.HellblockFlag.FlagType;
 import com.swiftlicious.hellblock.protection.IslandProtection;
 import com.swiftlicious.hellblock.scheduler.SchedulerTask;
-import com.swiftlicious.hellblock.schematic.EntitySnapshot;
-import com.swiftlicious.hellblock.schematic.IslandBackupManager;
 import com.swiftlicious.hellblock.schematic.IslandSnapshot;
-import com.swiftlicious.hellblock.schematic.IslandSnapshotBlock;
 import com.swiftlicious.hellblock.sender.Sender;
 import com.swiftlicious.hellblock.upgrades.IslandUpgradeType;
 import com.swiftlicious.hellblock.utils.ChunkUtils;
@@ -79,6 +76,7 @@ import com.swiftlicious.hellblock.world.CustomSection;
 import com.swiftlicious.hellblock.world.HellblockWorld;
 import com.swiftlicious.hellblock.world.Pos3;
 import com.swiftlicious.hellblock.world.WorldManager;
+import com.swiftlicious.hellblock.world.WorldPool;
 
 import net.kyori.adventure.text.Component;
 
@@ -184,6 +182,7 @@ public class HellblockHandler implements Reloadable {
 					+ ", isReset=" + isReset);
 
 			AtomicInteger trackedIslandId = new AtomicInteger(-1);
+			AtomicBoolean islandPlaced = new AtomicBoolean(false);
 
 			// Step 1: Generate the hellblock ID
 			return resolveHellblockID(ownerData).thenCompose(islandId -> {
@@ -200,7 +199,7 @@ public class HellblockHandler implements Reloadable {
 				if (EventUtils.fireAndCheckCancel(createEvent)) {
 					instance.getPluginLogger()
 							.warn("createHellblock: Island creation cancelled by event for " + playerName);
-					reservedIds.remove(islandId);
+					releaseIslandId(islandId, false);
 					return CompletableFuture.completedFuture(null);
 				}
 
@@ -209,7 +208,7 @@ public class HellblockHandler implements Reloadable {
 					if (world == null) {
 						instance.getPluginLogger().severe(
 								"createHellblock: World couldn't be prepared and returned null for " + playerName);
-						reservedIds.remove(islandId);
+						releaseIslandId(islandId, true);
 						return CompletableFuture.completedFuture(null);
 					}
 
@@ -225,6 +224,7 @@ public class HellblockHandler implements Reloadable {
 								+ islandLoc.getBlockY() + ", z=" + islandLoc.getBlockZ() + "]");
 
 						// Step 4: Initialize Hellblock data
+						islandPlaced.set(true);
 						return initializeHellblockData(ownerData, islandChoice, islandId, islandLoc).thenCompose(v -> {
 							instance.debug("createHellblock: HellblockData initialized for " + playerName
 									+ " (Island ID=" + islandId + ")");
@@ -258,6 +258,8 @@ public class HellblockHandler implements Reloadable {
 																				+ " seconds.");
 
 																// Cleanup
+																instance.getWorldManager().getWorldPool()
+																		.finishClaim(islandId);
 																reservedIds.remove(islandId);
 																invalidateHellblockIDCache();
 																endCreationProcess(playerUUID);
@@ -290,7 +292,7 @@ public class HellblockHandler implements Reloadable {
 			}).exceptionally(ex -> {
 				int reserved = trackedIslandId.get();
 				if (reserved > 0) {
-					reservedIds.remove(reserved);
+					releaseIslandId(reserved, islandPlaced.get());
 				}
 				endCreationProcess(playerUUID);
 
@@ -323,10 +325,38 @@ public class HellblockHandler implements Reloadable {
 		return createHellblock(ownerData, islandChoice, null, isReset);
 	}
 
+	/**
+	 * Releases an ID reserved by {@link #nextHellblockID()} that is not going to
+	 * be used, e.g. because its pooled world could not be generated.
+	 *
+	 * @param islandId the island ID
+	 */
+	public void releaseIslandId(int islandId) {
+		reservedIds.remove(islandId);
+	}
+
+	/**
+	 * Releases the ID of an island whose creation did not finish. A world claimed
+	 * from the world pool goes back to the pool if nothing was placed in it yet,
+	 * keeping the ID reserved, and is deleted otherwise.
+	 *
+	 * @param islandId    the island ID
+	 * @param worldIsUsed whether the world may already contain parts of the island
+	 */
+	private void releaseIslandId(int islandId, boolean worldIsUsed) {
+		WorldPool pool = instance.getWorldManager().getWorldPool();
+		if (!worldIsUsed && pool.returnClaim(islandId)) {
+			return;
+		}
+		pool.discardClaim(islandId);
+		reservedIds.remove(islandId);
+	}
+
 	/**
 	 * Resolves the Hellblock island ID for the given user. If the user already has
-	 * an assigned island ID, it is returned. Otherwise, a new unique island ID is
-	 * generated.
+	 * an assigned island ID, it is returned. Otherwise an ID whose world was
+	 * generated ahead of time is claimed from the world pool, or a new unique
+	 * island ID is generated.
 	 *
 	 * @param ownerData The user data for whom to resolve the island ID
 	 * @return A CompletableFuture that resolves to the island ID
@@ -342,6 +372,14 @@ public class HellblockHandler implements Reloadable {
 		} else {
 			instance.debug("resolveHellblockID: No existing island ID found for user " + ownerData.getUUID()
 					+ ", generating new one...");
+			if (instance.getConfigManager().perPlayerWorlds()) {
+				Optional<Integer> pooledId = instance.getWorldManager().getWorldPool().claim();
+				if (pooledId.isPresent()) {
+					instance.debug("resolveHellblockID: Claimed pooled island ID = " + pooledId.get() + " for user "
+							+ ownerData.getUUID());
+					return CompletableFuture.completedFuture(pooledId.get());
+				}
+			}
 			return nextHellblockID().thenApply(newId -> {
 				instance.debug(
 						"resolveHellblockID: Generated new island ID = " + newId + " for user " + ownerData.getUUID());
@@ -361,7 +399,19 @@ public class HellblockHandler implements Reloadable {
 		String worldName = instance.getWorldManager().getHellblockWorldFormat(islandId);
 		instance.debug("prepareWorld: Preparing world for island ID = " + islandId + ", world name = " + worldName);
 
-		return instance.getWorldManager().adapter().createWorld(worldName).handle((world, ex) -> {
+		// A world claimed from the world pool is already loaded
+		final long start = System.nanoTime();
+		final Optional<HellblockWorld<?>> pooled = instance.getConfigManager().perPlayerWorlds()
+				? instance.getWorldManager().getWorld(worldName).filter(world -> world.bukkitWorld() != null)
+				: Optional.empty();
+		final CompletableFuture<? extends HellblockWorld<?>> worldFuture;
+		if (pooled.isPresent()) {
+			worldFuture = CompletableFuture.completedFuture(pooled.get());
+		} else {
+			worldFuture = instance.getWorldManager().adapter().createWorld(worldName);
+		}
+
+		return worldFuture.handle((world, ex) -> {
 			if (ex != null) {
 				throw new CompletionException(new IllegalStateException(
 						"Failed to create/load world '" + worldName + "' for island ID " + islandId, ex));
@@ -370,6 +420,9 @@ public class HellblockHandler implements Reloadable {
 				throw new CompletionException(new IllegalStateException(
 						"World creation returned null for island ID " + islandId + " (" + worldName + ")"));
 			}
+			if (instance.getConfigManager().perPlayerWorlds()) {
+				instance.getWorldManager().getWorldPool().recordWorldWait(pooled.isPresent(), System.nanoTime() - start);
+			}
 			instance.debug(
 					"prepareWorld: Successfully created/loaded world '" + worldName + "' for island ID = " + islandId);
 			return world;
@@ -1774,6 +1827,9 @@ public class HellblockHandler implements Reloadable {
 					}
 				});
 				tasks.add(deleteFuture);
+			} else {
+				// The cleared area can be used by the next island
+				instance.getPlacementDetector().releaseIslandSlot(islandId);
 			}
 		}
 
@@ -2100,65 +2156,10 @@ public class HellblockHandler implements Reloadable {
 			}
 
 			instance.debug("captureIslandSnapshot: Preparing block snapshot in bounding box: " + box);
-			final List<IslandSnapshotBlock> blocks = Collections.synchronizedList(new ArrayList<>());
-			final List<EntitySnapshot> entities = Collections.synchronizedList(new ArrayList<>());
-
-			// Pre-build all block locations in the bounding box
-			final List<Location> locations = new ArrayList<>();
-			for (int x = (int) box.getMinX(); x <= (int) box.getMaxX(); x++) {
-				for (int y = (int) box.getMinY(); y <= (int) box.getMaxY(); y++) {
-					for (int z = (int) box.getMinZ(); z <= (int) box.getMaxZ(); z++) {
-						locations.add(new Location(world, x, y, z));
-					}
-				}
-			}
-
-			instance.debug("captureIslandSnapshot: Total block locations to process: " + locations.size());
-
-			final Iterator<Location> it = locations.iterator();
-
-			// Use atomic reference so we can cancel the task later
-			final AtomicReference<SchedulerTask> taskRef = new AtomicReference<>();
-
-			final SchedulerTask task = instance.getScheduler().sync().runRepeating(() -> {
-				int processed = 0;
-				while (processed < IslandBackupManager.BATCH_SIZE && it.hasNext()) {
-					final Location loc = it.next();
-					final Block block = loc.getBlock();
-					if (!block.getType().isAir()) {
-						blocks.add(IslandSnapshotBlock.fromBlockState(block.getState(), List.of()));
-					}
-					processed++;
-				}
-
-				instance.debug("Processed " + processed + " blocks this tick (remaining: "
-						+ (locations.size() - blocks.size()) + ")");
-
-				if (!it.hasNext()) {
-					instance.debug("captureIslandSnapshot: Block snapshot complete. Starting entity capture...");
-
-					world.getNearbyEntities(box).forEach(entity -> {
-						if (!(entity instanceof Player)) {
-							entities.add(EntitySnapshot.fromEntity(entity));
-						}
-					});
-
-					instance.debug("captureIslandSnapshot: Entity capture complete. Total: " + entities.size());
-
-					// Cancel the task safely
-					final SchedulerTask scheduled = taskRef.get();
-					if (scheduled != null && !scheduled.isCancelled()) {
-						scheduled.cancel();
-					}
-
-					// Complete the snapshot
-					future.complete(new IslandSnapshot(blocks, entities));
-					instance.debug("captureIslandSnapshot: Island snapshot complete for owner " + ownerId);
-				}
-			}, 1L, 1L, LocationUtils.getAnyLocationInstance());
-
-			taskRef.set(task); // store reference after scheduling
-			return future;
+			return IslandSnapshot.captureAsync(instance, box, world).thenApply(snapshot -> {
+				instance.debug("captureIslandSnapshot: Island snapshot complete for owner " + ownerId);
+				return snapshot;
+			});
 		});
 	}
 
@@ -2198,11 +2199,11 @@ public class HellblockHandler implements Reloadable {
 
 			instance.debug("rollbackIsland: Loading snapshot " + timestamp + " for island " + data.getIslandId());
 
-			// Load snapshot async
+			// Check the snapshot async, it is read chunk by chunk while restoring
 			return CompletableFuture
-					.supplyAsync(() -> instance.getIslandBackupManager().loadSnapshot(ownerId, timestamp))
-					.thenCompose(snapshot -> {
-						if (snapshot == null) {
+					.supplyAsync(() -> instance.getIslandBackupManager().hasSnapshot(ownerId, timestamp))
+					.thenCompose(exists -> {
+						if (!exists) {
 							instance.getPluginLogger()
 									.warn("rollbackIsland: No snapshot found for rollback of " + ownerId);
 							return CompletableFuture
@@ -2217,8 +2218,8 @@ public class HellblockHandler implements Reloadable {
 									+ data.getIslandId());
 
 							// Restore snapshot in safe batches
-							return snapshot
-									.restoreIntoWorldBatched(instance, world.bukkitWorld(), box,
+							return instance.getIslandBackupManager()
+									.restoreIntoWorld(ownerId, timestamp, world.bukkitWorld(), box,
 											progress -> instance.getPluginLogger().info("Rollback progress for "
 													+ ownerId + ": " + "%.1f%%".formatted(progress * 100)))
 									.thenRun(() -> {
@@ -25,7 +25,6 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.event.player.PlayerTeleportEvent.TeleportCause;
 import org.bukkit.util.BoundingBox;
-import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,7 +34,7 @@ import com.swiftlicious.hellblock.listeners.AnimalHandler;
 //import com.swiftlicious.hellblock.listeners.FortressHandler;
 import com.swiftlicious.hellblock.player.HellblockData;
 import com.swiftlicious.hellblock.player.UserData;
-import com.swiftlicious.hellblock.scheduler.SchedulerTask;
+import com.swiftlicious.hellblock.scheduler.IslandTickService;
 import com.swiftlicious.hellblock.utils.ChunkUtils;
 import com.swiftlicious.hellblock.utils.LocationUtils;
 import com.swiftlicious.hellblock.utils.RandomUtils;
@@ -85,17 +84,24 @@ public class IslandManager implements Listener, Reloadable {
 	 **/
 	private static final double MOVEMENT_THRESHOLD_SQUARED = 16.0;
 
-	private final Map<Integer, SchedulerTask> cropTasks = new HashMap<>();
-//	private final Map<Integer, SchedulerTask> fortressTasks = new HashMap<>();
-	private final Map<Integer, SchedulerTask> animalTasks = new HashMap<>();
+	/** Period of the crop and animal tasks of an active island (3 minutes) **/
+	private static final long ISLAND_TASK_PERIOD_TICKS = 3600L;
+	private static final String CROP_TASK = "crops";
+	private static final String ANIMAL_TASK = "animals";
+//	private static final String FORTRESS_TASK = "fortress";
+
+	private final IslandTickService tickService;
 
 	public IslandManager(HellblockPlugin plugin) {
 		instance = plugin;
+		this.tickService = new IslandTickService(plugin);
+		instance.registerPerformanceReporter(tickService);
 	}
 
 	@Override
 	public void load() {
 		Bukkit.getPluginManager().registerEvents(this, instance);
+		tickService.start();
 		monitorIdleIslands();
 
 		// Restore crop/animal/fortress tasks based on current players
@@ -112,15 +118,16 @@ public class IslandManager implements Listener, Reloadable {
 	public void unload() {
 		HandlerList.unregisterAll(this);
 		lastTrackedMovement.clear();
-		cropTasks.values().stream().filter(Objects::nonNull).filter(task -> !task.isCancelled())
-				.forEach(SchedulerTask::cancel);
-		cropTasks.clear();
-//		fortressTasks.values().stream().filter(Objects::nonNull).filter(task -> !task.isCancelled())
-//				.forEach(SchedulerTask::cancel);
-//		fortressTasks.clear();
-		animalTasks.values().stream().filter(Objects::nonNull).filter(task -> !task.isCancelled())
-				.forEach(SchedulerTask::cancel);
-		animalTasks.clear();
+		tickService.stop();
+	}
+
+	/**
+	 * Gets the service running the periodic tasks of active islands.
+	 *
+	 * @return the island tick service
+	 */
+	public IslandTickService getTickService() {
+		return this.tickService;
 	}
 
 	public Map<Integer, Long> getWeatherCooldowns() {
@@ -160,9 +167,7 @@ public class IslandManager implements Listener, Reloadable {
 					}
 
 					// Cancel crop/animal/fortress tasks
-					Optional.ofNullable(cropTasks.remove(islandId)).ifPresent(SchedulerTask::cancel);
-					Optional.ofNullable(animalTasks.remove(islandId)).ifPresent(SchedulerTask::cancel);
-//					Optional.ofNullable(fortressTasks.remove(islandId)).ifPresent(SchedulerTask::cancel);
+					tickService.cancelAll(islandId);
 
 					// Clear farming and piston caches
 					instance.getIslandLevelManager().clearIslandCache(islandId)
@@ -331,30 +336,16 @@ public class IslandManager implements Listener, Reloadable {
 
 				pistonChain.thenRun(() -> {
 					// Save placed blocks and clear cache
-					instance.getIslandLevelManager().serializePlacedBlocks(islandId);
-					instance.getIslandLevelManager().clearIslandCache(islandId).exceptionally(ex -> {
-						instance.getPluginLogger().warn("Error clearing placed block cache for islandId=" + islandId,
-								ex);
-						return null;
-					});
-
-					// Cancel crop task
-					SchedulerTask cropTask = cropTasks.remove(islandId);
-					if (cropTask != null && !cropTask.isCancelled()) {
-						cropTask.cancel();
-					}
-
-					// Cancel animal task
-					SchedulerTask animalTask = animalTasks.remove(islandId);
-					if (animalTask != null && !animalTask.isCancelled()) {
-						animalTask.cancel();
-					}
+					instance.getIslandLevelManager().savePlacedBlocks(islandId)
+							.thenCompose(saved -> instance.getIslandLevelManager().clearIslandCache(islandId))
+							.exceptionally(ex -> {
+								instance.getPluginLogger()
+										.warn("Error saving placed block cache for islandId=" + islandId, ex);
+								return null;
+							});
 
-//				// Cancel fortress task
-//				SchedulerTask fortressTask = fortressTasks.remove(islandId);
-//				if (fortressTask != null && !fortressTask.isCancelled()) {
-//					fortressTask.cancel();
-//				}
+					// Cancel crop/animal/fortress tasks
+					tickService.cancelAll(islandId);
 
 					// Stop events
 					if (instance.getInvasionHandler().isInvasionRunning(islandId))
@@ -497,9 +488,7 @@ public class IslandManager implements Listener, Reloadable {
 
 		// Clear old player cache and tasks if present
 		activeIslandPlayers.remove(islandId);
-		Optional.ofNullable(cropTasks.remove(islandId)).ifPresent(SchedulerTask::cancel);
-		Optional.ofNullable(animalTasks.remove(islandId)).ifPresent(SchedulerTask::cancel);
-//		Optional.ofNullable(fortressTasks.remove(islandId)).ifPresent(SchedulerTask::cancel);
+		tickService.cancelAll(islandId);
 
 		activeIslandPlayers.computeIfAbsent(islandId, k -> new HashSet<>()).add(ownerId);
 
@@ -583,19 +572,16 @@ public class IslandManager implements Listener, Reloadable {
 	 * @param islandId the ID of the island
 	 */
 	private void startIslandTasks(int islandId) {
-		if (!cropTasks.containsKey(islandId)) {
-			SchedulerTask cropTask = instance.getScheduler().asyncRepeating(() -> {
-				Optional<HellblockWorld<?>> worldOpt = instance.getWorldManager()
-						.getWorld(instance.getWorldManager().getHellblockWorldFormat(islandId));
-				worldOpt.ifPresent(world -> instance.getFarmingManager().updateCrops(world, islandId));
-			}, 0, 3, TimeUnit.MINUTES);
-			cropTasks.put(islandId, cropTask);
-		}
+		tickService.scheduleIfAbsent(islandId, CROP_TASK, ISLAND_TASK_PERIOD_TICKS, () -> {
+			Optional<HellblockWorld<?>> worldOpt = instance.getWorldManager()
+					.getWorld(instance.getWorldManager().getHellblockWorldFormat(islandId));
+			worldOpt.ifPresent(world -> instance.getFarmingManager().updateCrops(world, islandId));
+		});
 
-		animalTasks.computeIfAbsent(islandId, id -> instance.getScheduler()
-				.asyncRepeating(new AnimalHandler(instance, islandId), 0, 3, TimeUnit.MINUTES));
-//		fortressTasks.computeIfAbsent(islandId, id -> instance.getScheduler()
-//				.asyncRepeating(new FortressHandler(instance, islandId), 0, 3, TimeUnit.MINUTES));
+		tickService.scheduleIfAbsent(islandId, ANIMAL_TASK, ISLAND_TASK_PERIOD_TICKS,
+				new AnimalHandler(instance, islandId));
+//		tickService.scheduleIfAbsent(islandId, FORTRESS_TASK, ISLAND_TASK_PERIOD_TICKS,
+//				new FortressHandler(instance, islandId));
 	}
 
 	/**
@@ -615,23 +601,8 @@ public class IslandManager implements Listener, Reloadable {
 	 * @param islandId the ID of the island being deleted
 	 */
 	public void handleIslandDeletion(int islandId) {
-		// Cancel and remove crop task
-		SchedulerTask cropTask = cropTasks.remove(islandId);
-		if (cropTask != null && !cropTask.isCancelled()) {
-			cropTask.cancel();
-		}
-
-		// Cancel and remove animal task
-		SchedulerTask animalTask = animalTasks.remove(islandId);
-		if (animalTask != null && !animalTask.isCancelled()) {
-			animalTask.cancel();
-		}
-
-//		// Cancel and remove fortress task
-//		SchedulerTask fortressTask = fortressTasks.remove(islandId);
-//		if (fortressTask != null && !fortressTask.isCancelled()) {
-//			fortressTask.cancel();
-//		}
+		// Cancel and remove crop/animal/fortress tasks
+		tickService.cancelAll(islandId);
 
 		// Remove any tracked players
 		activeIslandPlayers.remove(islandId);
@@ -747,26 +718,19 @@ public class IslandManager implements Listener, Reloadable {
 	}
 
 	/**
-	 * Asynchronously resolves the island ID associated with a given block position
-	 * within a Hellblock world.
+	 * Resolves the island ID associated with a given block position within a
+	 * Hellblock world.
 	 *
 	 * <p>
-	 * This method converts the provided {@link Pos3} coordinates into a Bukkit
-	 * {@link Location} and delegates to {@link #resolveIslandId(Location)} to
-	 * determine which island (if any) the position belongs to.
+	 * The position is resolved against the spatial index maintained by the
+	 * {@link IslandPlacementDetector}, so the lookup is constant-time regardless of
+	 * how many islands exist. Only islands of the provided world match, which
+	 * matters when islands are stored in per-player worlds.
 	 * </p>
 	 *
 	 * <p>
-	 * This is a convenience wrapper that allows systems using internal coordinate
-	 * representations ({@link Pos3}) to interact seamlessly with the asynchronous
-	 * island resolution logic without needing to manually handle Bukkit
-	 * {@link Location} objects.
-	 * </p>
-	 *
-	 * <p>
-	 * The returned {@link CompletableFuture} will complete with an {@link Optional}
-	 * containing the island ID if one exists at the given position, or an empty
-	 * value if the position does not fall within any island boundary.
+	 * The returned {@link CompletableFuture} is always already completed; it is
+	 * kept for compatibility with callers chaining asynchronous island logic.
 	 * </p>
 	 *
 	 * @param world the {@link HellblockWorld} context representing the world the
@@ -776,21 +740,15 @@ public class IslandManager implements Listener, Reloadable {
 	 *         containing the island ID, or an empty {@link Optional} if the
 	 *         position is not within an island
 	 *
-	 * @see #resolveIslandId(Location)
-	 * @see Pos3#toLocation(World)
+	 * @see IslandPlacementDetector#findIslandIdAt(String, double, double, double)
 	 */
 	@NotNull
 	public CompletableFuture<Optional<Integer>> resolveIslandId(@NotNull HellblockWorld<?> world, @NotNull Pos3 pos) {
-		Vector vector = pos.toLocation(world.bukkitWorld()).toVector();
-
-		// Load all island owners -> filter by bounding box containing this pos
-		return instance.getCoopManager().getCachedIslandOwnerData()
-				.thenApply(users -> users.stream().filter(userData -> {
-					var data = userData.getHellblockData();
-					return data.getIslandId() > 0 && data.getHellblockLocation() != null
-							&& data.getHellblockLocation().getWorld().getName().equals(world.worldName())
-							&& data.getBoundingBox() != null && data.getBoundingBox().contains(vector);
-				}).map(user -> user.getHellblockData().getIslandId()).findFirst());
+		int islandId = instance.getPlacementDetector().findIslandIdAt(world.worldName(), pos.x(), pos.y(), pos.z());
+		if (islandId <= 0) {
+			return CompletableFuture.completedFuture(Optional.empty());
+		}
+		return CompletableFuture.completedFuture(Optional.of(islandId));
 	}
 
 	/**
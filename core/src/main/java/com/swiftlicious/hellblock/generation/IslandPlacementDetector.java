@@ -1,7 +1,6 @@
 package com.swiftlicious.hellblock.generation;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,7 +11,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.util.BoundingBox;
-import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -27,8 +25,9 @@ import com.swiftlicious.hellblock.world.HellblockWorld;
  * Minecraft world using a spiral algorithm to avoid overlaps between island
  * areas.
  * <p>
- * This class maintains a cache of existing island bounding boxes and uses that
- * to detect available slots when placing new islands.
+ * This class maintains a cache of existing island bounding boxes, and an
+ * {@link IslandSlotAllocator} that hands out the free spiral slots when placing
+ * new islands.
  * <p>
  * Core responsibilities:
  * <li>Initialize bounding box cache from saved island data</li>
@@ -50,6 +49,16 @@ public class IslandPlacementDetector implements Reloadable {
 	 */
 	private final Map<Integer, BoundingBox> cachedBoundingBoxes = new ConcurrentHashMap<>();
 
+	/**
+	 * Grid index over {@link #cachedBoundingBoxes} used for point-to-island
+	 * lookups. Kept in sync by {@link #cacheIslandBoundingBox(int, BoundingBox)}
+	 * and {@link #removeCachedIslandBoundingBox(int)}.
+	 */
+	private final IslandSpatialIndex spatialIndex = new IslandSpatialIndex(1);
+
+	/** Spiral slots taken by islands, kept in sync with the cached boxes */
+	private final IslandSlotAllocator slotAllocator;
+
 	/** Future used to track when spiral initialization is complete */
 	private final CompletableFuture<Void> spiralReady = new CompletableFuture<>();
 
@@ -61,6 +70,8 @@ public class IslandPlacementDetector implements Reloadable {
 
 	public IslandPlacementDetector(HellblockPlugin plugin) {
 		this.instance = plugin;
+		this.slotAllocator = new IslandSlotAllocator(plugin);
+		instance.registerPerformanceReporter(slotAllocator);
 	}
 
 	@Override
@@ -69,12 +80,16 @@ public class IslandPlacementDetector implements Reloadable {
 		if (spacing <= 0) {
 			throw new IllegalArgumentException("Island spacing cannot be below 0");
 		}
+		spatialIndex.resize(spacing);
 		instance.debug("IslandPlacementDetector loaded. Calculated island spacing = " + spacing);
 	}
 
 	@Override
 	public void unload() {
+		slotAllocator.saveNow();
+		slotAllocator.clear();
 		cachedBoundingBoxes.clear();
+		spatialIndex.clear();
 	}
 
 	/**
@@ -127,11 +142,25 @@ public class IslandPlacementDetector implements Reloadable {
 
 	public void cacheIslandBoundingBox(int islandId, @NotNull BoundingBox box) {
 		cachedBoundingBoxes.put(islandId, box);
+		spatialIndex.put(islandId, instance.getWorldManager().getHellblockWorldFormat(islandId), box);
+		slotAllocator.bind(islandId, box);
 		instance.debug("PlacementDetector: Updated bounding box for island ID " + islandId);
 	}
 
 	public void removeCachedIslandBoundingBox(int islandId) {
 		cachedBoundingBoxes.remove(islandId);
+		spatialIndex.remove(islandId);
+	}
+
+	/**
+	 * Frees the spiral slot of a deleted island so a new island can be placed
+	 * there. Islands that are only reset keep their slot.
+	 *
+	 * @param islandId the ID of the deleted island
+	 */
+	public void releaseIslandSlot(int islandId) {
+		slotAllocator.release(islandId);
+		instance.debug("PlacementDetector: Released spiral slot of island ID " + islandId);
 	}
 
 	@Nullable
@@ -140,25 +169,33 @@ public class IslandPlacementDetector implements Reloadable {
 		if (world == null)
 			return null;
 
-		Vector vec = loc.toVector();
-
-		for (Map.Entry<Integer, BoundingBox> entry : cachedBoundingBoxes.entrySet()) {
-			BoundingBox box = entry.getValue();
-			if (box != null && box.contains(vec)) {
-				return entry.getKey();
-			}
-		}
+		int islandId = findIslandIdAt(world.getName(), loc.getX(), loc.getY(), loc.getZ());
+		return islandId == IslandSpatialIndex.NO_ISLAND ? null : islandId;
+	}
 
-		return null;
+	/**
+	 * Resolves the island whose cached bounding box contains the given
+	 * coordinates. This is a constant-time, allocation-free lookup against the
+	 * spatial index and is safe to call from any thread. Only islands of the given
+	 * world match, so per-player worlds whose islands share coordinates resolve
+	 * to their own island.
+	 *
+	 * @param worldName the name of the world the coordinates are in
+	 * @param x         the x coordinate
+	 * @param y         the y coordinate
+	 * @param z         the z coordinate
+	 * @return the island ID, or {@link IslandSpatialIndex#NO_ISLAND} if the
+	 *         coordinates are not inside any cached island
+	 */
+	public int findIslandIdAt(@NotNull String worldName, double x, double y, double z) {
+		return spatialIndex.find(worldName, x, y, z);
 	}
 
 	/**
-	 * Scans outward in a spiral pattern to find the next valid island location.
-	 * Each step in the spiral generates a new candidate position which is tested
-	 * for overlap.
-	 * 
-	 * If a valid non-overlapping position is found, its bounding box is immediately
-	 * reserved in the cache to prevent race conditions with other tasks.
+	 * Claims the lowest free spiral slot and returns its location. The slot is
+	 * found in constant time by the {@link IslandSlotAllocator}, including slots
+	 * freed by deleted islands, and is reserved at once so concurrent creations
+	 * never receive the same location.
 	 * 
 	 * This method is safe to call from async threads, and it assumes the spiral
 	 * system has already been initialized.
@@ -202,52 +239,24 @@ public class IslandPlacementDetector implements Reloadable {
 					}
 
 					World world = hellblockWorldOpt.get().bukkitWorld();
-					instance.debug("findNextIslandLocation: Scanning spiral coordinates in world '" + world.getName()
-							+ "'...");
-
-					// Begin scanning outward in a spiral to find a non-overlapping position
-					SpiralIterator spiral = new SpiralIterator();
-					int checked = 0;
-					int softLimit = Math.max(5000, cachedBoundingBoxes.size() * 5); // Adaptive fail-safe
-
-					// Dynamic infinite search — continues until it finds an open space
-					while (true) {
-						SpiralCoordinate coord = spiral.next();
-						int centerX = coord.x * spacing;
-						int centerZ = coord.z * spacing;
-
-						BoundingBox candidate = new BoundingBox(centerX - spacing / 2.0, world.getMinHeight(),
-								centerZ - spacing / 2.0, centerX + spacing / 2.0, world.getMaxHeight(),
-								centerZ + spacing / 2.0);
-
-						// Check for overlap
-						boolean intersects = cachedBoundingBoxes.values().stream()
-								.anyMatch(box -> box.overlaps(candidate));
-						if (!intersects) {
-							instance.debug("findNextIslandLocation: Found available spiral slot at (" + centerX + ", "
-									+ centerZ + ")");
-							return new Location(world, centerX, instance.getConfigManager().height(), centerZ);
-						}
+					int height = instance.getConfigManager().height();
 
-						// Soft fail protection
-						if (++checked > softLimit) {
-							throw new IllegalStateException(
-									"findNextIslandLocation: Spiral exceeded soft safety limit (" + softLimit
-											+ ") — possible bounding box overlap issue or corrupted cache.");
-						}
+					int slot = slotAllocator.claim(spatialIndex, world.getName(), height);
+					int[] cell = IslandSlotAllocator.cellOf(slot);
+					int centerX = cell[0] * spacing;
+					int centerZ = cell[1] * spacing;
 
-						// Periodic debug output to monitor spiral progress
-						if (checked % 5000 == 0) {
-							instance.debug("findNextIslandLocation: Still scanning spiral... checked " + checked
-									+ " coordinates. Current = (" + coord.x + ", " + coord.z + ")");
-						}
-					}
+					instance.debug("findNextIslandLocation: Claimed spiral slot " + slot + " at (" + centerX + ", "
+							+ centerZ + ") in world '" + world.getName() + "'");
+					return new Location(world, centerX, height, centerZ);
 				}));
 	}
 
 	/**
 	 * Populates the bounding box cache using the current island owner data. Each
 	 * owner's saved island data is read and added to the set for overlap detection.
+	 * The slot allocator is initialized from the same boxes, including the
+	 * preserved boxes of islands that are being reset.
 	 *
 	 * @return future that completes when the cache is fully populated
 	 */
@@ -260,8 +269,10 @@ public class IslandPlacementDetector implements Reloadable {
 						+ (owners.size() == 1 ? "" : "s") + ".");
 			}
 
+			Map<Integer, BoundingBox> occupied = new ConcurrentHashMap<>();
 			if (owners.isEmpty()) {
 				instance.debug("Spiral cache: No existing owners — starting fresh from coordinates (0, 0)");
+				slotAllocator.initialize(spacing, occupied);
 				return CompletableFuture.completedFuture(null);
 			}
 
@@ -273,9 +284,15 @@ public class IslandPlacementDetector implements Reloadable {
 					BoundingBox box = data.getBoundingBox();
 					if (box != null) {
 						cachedBoundingBoxes.put(data.getIslandId(), box);
+						spatialIndex.put(data.getIslandId(),
+								instance.getWorldManager().getHellblockWorldFormat(data.getIslandId()), box);
+						occupied.put(data.getIslandId(), box);
 						instance.debug("Spiral cache: Cached bounding box for " + ownerData.getName() + " at center ("
 								+ ((box.getMinX() + box.getMaxX()) / 2) + ", " + ((box.getMinZ() + box.getMaxZ()) / 2)
 								+ ")");
+					} else if (data.getPreservedBoundingBox() != null) {
+						// Island is being reset and will be rebuilt in its old slot
+						occupied.put(data.getIslandId(), data.getPreservedBoundingBox());
 					} else {
 						instance.getPluginLogger().warn("Spiral cache: Missing bounding box for " + ownerData.getName()
 								+ " (" + ownerData.getUUID() + ")");
@@ -284,47 +301,36 @@ public class IslandPlacementDetector implements Reloadable {
 				futures.add(task);
 			});
 
-			return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
-					.thenRun(() -> instance.debug("Spiral cache: Finished caching " + cachedBoundingBoxes.size()
-							+ " bounding box" + (cachedBoundingBoxes.size() == 1 ? "" : "es")));
+			return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenRun(() -> {
+				instance.debug("Spiral cache: Finished caching " + cachedBoundingBoxes.size() + " bounding box"
+						+ (cachedBoundingBoxes.size() == 1 ? "" : "es"));
+				slotAllocator.initialize(spacing, occupied);
+			});
 		});
 	}
 
 	/**
-	 * Computes the bounding box for a specific island ID using spiral coordinates.
-	 * This is useful for visualizing or simulating island placement without
-	 * reserving a spot.
+	 * Computes the default bounding box of an island around the center it was
+	 * placed at. The center comes from the spiral slot that was claimed for the
+	 * island, which is not derived from its ID since released slots are reused.
 	 *
 	 * @param islandId the island's unique ID (must be >= 1)
-	 * @param world    the world to compute coordinates in
-	 * @return bounding box centered at the spiral-computed location
+	 * @param center   the island center returned by {@link #findNextIslandLocation()}
+	 * @param world    the world the island is located in
+	 * @return bounding box centered at the island's location
 	 */
 	@NotNull
-	public BoundingBox computeSpiralBoundingBoxForIsland(int islandId, @NotNull HellblockWorld<?> world) {
+	public BoundingBox computeBoundingBoxForIsland(int islandId, @NotNull Location center,
+			@NotNull HellblockWorld<?> world) {
 		if (islandId <= 0) {
 			throw new IllegalArgumentException("Island ID must be ≥ 1: received " + islandId);
 		}
 
-		// Before: spacing = maxProtection * 2
-		// After: spacing still uses max, but bounding boxes use default
-		int spacing = getIslandSpacing(); // max range * 2 (spacing between islands)
 		double defaultRadius = instance.getUpgradeManager().getDefaultValue(IslandUpgradeType.PROTECTION_RANGE)
 				.intValue();
 
-		SpiralIterator spiral = new SpiralIterator();
-		SpiralCoordinate coord = null;
-
-		// Island ID starts at 1, so advance the spiral ID-1 times
-		for (int i = 0; i < islandId; i++) {
-			coord = spiral.next();
-		}
-
-		if (coord == null) {
-			throw new IllegalStateException("Failed to resolve spiral coordinate for island ID " + islandId);
-		}
-
-		int centerX = coord.x * spacing;
-		int centerZ = coord.z * spacing;
+		int centerX = center.getBlockX();
+		int centerZ = center.getBlockZ();
 
 		double minX = centerX - defaultRadius;
 		double maxX = centerX + defaultRadius;
@@ -336,49 +342,4 @@ public class IslandPlacementDetector implements Reloadable {
 		return new BoundingBox(minX, world.bukkitWorld().getMinHeight(), minZ, maxX, world.bukkitWorld().getMaxHeight(),
 				maxZ);
 	}
-
-	/**
-	 * Represents a coordinate in the spiral grid.
-	 */
-	private class SpiralCoordinate {
-		final int x, z;
-
-		SpiralCoordinate(int x, int z) {
-			this.x = x;
-			this.z = z;
-		}
-	}
-
-	/**
-	 * Iterator that yields an infinite sequence of (x, z) grid coordinates in a
-	 * square spiral pattern. Starts at (0, 0), and spirals outward.
-	 *
-	 * Used to calculate deterministic and collision-free positions for new islands.
-	 */
-	private class SpiralIterator implements Iterator<SpiralCoordinate> {
-		private int x = 0, z = 0;
-		private int dx = 0, dz = -1;
-
-		@Override
-		public boolean hasNext() {
-			return true; // Infinite spiral generation
-		}
-
-		@Override
-		public SpiralCoordinate next() {
-			SpiralCoordinate coord = new SpiralCoordinate(x, z);
-
-			// Change direction at square corners to create a spiral pattern
-			if (x == z || (x < 0 && x == -z) || (x > 0 && x == 1 - z)) {
-				int temp = dx;
-				dx = -dz;
-				dz = temp;
-			}
-
-			x += dx;
-			z += dz;
-
-			return coord;
-		}
-	}
 }
\ No newline at end of file
@@ -0,0 +1,370 @@
+package com.swiftlicious.hellblock.generation;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+
+/**
+ * Hands out the spiral slots of the shared island world.
+ * <p>
+ * Slot {@code n} is the {@code n}-th cell of the square spiral around the
+ * origin, and both directions of that mapping are computed in closed form, see
+ * {@link #cellOf(int)} and {@link #slotOf(int, int)}. Taken slots are kept in a
+ * bitset, so the lowest free slot, including slots released by deleted
+ * islands, is found without walking the spiral or testing bounding boxes.
+ * <p>
+ * The slot of every island is saved to {@code island-slots.dat} and completed
+ * from the loaded island data on startup. A saved island whose data was not
+ * loaded keeps its slot, slots are only freed when an island is deleted, see
+ * {@link #release(int)}. Claiming is synchronized, so concurrent island
+ * creations never receive the same slot. A claimed slot is reserved until a
+ * bounding box is cached for it; reservations are not saved, so slots of
+ * creations that never finished become free after a restart.
+ */
+public class IslandSlotAllocator implements PerformanceReporter {
+
+	private static final int VERSION = 1;
+	private static final String FILE_NAME = "island-slots.dat";
+
+	protected final HellblockPlugin instance;
+
+	private final BitSet taken = new BitSet();
+	private final BitSet reserved = new BitSet();
+	private final Map<Integer, Integer> slotByIsland = new HashMap<>();
+	/** No slot below this index is free. */
+	private int lowestFree;
+	private int spacing;
+	private boolean enabled;
+
+	private final Object fileLock = new Object();
+	private final AtomicBoolean saveQueued = new AtomicBoolean(false);
+	private final LongAdder claims = new LongAdder();
+	private final LongAdder reused = new LongAdder();
+	private final LongAdder occupiedSkips = new LongAdder();
+	private final LongAdder releases = new LongAdder();
+
+	public IslandSlotAllocator(HellblockPlugin plugin) {
+		this.instance = plugin;
+	}
+
+	/**
+	 * Gets the grid cell of a spiral slot.
+	 * <p>
+	 * Ring {@code k} around the origin holds the slots {@code (2k-1)^2} up to
+	 * {@code (2k+1)^2 - 1} and is walked along its east, south, west and north
+	 * side, each {@code 2k} cells long.
+	 *
+	 * @param slot the slot index, starting at 0 for the origin
+	 * @return the cell as {@code {x, z}}
+	 */
+	@NotNull
+	public static int[] cellOf(int slot) {
+		if (slot <= 0) {
+			return new int[] { 0, 0 };
+		}
+		int ring = (int) Math.ceil((Math.sqrt(slot + 1.0) - 1) / 2);
+		// Correct rounding errors of the square root
+		while ((2L * ring - 1) * (2L * ring - 1) > slot) {
+			ring--;
+		}
+		while ((2L * ring + 1) * (2L * ring + 1) <= slot) {
+			ring++;
+		}
+		final int offset = (int) (slot - (2L * ring - 1) * (2L * ring - 1));
+		final int side = offset / (2 * ring);
+		final int step = offset % (2 * ring);
+		return switch (side) {
+		case 0 -> new int[] { ring, -ring + 1 + step };
+		case 1 -> new int[] { ring - 1 - step, ring };
+		case 2 -> new int[] { -ring, ring - 1 - step };
+		default -> new int[] { -ring + 1 + step, -ring };
+		};
+	}
+
+	/**
+	 * Gets the spiral slot of a grid cell, the inverse of {@link #cellOf(int)}.
+	 *
+	 * @param x the cell x coordinate
+	 * @param z the cell z coordinate
+	 * @return the slot index
+	 */
+	public static int slotOf(int x, int z) {
+		final long ring = Math.max(Math.abs((long) x), Math.abs((long) z));
+		if (ring == 0) {
+			return 0;
+		}
+		final long start = (2 * ring - 1) * (2 * ring - 1);
+		final long offset;
+		if (x == ring && z > -ring) {
+			offset = z + ring - 1;
+		} else if (z == ring) {
+			offset = 2 * ring + (ring - 1 - x);
+		} else if (x == -ring) {
+			offset = 4 * ring + (ring - 1 - z);
+		} else {
+			offset = 6 * ring + (x + ring - 1);
+		}
+		return Math.toIntExact(start + offset);
+	}
+
+	/**
+	 * Loads the saved slots and adds the islands missing from the file. The
+	 * bounding box of an island wins over its saved slot.
+	 *
+	 * @param spacing the distance between two slots in blocks
+	 * @param islands the bounding boxes of all existing islands, including
+	 *                preserved boxes of islands being reset
+	 */
+	public synchronized void initialize(int spacing, @NotNull Map<Integer, BoundingBox> islands) {
+		clear();
+		this.spacing = spacing;
+		this.enabled = !instance.getConfigManager().perPlayerWorlds();
+		if (!enabled) {
+			return;
+		}
+
+		final Map<Integer, Integer> saved = read(spacing);
+		saved.forEach(this::bindSlot);
+		int added = 0;
+		for (Map.Entry<Integer, BoundingBox> entry : islands.entrySet()) {
+			final int slot = slotOf(entry.getValue());
+			if (!Integer.valueOf(slot).equals(slotByIsland.get(entry.getKey()))) {
+				bindSlot(entry.getKey(), slot);
+				added++;
+			}
+		}
+		final long unseen = saved.keySet().stream().filter(islandId -> !islands.containsKey(islandId)).count();
+		if (added > 0) {
+			save();
+		}
+		instance.debug("Island slots: " + slotByIsland.size() + " taken, lowest free slot "
+				+ taken.nextClearBit(lowestFree) + " (" + saved.size() + " loaded, " + added + " added, " + unseen
+				+ " without island data).");
+	}
+
+	/**
+	 * Claims the lowest free slot. A slot is only handed out if no cached island
+	 * overlaps its cell. Slots whose center lies inside an island the allocator
+	 * does not know about yet are bound to that island; slots only overlapped by
+	 * a neighbouring island stay blocked until the next restart.
+	 *
+	 * @param index     the index of cached island bounding boxes
+	 * @param worldName the world the island is placed in
+	 * @param y         a height inside the island bounding boxes
+	 * @return the claimed slot, or 0 if slots are not used because every island
+	 *         has its own world
+	 */
+	public synchronized int claim(@NotNull IslandSpatialIndex index, @NotNull String worldName, double y) {
+		if (!enabled) {
+			return 0;
+		}
+		final double half = spacing / 2.0;
+		while (true) {
+			final int slot = taken.nextClearBit(lowestFree);
+			final int[] cell = cellOf(slot);
+			final double centerX = (double) cell[0] * spacing;
+			final double centerZ = (double) cell[1] * spacing;
+			final int occupant = index.findOverlapping(worldName,
+					new BoundingBox(centerX - half, y, centerZ - half, centerX + half, y + 1, centerZ + half));
+			if (occupant != IslandSpatialIndex.NO_ISLAND) {
+				occupiedSkips.increment();
+				final int owner = index.find(worldName, centerX, y, centerZ);
+				if (owner != IslandSpatialIndex.NO_ISLAND && !slotByIsland.containsKey(owner)) {
+					bindSlot(owner, slot);
+					save();
+				} else {
+					taken.set(slot);
+					lowestFree = slot + 1;
+				}
+				continue;
+			}
+			if (slot < taken.length()) {
+				reused.increment();
+			}
+			taken.set(slot);
+			reserved.set(slot);
+			lowestFree = slot + 1;
+			claims.increment();
+			return slot;
+		}
+	}
+
+	/**
+	 * Binds an island to the slot its bounding box is centered on, confirming a
+	 * claimed slot.
+	 *
+	 * @param islandId the island
+	 * @param box      its bounding box
+	 */
+	public synchronized void bind(int islandId, @NotNull BoundingBox box) {
+		if (!enabled) {
+			return;
+		}
+		final int slot = slotOf(box);
+		if (Integer.valueOf(slot).equals(slotByIsland.get(islandId)) && !reserved.get(slot)) {
+			return;
+		}
+		bindSlot(islandId, slot);
+		save();
+	}
+
+	/**
+	 * Releases the slot of a deleted island, so it can be claimed again.
+	 *
+	 * @param islandId the island
+	 */
+	public synchronized void release(int islandId) {
+		final Integer slot = slotByIsland.remove(islandId);
+		if (slot == null) {
+			return;
+		}
+		taken.clear(slot);
+		lowestFree = Math.min(lowestFree, slot);
+		releases.increment();
+		save();
+	}
+
+	/**
+	 * Writes the slots to disk now, used on shutdown.
+	 */
+	public void saveNow() {
+		final Map<Integer, Integer> snapshot;
+		final int currentSpacing;
+		synchronized (this) {
+			if (!enabled) {
+				return;
+			}
+			snapshot = new HashMap<>(slotByIsland);
+			currentSpacing = spacing;
+		}
+		write(currentSpacing, snapshot);
+	}
+
+	public synchronized void clear() {
+		taken.clear();
+		reserved.clear();
+		slotByIsland.clear();
+		lowestFree = 0;
+	}
+
+	private void bindSlot(int islandId, int slot) {
+		final Integer previous = slotByIsland.put(islandId, slot);
+		if (previous != null && previous != slot) {
+			taken.clear(previous);
+			lowestFree = Math.min(lowestFree, previous);
+		}
+		taken.set(slot);
+		reserved.clear(slot);
+	}
+
+	private int slotOf(BoundingBox box) {
+		return slotOf((int) Math.round(box.getCenterX() / spacing), (int) Math.round(box.getCenterZ() / spacing));
+	}
+
+	/**
+	 * Writes the slots on a worker thread. Calls made while a write is queued are
+	 * covered by that write.
+	 */
+	private void save() {
+		if (saveQueued.compareAndSet(false, true)) {
+			instance.getScheduler().async().execute(() -> {
+				saveQueued.set(false);
+				saveNow();
+			});
+		}
+	}
+
+	private void write(int spacing, Map<Integer, Integer> slots) {
+		final Path target = getFile().toPath();
+		final Path temp = target.resolveSibling(FILE_NAME + ".tmp");
+		synchronized (fileLock) {
+			try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+				out.writeInt(VERSION);
+				out.writeInt(spacing);
+				out.writeInt(slots.size());
+				for (Map.Entry<Integer, Integer> entry : slots.entrySet()) {
+					out.writeInt(entry.getKey());
+					out.writeInt(entry.getValue());
+				}
+			} catch (IOException ex) {
+				instance.getPluginLogger().warn("Failed to save island slots", ex);
+				return;
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException ex) {
+				instance.getPluginLogger().warn("Failed to replace " + FILE_NAME, ex);
+			}
+		}
+	}
+
+	private Map<Integer, Integer> read(int spacing) {
+		final Map<Integer, Integer> slots = new HashMap<>();
+		final File file = getFile();
+		if (!file.exists()) {
+			return slots;
+		}
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+			final int version = in.readInt();
+			final int savedSpacing = in.readInt();
+			if (version != VERSION || savedSpacing != spacing) {
+				// Slots of another spacing are other cells, derive them from the islands again
+				instance.debug("Island slots: Ignoring " + FILE_NAME + " (version " + version + ", spacing "
+						+ savedSpacing + ")");
+				return slots;
+			}
+			final int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				slots.put(in.readInt(), in.readInt());
+			}
+		} catch (IOException ex) {
+			instance.getPluginLogger().warn("Failed to read " + FILE_NAME + ", slots are derived from the islands",
+					ex);
+			slots.clear();
+		}
+		return slots;
+	}
+
+	private File getFile() {
+		return new File(instance.getDataFolder(), FILE_NAME);
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "island-slots";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		synchronized (this) {
+			report.put("Enabled", String.valueOf(enabled));
+			report.put("Taken slots", String.valueOf(taken.cardinality()));
+			report.put("Reserved slots", String.valueOf(reserved.cardinality()));
+			report.put("Free slots below frontier", String.valueOf(taken.length() - taken.cardinality()));
+			report.put("Lowest free slot", String.valueOf(taken.nextClearBit(lowestFree)));
+		}
+		report.put("Claims", claims.sum() + " (" + reused.sum() + " reused)");
+		report.put("Occupied slots skipped", String.valueOf(occupiedSkips.sum()));
+		report.put("Releases", String.valueOf(releases.sum()));
+		return report;
+	}
+}
@@ -0,0 +1,365 @@
+package com.swiftlicious.hellblock.generation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.utils.extras.PackedLongs;
+
+/**
+ * Uniform grid index mapping world coordinates to island IDs.
+ * <p>
+ * Islands are laid out on a spiral grid with a fixed spacing, so the grid cell
+ * size equals the island spacing and every cell is centered on a spiral slot.
+ * Each bounding box is registered in every cell it overlaps (normally exactly
+ * one), which allows irregular or expanded boxes to be indexed as well. Every
+ * world has its own grid, because in per-player worlds all islands share the
+ * same coordinates.
+ * <p>
+ * Lookups are lock-free and allocation-free. Each grid is an open-addressing
+ * table of immutable cells; writers hold a lock and replace single cells in
+ * place, so an insert only costs the cells of its own box. The table is only
+ * copied when it grows, which happens a logarithmic number of times.
+ */
+public final class IslandSpatialIndex {
+
+	/** Return value of the lookups when no island matches. */
+	public static final int NO_ISLAND = -1;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	/** Authoritative island boxes, only accessed while holding the lock. */
+	private final Map<Integer, Entry> entries = new HashMap<>();
+	private final Map<String, Grid> grids = new ConcurrentHashMap<>();
+
+	private volatile int cellSize;
+
+	public IslandSpatialIndex(int cellSize) {
+		this.cellSize = Math.max(1, cellSize);
+	}
+
+	/**
+	 * Changes the grid cell size and re-indexes all registered boxes.
+	 *
+	 * @param cellSize the new cell size in blocks (the island spacing)
+	 */
+	public synchronized void resize(int cellSize) {
+		int newSize = Math.max(1, cellSize);
+		if (newSize == this.cellSize) {
+			return;
+		}
+		this.cellSize = newSize;
+		grids.clear();
+		entries.forEach((id, entry) -> grid(entry.worldName).link(id, entry.box, newSize));
+	}
+
+	/**
+	 * Registers or replaces the bounding box of the given island.
+	 *
+	 * @param islandId  the island ID
+	 * @param worldName the world the island is in
+	 * @param box       the island bounding box
+	 */
+	public synchronized void put(int islandId, @NotNull String worldName, @NotNull BoundingBox box) {
+		Entry previous = entries.put(islandId, new Entry(worldName, box.clone()));
+		if (previous != null) {
+			unlink(islandId, previous);
+		}
+		grid(worldName).link(islandId, box, cellSize);
+	}
+
+	/**
+	 * Removes the given island from the index.
+	 *
+	 * @param islandId the island ID
+	 */
+	public synchronized void remove(int islandId) {
+		Entry previous = entries.remove(islandId);
+		if (previous != null) {
+			unlink(islandId, previous);
+		}
+	}
+
+	/**
+	 * Removes every island from the index.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		grids.clear();
+	}
+
+	/**
+	 * @return the number of indexed islands
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Resolves the island whose bounding box contains the given point. Uses the
+	 * same half-open containment rules as {@link BoundingBox#contains(double, double, double)}.
+	 *
+	 * @param worldName the world of the point
+	 * @param x         the x coordinate
+	 * @param y         the y coordinate
+	 * @param z         the z coordinate
+	 * @return the island ID, or {@link #NO_ISLAND} if the point is not inside any
+	 *         island
+	 */
+	public int find(@NotNull String worldName, double x, double y, double z) {
+		final Grid grid = grids.get(worldName);
+		if (grid == null) {
+			return NO_ISLAND;
+		}
+		final int size = this.cellSize;
+		final Cell cell = grid.get(pack(cellOf(x, size), cellOf(z, size)));
+		if (cell == null) {
+			return NO_ISLAND;
+		}
+		final double[] bounds = cell.bounds;
+		for (int i = 0, offset = 0; i < cell.ids.length; i++, offset += 6) {
+			if (x >= bounds[offset] && x < bounds[offset + 3] && y >= bounds[offset + 1] && y < bounds[offset + 4]
+					&& z >= bounds[offset + 2] && z < bounds[offset + 5]) {
+				return cell.ids[i];
+			}
+		}
+		return NO_ISLAND;
+	}
+
+	/**
+	 * Resolves an island whose bounding box overlaps the given box. Uses the same
+	 * rules as {@link BoundingBox#overlaps(BoundingBox)}, so boxes that only touch
+	 * do not overlap.
+	 *
+	 * @param worldName the world of the box
+	 * @param box       the box to test
+	 * @return the ID of an overlapping island, or {@link #NO_ISLAND} if the box
+	 *         overlaps no island
+	 */
+	public int findOverlapping(@NotNull String worldName, @NotNull BoundingBox box) {
+		final Grid grid = grids.get(worldName);
+		if (grid == null) {
+			return NO_ISLAND;
+		}
+		final int size = this.cellSize;
+		final int maxCellX = cellOf(box.getMaxX(), size);
+		final int maxCellZ = cellOf(box.getMaxZ(), size);
+		for (int cx = cellOf(box.getMinX(), size); cx <= maxCellX; cx++) {
+			for (int cz = cellOf(box.getMinZ(), size); cz <= maxCellZ; cz++) {
+				final Cell cell = grid.get(pack(cx, cz));
+				if (cell == null) {
+					continue;
+				}
+				final double[] bounds = cell.bounds;
+				for (int i = 0, offset = 0; i < cell.ids.length; i++, offset += 6) {
+					if (bounds[offset] < box.getMaxX() && bounds[offset + 3] > box.getMinX()
+							&& bounds[offset + 1] < box.getMaxY() && bounds[offset + 4] > box.getMinY()
+							&& bounds[offset + 2] < box.getMaxZ() && bounds[offset + 5] > box.getMinZ()) {
+						return cell.ids[i];
+					}
+				}
+			}
+		}
+		return NO_ISLAND;
+	}
+
+	private Grid grid(String worldName) {
+		return grids.computeIfAbsent(worldName, name -> new Grid());
+	}
+
+	private void unlink(int islandId, Entry entry) {
+		Grid grid = grids.get(entry.worldName);
+		if (grid != null) {
+			grid.unlink(islandId, entry.box, cellSize);
+		}
+	}
+
+	private static int cellCount(@NotNull BoundingBox box, int size) {
+		long width = (long) cellOf(box.getMaxX(), size) - cellOf(box.getMinX(), size) + 1;
+		long depth = (long) cellOf(box.getMaxZ(), size) - cellOf(box.getMinZ(), size) + 1;
+		return (int) Math.min(Integer.MAX_VALUE / 4, width * depth);
+	}
+
+	private static void forEachCell(@NotNull BoundingBox box, int size, @NotNull CellConsumer consumer) {
+		int minCellX = cellOf(box.getMinX(), size);
+		int maxCellX = cellOf(box.getMaxX(), size);
+		int minCellZ = cellOf(box.getMinZ(), size);
+		int maxCellZ = cellOf(box.getMaxZ(), size);
+		for (int cx = minCellX; cx <= maxCellX; cx++) {
+			for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+				consumer.accept(pack(cx, cz));
+			}
+		}
+	}
+
+	/**
+	 * Maps a block coordinate to its spiral cell. Cells are centered on multiples
+	 * of the cell size, matching the island centers produced by the spiral.
+	 */
+	private static int cellOf(double coordinate, int size) {
+		return (int) Math.floor((coordinate + size / 2.0) / size);
+	}
+
+	private static long pack(int cellX, int cellZ) {
+		return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+	}
+
+	private static int capacityFor(int entries) {
+		int capacity = INITIAL_CAPACITY;
+		while (capacity < entries * 2 + 1) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	@FunctionalInterface
+	private interface CellConsumer {
+		void accept(long key);
+	}
+
+	private record Entry(String worldName, BoundingBox box) {
+	}
+
+	/**
+	 * Open-addressing table from packed cell coordinate to {@link Cell} for one
+	 * world. A slot is empty while it holds {@code null}; emptied cells stay in
+	 * place as tombstones until the table grows. Only the slot array reference
+	 * and single slots are written, so readers never see a half-built cell.
+	 */
+	private static final class Grid {
+		private volatile Cell[] slots = new Cell[INITIAL_CAPACITY];
+		/** Occupied slots including tombstones, only accessed while holding the index lock. */
+		private int used;
+
+		Cell get(long key) {
+			final Cell[] table = this.slots;
+			final int mask = table.length - 1;
+			for (int slot = PackedLongs.mix(key) & mask;; slot = (slot + 1) & mask) {
+				Cell cell = table[slot];
+				if (cell == null || cell.key == key) {
+					return cell;
+				}
+			}
+		}
+
+		void link(int islandId, @NotNull BoundingBox box, int size) {
+			ensureCapacity(cellCount(box, size));
+			forEachCell(box, size, key -> {
+				Cell cell = get(key);
+				set(key, (cell != null ? cell : Cell.empty(key)).with(islandId, box));
+			});
+		}
+
+		void unlink(int islandId, @NotNull BoundingBox box, int size) {
+			forEachCell(box, size, key -> {
+				Cell cell = get(key);
+				if (cell != null) {
+					set(key, cell.without(islandId));
+				}
+			});
+		}
+
+		private void set(long key, @NotNull Cell cell) {
+			final Cell[] table = this.slots;
+			final int mask = table.length - 1;
+			for (int slot = PackedLongs.mix(key) & mask;; slot = (slot + 1) & mask) {
+				Cell current = table[slot];
+				if (current == null) {
+					used++;
+					table[slot] = cell;
+					return;
+				}
+				if (current.key == key) {
+					table[slot] = cell;
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Grows the table so the given number of new cells fits at a load factor
+		 * of at most one half. Tombstones are dropped in the process.
+		 */
+		private void ensureCapacity(int additional) {
+			final Cell[] table = this.slots;
+			if ((used + additional) * 2L <= table.length) {
+				return;
+			}
+			int live = 0;
+			for (Cell cell : table) {
+				if (cell != null && cell.ids.length > 0) {
+					live++;
+				}
+			}
+			final Cell[] bigger = new Cell[capacityFor(live + additional)];
+			final int mask = bigger.length - 1;
+			for (Cell cell : table) {
+				if (cell == null || cell.ids.length == 0) {
+					continue;
+				}
+				int slot = PackedLongs.mix(cell.key) & mask;
+				while (bigger[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				bigger[slot] = cell;
+			}
+			this.used = live;
+			this.slots = bigger;
+		}
+	}
+
+	/**
+	 * Immutable list of islands registered in a single grid cell, with their
+	 * bounds flattened as {@code minX, minY, minZ, maxX, maxY, maxZ} per island.
+	 */
+	private static final class Cell {
+		final long key;
+		final int[] ids;
+		final double[] bounds;
+
+		Cell(long key, int[] ids, double[] bounds) {
+			this.key = key;
+			this.ids = ids;
+			this.bounds = bounds;
+		}
+
+		static Cell empty(long key) {
+			return new Cell(key, new int[0], new double[0]);
+		}
+
+		Cell with(int islandId, @NotNull BoundingBox box) {
+			Cell base = without(islandId);
+			int[] newIds = Arrays.copyOf(base.ids, base.ids.length + 1);
+			double[] newBounds = Arrays.copyOf(base.bounds, base.bounds.length + 6);
+			int offset = base.bounds.length;
+			newIds[base.ids.length] = islandId;
+			newBounds[offset] = box.getMinX();
+			newBounds[offset + 1] = box.getMinY();
+			newBounds[offset + 2] = box.getMinZ();
+			newBounds[offset + 3] = box.getMaxX();
+			newBounds[offset + 4] = box.getMaxY();
+			newBounds[offset + 5] = box.getMaxZ();
+			return new Cell(key, newIds, newBounds);
+		}
+
+		Cell without(int islandId) {
+			for (int i = 0; i < ids.length; i++) {
+				if (ids[i] != islandId) {
+					continue;
+				}
+				int[] newIds = new int[ids.length - 1];
+				double[] newBounds = new double[bounds.length - 6];
+				System.arraycopy(ids, 0, newIds, 0, i);
+				System.arraycopy(ids, i + 1, newIds, i, ids.length - i - 1);
+				System.arraycopy(bounds, 0, newBounds, 0, i * 6);
+				System.arraycopy(bounds, (i + 1) * 6, newBounds, i * 6, bounds.length - (i + 1) * 6);
+				return new Cell(key, newIds, newBounds);
+			}
+			return this;
+		}
+	}
+}
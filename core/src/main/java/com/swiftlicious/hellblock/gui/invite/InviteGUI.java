@@ -1,6 +1,5 @@
 package com.swiftlicious.hellblock.gui.invite;
 
-import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
@@ -24,7 +23,6 @@ import org.bukkit.inventory.PlayerInventory;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.mojang.authlib.GameProfile;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.creation.item.CustomItem;
 import com.swiftlicious.hellblock.creation.item.Item;
@@ -319,28 +317,29 @@ public class InviteGUI {
 			}
 
 			// Fetch UUID & profile async, then update inventory sync
-			CompletableFuture.runAsync(() -> UUIDFetcher.getUUID(plainInput).ifPresentOrElse(uuid -> {
-				try {
-					GameProfile profile = GameProfileBuilder.fetch(uuid);
-					String texture = profile.getProperties().get("textures").iterator().next().getValue();
-					Item<ItemStack> head = manager.instance.getItemManager()
-							.wrap(manager.playerFoundIcon.build(context));
-					String displayName = AdventureHelper
-							.miniMessageToJson(manager.playerFoundName.replace("{player}", plainInput));
-					head.displayName(displayName);
-					head.skull(texture);
-					ItemStack loaded = head.loadCopy();
-					manager.instance.getScheduler().sync().run(() -> {
-						headElement.setUUID(uuid);
-						headElement.setItemStack(loaded);
-						headElement.getSlots().stream().mapToInt(Integer::valueOf)
-								.forEach(slot -> this.inventory.setItem(slot, loaded));
-					});
-				} catch (IOException | IllegalArgumentException ex) {
-					manager.instance.getPluginLogger().warn("Error fetching profile for search", ex);
-					runFallbackUI(headElement);
-				}
-			}, () -> runFallbackUI(headElement)));
+			CompletableFuture.runAsync(() -> UUIDFetcher.getUUID(plainInput)
+					.ifPresentOrElse(uuid -> GameProfileBuilder.fetchAsync(uuid).thenAccept(profile -> {
+						Item<ItemStack> head = manager.instance.getItemManager()
+								.wrap(manager.playerFoundIcon.build(context));
+						String displayName = AdventureHelper
+								.miniMessageToJson(manager.playerFoundName.replace("{player}", plainInput));
+						head.displayName(displayName);
+						String texture = GameProfileBuilder.getTexture(profile);
+						if (texture != null) {
+							head.skull(texture);
+						}
+						ItemStack loaded = head.loadCopy();
+						manager.instance.getScheduler().sync().run(() -> {
+							headElement.setUUID(uuid);
+							headElement.setItemStack(loaded);
+							headElement.getSlots().stream().mapToInt(Integer::valueOf)
+									.forEach(slot -> this.inventory.setItem(slot, loaded));
+						});
+					}).exceptionally(ex -> {
+						manager.instance.getPluginLogger().warn("Error fetching profile for search", ex);
+						runFallbackUI(headElement);
+						return null;
+					}), () -> runFallbackUI(headElement)));
 		}
 
 		// Update cached online heads displayed: this keeps displayed items in-sync with
@@ -387,7 +386,7 @@ public class InviteGUI {
 
 		// Run callback sync
 		CompletableFuture.supplyAsync(() -> {
-			final Map<Integer, InviteDynamicGUIElement> heads = new HashMap<>();
+			final Map<Integer, CompletableFuture<InviteDynamicGUIElement>> heads = new HashMap<>();
 			int slotIndex = 0;
 
 			for (UserData userData : online) {
@@ -413,35 +412,42 @@ public class InviteGUI {
 					continue;
 				}
 
-				try {
-					final GameProfile profile = GameProfileBuilder.fetch(id);
-					final String texture = profile.getProperties().get("textures").iterator().next().getValue();
-
-					final Item<ItemStack> head = manager.instance.getItemManager()
-							.wrap(manager.playerIcon.build(context));
-					final String username = AdventureHelper
-							.miniMessageToJson(manager.playerName.replace("{player}", userData.getName()));
-					head.displayName(username);
-					head.skull(texture);
-
-					final InviteDynamicGUIElement element = new InviteDynamicGUIElement(manager.playerSlot,
-							head.load());
-					element.setUUID(id);
-
-					if (slotIndex < manager.headSlots.size()) {
-						final int slot = manager.headSlots.get(slotIndex++);
-						heads.put(slot, element);
-					} else {
-						break;
-					}
-				} catch (Exception ex) {
-					manager.instance.getPluginLogger().warn("Failed to build head template for " + userData.getName(),
-							ex);
+				if (slotIndex >= manager.headSlots.size()) {
+					break;
 				}
+				heads.put(manager.headSlots.get(slotIndex++), buildPlayerHead(id, userData.getName()));
 			}
 			return heads;
-		}).thenAccept(heads -> manager.instance.getScheduler().sync().run(() -> callback.accept(heads),
-				context.holder().getLocation()));
+		}).thenCompose(heads -> CompletableFuture.allOf(heads.values().toArray(CompletableFuture[]::new))
+				.thenApply(v -> {
+					final Map<Integer, InviteDynamicGUIElement> built = new HashMap<>();
+					heads.forEach((slot, head) -> built.put(slot, head.join()));
+					return built;
+				}))
+				.thenAccept(heads -> manager.instance.getScheduler().sync().run(() -> callback.accept(heads),
+						context.holder().getLocation()));
+	}
+
+	/**
+	 * Builds the head of a player once the profile has been fetched without
+	 * blocking. The head is built without a skin if the profile is unavailable.
+	 */
+	private CompletableFuture<InviteDynamicGUIElement> buildPlayerHead(UUID id, String name) {
+		return GameProfileBuilder.fetchAsync(id).handle((profile, ex) -> {
+			if (ex != null) {
+				manager.instance.getPluginLogger().warn("Failed to fetch profile for invite head " + name, ex);
+			}
+			final Item<ItemStack> head = manager.instance.getItemManager().wrap(manager.playerIcon.build(context));
+			head.displayName(AdventureHelper.miniMessageToJson(manager.playerName.replace("{player}", name)));
+			final String texture = ex == null ? GameProfileBuilder.getTexture(profile) : null;
+			if (texture != null) {
+				head.skull(texture);
+			}
+
+			final InviteDynamicGUIElement element = new InviteDynamicGUIElement(manager.playerSlot, head.load());
+			element.setUUID(id);
+			return element;
+		});
 	}
 
 	/**
@@ -495,32 +501,15 @@ public class InviteGUI {
 				}));
 
 		// Fetch profiles async
-		CompletableFuture.runAsync(() -> {
+		final Map<Integer, CompletableFuture<InviteDynamicGUIElement>> heads = new HashMap<>();
+		int index = 0;
+		for (UserData user : pageList) {
+			heads.put(manager.headSlots.get(index++), buildPlayerHead(user.getUUID(), user.getName()));
+		}
+
+		CompletableFuture.allOf(heads.values().toArray(CompletableFuture[]::new)).thenRun(() -> {
 			final Map<Integer, InviteDynamicGUIElement> toPlace = new HashMap<>();
-			int index = 0;
-			for (UserData user : pageList) {
-				try {
-					final UUID id = user.getUUID();
-					final GameProfile profile = GameProfileBuilder.fetch(id);
-					final String texture = profile.getProperties().get("textures").iterator().next().getValue();
-
-					final Item<ItemStack> head = manager.instance.getItemManager()
-							.wrap(manager.playerIcon.build(context));
-					final String username = AdventureHelper
-							.miniMessageToJson(manager.playerName.replace("{player}", user.getName()));
-					head.displayName(username);
-					head.skull(texture);
-
-					final InviteDynamicGUIElement element = new InviteDynamicGUIElement(manager.playerSlot,
-							head.load());
-					element.setUUID(id);
-
-					final int slot = manager.headSlots.get(index++);
-					toPlace.put(slot, element);
-				} catch (Exception ex) {
-					manager.instance.getPluginLogger().warn("Failed to fetch profile for invite head", ex);
-				}
-			}
+			heads.forEach((slot, head) -> toPlace.put(slot, head.join()));
 
 			// Apply sync
 			manager.instance.getScheduler().sync().run(() -> {
@@ -9,7 +9,6 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -19,7 +18,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
-import com.mojang.authlib.GameProfile;
 import com.swiftlicious.hellblock.config.locale.MessageConstants;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.creation.item.CustomItem;
@@ -30,7 +28,6 @@ import com.swiftlicious.hellblock.handlers.VersionHelper;
 import com.swiftlicious.hellblock.player.GameProfileBuilder;
 import com.swiftlicious.hellblock.player.HellblockData;
 import com.swiftlicious.hellblock.player.UserData;
-import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.utils.LocationUtils;
 import com.swiftlicious.hellblock.utils.extras.Action;
 import com.swiftlicious.hellblock.utils.extras.Pair;
@@ -54,7 +51,6 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 	protected final boolean showBackIcon;
 
 	private Map<Integer, Float> lastTopSnapshot = new HashMap<>();
-	protected SchedulerTask refreshTask;
 
 	private volatile long lastUpdateTimestamp = System.currentTimeMillis();
 
@@ -241,7 +237,8 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 
 				CompletableFuture<LeaderboardDynamicGUIElement> future = manager.instance.getStorageManager()
 						.getOfflineUserDataByIslandId(islandId, false)
-						.thenApply(optData -> buildElement(optData, islandId, level, position));
+						.thenCompose(optData -> loadSkullTexture(optData)
+								.thenApply(v -> buildElement(optData, islandId, level, position)));
 
 				futures.add(future);
 			}
@@ -267,20 +264,6 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 		});
 	}
 
-	public void startAutoRefresh(long intervalTicks, int limit) {
-		if (refreshTask != null && !refreshTask.isCancelled()) {
-			refreshTask.cancel();
-		}
-
-		// Schedule async task
-		refreshTask = manager.instance.getScheduler().asyncRepeating(() -> {
-			refreshTopIslands(limit).exceptionally(ex -> {
-				manager.instance.getPluginLogger().warn("Failed to refresh top islands", ex);
-				return null;
-			});
-		}, intervalTicks, intervalTicks, TimeUnit.SECONDS);
-	}
-
 	private LeaderboardDynamicGUIElement buildElement(Optional<UserData> optData, int islandId, float level,
 			int position) {
 		if (optData.isEmpty()) {
@@ -319,15 +302,7 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 		}
 
 		if (wrapped.getItem().getType() == Material.PLAYER_HEAD) {
-			String texture = cachedSkullTextures.computeIfAbsent(uuid, id -> {
-				try {
-					GameProfile profile = GameProfileBuilder.fetch(id);
-					return profile.getProperties().get("textures").iterator().next().getValue();
-				} catch (Exception ex) {
-					manager.instance.getPluginLogger().warn("Failed to fetch skull for " + id, ex);
-					return null;
-				}
-			});
+			String texture = cachedSkullTextures.get(uuid);
 			if (texture != null) {
 				wrapped.skull(texture);
 			}
@@ -340,6 +315,28 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 		return element;
 	}
 
+	/**
+	 * Fetches the skull texture of the given player into the skull cache without
+	 * blocking, so the element can be built from the cache afterwards.
+	 */
+	private CompletableFuture<Void> loadSkullTexture(Optional<UserData> optData) {
+		if (optData.isEmpty() || cachedSkullTextures.containsKey(optData.get().getUUID())) {
+			return CompletableFuture.completedFuture(null);
+		}
+		UUID uuid = optData.get().getUUID();
+		return GameProfileBuilder.fetchAsync(uuid).handle((profile, ex) -> {
+			if (ex != null) {
+				manager.instance.getPluginLogger().warn("Failed to fetch skull for " + uuid, ex);
+				return null;
+			}
+			String texture = GameProfileBuilder.getTexture(profile);
+			if (texture != null) {
+				cachedSkullTextures.put(uuid, texture);
+			}
+			return null;
+		});
+	}
+
 	private boolean hasTopIslandsChanged(Map<Integer, Float> newTop) {
 		if (newTop.size() != lastTopSnapshot.size())
 			return true;
@@ -369,7 +366,8 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 			int position = rank++;
 
 			CompletableFuture<LeaderboardDynamicGUIElement> future = manager.instance.getStorageManager()
-					.getOfflineUserDataByIslandId(islandId, false).thenApply(optData -> {
+					.getOfflineUserDataByIslandId(islandId, false)
+					.thenCompose(optData -> loadSkullTexture(optData).thenApply(v -> optData)).thenApply(optData -> {
 						if (optData.isEmpty()) {
 							return new LeaderboardDynamicGUIElement(manager.topSlot, buildPlaceholderElement(position));
 						}
@@ -450,15 +448,7 @@ public class LeaderboardGUI extends PaginatedGUI<LeaderboardGUIElement> {
 						}
 
 						if (wrapped.getItem().getType() == Material.PLAYER_HEAD) {
-							String texture = cachedSkullTextures.computeIfAbsent(uuid, id -> {
-								try {
-									GameProfile profile = GameProfileBuilder.fetch(id);
-									return profile.getProperties().get("textures").iterator().next().getValue();
-								} catch (Exception ex) {
-									manager.instance.getPluginLogger().warn("Failed to fetch skull for " + id, ex);
-									return null;
-								}
-							});
+							String texture = cachedSkullTextures.get(uuid);
 							if (texture != null)
 								wrapped.skull(texture);
 						}
@@ -229,8 +229,8 @@ public class LeaderboardGUIManager implements LeaderboardGUIManagerInterface, Li
 		decorativeIcons.entrySet().forEach(entry -> gui
 				.addElement(new LeaderboardGUIElement(entry.getKey(), entry.getValue().left().build(context))));
 		gui.build().show();
-		// refresh every 15 seconds
-		gui.refreshTopIslands(getTopSlotCount()).thenRun(() -> gui.startAutoRefresh(15L, getTopSlotCount()));
+		// later changes arrive through LeaderboardUpdateEvent
+		gui.refreshTopIslands(getTopSlotCount());
 		leaderboardGUICache.put(player.getUniqueId(), gui);
 		return true;
 	}
@@ -256,10 +256,7 @@ public class LeaderboardGUIManager implements LeaderboardGUIManagerInterface, Li
 			return;
 		if (!(event.getInventory().getHolder() instanceof LeaderboardGUIHolder))
 			return;
-		LeaderboardGUI gui = leaderboardGUICache.remove(player.getUniqueId());
-		if (gui != null && gui.refreshTask != null && !gui.refreshTask.isCancelled()) {
-			gui.refreshTask.cancel();
-		}
+		leaderboardGUICache.remove(player.getUniqueId());
 	}
 
 	/**
@@ -269,10 +266,7 @@ public class LeaderboardGUIManager implements LeaderboardGUIManagerInterface, Li
 	 */
 	@EventHandler
 	public void onQuit(PlayerQuitEvent event) {
-		LeaderboardGUI gui = leaderboardGUICache.remove(event.getPlayer().getUniqueId());
-		if (gui != null && gui.refreshTask != null && !gui.refreshTask.isCancelled()) {
-			gui.refreshTask.cancel();
-		}
+		leaderboardGUICache.remove(event.getPlayer().getUniqueId());
 	}
 
 	/**
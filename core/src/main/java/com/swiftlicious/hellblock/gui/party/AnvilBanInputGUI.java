@@ -14,7 +14,6 @@ import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
-import com.mojang.authlib.GameProfile;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.creation.item.Item;
@@ -136,10 +135,13 @@ public class AnvilBanInputGUI extends AbstractAnvilInputGUI {
 					try {
 						Item<ItemStack> skull = plugin.getItemManager().wrap(new ItemStack(Material.PLAYER_HEAD));
 						// Throttle Mojang profile fetches
-						if (!targetUUID.equals(currentTargetUUID)
+						String texture = GameProfileBuilder.getCachedTexture(targetUUID);
+						if (texture != null) {
+							skull.skull(texture);
+						} else if (!targetUUID.equals(currentTargetUUID)
 								|| (System.currentTimeMillis() - lastSkinFetch > SKIN_FETCH_COOLDOWN * 50L)) {
-							GameProfile profile = GameProfileBuilder.fetch(targetUUID);
-							skull.skull(profile.getProperties().get("textures").iterator().next().getValue());
+							// Fetched in the background, a later poll picks the skin up from the cache
+							GameProfileBuilder.fetchAsync(targetUUID);
 							currentTargetUUID = targetUUID;
 							lastSkinFetch = System.currentTimeMillis();
 						}
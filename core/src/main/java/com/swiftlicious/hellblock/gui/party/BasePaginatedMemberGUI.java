@@ -12,7 +12,6 @@ import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import com.mojang.authlib.GameProfile;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.config.locale.MessageConstants;
 import com.swiftlicious.hellblock.config.parser.SingleItemParser;
@@ -113,16 +112,16 @@ public abstract class BasePaginatedMemberGUI extends MemberGUI {
 				online ? plugin.getPartyGUIManager().onlineStatus : plugin.getPartyGUIManager().offlineStatus))));
 		item.lore(lore);
 
-		if (item.getItem().getType() == Material.PLAYER_HEAD) {
-			try {
-				GameProfile profile = GameProfileBuilder.fetch(uuid);
-				item.skull(profile.getProperties().get("textures").iterator().next().getValue());
-			} catch (Exception ignored) {
-			}
+		final boolean head = item.getItem().getType() == Material.PLAYER_HEAD;
+		// A stale skin is better than none while the profile is refreshed
+		final String texture = head ? GameProfileBuilder.getCachedTexture(uuid, true) : null;
+		if (texture != null) {
+			item.skull(texture);
 		}
 
+		final MemberGUIElement element;
 		if (isOwner) {
-			addElement(symbol, new MemberGUIElement(item.loadCopy(), () -> {
+			element = new MemberGUIElement(item.loadCopy(), () -> {
 				onRemove(uuid).whenComplete((result, ex) -> {
 					if (ex != null || !result) {
 						plugin.getPluginLogger().warn("onRemove failed for " + uuid, ex);
@@ -135,9 +134,25 @@ public abstract class BasePaginatedMemberGUI extends MemberGUI {
 								plugin.getActionManager(Player.class).parseActions(memberSection.getSection("action")));
 					});
 				});
-			}));
+			});
 		} else {
-			addElement(symbol, new MemberGUIElement(item.loadCopy())); // No click
+			element = new MemberGUIElement(item.loadCopy()); // No click
+		}
+		addElement(symbol, element);
+
+		if (head && GameProfileBuilder.getCachedTexture(uuid) == null) {
+			// Apply the skin to this element once the profile arrives, without a rebuild
+			// that would look up the same profile again
+			GameProfileBuilder.fetchAsync(uuid).thenAccept(profile -> {
+				final String fetched = GameProfileBuilder.getTexture(profile);
+				if (fetched != null && !fetched.equals(texture)) {
+					plugin.getScheduler().executeSync(() -> {
+						item.skull(fetched);
+						element.setItemStack(item.loadCopy());
+						refreshElement(element);
+					});
+				}
+			});
 		}
 	}
 
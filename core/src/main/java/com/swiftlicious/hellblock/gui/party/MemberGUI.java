@@ -81,6 +81,18 @@ public abstract class MemberGUI {
 		slotMap.forEach((slot, element) -> inventory.setItem(slot, element.getItemStack()));
 	}
 
+	/**
+	 * Redraws the slots of a single element after its item changed. Elements that
+	 * were replaced by a rebuild in the meantime are ignored.
+	 */
+	public void refreshElement(MemberGUIElement element) {
+		slotMap.forEach((slot, current) -> {
+			if (current == element) {
+				inventory.setItem(slot, element.getItemStack());
+			}
+		});
+	}
+
 	/**
 	 * Clears the GUI for rebuilding.
 	 */
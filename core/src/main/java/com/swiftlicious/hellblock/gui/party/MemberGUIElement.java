@@ -4,7 +4,7 @@ import org.bukkit.inventory.ItemStack;
 
 public class MemberGUIElement {
 
-	private final ItemStack itemStack;
+	private ItemStack itemStack;
 	private final Runnable clickAction;
 
 	public MemberGUIElement(ItemStack itemStack, Runnable clickAction) {
@@ -20,6 +20,10 @@ public class MemberGUIElement {
 		return itemStack;
 	}
 
+	public void setItemStack(ItemStack itemStack) {
+		this.itemStack = itemStack;
+	}
+
 	public void onClick() {
 		if (clickAction != null)
 			clickAction.run();
@@ -1,6 +1,5 @@
 package com.swiftlicious.hellblock.gui.party;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -18,7 +17,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
-import com.mojang.authlib.GameProfile;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.context.ContextKeys;
 import com.swiftlicious.hellblock.creation.item.CustomItem;
@@ -208,13 +206,17 @@ public class PartyGUI {
 												item.lore(newLore);
 											}
 
-											GameProfile profile = GameProfileBuilder.fetch(ownerID);
-											item.skull(profile.getProperties().get("textures").iterator().next()
-													.getValue());
+											String texture = GameProfileBuilder.getCachedTexture(ownerID);
+											if (texture != null) {
+												item.skull(texture);
+											}
 
 											ownerElement.setUUID(ownerID);
 											ownerElement.setItemStack(item.load());
-										} catch (IllegalArgumentException | IOException ignored) {
+											if (texture == null) {
+												applySkullLater(ownerElement, item, ownerID);
+											}
+										} catch (IllegalArgumentException ignored) {
 										}
 									}
 
@@ -337,17 +339,45 @@ public class PartyGUI {
 		// beyondLimit
 
 		// Skull (if member)
+		String texture = null;
 		if (memberId != null) {
 			try {
-				GameProfile profile = GameProfileBuilder.fetch(memberId);
-				item.skull(profile.getProperties().get("textures").iterator().next().getValue());
+				texture = GameProfileBuilder.getCachedTexture(memberId);
+				if (texture != null) {
+					item.skull(texture);
+				}
 				element.setUUID(memberId);
-			} catch (IllegalArgumentException | IOException ignored) {
+			} catch (IllegalArgumentException ignored) {
 			}
 		} else {
 			element.setUUID(null);
 		}
 
 		element.setItemStack(item.loadCopy());
+		if (memberId != null && texture == null) {
+			applySkullLater(element, item, memberId);
+		}
+	}
+
+	/**
+	 * Fetches the skin of a player in the background and applies it to the
+	 * element, unless the element shows someone else by the time it arrives.
+	 */
+	private void applySkullLater(PartyDynamicGUIElement element, Item<ItemStack> item, UUID playerId) {
+		GameProfileBuilder.fetchAsync(playerId).thenAccept(profile -> {
+			String texture = GameProfileBuilder.getTexture(profile);
+			if (texture == null) {
+				return;
+			}
+			manager.instance.getScheduler().executeSync(() -> {
+				if (!playerId.equals(element.getUUID())) {
+					return;
+				}
+				item.skull(texture);
+				element.setItemStack(item.loadCopy());
+				element.getSlots().stream().mapToInt(Integer::valueOf)
+						.forEach(slot -> inventory.setItem(slot, element.getItemStack().clone()));
+			});
+		});
 	}
 }
\ No newline at end of file
@@ -24,7 +24,6 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.mojang.authlib.GameProfile;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.context.ContextKeys;
 import com.swiftlicious.hellblock.creation.item.CustomItem;
@@ -427,19 +426,12 @@ public class VisitGUI extends PaginatedGUI<VisitGUIElement> {
 						filledItem.displayName(AdventureHelper.miniMessageToJson(name));
 						filledItem.lore(newLore);
 
-						CompletableFuture<VisitDynamicGUIElement> future = CompletableFuture.supplyAsync(() -> {
+						boolean head = filledItem.getItem().getType() == Material.PLAYER_HEAD;
+						CompletableFuture<VisitDynamicGUIElement> future = (head ? loadSkullTexture(uuid)
+								: CompletableFuture.<Void>completedFuture(null)).thenApplyAsync(v -> {
 							try {
-								if (filledItem.getItem().getType() == Material.PLAYER_HEAD) {
-									String texture = cachedSkullTextures.computeIfAbsent(uuid, id -> {
-										try {
-											GameProfile profile = GameProfileBuilder.fetch(id);
-											return profile.getProperties().get("textures").iterator().next().getValue();
-										} catch (Exception ex) {
-											manager.instance.getPluginLogger().warn("Failed to fetch profile for " + id,
-													ex);
-											return null;
-										}
-									});
+								if (head) {
+									String texture = cachedSkullTextures.get(uuid);
 
 									if (texture != null) {
 										filledItem.skull(texture);
@@ -687,6 +679,27 @@ public class VisitGUI extends PaginatedGUI<VisitGUIElement> {
 				.componentToJson(AdventureHelper.parseCenteredTitleMultiline(titleValue.render(context, true))));
 	}
 
+	/**
+	 * Fetches the skull texture of the given player into the skull cache without
+	 * blocking, so the element can be built from the cache afterwards.
+	 */
+	private CompletableFuture<Void> loadSkullTexture(UUID uuid) {
+		if (cachedSkullTextures.containsKey(uuid)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return GameProfileBuilder.fetchAsync(uuid).handle((profile, ex) -> {
+			if (ex != null) {
+				manager.instance.getPluginLogger().warn("Failed to fetch profile for " + uuid, ex);
+				return null;
+			}
+			String texture = GameProfileBuilder.getTexture(profile);
+			if (texture != null) {
+				cachedSkullTextures.put(uuid, texture);
+			}
+			return null;
+		});
+	}
+
 	public enum RefreshReason {
 		/** Initial GUI opening */
 		OPENING,
@@ -1,12 +1,26 @@
 package com.swiftlicious.hellblock.handlers;
 
+import java.util.Collection;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import net.objecthunter.exp4j.Expression;
 import net.objecthunter.exp4j.ExpressionBuilder;
+import net.objecthunter.exp4j.ValidationResult;
 
 /**
  * Helper class for evaluating mathematical expressions.
  */
 public class ExpressionHelper {
 
+	/**
+	 * Parsed expressions without variables. Those are never modified after being
+	 * built, so one instance can be evaluated by any thread.
+	 */
+	private static final Cache<String, Expression> COMPILED = Caffeine.newBuilder().maximumSize(2048).build();
+
 	/**
 	 * Evaluates a mathematical expression provided as a string.
 	 *
@@ -14,6 +28,29 @@ public class ExpressionHelper {
 	 * @return the result of the evaluation as a double
 	 */
 	public static double evaluate(String expression) {
-		return new ExpressionBuilder(expression).build().evaluate();
+		return COMPILED.get(expression, key -> new ExpressionBuilder(key).build()).evaluate();
+	}
+
+	/**
+	 * Parses an expression whose variables are bound before every evaluation.
+	 * Implicit multiplication is disabled, so a variable that directly follows a
+	 * number or another variable is rejected instead of being multiplied.
+	 * <p>
+	 * The returned expression holds the bound values, so it must not be shared
+	 * between threads; use {@link Expression#Expression(Expression)} to copy it.
+	 *
+	 * @param expression the mathematical expression to parse
+	 * @param variables  the names of the variables used in the expression
+	 * @return the parsed expression
+	 * @throws IllegalArgumentException if the expression is invalid
+	 */
+	public static Expression compile(String expression, Collection<String> variables) {
+		final Expression compiled = new ExpressionBuilder(expression).variables(Set.copyOf(variables))
+				.implicitMultiplication(false).build();
+		final ValidationResult result = compiled.validate(false);
+		if (!result.isValid()) {
+			throw new IllegalArgumentException("Invalid expression '" + expression + "': " + result.getErrors());
+		}
+		return compiled;
 	}
-}
\ No newline at end of file
+}
@@ -40,6 +40,7 @@ import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.utils.ChunkUtils;
 import com.swiftlicious.hellblock.utils.LocationUtils;
 import com.swiftlicious.hellblock.utils.extras.Pair;
+import com.swiftlicious.hellblock.utils.extras.RankedIndex;
 import com.swiftlicious.hellblock.utils.extras.Requirement;
 
 import net.kyori.adventure.sound.Sound;
@@ -69,6 +70,9 @@ public class VisitManager implements Reloadable {
 	// blacklisted players (bots, abusers, etc.)
 	private final Set<UUID> blacklisted = ConcurrentHashMap.newKeySet();
 
+	// owners sorted by visit count, one index per visit metric; dropped after every reset check
+	private final Map<Function<VisitData, Integer>, RankedIndex<UUID>> visitIndexes = new ConcurrentHashMap<>();
+
 	// constants
 	private static final long VISIT_COOLDOWN_MS = TimeUnit.MINUTES.toMillis(5);
 	private static final long SPAM_WINDOW_MS = 60_000; // 1 minute
@@ -116,6 +120,7 @@ public class VisitManager implements Reloadable {
 			featuredCleanupTask.cancel();
 			featuredCleanupTask = null;
 		}
+		visitIndexes.clear();
 	}
 
 	/**
@@ -130,7 +135,9 @@ public class VisitManager implements Reloadable {
 					.thenAccept(userDataSet -> userDataSet.forEach(userData -> {
 						VisitData visitData = userData.getHellblockData().getVisitData();
 						visitData.resetIfNeeded(now);
-					}));
+					}))
+					// counts may have been reset, expired or changed elsewhere; rebuild on next use
+					.thenRun(visitIndexes::clear);
 		}, 0L, 5, TimeUnit.MINUTES); // every 5 minutes
 	}
 
@@ -397,6 +404,7 @@ public class VisitManager implements Reloadable {
 			VisitData visitData = hellblockData.getVisitData();
 			visitData.increment();
 			hellblockData.addVisitor(visitorId);
+			updateVisitIndexes(ownerId, visitData);
 			return true;
 		}).handle((result, ex) -> {
 			if (ex != null) {
@@ -410,6 +418,9 @@ public class VisitManager implements Reloadable {
 	/**
 	 * Retrieves a ranked list of islands based on the specified visit metric (e.g.,
 	 * total, daily, weekly) and passes it to the given callback.
+	 * <p>
+	 * Each metric has its own sorted index, built from the cached owner data on
+	 * first use and updated as visits are recorded.
 	 *
 	 * @param visitType function to extract the visit count metric from VisitData
 	 * @param limit     max number of top islands to include
@@ -417,22 +428,54 @@ public class VisitManager implements Reloadable {
 	 */
 	public void getTopIslands(@NotNull Function<VisitData, Integer> visitType, int limit,
 			@NotNull Consumer<List<VisitEntry>> callback) {
-		instance.getCoopManager().getCachedIslandOwnerData().thenAcceptAsync(userDataSet -> {
-			List<VisitEntry> list = new ArrayList<>();
+		RankedIndex<UUID> index = visitIndexes.get(visitType);
+		CompletableFuture<RankedIndex<UUID>> ready = index != null ? CompletableFuture.completedFuture(index)
+				: buildVisitIndex(visitType);
+		ready.thenAcceptAsync(sorted -> callback.accept(sorted.top(limit).entrySet().stream()
+				.map(entry -> new VisitEntry(entry.getKey(), entry.getValue().intValue())).toList()));
+	}
 
+	/**
+	 * Builds the sorted index of a visit metric from the cached owner data.
+	 *
+	 * @param visitType function to extract the visit count metric from VisitData
+	 * @return a future containing the built index
+	 */
+	@NotNull
+	private CompletableFuture<RankedIndex<UUID>> buildVisitIndex(@NotNull Function<VisitData, Integer> visitType) {
+		return instance.getCoopManager().getCachedIslandOwnerData().thenApply(userDataSet -> {
+			Map<UUID, Double> counts = new HashMap<>();
 			userDataSet.forEach(userData -> {
-				HellblockData hb = userData.getHellblockData();
-				VisitData visitData = hb.getVisitData();
+				VisitData visitData = userData.getHellblockData().getVisitData();
 				if (visitData != null) {
 					int count = visitType.apply(visitData);
 					if (count > 0) {
-						list.add(new VisitEntry(userData.getUUID(), count));
+						counts.put(userData.getUUID(), (double) count);
 					}
 				}
 			});
 
-			list.sort(Comparator.comparingInt(VisitEntry::visits).reversed());
-			callback.accept(list.stream().limit(limit).toList());
+			RankedIndex<UUID> index = new RankedIndex<>();
+			index.rebuild(counts);
+			visitIndexes.put(visitType, index);
+			return index;
+		});
+	}
+
+	/**
+	 * Updates the position of an island in every built visit index.
+	 *
+	 * @param ownerId   the UUID of the island owner
+	 * @param visitData the current visit data of the island
+	 */
+	private void updateVisitIndexes(@NotNull UUID ownerId, @NotNull VisitData visitData) {
+		visitIndexes.forEach((visitType, index) -> {
+			int count = visitType.apply(visitData);
+			if (count > 0) {
+				index.update(ownerId, count);
+			} else {
+				index.remove(ownerId);
+			}
 		});
 	}
 
@@ -572,6 +615,7 @@ public class VisitManager implements Reloadable {
 				// Passed all checks, set featured
 				long expiresAt = System.currentTimeMillis() + duration;
 				visitData.setFeaturedUntil(expiresAt);
+				updateVisitIndexes(ownerId, visitData);
 
 				instance.getSenderFactory().wrap(player)
 						.sendMessage(instance.getTranslationManager()
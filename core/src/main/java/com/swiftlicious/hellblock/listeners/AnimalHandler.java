@@ -12,11 +12,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bukkit.Location;
-import org.bukkit.NamespacedKey;
-import org.bukkit.entity.Animals;
 import org.bukkit.entity.Entity;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,7 +21,6 @@ import com.swiftlicious.hellblock.player.HellblockData;
 import com.swiftlicious.hellblock.player.UserData;
 import com.swiftlicious.hellblock.protection.HellblockFlag;
 import com.swiftlicious.hellblock.protection.HellblockFlag.AccessType;
-import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.utils.RandomUtils;
 import com.swiftlicious.hellblock.world.BlockPos;
 import com.swiftlicious.hellblock.world.ChunkPos;
@@ -37,26 +32,21 @@ import com.swiftlicious.hellblock.world.Pos3;
 public final class AnimalHandler implements Runnable {
 
 	private final int islandId;
-	private SchedulerTask spawnTask;
 
 	private final HellblockPlugin plugin;
 
 	private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
 	private final Set<Pos3> spawnCache = ConcurrentHashMap.newKeySet();
+	private volatile long spawnCacheClearedAt = System.currentTimeMillis();
 
-	private static final NamespacedKey OWNER_KEY = new NamespacedKey(HellblockPlugin.getInstance(), "hellblock_owner");
+	private static final long SPAWN_CACHE_LIFETIME_MILLIS = TimeUnit.MINUTES.toMillis(30);
 
 	private static final int MIN_LIGHT_LEVEL = 9;
 
 	public AnimalHandler(@NotNull HellblockPlugin plugin, int islandId) {
 		this.plugin = plugin;
 		this.islandId = islandId;
-		this.spawnTask = plugin.getScheduler().asyncRepeating(this::run, RandomUtils.generateRandomInt(1, 3),
-				RandomUtils.generateRandomInt(1, 15), TimeUnit.MINUTES);
-
-		// schedule cache clear once
-		plugin.getScheduler().asyncRepeating(spawnCache::clear, 15, 30, TimeUnit.MINUTES);
 	}
 
 	@Override
@@ -66,8 +56,16 @@ public final class AnimalHandler implements Runnable {
 			return;
 		}
 
+		// Forget old spawn positions, this handler is run by the island tick service
+		final long now = System.currentTimeMillis();
+		if (now - spawnCacheClearedAt >= SPAWN_CACHE_LIFETIME_MILLIS) {
+			spawnCache.clear();
+			spawnCacheClearedAt = now;
+		}
+
 		Set<UUID> players = plugin.getIslandManager().getPlayersOnIsland(islandId);
 		if (players.isEmpty()) {
+			isRunning.set(false);
 			return;
 		}
 
@@ -119,13 +117,9 @@ public final class AnimalHandler implements Runnable {
 		double bonus = plugin.getMobSpawnHandler().getCachedMobSpawnBonus(hellblockData);
 		int islandId = hellblockData.getIslandId();
 
-		long animalCount = world.bukkitWorld().getEntities().stream().filter(e -> e instanceof Animals).filter(e -> {
-			PersistentDataContainer container = e.getPersistentDataContainer();
-			Integer storedId = container.get(OWNER_KEY, PersistentDataType.INTEGER);
-			return storedId != null && storedId.equals(islandId);
-		}).count();
+		IslandEntityCounter counter = plugin.getMobSpawnHandler().getEntityCounter();
 
-		if (animalCount >= maxAnimalCount) {
+		if (counter.getCount(islandId) >= maxAnimalCount) {
 			return CompletableFuture.completedFuture(null);
 		}
 
@@ -154,11 +148,11 @@ public final class AnimalHandler implements Runnable {
 						}
 
 						return RandomUtils.spawnRandomAnimal(world, chunkPos, bonus, spawnCache).thenAccept(type -> {
-							if (type != null) {
+							// Re-check the cap, earlier attempts of this run may have filled it
+							if (type != null && counter.getCount(islandId) < maxAnimalCount) {
 								Location spawn = pos.toLocation(world.bukkitWorld()).clone().add(0.5, 1, 0.5);
 								Entity entity = world.bukkitWorld().spawnEntity(spawn, type);
-								entity.getPersistentDataContainer().set(OWNER_KEY, PersistentDataType.INTEGER,
-										islandId);
+								counter.tagOwner(entity, islandId);
 								spawnCache.add(pos);
 							}
 						});
@@ -224,13 +218,6 @@ public final class AnimalHandler implements Runnable {
 		});
 	}
 
-	public void stopAnimalSpawning() {
-		if (this.spawnTask != null && !this.spawnTask.isCancelled()) {
-			this.spawnTask.cancel();
-			this.spawnTask = null;
-		}
-	}
-
 	private int getMaxAnimalCount(@NotNull HellblockData hellblockData) {
 		final int base = 25;
 		// Apply upgrade boost
@@ -0,0 +1,339 @@
+package com.swiftlicious.hellblock.listeners;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.generation.IslandSpatialIndex;
+import com.swiftlicious.hellblock.utils.extras.LongHashSet;
+import com.swiftlicious.hellblock.world.CustomBlockState;
+import com.swiftlicious.hellblock.world.HellblockWorld;
+import com.swiftlicious.hellblock.world.PackedPositionList;
+import com.swiftlicious.hellblock.world.Pos3;
+
+import net.kyori.adventure.key.Key;
+
+/**
+ * Persistent per-island index of farm block positions.
+ * <p>
+ * An island is indexed once by a full scan; from then on every custom block
+ * state change that goes through {@link com.swiftlicious.hellblock.world.CustomChunk}
+ * adds or removes the affected position, so crop ticks never have to rescan the
+ * island. Islands without an entry are simply not indexed yet and are scanned
+ * on their next crop update.
+ * <p>
+ * The index is written next to the world data whenever a Hellblock world is
+ * saved, so a restart does not trigger a rescan for every island that comes
+ * back online. Positions are stored packed (see {@link PackedPositionList}) and
+ * are validated against the live block state when read, which drops entries
+ * left behind by changes that bypassed the chunk API.
+ * <p>
+ * Each island keeps its positions in a {@link LongHashSet}. The set is not
+ * thread-safe, so every access synchronizes on the set itself; full scans merge
+ * into an existing set under the same lock instead of replacing it, so
+ * incremental updates that race with a scan are never lost.
+ */
+public class FarmBlockIndex implements PerformanceReporter {
+
+	private static final int FILE_MAGIC = 0x4842_4649; // "HBFI"
+	private static final int FILE_VERSION = 1;
+	private static final String FILE_NAME = "farm_index.dat";
+
+	protected final HellblockPlugin instance;
+	private final Set<Key> trackedKeys;
+
+	private final Map<Integer, LongHashSet> islands = new ConcurrentHashMap<>();
+	private final AtomicBoolean dirty = new AtomicBoolean(false);
+	private volatile boolean loaded;
+
+	private final LongAdder incrementalUpdates = new LongAdder();
+	private final LongAdder fullScans = new LongAdder();
+	private final LongAdder staleRemovals = new LongAdder();
+
+	public FarmBlockIndex(HellblockPlugin plugin, @NotNull Set<Key> trackedKeys) {
+		this.instance = plugin;
+		this.trackedKeys = Set.copyOf(trackedKeys);
+	}
+
+	/**
+	 * @return the block keys whose positions are tracked by this index
+	 */
+	@NotNull
+	public Set<Key> getTrackedKeys() {
+		return trackedKeys;
+	}
+
+	/**
+	 * Returns the indexed farm positions of the given island.
+	 *
+	 * @param islandId the island ID
+	 * @return a snapshot of the packed positions, or {@code null} if the island
+	 *         has not been indexed yet
+	 */
+	@Nullable
+	public long[] getPositions(int islandId) {
+		final LongHashSet positions = islands.get(islandId);
+		if (positions == null) {
+			return null;
+		}
+		synchronized (positions) {
+			return positions.toArray();
+		}
+	}
+
+	/**
+	 * Merges the result of a full scan into the indexed positions of an island.
+	 * Positions the scan missed because they changed while it was running are
+	 * kept; stale ones are dropped when they are next read.
+	 *
+	 * @param islandId  the island ID
+	 * @param positions the packed positions found by the scan
+	 * @return a snapshot of the indexed positions
+	 */
+	@NotNull
+	public long[] index(int islandId, @NotNull PackedPositionList positions) {
+		final LongHashSet packed = islands.computeIfAbsent(islandId, id -> new LongHashSet(positions.size()));
+		final long[] snapshot;
+		synchronized (packed) {
+			for (int i = 0; i < positions.size(); i++) {
+				packed.add(positions.get(i));
+			}
+			snapshot = packed.toArray();
+		}
+		fullScans.increment();
+		dirty.set(true);
+		return snapshot;
+	}
+
+	/**
+	 * Drops an indexed position that no longer holds a farm block.
+	 *
+	 * @param islandId the island ID
+	 * @param packed   the packed position
+	 */
+	public void removeStale(int islandId, long packed) {
+		final LongHashSet positions = islands.get(islandId);
+		if (positions == null) {
+			return;
+		}
+		final boolean removed;
+		synchronized (positions) {
+			removed = positions.remove(packed);
+		}
+		if (removed) {
+			staleRemovals.increment();
+			dirty.set(true);
+		}
+	}
+
+	/**
+	 * Removes an island from the index, forcing a full scan on its next crop
+	 * update.
+	 *
+	 * @param islandId the island ID
+	 */
+	public void invalidate(int islandId) {
+		if (islands.remove(islandId) != null) {
+			dirty.set(true);
+		}
+	}
+
+	/**
+	 * Applies a single custom block state change to the index.
+	 *
+	 * @param world    the world the change happened in
+	 * @param pos      the changed position
+	 * @param previous the state before the change, if any
+	 * @param current  the state after the change, or {@code null} if removed
+	 */
+	public void onBlockStateChanged(@NotNull HellblockWorld<?> world, @NotNull Pos3 pos,
+			@Nullable CustomBlockState previous, @Nullable CustomBlockState current) {
+		final boolean wasFarm = previous != null && trackedKeys.contains(previous.type().type());
+		final boolean isFarm = current != null && trackedKeys.contains(current.type().type());
+		if (!wasFarm && !isFarm) {
+			return;
+		}
+
+		final int islandId = instance.getPlacementDetector().findIslandIdAt(world.worldName(), pos.x(), pos.y(),
+				pos.z());
+		if (islandId == IslandSpatialIndex.NO_ISLAND) {
+			return;
+		}
+
+		final LongHashSet positions = islands.get(islandId);
+		if (positions == null) {
+			// Not indexed yet, the next crop update performs a full scan anyway
+			return;
+		}
+
+		final long packed = PackedPositionList.pack(pos.x(), pos.y(), pos.z());
+		final boolean changed;
+		synchronized (positions) {
+			changed = isFarm ? positions.add(packed) : positions.remove(packed);
+		}
+		if (changed) {
+			incrementalUpdates.increment();
+			dirty.set(true);
+		}
+	}
+
+	/**
+	 * Reads the persisted index from disk, replacing the in-memory state.
+	 */
+	public synchronized void load() {
+		islands.clear();
+		dirty.set(false);
+		loaded = true;
+
+		final File file = getFile();
+		if (!file.exists()) {
+			return;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FILE_MAGIC) {
+				instance.getPluginLogger().warn("Ignoring farm index with unknown format: " + file.getAbsolutePath());
+				return;
+			}
+			final int version = in.readInt();
+			if (version != FILE_VERSION) {
+				instance.getPluginLogger().warn("Ignoring farm index with unsupported version " + version);
+				return;
+			}
+
+			final int islandCount = in.readInt();
+			for (int i = 0; i < islandCount; i++) {
+				final int islandId = in.readInt();
+				final int size = in.readInt();
+				final LongHashSet positions = new LongHashSet(size);
+				for (int j = 0; j < size; j++) {
+					positions.add(in.readLong());
+				}
+				islands.put(islandId, positions);
+			}
+			instance.debug("Loaded farm index for " + islandCount + " island" + (islandCount == 1 ? "" : "s") + ".");
+		} catch (IOException e) {
+			// A damaged index only costs a rescan per island
+			islands.clear();
+			instance.getPluginLogger().warn("Failed to read farm index, islands will be rescanned", e);
+		}
+	}
+
+	/**
+	 * Writes the index to disk if it changed since the last save.
+	 */
+	public synchronized void save() {
+		if (!loaded || !dirty.compareAndSet(true, false)) {
+			return;
+		}
+
+		final File file = getFile();
+		final File parentDir = file.getParentFile();
+		if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
+			instance.getPluginLogger().warn("Failed to create directory for farm index: " + parentDir);
+			dirty.set(true);
+			return;
+		}
+
+		final long start = System.currentTimeMillis();
+		final File tempFile = new File(parentDir, FILE_NAME + ".tmp");
+		try {
+			try (FileOutputStream fos = new FileOutputStream(tempFile);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+				final Map<Integer, LongHashSet> snapshot = Map.copyOf(islands);
+				out.writeInt(FILE_MAGIC);
+				out.writeInt(FILE_VERSION);
+				out.writeInt(snapshot.size());
+				for (Map.Entry<Integer, LongHashSet> entry : snapshot.entrySet()) {
+					final long[] positions;
+					synchronized (entry.getValue()) {
+						positions = entry.getValue().toArray();
+					}
+					out.writeInt(entry.getKey());
+					out.writeInt(positions.length);
+					for (long packed : positions) {
+						out.writeLong(packed);
+					}
+				}
+				out.flush();
+				fos.getFD().sync();
+			}
+
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			instance.debug(() -> "Took " + (System.currentTimeMillis() - start) + "ms to save the farm index.");
+		} catch (IOException e) {
+			dirty.set(true);
+			instance.getPluginLogger().warn("Failed to save farm index", e);
+			if (tempFile.exists()) {
+				tempFile.delete();
+			}
+		}
+	}
+
+	/**
+	 * Saves pending changes and drops the in-memory index.
+	 */
+	public synchronized void unload() {
+		save();
+		loaded = false;
+		islands.clear();
+		incrementalUpdates.reset();
+		fullScans.reset();
+		staleRemovals.reset();
+	}
+
+	@NotNull
+	private File getFile() {
+		return new File(instance.getDataFolder(), FILE_NAME);
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "farm-index";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		long positions = 0;
+		for (LongHashSet set : islands.values()) {
+			synchronized (set) {
+				positions += set.size();
+			}
+		}
+
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Indexed islands", String.valueOf(islands.size()));
+		report.put("Indexed positions", String.valueOf(positions));
+		report.put("Full scans", String.valueOf(fullScans.sum()));
+		report.put("Incremental updates", String.valueOf(incrementalUpdates.sum()));
+		report.put("Stale removals", String.valueOf(staleRemovals.sum()));
+		report.put("Unsaved changes", String.valueOf(dirty.get()));
+		return report;
+	}
+}
@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Effect;
@@ -79,8 +80,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.Acrobot.ChestShop.Libs.Kyori.adventure.text.format.NamedTextColor;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.api.Reloadable;
 import com.swiftlicious.hellblock.challenges.HellblockChallenge.ActionType;
@@ -98,11 +97,15 @@ import com.swiftlicious.hellblock.upgrades.UpgradeData;
 import com.swiftlicious.hellblock.upgrades.UpgradeTier;
 import com.swiftlicious.hellblock.utils.ParticleUtils;
 import com.swiftlicious.hellblock.utils.RandomUtils;
+import com.swiftlicious.hellblock.world.BlockRegion;
+import com.swiftlicious.hellblock.world.ChunkPos;
 import com.swiftlicious.hellblock.world.CustomBlock;
 import com.swiftlicious.hellblock.world.CustomBlockRenderer;
 import com.swiftlicious.hellblock.world.CustomBlockState;
 import com.swiftlicious.hellblock.world.CustomBlockTypes;
+import com.swiftlicious.hellblock.world.CustomChunk;
 import com.swiftlicious.hellblock.world.HellblockWorld;
+import com.swiftlicious.hellblock.world.PackedPositionList;
 import com.swiftlicious.hellblock.world.Pos3;
 import com.swiftlicious.hellblock.world.block.Growable;
 import com.swiftlicious.hellblock.world.block.MoistureHolder;
@@ -200,8 +203,7 @@ public class FarmingHandler implements Listener, Reloadable {
 	public static final Set<String> CACTUS_KEYS = Set.of("minecraft:cactus", "hellblock:cactus");
 	public static final Set<String> BAMBOO_KEYS = Set.of("minecraft:bamboo", "hellblock:bamboo");
 
-	private final Cache<Integer, Set<PositionedBlock>> farmCache = Caffeine.newBuilder()
-			.expireAfterWrite(3, TimeUnit.MINUTES).build();
+	private final FarmBlockIndex farmIndex;
 
 	private final Map<Pos3, Integer> blockCache = new LinkedHashMap<>();
 	private final Map<Pos3, Integer> moistureCache = new LinkedHashMap<>();
@@ -268,6 +270,25 @@ public class FarmingHandler implements Listener, Reloadable {
 	private static final Set<String> COCOA_STEM_KEYS = Set.of("minecraft:crimson_stem", "minecraft:warped_stem");
 	private static final Set<String> SOUL_SAND_KEY = Set.of("minecraft:soul_sand");
 	private static final Set<String> LAVA_KEY = Set.of("minecraft:lava");
+	private static final Set<Key> LAVA_BLOCK_KEYS = Set.of(Key.key("minecraft:lava"));
+
+	private static final Set<Key> FARM_BLOCK_KEYS = keys("minecraft:farmland", "minecraft:wheat", "minecraft:carrots",
+			"minecraft:potatoes", "minecraft:beetroots", "minecraft:nether_wart", "minecraft:red_mushroom",
+			"minecraft:brown_mushroom", "minecraft:sweet_berry_bush", "minecraft:cocoa", "minecraft:melon_stem",
+			"minecraft:attached_melon_stem", "minecraft:pumpkin_stem", "minecraft:attached_pumpkin_stem",
+			"hellblock:farmland", "hellblock:wheat", "hellblock:carrots", "hellblock:potatoes", "hellblock:beetroots",
+			"hellblock:nether_wart", "hellblock:red_mushroom", "hellblock:brown_mushroom",
+			"hellblock:sweet_berry_bush", "hellblock:cocoa", "hellblock:melon_stem", "hellblock:attached_melon_stem",
+			"hellblock:pumpkin_stem", "hellblock:attached_pumpkin_stem");
+	private static final Set<Key> FARM_SAPLING_KEYS = keys("minecraft:oak_sapling", "minecraft:spruce_sapling",
+			"minecraft:birch_sapling", "minecraft:jungle_sapling", "minecraft:acacia_sapling",
+			"minecraft:dark_oak_sapling", "minecraft:mangrove_sapling", "minecraft:cherry_sapling",
+			"minecraft:bamboo_sapling", "hellblock:glow_sapling");
+	private static final Set<Key> VERTICAL_CROP_KEYS = keys("minecraft:sugar_cane", "minecraft:bamboo",
+			"minecraft:cactus", "hellblock:sugar_cane", "hellblock:bamboo", "hellblock:cactus");
+
+	/** Union of every key a farm scan is interested in **/
+	private static final Set<Key> FARM_SCAN_KEYS = union(FARM_BLOCK_KEYS, FARM_SAPLING_KEYS, VERTICAL_CROP_KEYS);
 
 	/** Maximum radius around farmland to search for nearby lava blocks **/
 	private static final int FARM_BLOCK_CHECK_RADIUS = 4;
@@ -280,11 +301,14 @@ public class FarmingHandler implements Listener, Reloadable {
 
 	public FarmingHandler(HellblockPlugin plugin) {
 		instance = plugin;
+		this.farmIndex = new FarmBlockIndex(plugin, FARM_SCAN_KEYS);
+		instance.registerPerformanceReporter(this.farmIndex);
 	}
 
 	@Override
 	public void load() {
 		Bukkit.getPluginManager().registerEvents(this, instance);
+		this.farmIndex.load();
 		this.farmBlocks = Set.of(CustomBlockTypes.FARMLAND, CustomBlockTypes.NETHER_WART, CustomBlockTypes.RED_MUSHROOM,
 				CustomBlockTypes.BROWN_MUSHROOM, CustomBlockTypes.SWEET_BERRY_BUSH, CustomBlockTypes.COCOA,
 				CustomBlockTypes.WHEAT, CustomBlockTypes.CARROTS, CustomBlockTypes.POTATOES, CustomBlockTypes.BEETROOTS,
@@ -316,7 +340,7 @@ public class FarmingHandler implements Listener, Reloadable {
 		this.placedSaplingMapping = null;
 		this.cropResolver = null;
 		this.concreteConverter = null;
-		this.farmCache.cleanUp();
+		this.farmIndex.unload();
 		this.blockCache.clear();
 		this.moistureCache.clear();
 		this.revertCache.clear();
@@ -343,6 +367,11 @@ public class FarmingHandler implements Listener, Reloadable {
 		return this.concreteConverter;
 	}
 
+	@NotNull
+	public FarmBlockIndex getFarmIndex() {
+		return this.farmIndex;
+	}
+
 	/**
 	 * Represents a block with both its position and associated custom block state.
 	 *
@@ -365,7 +394,7 @@ public class FarmingHandler implements Listener, Reloadable {
 	 * This includes:
 	 * </p>
 	 * <ul>
-	 * <li>Invalidating the island’s farm crop cache</li>
+	 * <li>Invalidating the island’s farm block index</li>
 	 * <li>Removing tracked player-placed crops located on the island</li>
 	 * <li>Removing lava-grown mushrooms associated with the island</li>
 	 * </ul>
@@ -375,8 +404,8 @@ public class FarmingHandler implements Listener, Reloadable {
 	 */
 	@NotNull
 	public CompletableFuture<Void> clearIslandFarmCache(@NotNull HellblockWorld<?> world, int islandId) {
-		// Remove farm crop data cache
-		farmCache.invalidate(islandId);
+		// Drop the island's farm index so it is rebuilt on the next crop update
+		farmIndex.invalidate(islandId);
 
 		List<Pos3> toRemovePlacedCrops = new ArrayList<>();
 		List<CompletableFuture<Void>> placedCropFutures = playerPlacedCrops.stream().map(pos -> {
@@ -2238,29 +2267,9 @@ public class FarmingHandler implements Listener, Reloadable {
 			return CompletableFuture.completedFuture(false);
 		}
 
-		Pos3 origin = block.pos();
-		final int centerX = origin.x();
-		final int centerY = origin.y();
-		final int centerZ = origin.z();
-
-		List<CompletableFuture<Boolean>> checks = new ArrayList<>();
-
-		for (int x = centerX - FARM_BLOCK_CHECK_RADIUS; x <= centerX + FARM_BLOCK_CHECK_RADIUS; x++) {
-			for (int y = centerY - 1; y <= centerY; y++) {
-				for (int z = centerZ - FARM_BLOCK_CHECK_RADIUS; z <= centerZ + FARM_BLOCK_CHECK_RADIUS; z++) {
-					Pos3 pos = new Pos3(x, y, z);
-					checks.add(world.getBlockState(pos).thenApply(optState -> {
-						if (optState.isEmpty())
-							return false;
-						String key = optState.get().type().type().value().toLowerCase();
-						return LAVA_KEY.contains(key);
-					}));
-				}
-			}
-		}
-
-		return CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new))
-				.thenApply(v -> checks.stream().map(CompletableFuture::join).anyMatch(Boolean::booleanValue));
+		// Only stored blocks are visited, so this stays cheap regardless of radius
+		final BlockRegion region = BlockRegion.around(block.pos(), FARM_BLOCK_CHECK_RADIUS, 1, 0);
+		return CompletableFuture.completedFuture(!world.scanBlocks(region, LAVA_BLOCK_KEYS).isEmpty());
 	}
 
 	/**
@@ -2268,8 +2277,11 @@ public class FarmingHandler implements Listener, Reloadable {
 	 * island.
 	 *
 	 * <p>
-	 * Uses the island’s bounding box to search for farmland, crops, saplings, and
-	 * vertical crops, returning a cached result if available.
+	 * Positions come from the persistent {@link FarmBlockIndex}. Only islands that
+	 * have not been indexed yet are scanned within their bounding box; afterwards
+	 * the index is kept up to date by block state changes. Indexed positions are
+	 * resolved against the live block states, dropping entries that no longer hold
+	 * a farm block.
 	 * </p>
 	 *
 	 * @param world    the Hellblock world instance
@@ -2279,27 +2291,57 @@ public class FarmingHandler implements Listener, Reloadable {
 	@NotNull
 	private CompletableFuture<Set<PositionedBlock>> getFarmBlocksByIslandId(@NotNull HellblockWorld<?> world,
 			int islandId) {
-		Set<PositionedBlock> cached = farmCache.getIfPresent(islandId);
-		if (cached != null && !cached.isEmpty())
-			return CompletableFuture.completedFuture(cached);
+		long[] indexed = farmIndex.getPositions(islandId);
+		if (indexed != null)
+			return CompletableFuture.completedFuture(resolveIndexedFarmBlocks(world, islandId, indexed));
 
-		return instance.getStorageManager().getOfflineUserDataByIslandId(islandId, false).thenCompose(optData -> {
+		return instance.getStorageManager().getOfflineUserDataByIslandId(islandId, false).thenApply(optData -> {
 			if (optData.isEmpty())
-				return CompletableFuture.completedFuture(Collections.emptySet());
+				return Collections.emptySet();
 
 			HellblockData data = optData.get().getHellblockData();
 			BoundingBox bounds = data.getBoundingBox();
 			if (bounds == null)
-				return CompletableFuture.completedFuture(Collections.emptySet());
+				return Collections.emptySet();
 
-			// Fully async collection now
-			return collectFarmBlocks(world, bounds).thenApply(farmBlocks -> {
-				farmCache.put(islandId, farmBlocks);
-				return farmBlocks;
-			});
+			// First crop update for this island: build its index from a full scan
+			PackedPositionList scanned = world.scanBlocks(BlockRegion.of(bounds), farmIndex.getTrackedKeys());
+			return resolveIndexedFarmBlocks(world, islandId, farmIndex.index(islandId, scanned));
 		});
 	}
 
+	/**
+	 * Resolves indexed farm positions of an island to their current block states.
+	 *
+	 * @param world     the Hellblock world instance
+	 * @param islandId  the ID of the island
+	 * @param positions the packed positions from the farm index
+	 * @return the farm blocks currently present at the indexed positions
+	 */
+	@NotNull
+	private Set<PositionedBlock> resolveIndexedFarmBlocks(@NotNull HellblockWorld<?> world, int islandId,
+			@NotNull long[] positions) {
+		final Set<PositionedBlock> farmBlocks = ConcurrentHashMap.newKeySet();
+		final Map<ChunkPos, Optional<CustomChunk>> chunks = new HashMap<>();
+
+		for (long packed : positions) {
+			Pos3 pos = new Pos3(PackedPositionList.unpackX(packed), PackedPositionList.unpackY(packed),
+					PackedPositionList.unpackZ(packed));
+			Optional<CustomChunk> chunkOpt = chunks.computeIfAbsent(pos.toChunkPos(), world::getChunk);
+			Optional<CustomBlockState> stateOpt = chunkOpt.flatMap(chunk -> chunk.getBlockState(pos));
+			if (stateOpt.isEmpty() || !farmIndex.getTrackedKeys().contains(stateOpt.get().type().type())) {
+				farmIndex.removeStale(islandId, packed);
+				continue;
+			}
+
+			PositionedBlock farmBlock = toFarmBlock(chunkOpt.get(), pos, stateOpt.get());
+			if (farmBlock != null)
+				farmBlocks.add(farmBlock);
+		}
+
+		return farmBlocks;
+	}
+
 	/**
 	 * Scans a world region within an island’s bounding box to identify all
 	 * farm-related blocks.
@@ -2316,47 +2358,68 @@ public class FarmingHandler implements Listener, Reloadable {
 	@NotNull
 	public CompletableFuture<Set<PositionedBlock>> collectFarmBlocks(@NotNull HellblockWorld<?> world,
 			@NotNull BoundingBox bounds) {
-		Set<PositionedBlock> farmBlocks = ConcurrentHashMap.newKeySet();
-		List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-		int minX = (int) Math.floor(bounds.getMinX());
-		int minY = (int) Math.floor(bounds.getMinY());
-		int minZ = (int) Math.floor(bounds.getMinZ());
-		int maxX = (int) Math.ceil(bounds.getMaxX());
-		int maxY = (int) Math.ceil(bounds.getMaxY());
-		int maxZ = (int) Math.ceil(bounds.getMaxZ());
-
-		for (int x = minX; x <= maxX; x++) {
-			for (int y = minY; y <= maxY; y++) {
-				for (int z = minZ; z <= maxZ; z++) {
-					Pos3 pos = new Pos3(x, y, z);
-					CompletableFuture<Void> future = world.getBlockState(pos).thenAccept(stateOpt -> {
-						if (stateOpt.isEmpty())
-							return;
-
-						CustomBlockState state = stateOpt.get();
-						CustomBlock blockType = state.type();
+		final BlockRegion region = BlockRegion.of(bounds);
+		final Set<PositionedBlock> farmBlocks = ConcurrentHashMap.newKeySet();
+		final PackedPositionList matches = new PackedPositionList(64);
+
+		// Scan chunk by chunk so each stored chunk is read at most once and only its
+		// stored custom blocks are visited, instead of probing every position
+		for (int chunkX = region.minX() >> 4; chunkX <= region.maxX() >> 4; chunkX++) {
+			for (int chunkZ = region.minZ() >> 4; chunkZ <= region.maxZ() >> 4; chunkZ++) {
+				Optional<CustomChunk> chunkOpt = world.getChunk(ChunkPos.of(chunkX, chunkZ));
+				if (chunkOpt.isEmpty())
+					continue;
 
-						if (isFarmBlock(blockType) || isFarmSapling(blockType)) {
-							farmBlocks.add(new PositionedBlock(pos, state));
-							return;
-						}
+				CustomChunk chunk = chunkOpt.get();
+				matches.clear();
+				if (chunk.scan(FARM_SCAN_KEYS, region, matches) == 0)
+					continue;
 
-						if (isVerticalCrop(blockType)) {
-							world.getBlockState(pos.down()).thenAccept(belowOpt -> {
-								if (belowOpt.isEmpty() || !belowOpt.get().type().equals(blockType)) {
-									farmBlocks.add(new PositionedBlock(pos, state));
-								}
-							});
-						}
-					});
+				for (int i = 0; i < matches.size(); i++) {
+					Pos3 pos = matches.toPos3(i);
+					Optional<CustomBlockState> stateOpt = chunk.getBlockState(pos);
+					if (stateOpt.isEmpty())
+						continue;
 
-					futures.add(future);
+					PositionedBlock farmBlock = toFarmBlock(chunk, pos, stateOpt.get());
+					if (farmBlock != null)
+						farmBlocks.add(farmBlock);
 				}
 			}
 		}
 
-		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(v -> farmBlocks);
+		return CompletableFuture.completedFuture(farmBlocks);
+	}
+
+	/**
+	 * Classifies a stored block as a farm block.
+	 *
+	 * <p>
+	 * Farm blocks and saplings always qualify, while vertical crops only qualify
+	 * at their base so each stack is processed once.
+	 * </p>
+	 *
+	 * @param chunk the chunk holding the block
+	 * @param pos   the block position
+	 * @param state the stored block state
+	 * @return the positioned farm block, or {@code null} if it does not qualify
+	 */
+	@Nullable
+	private PositionedBlock toFarmBlock(@NotNull CustomChunk chunk, @NotNull Pos3 pos,
+			@NotNull CustomBlockState state) {
+		CustomBlock blockType = state.type();
+
+		if (isFarmBlock(blockType) || isFarmSapling(blockType))
+			return new PositionedBlock(pos, state);
+
+		// Only track the base of vertical crops; the block below shares the chunk
+		if (isVerticalCrop(blockType)) {
+			Optional<CustomBlockState> belowOpt = chunk.getBlockState(pos.down());
+			if (belowOpt.isEmpty() || !belowOpt.get().type().equals(blockType))
+				return new PositionedBlock(pos, state);
+		}
+
+		return null;
 	}
 
 	/**
@@ -2401,6 +2464,17 @@ public class FarmingHandler implements Listener, Reloadable {
 		return BASE_CHANCE_NO_LAVA.getOrDefault(lowerKey, 0);
 	}
 
+	@NotNull
+	private static Set<Key> keys(@NotNull String... keys) {
+		return Arrays.stream(keys).map(Key::key).collect(Collectors.toUnmodifiableSet());
+	}
+
+	@SafeVarargs
+	@NotNull
+	private static Set<Key> union(@NotNull Set<Key>... sets) {
+		return Arrays.stream(sets).flatMap(Set::stream).collect(Collectors.toUnmodifiableSet());
+	}
+
 	/**
 	 * Determines whether a given block type represents a farm-related block.
 	 *
@@ -2412,23 +2486,7 @@ public class FarmingHandler implements Listener, Reloadable {
 	 * @return true if the block is a farm block; false otherwise
 	 */
 	private boolean isFarmBlock(@NotNull CustomBlock block) {
-		if (farmBlocks.contains(block))
-			return true;
-
-		String key = block.type().key().asString();
-
-		return switch (key) {
-		case "minecraft:farmland", "minecraft:wheat", "minecraft:carrots", "minecraft:potatoes", "minecraft:beetroots",
-				"minecraft:nether_wart", "minecraft:red_mushroom", "minecraft:brown_mushroom",
-				"minecraft:sweet_berry_bush", "minecraft:cocoa", "minecraft:melon_stem",
-				"minecraft:attached_melon_stem", "minecraft:pumpkin_stem", "minecraft:attached_pumpkin_stem",
-				"hellblock:farmland", "hellblock:wheat", "hellblock:carrots", "hellblock:potatoes",
-				"hellblock:beetroots", "hellblock:nether_wart", "hellblock:red_mushroom", "hellblock:brown_mushroom",
-				"hellblock:sweet_berry_bush", "hellblock:cocoa", "hellblock:melon_stem",
-				"hellblock:attached_melon_stem", "hellblock:pumpkin_stem", "hellblock:attached_pumpkin_stem" ->
-			true;
-		default -> false;
-		};
+		return farmBlocks.contains(block) || FARM_BLOCK_KEYS.contains(block.type());
 	}
 
 	/**
@@ -2439,17 +2497,7 @@ public class FarmingHandler implements Listener, Reloadable {
 	 * @return true if the block is a farm sapling; false otherwise
 	 */
 	public boolean isFarmSapling(@NotNull CustomBlock block) {
-		if (farmSaplings.contains(block))
-			return true;
-
-		String key = block.type().key().asString();
-		return switch (key) {
-		case "minecraft:oak_sapling", "minecraft:spruce_sapling", "minecraft:birch_sapling", "minecraft:jungle_sapling",
-				"minecraft:acacia_sapling", "minecraft:dark_oak_sapling", "minecraft:mangrove_sapling",
-				"minecraft:cherry_sapling", "minecraft:bamboo_sapling", "hellblock:glow_sapling" ->
-			true;
-		default -> false;
-		};
+		return farmSaplings.contains(block) || FARM_SAPLING_KEYS.contains(block.type());
 	}
 
 	/**
@@ -2460,17 +2508,7 @@ public class FarmingHandler implements Listener, Reloadable {
 	 * @return true if the block is vertically growing; false otherwise
 	 */
 	private boolean isVerticalCrop(@NotNull CustomBlock block) {
-		if (verticalFarmBlocks.contains(block))
-			return true;
-
-		String key = block.type().key().asString();
-
-		return switch (key) {
-		case "minecraft:sugar_cane", "minecraft:bamboo", "minecraft:cactus", "hellblock:sugar_cane", "hellblock:bamboo",
-				"hellblock:cactus" ->
-			true;
-		default -> false;
-		};
+		return verticalFarmBlocks.contains(block) || VERTICAL_CROP_KEYS.contains(block.type());
 	}
 
 	/**
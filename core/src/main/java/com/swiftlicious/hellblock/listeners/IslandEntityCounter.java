@@ -0,0 +1,317 @@
+package com.swiftlicious.hellblock.listeners;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldEvent;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.scheduler.SchedulerTask;
+import com.swiftlicious.hellblock.utils.LocationUtils;
+import com.swiftlicious.hellblock.world.HellblockWorld;
+import com.swiftlicious.hellblock.world.WorldReflection;
+
+/**
+ * Live per-island counts of the entities spawned for an island.
+ * <p>
+ * Entities spawned for an island, currently the animals of {@link AnimalHandler},
+ * are tagged with the owning island in their persistent data container through
+ * {@link #tagOwner(Entity, int)}.
+ * Tagged entities are counted while they are loaded: they are added when they
+ * are tagged or their chunk's entities load, and removed when they die or
+ * unload, so spawn caps can be checked without scanning the entities of the
+ * world.
+ * <p>
+ * Entities can also disappear without an event, e.g. when they despawn or are
+ * removed by another plugin. A reconciliation pass therefore walks the loaded
+ * chunks of the Hellblock worlds a few chunks per tick, adding tagged entities
+ * that were missed and dropping tracked entities that are gone.
+ */
+public class IslandEntityCounter implements Listener, PerformanceReporter {
+
+	private static final int CHUNKS_PER_TICK = 8;
+	private static final long RECONCILE_INTERVAL_MINUTES = 5;
+
+	protected final HellblockPlugin instance;
+	private final NamespacedKey ownerKey;
+
+	private final Map<UUID, Integer> tracked = new ConcurrentHashMap<>();
+	private final Map<Integer, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+	private final Listener entitiesListener = new Listener() {
+	};
+	private SchedulerTask reconcileTask;
+	private final AtomicBoolean reconciling = new AtomicBoolean(false);
+
+	private final LongAdder added = new LongAdder();
+	private final LongAdder removed = new LongAdder();
+	private final LongAdder reconcilePasses = new LongAdder();
+	private final LongAdder reconcileFixes = new LongAdder();
+	private volatile long lastReconcileNanos;
+
+	public IslandEntityCounter(HellblockPlugin plugin) {
+		this.instance = plugin;
+		this.ownerKey = new NamespacedKey(plugin, "hellblock_owner");
+	}
+
+	public void load() {
+		Bukkit.getPluginManager().registerEvents(this, instance);
+		if (!registerEntitiesEvents()) {
+			// Before 1.17 entities are loaded together with their chunk
+			Bukkit.getPluginManager().registerEvent(ChunkLoadEvent.class, entitiesListener, EventPriority.MONITOR,
+					(listener, event) -> {
+						if (event instanceof ChunkLoadEvent load && isHellblockWorld(load.getWorld())) {
+							trackAll(List.of(load.getChunk().getEntities()));
+						}
+					}, instance, true);
+			Bukkit.getPluginManager().registerEvent(ChunkUnloadEvent.class, entitiesListener, EventPriority.MONITOR,
+					(listener, event) -> {
+						if (event instanceof ChunkUnloadEvent unload && isHellblockWorld(unload.getWorld())) {
+							untrackAll(List.of(unload.getChunk().getEntities()));
+						}
+					}, instance, true);
+		}
+		this.reconcileTask = instance.getScheduler().asyncRepeating(
+				() -> instance.getScheduler().executeSync(this::reconcile), RECONCILE_INTERVAL_MINUTES,
+				RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+		// Count what is already loaded, e.g. after a reload
+		instance.getScheduler().executeSync(this::reconcile);
+	}
+
+	public void unload() {
+		HandlerList.unregisterAll(this);
+		HandlerList.unregisterAll(entitiesListener);
+		if (this.reconcileTask != null && !this.reconcileTask.isCancelled()) {
+			this.reconcileTask.cancel();
+			this.reconcileTask = null;
+		}
+		tracked.clear();
+		counts.clear();
+	}
+
+	/**
+	 * Tags an entity as belonging to an island and starts counting it.
+	 *
+	 * @param entity   the entity
+	 * @param islandId the owning island
+	 */
+	public void tagOwner(@NotNull Entity entity, int islandId) {
+		entity.getPersistentDataContainer().set(ownerKey, PersistentDataType.INTEGER, islandId);
+		track(entity);
+	}
+
+	/**
+	 * Gets the number of loaded entities that belong to an island.
+	 *
+	 * @param islandId the island
+	 * @return the live count
+	 */
+	public int getCount(int islandId) {
+		final AtomicInteger count = counts.get(islandId);
+		return count != null ? count.get() : 0;
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onEntityDeath(EntityDeathEvent event) {
+		if (untrack(event.getEntity().getUniqueId())) {
+			removed.increment();
+		}
+	}
+
+	/**
+	 * Registers the entity load and unload events added in 1.17, resolved once by
+	 * {@link WorldReflection}.
+	 *
+	 * @return whether the events exist on this server
+	 */
+	private boolean registerEntitiesEvents() {
+		final Class<? extends Event> loadEvent = WorldReflection.entitiesLoadEvent();
+		final Class<? extends Event> unloadEvent = WorldReflection.entitiesUnloadEvent();
+		if (loadEvent == null || unloadEvent == null) {
+			return false;
+		}
+
+		// Both events are world events, only the entity list needs a method handle
+		Bukkit.getPluginManager().registerEvent(loadEvent, entitiesListener, EventPriority.MONITOR,
+				(listener, event) -> {
+					if (loadEvent.isInstance(event) && event instanceof WorldEvent worldEvent
+							&& isHellblockWorld(worldEvent.getWorld())) {
+						trackAll(WorldReflection.getEntities(event));
+					}
+				}, instance, true);
+		Bukkit.getPluginManager().registerEvent(unloadEvent, entitiesListener, EventPriority.MONITOR,
+				(listener, event) -> {
+					if (unloadEvent.isInstance(event) && event instanceof WorldEvent worldEvent
+							&& isHellblockWorld(worldEvent.getWorld())) {
+						untrackAll(WorldReflection.getEntities(event));
+					}
+				}, instance, true);
+		return true;
+	}
+
+	private boolean isHellblockWorld(World world) {
+		return instance.getWorldManager().getWorld(world).isPresent();
+	}
+
+	private void trackAll(Collection<Entity> entities) {
+		entities.forEach(this::track);
+	}
+
+	private void untrackAll(Collection<Entity> entities) {
+		for (Entity entity : entities) {
+			if (untrack(entity.getUniqueId())) {
+				removed.increment();
+			}
+		}
+	}
+
+	/**
+	 * Counts an entity if it is tagged with an island.
+	 *
+	 * @return whether the entity was not counted before
+	 */
+	private boolean track(Entity entity) {
+		final Integer islandId = entity.getPersistentDataContainer().get(ownerKey, PersistentDataType.INTEGER);
+		if (islandId == null) {
+			return false;
+		}
+		final Integer previous = tracked.put(entity.getUniqueId(), islandId);
+		if (islandId.equals(previous)) {
+			return false;
+		}
+		if (previous != null) {
+			adjust(previous, -1);
+		}
+		adjust(islandId, 1);
+		added.increment();
+		return previous == null;
+	}
+
+	private boolean untrack(UUID uuid) {
+		final Integer previous = tracked.remove(uuid);
+		if (previous == null) {
+			return false;
+		}
+		adjust(previous, -1);
+		return true;
+	}
+
+	private void adjust(int islandId, int delta) {
+		counts.computeIfAbsent(islandId, id -> new AtomicInteger()).addAndGet(delta);
+	}
+
+	/**
+	 * Starts a reconciliation pass over the loaded chunks of every Hellblock
+	 * world. Must be called on the main thread.
+	 */
+	private void reconcile() {
+		if (!reconciling.compareAndSet(false, true)) {
+			return;
+		}
+		final long start = System.nanoTime();
+		final Queue<Chunk> pending = new ArrayDeque<>();
+		for (HellblockWorld<?> world : instance.getWorldManager().getManagedWorlds()) {
+			if (world.bukkitWorld() != null) {
+				pending.addAll(List.of(world.bukkitWorld().getLoadedChunks()));
+			}
+		}
+		// Only entities that were tracked before the pass can be stale
+		final Set<UUID> candidates = new HashSet<>(tracked.keySet());
+		final long[] workNanos = { System.nanoTime() - start };
+
+		final AtomicReference<SchedulerTask> taskRef = new AtomicReference<>();
+		final SchedulerTask task = instance.getScheduler().sync().runRepeating(() -> {
+			final long tickStart = System.nanoTime();
+			try {
+				for (int i = 0; i < CHUNKS_PER_TICK && !pending.isEmpty(); i++) {
+					final Chunk chunk = pending.poll();
+					if (!chunk.isLoaded()) {
+						continue;
+					}
+					for (Entity entity : chunk.getEntities()) {
+						candidates.remove(entity.getUniqueId());
+						if (track(entity)) {
+							reconcileFixes.increment();
+						}
+					}
+				}
+
+				if (pending.isEmpty()) {
+					for (UUID uuid : candidates) {
+						final Entity entity = Bukkit.getEntity(uuid);
+						if ((entity == null || !entity.isValid()) && untrack(uuid)) {
+							reconcileFixes.increment();
+						}
+					}
+					finishReconcile(taskRef);
+				}
+			} catch (RuntimeException ex) {
+				instance.getPluginLogger().warn("Failed to reconcile island entity counts", ex);
+				finishReconcile(taskRef);
+			}
+			workNanos[0] += System.nanoTime() - tickStart;
+			if (!reconciling.get()) {
+				lastReconcileNanos = workNanos[0];
+			}
+		}, 1L, 1L, LocationUtils.getAnyLocationInstance());
+		taskRef.set(task);
+	}
+
+	private void finishReconcile(AtomicReference<SchedulerTask> taskRef) {
+		final SchedulerTask scheduled = taskRef.get();
+		if (scheduled != null && !scheduled.isCancelled()) {
+			scheduled.cancel();
+		}
+		reconcilePasses.increment();
+		reconciling.set(false);
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "island-entity-counter";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Tracked entities", String.valueOf(tracked.size()));
+		report.put("Islands", String.valueOf(counts.size()));
+		report.put("Added", String.valueOf(added.sum()));
+		report.put("Removed", String.valueOf(removed.sum()));
+		report.put("Reconcile passes", String.valueOf(reconcilePasses.sum()));
+		report.put("Reconcile fixes", String.valueOf(reconcileFixes.sum()));
+		report.put("Last reconcile", "%.2fms".formatted(lastReconcileNanos / 1_000_000.0));
+		return report;
+	}
+}
@@ -4,6 +4,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -17,12 +18,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.CreatureSpawner;
@@ -39,6 +39,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
 import com.swiftlicious.hellblock.api.Reloadable;
 import com.swiftlicious.hellblock.challenges.HellblockChallenge.ActionType;
 import com.swiftlicious.hellblock.context.Context;
@@ -49,6 +50,7 @@ import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.utils.EntityTypeUtils;
 import com.swiftlicious.hellblock.utils.extras.MathValue;
 import com.swiftlicious.hellblock.utils.extras.Pair;
+import com.swiftlicious.hellblock.utils.extras.RankedIndex;
 import com.swiftlicious.hellblock.utils.extras.Tuple;
 import com.swiftlicious.hellblock.world.BlockPos;
 import com.swiftlicious.hellblock.world.ChunkPos;
@@ -56,6 +58,7 @@ import com.swiftlicious.hellblock.world.CustomBlockState;
 import com.swiftlicious.hellblock.world.CustomChunk;
 import com.swiftlicious.hellblock.world.CustomSection;
 import com.swiftlicious.hellblock.world.HellblockWorld;
+import com.swiftlicious.hellblock.world.PackedPositionList;
 import com.swiftlicious.hellblock.world.Pos3;
 
 import dev.dejvokep.boostedyaml.YamlDocument;
@@ -79,21 +82,26 @@ public class LevelHandler implements Listener, Reloadable {
 	protected Map<Integer, Tuple<Material, EntityType, MathValue<Player>>> levelSystem = new HashMap<>();
 
 	private SchedulerTask updateCacheTask;
-	private SchedulerTask clearCacheTask;
 
 	private final AtomicBoolean isUpdating = new AtomicBoolean(false);
 
-	private final Map<Integer, Map<ChunkCoord, Map<BlockKey, Map<BlockPosition, Boolean>>>> placedBlockCounts = new HashMap<>();
+	// Island Id -> level relevant blocks of the island
+	private final Map<Integer, PlacedBlockIndex> placedBlockIndexes = new ConcurrentHashMap<>();
 	private final Set<Integer> loadedPlacedBlockCaches = ConcurrentHashMap.newKeySet();
+	// Block type key of custom chunks -> material, AIR if unknown
+	private final Map<String, Material> materialLookup = new ConcurrentHashMap<>();
+	private final AtomicLong lastEncodedBytes = new AtomicLong();
+	private final AtomicLong lastEncodedBlocks = new AtomicLong();
 
 	// Tracks recently counted block positions to prevent place/break exploits
 	private final Map<Integer, Map<BlockPosition, Long>> recentPlacements = new ConcurrentHashMap<>();
 	private static final long PLACEMENT_COOLDOWN_MS = 30_000; // 30 seconds
 
-	// Mapping Island Id -> Level Rank Placement
-	private final Map<Integer, Integer> levelRankCache = new HashMap<>();
-	// Mapping Island Id -> Island Level Placement
-	private LinkedHashMap<Integer, Float> topCache = new LinkedHashMap<>();
+	// Island Id -> Island Level, sorted by level; kept up to date on level changes
+	private final RankedIndex<Integer> levelIndex = new RankedIndex<>();
+	private volatile CompletableFuture<Void> levelIndexReady = CompletableFuture.completedFuture(null);
+	// Last top islands passed to a LeaderboardUpdateEvent
+	private volatile Map<Integer, Float> lastPublishedTop = Map.of();
 
 	// Cached lookup for block -> level value
 	private Map<Pair<Material, EntityType>, Float> levelBlockValues = new HashMap<>();
@@ -107,6 +115,34 @@ public class LevelHandler implements Listener, Reloadable {
 
 	public LevelHandler(HellblockPlugin plugin) {
 		instance = plugin;
+		instance.registerPerformanceReporter(new PerformanceReporter() {
+			@Override
+			@NotNull
+			public String getReporterName() {
+				return "island-levels";
+			}
+
+			@Override
+			@NotNull
+			public Map<String, String> getPerformanceReport() {
+				final Map<String, String> report = new LinkedHashMap<>();
+				long blocks = 0;
+				long placed = 0;
+				long bytes = 0;
+				for (PlacedBlockIndex index : placedBlockIndexes.values()) {
+					blocks += index.size();
+					placed += index.placedCount();
+					bytes += index.estimateBytes();
+				}
+				report.put("Indexed islands", String.valueOf(placedBlockIndexes.size()));
+				report.put("Tracked blocks", blocks + " (" + placed + " player placed)");
+				report.put("Index heap", "%.1fKiB".formatted(bytes / 1024.0));
+				final long encodedBlocks = lastEncodedBlocks.get();
+				report.put("Last encoded index", encodedBlocks == 0 ? "n/a"
+						: "%d blocks in %d bytes".formatted(encodedBlocks, lastEncodedBytes.get()));
+				return report;
+			}
+		});
 	}
 
 	@Override
@@ -191,7 +227,8 @@ public class LevelHandler implements Listener, Reloadable {
 				return;
 
 			isUpdating.set(true);
-			clearAndUpdateCache().whenComplete((res, ex) -> {
+			// Rebuilding the index also picks up level changes made outside of this handler
+			savePlacedBlockIndexes().thenCompose(v -> rebuildLevelIndex()).whenComplete((res, ex) -> {
 				if (ex != null) {
 					instance.getPluginLogger().warn("Cache update failed", ex);
 				}
@@ -200,6 +237,7 @@ public class LevelHandler implements Listener, Reloadable {
 		}, 1, 10, TimeUnit.MINUTES);
 
 		loadLevelBlockValues();
+		this.levelIndexReady = rebuildLevelIndex();
 
 		// Preload placed block caches for all existing islands
 		instance.getCoopManager().getCachedIslandOwnerData().thenAcceptAsync(allOwners -> {
@@ -214,11 +252,6 @@ public class LevelHandler implements Listener, Reloadable {
 				loadIslandPlacedBlocksIfNeeded(islandId);
 			});
 		});
-
-		this.clearCacheTask = instance.getScheduler().asyncRepeating(() -> {
-			this.levelRankCache.clear();
-			this.topCache.clear();
-		}, 30, 30, TimeUnit.MINUTES);
 	}
 
 	@Override
@@ -226,28 +259,35 @@ public class LevelHandler implements Listener, Reloadable {
 		HandlerList.unregisterAll(this);
 		this.levelSystem.clear();
 		this.loadedPlacedBlockCaches.clear();
-		this.levelRankCache.clear();
-		this.topCache.clear();
+		this.levelIndex.clear();
+		this.lastPublishedTop = Map.of();
 		this.recentPlacements.clear();
 		this.isUpdating.set(false);
-		this.placedBlockCounts.clear();
+		this.placedBlockIndexes.clear();
+		this.materialLookup.clear();
 		if (this.updateCacheTask != null && !this.updateCacheTask.isCancelled()) {
 			this.updateCacheTask.cancel();
 			this.updateCacheTask = null;
 		}
-		if (this.clearCacheTask != null && !this.clearCacheTask.isCancelled()) {
-			this.clearCacheTask.cancel();
-			this.clearCacheTask = null;
-		}
 	}
 
 	public CompletableFuture<Void> disableSafely() {
+		// Encode before unload() drops the indexes
+		Map<Integer, String> encoded = new HashMap<>();
+		placedBlockIndexes.keySet().forEach(islandId -> {
+			String serialized = serializePlacedBlocks(islandId);
+			if (serialized != null) {
+				encoded.put(islandId, serialized);
+			}
+		});
+
 		unload();
 
 		List<CompletableFuture<Void>> saveTasks = new ArrayList<>();
 
-		for (int islandId : placedBlockCounts.keySet()) {
-			Map<String, Map<String, Integer>> serialized = serializePlacedBlocks(islandId);
+		for (Map.Entry<Integer, String> entry : encoded.entrySet()) {
+			int islandId = entry.getKey();
+			String serialized = entry.getValue();
 			AtomicReference<UUID> lockedUUID = new AtomicReference<>(null);
 
 			CompletableFuture<Void> task = instance.getStorageManager().getOfflineUserDataByIslandId(islandId, true)
@@ -258,7 +298,7 @@ public class LevelHandler implements Listener, Reloadable {
 						UserData userData = optData.get();
 						lockedUUID.set(userData.getUUID());
 
-						userData.getLocationCacheData().setPlacedBlocks(serialized);
+						storePlacedBlocks(userData, serialized);
 						return instance.getStorageManager().saveUserData(userData, true).thenApply(x -> null);
 					}).handle((result, ex) -> {
 						UUID locked = lockedUUID.get();
@@ -332,88 +372,108 @@ public class LevelHandler implements Listener, Reloadable {
 	}
 
 	/**
-	 * Asynchronously serializes and saves all tracked island block data to
-	 * persistent storage, then clears the in-memory block placement cache.
+	 * Asynchronously saves the placed block index of every loaded island to
+	 * persistent storage.
 	 *
 	 * <p>
-	 * For each island in the {@code placedBlockCounts} cache:
-	 * <ul>
-	 * <li>The block data is serialized using
-	 * {@link #serializePlacedBlocks(int)}.</li>
-	 * <li>The island owner's user data is retrieved and locked via
-	 * {@code getOfflineUserDataByIslandId(..., true)}.</li>
-	 * <li>If the user is the actual island owner, the serialized data is saved to
-	 * their {@code LocationCacheData}.</li>
-	 * <li>The user data is then saved and unlocked via {@code saveUserData()} and
-	 * {@code unlockUserData()}.</li>
-	 * </ul>
-	 *
-	 * <p>
-	 * If any error occurs during the operation, it is logged, and processing
-	 * continues for other islands.
-	 *
-	 * <p>
-	 * After initiating all save operations, the method clears the in-memory
-	 * {@code placedBlockCounts} cache.
+	 * The indexes stay in memory, they only take a few bytes per block. An index
+	 * is dropped when its island is unloaded, see {@link #clearIslandCache(int)}.
 	 *
 	 * @return a {@code CompletableFuture<Void>} that completes once all save
 	 *         operations and unlocks are finished
 	 */
-	private CompletableFuture<Void> clearAndUpdateCache() {
+	private CompletableFuture<Void> savePlacedBlockIndexes() {
 		List<CompletableFuture<Boolean>> saveFutures = new ArrayList<>();
 
-		for (int islandId : placedBlockCounts.keySet()) {
-			Map<String, Map<String, Integer>> serialized = serializePlacedBlocks(islandId);
-			final AtomicReference<UUID> lockedOwnerUUID = new AtomicReference<>(null); // Track what we locked
+		for (int islandId : placedBlockIndexes.keySet()) {
+			saveFutures.add(savePlacedBlocks(islandId));
+		}
 
-			CompletableFuture<Boolean> future = instance.getStorageManager()
-					.getOfflineUserDataByIslandId(islandId, true).thenCompose(optData -> {
-						if (optData.isEmpty()) {
-							return CompletableFuture.completedFuture(false);
-						}
+		// Return a future that completes when all saves are done
+		return CompletableFuture.allOf(saveFutures.toArray(CompletableFuture[]::new));
+	}
 
-						UserData ownerData = optData.get();
-						HellblockData hellblockData = ownerData.getHellblockData();
-						UUID ownerId = hellblockData.getOwnerUUID();
-						if (ownerId == null) {
-							return CompletableFuture.completedFuture(false);
-						}
+	/**
+	 * Asynchronously encodes the placed block index of an island and saves it to
+	 * the island owner's data.
+	 *
+	 * <p>
+	 * The island owner's user data is retrieved and locked via
+	 * {@code getOfflineUserDataByIslandId(..., true)}. If the user is the actual
+	 * island owner, the encoded index is stored in their {@code LocationCacheData}
+	 * and the user data is saved. The user data is unlocked afterwards, and any
+	 * error is logged.
+	 *
+	 * @param islandId the ID of the island to save
+	 * @return a {@code CompletableFuture} completed with {@code true} if the index
+	 *         was saved, or {@code false} if there was nothing to save
+	 */
+	@NotNull
+	public CompletableFuture<Boolean> savePlacedBlocks(int islandId) {
+		String serialized = serializePlacedBlocks(islandId);
+		if (serialized == null) {
+			return CompletableFuture.completedFuture(false);
+		}
+		final AtomicReference<UUID> lockedOwnerUUID = new AtomicReference<>(null); // Track what we locked
 
-						lockedOwnerUUID.set(ownerData.getUUID()); // Track who we're locking
+		return instance.getStorageManager().getOfflineUserDataByIslandId(islandId, true).thenCompose(optData -> {
+			if (optData.isEmpty()) {
+				return CompletableFuture.completedFuture(false);
+			}
 
-						if (hellblockData.isOwner(ownerData.getUUID())) {
-							ownerData.getLocationCacheData().setPlacedBlocks(serialized);
-							return instance.getStorageManager().saveUserData(ownerData, true);
-						}
+			UserData ownerData = optData.get();
+			HellblockData hellblockData = ownerData.getHellblockData();
+			UUID ownerId = hellblockData.getOwnerUUID();
+			if (ownerId == null) {
+				return CompletableFuture.completedFuture(false);
+			}
 
-						return CompletableFuture.completedFuture(false);
-					}).handle((result, ex) -> {
-						UUID lockedId = lockedOwnerUUID.get(); // Only unlock if we locked
-						CompletableFuture<Boolean> unlockFuture;
+			lockedOwnerUUID.set(ownerData.getUUID()); // Track who we're locking
 
-						if (lockedId != null) {
-							unlockFuture = instance.getStorageManager().unlockUserData(lockedId)
-									.thenApply(unused -> result != null && result);
-						} else {
-							unlockFuture = CompletableFuture.completedFuture(result != null && result);
-						}
+			if (hellblockData.isOwner(ownerData.getUUID())) {
+				storePlacedBlocks(ownerData, serialized);
+				return instance.getStorageManager().saveUserData(ownerData, true);
+			}
 
-						if (ex != null) {
-							instance.getPluginLogger().severe(
-									"clearAndUpdateCache: Error clear and updating cache for islandId=" + islandId, ex);
-						}
+			return CompletableFuture.completedFuture(false);
+		}).handle((result, ex) -> {
+			UUID lockedId = lockedOwnerUUID.get(); // Only unlock if we locked
+			CompletableFuture<Boolean> unlockFuture;
 
-						return unlockFuture;
-					}).thenCompose(Function.identity());
+			if (lockedId != null) {
+				unlockFuture = instance.getStorageManager().unlockUserData(lockedId)
+						.thenApply(unused -> result != null && result);
+			} else {
+				unlockFuture = CompletableFuture.completedFuture(result != null && result);
+			}
 
-			saveFutures.add(future);
-		}
+			if (ex != null) {
+				instance.getPluginLogger()
+						.severe("savePlacedBlocks: Error saving placed blocks for islandId=" + islandId, ex);
+			}
 
-		// Clear in-memory cache now or after if you prefer
-		placedBlockCounts.clear();
+			return unlockFuture;
+		}).thenCompose(Function.identity());
+	}
 
-		// Return a future that completes when all saves are done
-		return CompletableFuture.allOf(saveFutures.toArray(CompletableFuture[]::new));
+	/**
+	 * Stores the current placed block index of the owner's island in the owner's
+	 * {@code LocationCacheData}, without saving it. Used when the owner's data is
+	 * saved anyway, e.g. when they quit.
+	 *
+	 * @param ownerData the island owner's user data
+	 */
+	public void storePlacedBlocks(@NotNull UserData ownerData) {
+		String serialized = serializePlacedBlocks(ownerData.getHellblockData().getIslandId());
+		if (serialized != null) {
+			storePlacedBlocks(ownerData, serialized);
+		}
+	}
+
+	private void storePlacedBlocks(@NotNull UserData ownerData, @NotNull String serialized) {
+		ownerData.getLocationCacheData().setPlacedBlockData(serialized);
+		// The legacy map was migrated into the index
+		ownerData.getLocationCacheData().setPlacedBlocks(new HashMap<>());
 	}
 
 	/**
@@ -446,8 +506,8 @@ public class LevelHandler implements Listener, Reloadable {
 	 *         (including async ones) are finished
 	 */
 	public CompletableFuture<Void> clearIslandCache(int islandId) {
-		// Remove placed block count cache
-		placedBlockCounts.remove(islandId);
+		// Remove placed block index
+		placedBlockIndexes.remove(islandId);
 
 		// Remove loaded state
 		loadedPlacedBlockCaches.remove(islandId);
@@ -461,8 +521,7 @@ public class LevelHandler implements Listener, Reloadable {
 			HellblockData data = ownerData.getHellblockData();
 			int targetIslandId = data.getIslandId();
 			if (targetIslandId > 0) {
-				levelRankCache.remove(targetIslandId);
-				topCache.remove(targetIslandId);
+				updateLevelIndex(targetIslandId, data);
 			}
 		}).exceptionally(ex -> {
 			instance.getPluginLogger().warn("clearIslandCache: Failed to clear rank cache for islandId=" + islandId,
@@ -665,14 +724,20 @@ public class LevelHandler implements Listener, Reloadable {
 	/**
 	 * Triggers a leaderboard update event on the main thread using the latest
 	 * top-ranked islands. This is performed asynchronously and schedules the event
-	 * firing on the sync thread.
+	 * firing on the sync thread. No event is fired if the top islands did not
+	 * change since the last one.
 	 *
 	 * @return A {@code CompletableFuture} that completes when the leaderboard
-	 *         update event has been fired.
+	 *         update event has been fired, with {@code false} if it was skipped.
 	 */
 	@NotNull
 	private CompletableFuture<Boolean> triggerLeaderboardUpdate() {
 		return getTopHellblocks(instance.getLeaderboardGUIManager().getTopSlotCount()).thenCompose(topIslands -> {
+			// Only changes within the top slots are of interest to listeners
+			if (topIslands.equals(this.lastPublishedTop)) {
+				return CompletableFuture.completedFuture(false);
+			}
+			this.lastPublishedTop = topIslands;
 			return instance.getScheduler().callSyncImmediate(() -> {
 				Bukkit.getPluginManager().callEvent(new LeaderboardUpdateEvent(topIslands));
 				return true;
@@ -688,16 +753,8 @@ public class LevelHandler implements Listener, Reloadable {
 	 * on its level.
 	 *
 	 * <p>
-	 * This method will:
-	 * <ul>
-	 * <li>Return a cached rank if already computed.</li>
-	 * <li>Fetch and filter all cached island owner data to include only those with
-	 * valid levels.</li>
-	 * <li>Load the target island's user data to determine its current level.</li>
-	 * <li>Sort all islands by level in descending order.</li>
-	 * <li>Determine the index (rank) of the target island within that sorted
-	 * list.</li>
-	 * </ul>
+	 * Ranks are read from the level index, which only contains islands that are
+	 * not abandoned and have more than the default level.
 	 *
 	 * @param islandId the unique ID of the island to rank
 	 * @return a {@code CompletableFuture} returning the 1-based rank of the island,
@@ -705,73 +762,16 @@ public class LevelHandler implements Listener, Reloadable {
 	 */
 	@NotNull
 	public CompletableFuture<Integer> getLevelRank(int islandId) {
-		// Use cache if available
-		if (this.levelRankCache.containsKey(islandId)) {
-			return CompletableFuture.completedFuture(this.levelRankCache.get(islandId));
-		}
-
-		// Step 1: Get all cached island owner data
-		return instance.getCoopManager().getCachedIslandOwnerData().thenCompose(allOwners -> {
-			if (allOwners == null || allOwners.isEmpty()) {
-				return CompletableFuture.completedFuture(-1);
-			}
-
-			// Step 2: Collect all valid island levels by island ID
-			Map<Integer, Float> levels = new HashMap<>();
-			allOwners.forEach(owner -> {
-				int id = owner.getHellblockData().getIslandId();
-				float level = owner.getHellblockData().getIslandLevel();
-
-				if (level > HellblockData.DEFAULT_LEVEL) {
-					levels.put(id, level);
-				}
-			});
-
-			// Step 3: Get the island's own data from storage
-			return instance.getStorageManager().getOfflineUserDataByIslandId(islandId, false).thenApply(userData -> {
-				if (userData.isEmpty() || !userData.get().getHellblockData().hasHellblock()
-						|| userData.get().getHellblockData().isAbandoned()) {
-					return -1;
-				}
-
-				int targetIslandId = userData.get().getHellblockData().getIslandId();
-				Float targetLevel = levels.get(targetIslandId);
-
-				if (targetLevel == null) {
-					return -1;
-				}
-
-				// Step 4: Sort all island levels in descending order
-				List<Map.Entry<Integer, Float>> sorted = levels.entrySet().stream()
-						.sorted(Map.Entry.<Integer, Float>comparingByValue().reversed()).toList();
-
-				// Step 5: Find the rank of the target island
-				for (int i = 0; i < sorted.size(); i++) {
-					if (sorted.get(i).getKey().equals(targetIslandId)) {
-						int rank = i + 1;
-						this.levelRankCache.put(targetIslandId, rank);
-						return rank;
-					}
-				}
-
-				return -1;
-			});
-		});
+		return this.levelIndexReady.thenApply(v -> this.levelIndex.rank(islandId));
 	}
 
 	/**
 	 * Retrieves the top N Hellblock islands by level.
 	 *
 	 * <p>
-	 * This method:
-	 * <ul>
-	 * <li>Returns cached results if available.</li>
-	 * <li>Fetches all cached island owner data.</li>
-	 * <li>Filters out islands that are abandoned or have the default level.</li>
-	 * <li>Sorts the results in descending order by level.</li>
-	 * <li>Limits the results to the requested top N entries.</li>
-	 * <li>Caches the result for later access.</li>
-	 * </ul>
+	 * The islands are read from the level index, which is kept sorted as island
+	 * levels change, so only the requested entries are visited. Abandoned islands
+	 * and islands with the default level are not included.
 	 *
 	 * @param limit the number of top islands to include in the result
 	 * @return a {@code CompletableFuture} with a {@code LinkedHashMap} of island
@@ -779,38 +779,50 @@ public class LevelHandler implements Listener, Reloadable {
 	 */
 	@NotNull
 	public CompletableFuture<LinkedHashMap<Integer, Float>> getTopHellblocks(int limit) {
-		if (!this.topCache.isEmpty()) {
-			return CompletableFuture.completedFuture(this.topCache);
-		}
+		return this.levelIndexReady.thenApply(v -> {
+			LinkedHashMap<Integer, Float> top = new LinkedHashMap<>();
+			this.levelIndex.top(limit).forEach((islandId, level) -> top.put(islandId, level.floatValue()));
+			return top;
+		});
+	}
 
-		return instance.getCoopManager().getCachedIslandOwnerData().thenApply(allOwners -> {
-			if (allOwners == null || allOwners.isEmpty()) {
-				return new LinkedHashMap<>();
+	/**
+	 * Rebuilds the level index from the cached data of every island owner.
+	 *
+	 * @return a {@code CompletableFuture} that completes once the index was
+	 *         rebuilt
+	 */
+	@NotNull
+	private CompletableFuture<Void> rebuildLevelIndex() {
+		return instance.getCoopManager().getCachedIslandOwnerData().thenAccept(allOwners -> {
+			Map<Integer, Double> levels = new HashMap<>();
+			if (allOwners != null) {
+				allOwners.forEach(owner -> {
+					HellblockData data = owner.getHellblockData();
+					if (isRanked(data)) {
+						levels.put(data.getIslandId(), (double) data.getIslandLevel());
+					}
+				});
 			}
+			this.levelIndex.rebuild(levels);
+			instance.debug("Rebuilt level index with " + levels.size() + " island(s).");
+		}).exceptionally(ex -> {
+			instance.getPluginLogger().warn("Failed to rebuild the level index", ex);
+			return null;
+		});
+	}
 
-			// Collect valid island levels by islandId
-			Map<Integer, Float> levels = new HashMap<>();
-
-			allOwners.forEach(owner -> {
-				HellblockData data = owner.getHellblockData();
-				int islandId = data.getIslandId();
-				float level = data.getIslandLevel();
-				boolean abandoned = data.isAbandoned();
-
-				if (!abandoned && level > HellblockData.DEFAULT_LEVEL) {
-					levels.put(islandId, level);
-				}
-			});
-
-			// Sort by level descending and limit results
-			LinkedHashMap<Integer, Float> sorted = levels.entrySet().stream()
-					.sorted(Map.Entry.<Integer, Float>comparingByValue().reversed()).limit(limit)
-					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+	private void updateLevelIndex(int islandId, @NotNull HellblockData data) {
+		if (isRanked(data)) {
+			this.levelIndex.update(islandId, data.getIslandLevel());
+		} else {
+			this.levelIndex.remove(islandId);
+		}
+	}
 
-			// Cache result
-			this.topCache = sorted;
-			return sorted;
-		});
+	private boolean isRanked(@NotNull HellblockData data) {
+		return data.getIslandId() > 0 && data.hasHellblock() && !data.isAbandoned()
+				&& data.getIslandLevel() > HellblockData.DEFAULT_LEVEL;
 	}
 
 	/**
@@ -920,9 +932,10 @@ public class LevelHandler implements Listener, Reloadable {
 	 * Recalculates the island level for the given island ID by scanning all blocks
 	 * in its claimed chunks and comparing them to known value mappings.
 	 * <p>
-	 * This method clears any cached block data for the island, scans the world
-	 * chunks, rebuilds the placed block cache, calculates the new level, updates
-	 * the user data, clears relevant caches, and triggers the leaderboard update.
+	 * This method scans the world chunks, rebuilds the placed block index while
+	 * keeping which blocks were placed by players, calculates the new level from
+	 * the player placed blocks, updates the user data, and triggers the
+	 * leaderboard update.
 	 * </p>
 	 *
 	 * @param islandId The island ID to recalculate the level for.
@@ -964,11 +977,11 @@ public class LevelHandler implements Listener, Reloadable {
 
 			lockedOwnerUUID.set(ownerData.getUUID()); // Track who we're locking
 
-			// Reset
-			placedBlockCounts.remove(islandId);
-			Map<ChunkCoord, Map<BlockKey, Map<BlockPosition, Boolean>>> newChunkMap = new HashMap<>();
-
-			return instance.getProtectionManager().getHellblockChunks(world, islandId).thenCompose(islandChunks -> {
+			// The stored index tells which blocks players placed
+			return loadIslandPlacedBlocksIfNeeded(islandId).thenCompose(loaded -> instance.getProtectionManager()
+					.getHellblockChunks(world, islandId)).thenCompose(islandChunks -> {
+				PlacedBlockIndex previous = placedBlockIndexes.get(islandId);
+				PlacedBlockIndex rescanned = new PlacedBlockIndex(previous != null ? previous.size() : 0);
 				List<CompletableFuture<Void>> futures = new ArrayList<>();
 
 				for (ChunkPos chunkPos : islandChunks) {
@@ -982,17 +995,14 @@ public class LevelHandler implements Listener, Reloadable {
 						if (!success)
 							return;
 
-						Map<BlockKey, Map<BlockPosition, Boolean>> blockCount = new HashMap<>();
-
 						for (CustomSection section : chunk.sections()) {
 							for (Map.Entry<BlockPos, CustomBlockState> entry : section.blockMap().entrySet()) {
 								BlockPos blockPos = entry.getKey();
 								CustomBlockState state = entry.getValue();
 
-								String key = state.type().type().value();
-								Material material = Material.matchMaterial(key.toUpperCase(Locale.ROOT));
+								Material material = resolveMaterial(state.type().type().value());
 
-								if (material == null || material.isAir() || !material.isBlock())
+								if (material.isAir() || !material.isBlock())
 									continue;
 
 								EntityType entity = null;
@@ -1008,23 +1018,15 @@ public class LevelHandler implements Listener, Reloadable {
 									}
 								}
 
-								Pair<Material, EntityType> keyPair = Pair.of(material, entity);
-								if (!levelBlockValues.containsKey(keyPair))
+								if (!levelBlockValues.containsKey(Pair.of(material, entity)))
 									continue;
 
-								BlockKey blockKey = BlockKey.from(material, entity);
-								blockCount.putIfAbsent(blockKey, new HashMap<>());
-
 								Pos3 absolute = blockPos.toPos3(chunkPos);
-								// not player placed
-								blockCount.get(blockKey)
-										.put(new BlockPosition(absolute.x(), absolute.y(), absolute.z()), false);
+								long position = PackedPositionList.pack(absolute.x(), absolute.y(), absolute.z());
+								rescanned.put(position, BlockKey.from(material, entity),
+										previous != null && previous.isPlacedByPlayer(position));
 							}
 						}
-
-						if (!blockCount.isEmpty()) {
-							newChunkMap.put(new ChunkCoord(chunkPos.x(), chunkPos.z()), blockCount);
-						}
 					});
 
 					futures.add(future);
@@ -1032,32 +1034,20 @@ public class LevelHandler implements Listener, Reloadable {
 
 				return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenCompose(v -> {
 					// Done loading all chunks
-					placedBlockCounts.put(islandId, newChunkMap);
-
-					AtomicReference<Float> newLevel = new AtomicReference<Float>(HellblockData.DEFAULT_LEVEL);
-					for (Map<BlockKey, Map<BlockPosition, Boolean>> blockMap : newChunkMap.values()) {
-						for (Map.Entry<BlockKey, Map<BlockPosition, Boolean>> entry : blockMap.entrySet()) {
-							Float value = levelBlockValues
-									.get(Pair.of(entry.getKey().material(), entry.getKey().entity()));
-							if (value == null)
-								continue;
-
-							for (boolean placed : entry.getValue().values()) {
-								if (placed)
-									newLevel.updateAndGet(prev -> prev + value);
-							}
-						}
-					}
+					placedBlockIndexes.put(islandId, rescanned);
+					loadedPlacedBlockCaches.add(islandId);
+
+					// Only player placed blocks count, their worth is summed per block type
+					final float newLevel = HellblockData.DEFAULT_LEVEL + rescanned.placedWorth(levelBlockValues);
 
-					hellblockData.setIslandLevel(newLevel.get());
-					instance.getPluginLogger()
-							.info("Recalculated level for island ID " + islandId + ": " + newLevel.get());
+					hellblockData.setIslandLevel(newLevel);
+					storePlacedBlocks(ownerData);
+					updateLevelIndex(islandId, hellblockData);
 					return instance.getStorageManager().saveUserData(ownerData, true)
-							.thenCompose(unused -> clearIslandCache(islandId))
 							.thenCompose(unused -> triggerLeaderboardUpdate()).thenApply(vv -> {
 								instance.getPluginLogger()
-										.info("Recalculated level for island ID " + islandId + ": " + newLevel.get());
-								return newLevel.get();
+										.info("Recalculated level for island ID " + islandId + ": " + newLevel);
+								return newLevel;
 							});
 				});
 			});
@@ -1082,103 +1072,93 @@ public class LevelHandler implements Listener, Reloadable {
 	}
 
 	/**
-	 * Serializes all tracked placed blocks for the specified island into a
-	 * structured map format suitable for storage. This includes chunk coordinates
-	 * as keys, and for each chunk, a mapping of block metadata strings
-	 * (material|entity|x,y,z) to a flag indicating whether the block was placed by
-	 * a player.
+	 * Encodes the placed block index of the specified island for storage. The
+	 * index is written as a compact binary blob, see
+	 * {@link PlacedBlockIndex#encode()}, and returned as Base64.
 	 *
 	 * @param islandId The ID of the island whose placed blocks should be
 	 *                 serialized.
-	 * @return A nested map structure representing placed block data per chunk.
+	 * @return The encoded index, or {@code null} if the island has no index
+	 *         loaded or it could not be encoded.
 	 */
-	@NotNull
-	public Map<String, Map<String, Integer>> serializePlacedBlocks(int islandId) {
-		Map<String, Map<String, Integer>> data = new HashMap<>();
-
-		Map<ChunkCoord, Map<BlockKey, Map<BlockPosition, Boolean>>> chunkMap = placedBlockCounts.get(islandId);
-		if (chunkMap == null)
-			return data;
-
-		chunkMap.entrySet().forEach(chunkEntry -> {
-			String chunkKey = chunkEntry.getKey().x() + "," + chunkEntry.getKey().z();
-			Map<String, Integer> blockData = new HashMap<>();
-
-			chunkEntry.getValue().entrySet().forEach(blockEntry -> {
-				BlockKey key = blockEntry.getKey();
-				blockEntry.getValue().entrySet().forEach(posEntry -> {
-					// e.g., "IRON_BLOCK|NONE|12,65,9"
-					String fullKey = key.toString() + "|" + posEntry.getKey().toString();
-					blockData.put(fullKey, posEntry.getValue() ? 1 : 0); // 1 = player placed
-				});
-			});
-			data.put(chunkKey, blockData);
-		});
+	@Nullable
+	public String serializePlacedBlocks(int islandId) {
+		PlacedBlockIndex index = placedBlockIndexes.get(islandId);
+		if (index == null)
+			return null;
 
-		return data;
+		try {
+			byte[] blob = index.encode();
+			lastEncodedBytes.set(blob.length);
+			lastEncodedBlocks.set(index.size());
+			return Base64.getEncoder().encodeToString(blob);
+		} catch (IOException ex) {
+			instance.getPluginLogger().warn("Failed to encode placed blocks for islandId=" + islandId, ex);
+			return null;
+		}
 	}
 
 	/**
-	 * Deserializes and restores placed block data from a structured map format back
-	 * into the internal placed block cache. This method updates the in-memory
-	 * structure used for tracking block placements and player interactions.
+	 * Restores the placed block index of an island from its encoded form.
 	 *
 	 * @param islandId   The ID of the island to restore data for.
-	 * @param serialized The serialized placed block map (as produced by
+	 * @param serialized The encoded index (as produced by
 	 *                   {@link #serializePlacedBlocks}).
+	 * @return whether the index could be decoded
 	 */
-	public void deserializePlacedBlocks(int islandId, @NotNull Map<String, Map<String, Integer>> serialized) {
-		Map<ChunkCoord, Map<BlockKey, Map<BlockPosition, Boolean>>> chunkMap = new HashMap<>();
-
-		for (Map.Entry<String, Map<String, Integer>> chunkEntry : serialized.entrySet()) {
-			String[] chunkParts = chunkEntry.getKey().split(",");
-			if (chunkParts.length != 2)
-				continue;
-
-			int chunkX;
-			int chunkZ;
-
-			try {
-				chunkX = Integer.parseInt(chunkParts[0]);
-				chunkZ = Integer.parseInt(chunkParts[1]);
-			} catch (NumberFormatException ex) {
-				instance.getPluginLogger().warn("Invalid chunk key format: " + chunkEntry.getKey());
-				continue; // Skip malformed chunk keys
-			}
-
-			ChunkCoord coord = new ChunkCoord(chunkX, chunkZ);
+	public boolean deserializePlacedBlocks(int islandId, @NotNull String serialized) {
+		try {
+			placedBlockIndexes.put(islandId, PlacedBlockIndex.decode(Base64.getDecoder().decode(serialized)));
+			return true;
+		} catch (IOException | IllegalArgumentException ex) {
+			instance.getPluginLogger().warn("Failed to decode placed blocks for islandId=" + islandId, ex);
+			return false;
+		}
+	}
 
-			Map<BlockKey, Map<BlockPosition, Boolean>> blockMap = new HashMap<>();
+	/**
+	 * Migrates placed block data of the legacy string map format, which mapped
+	 * chunk keys to {@code material|entity|x,y,z} keys and a flag whether a player
+	 * placed the block, into the index of the island.
+	 *
+	 * @param islandId   The ID of the island to restore data for.
+	 * @param serialized The legacy placed block map.
+	 */
+	private void deserializeLegacyPlacedBlocks(int islandId, @NotNull Map<String, Map<String, Integer>> serialized) {
+		int expected = serialized.values().stream().mapToInt(Map::size).sum();
+		PlacedBlockIndex index = new PlacedBlockIndex(expected);
 
-			for (Map.Entry<String, Integer> blockEntry : chunkEntry.getValue().entrySet()) {
+		for (Map<String, Integer> chunkEntries : serialized.values()) {
+			for (Map.Entry<String, Integer> blockEntry : chunkEntries.entrySet()) {
 				String[] split = blockEntry.getKey().split("\\|");
 				// must include material|entity|x,y,z
 				if (split.length < 3)
 					continue;
 
-				Material material = Material.matchMaterial(split[0].toUpperCase(Locale.ROOT));
+				Material material = resolveMaterial(split[0]);
 				EntityType entity = (!"NONE".equals(split[1])) ? EntityType.fromName(split[1]) : null;
-				BlockPosition pos = BlockPosition.fromString(split[2]);
-
-				boolean placedByPlayer = blockEntry.getValue() == 1;
+				BlockPosition pos;
+				try {
+					pos = BlockPosition.fromString(split[2]);
+				} catch (IllegalArgumentException ex) {
+					continue;
+				}
 
-				if (material != null && pos != null) {
-					BlockKey blockKey = new BlockKey(material, entity);
-					blockMap.putIfAbsent(blockKey, new HashMap<>());
-					blockMap.get(blockKey).put(pos, placedByPlayer);
+				if (!material.isAir()) {
+					index.put(PackedPositionList.pack(pos.x(), pos.y(), pos.z()), BlockKey.from(material, entity),
+							blockEntry.getValue() == 1);
 				}
 			}
-
-			chunkMap.put(coord, blockMap);
 		}
 
-		placedBlockCounts.put(islandId, chunkMap);
+		placedBlockIndexes.put(islandId, index);
+		instance.debug("Migrated " + index.size() + " legacy placed block entries for island ID: " + islandId);
 	}
 
 	/**
-	 * Lazily loads the placed block cache for an island from offline user data, if
-	 * it hasn't already been loaded. If data exists, it is deserialized and stored
-	 * in memory.
+	 * Lazily loads the placed block index of an island from offline user data, if
+	 * it hasn't already been loaded. The encoded index is preferred, data of the
+	 * legacy map format is migrated.
 	 *
 	 * @param islandId The ID of the island to load placed block data for.
 	 * @return A {@code CompletableFuture} that completes with {@code true} if data
@@ -1194,10 +1174,13 @@ public class LevelHandler implements Listener, Reloadable {
 				return CompletableFuture.completedFuture(false);
 
 			UserData ownerData = optData.get();
+			String placedBlockData = ownerData.getLocationCacheData().getPlacedBlockData();
 			Map<String, Map<String, Integer>> placedBlocks = ownerData.getLocationCacheData().getPlacedBlocks();
 
-			if (placedBlocks != null && !placedBlocks.isEmpty()) {
-				deserializePlacedBlocks(islandId, placedBlocks);
+			if (placedBlockData != null && !placedBlockData.isEmpty()) {
+				deserializePlacedBlocks(islandId, placedBlockData);
+			} else if (!placedBlocks.isEmpty()) {
+				deserializeLegacyPlacedBlocks(islandId, placedBlocks);
 			}
 
 			instance.debug("Loaded placed blocks for island ID: " + islandId);
@@ -1205,6 +1188,21 @@ public class LevelHandler implements Listener, Reloadable {
 		});
 	}
 
+	/**
+	 * Resolves the material of a block type key, such as {@code nether_bricks}.
+	 * Results are cached since recalculations look up every block of an island.
+	 *
+	 * @param key the block type key
+	 * @return the material, or {@link Material#AIR} if it is unknown
+	 */
+	@NotNull
+	private Material resolveMaterial(@NotNull String key) {
+		return materialLookup.computeIfAbsent(key, k -> {
+			Material material = Material.matchMaterial(k.toUpperCase(Locale.ROOT));
+			return material != null ? material : Material.AIR;
+		});
+	}
+
 	/**
 	 * Updates the island level based on a single block placement or removal.
 	 * <p>
@@ -1268,33 +1266,33 @@ public class LevelHandler implements Listener, Reloadable {
 				}
 			}
 
-			// Step 2: clear cache
-			return clearIslandCache(islandId).thenCompose(vv -> {
-				// Step 3: handle member activity/challenges
-				if (placed && cache.isPlacedByPlayer()) {
-					for (UUID uuid : ownerData.getPartyPlusOwner()) {
-						Player player = Bukkit.getPlayer(uuid);
-						if (player != null && player.isOnline()) {
-							instance.getStorageManager().getOnlineUser(uuid).ifPresent(memberData -> {
-								if (instance.getCooldownManager().shouldUpdateActivity(uuid, 5000)) {
-									memberData.getHellblockData().updateLastIslandActivity();
-								}
-								instance.getChallengeManager().handleChallengeProgression(memberData,
-										ActionType.LEVELUP, levelValue, levelValue.intValue());
-							});
-						}
+			// Step 2: refresh the rank, the placed block index stays loaded
+			updateLevelIndex(islandId, ownerData);
+
+			// Step 3: handle member activity/challenges
+			if (placed && cache.isPlacedByPlayer()) {
+				for (UUID uuid : ownerData.getPartyPlusOwner()) {
+					Player player = Bukkit.getPlayer(uuid);
+					if (player != null && player.isOnline()) {
+						instance.getStorageManager().getOnlineUser(uuid).ifPresent(memberData -> {
+							if (instance.getCooldownManager().shouldUpdateActivity(uuid, 5000)) {
+								memberData.getHellblockData().updateLastIslandActivity();
+							}
+							instance.getChallengeManager().handleChallengeProgression(memberData, ActionType.LEVELUP,
+									levelValue, levelValue.intValue());
+						});
 					}
 				}
+			}
 
-				// Step 4: trigger leaderboard update
-				return triggerLeaderboardUpdate();
-			});
+			// Step 4: trigger leaderboard update
+			return triggerLeaderboardUpdate();
 		});
 	}
 
 	/**
 	 * Handles the placement of a block on an island and updates the placed block
-	 * cache accordingly. If the block is tracked for level progression, it marks it
+	 * index accordingly. If the block is tracked for level progression, it marks it
 	 * as player-placed and triggers level recalculation via
 	 * {@code updateLevelFromBlockChange}.
 	 *
@@ -1309,37 +1307,32 @@ public class LevelHandler implements Listener, Reloadable {
 		final EntityType entity = (material == Material.SPAWNER) ? ((CreatureSpawner) block.getState()).getSpawnedType()
 				: null;
 
-		BlockKey key = BlockKey.from(material, entity);
-
-		if (!getLevelBlockList().contains(Pair.of(material, entity))) {
+		if (!levelBlockValues.containsKey(Pair.of(material, entity))) {
 			return CompletableFuture.completedFuture(false);
 		}
 
-		int islandId = ownerData.getIslandId();
-		ChunkCoord coord = ChunkCoord.fromLocation(block.getLocation());
-
-		placedBlockCounts.putIfAbsent(islandId, new HashMap<>());
-		Map<ChunkCoord, Map<BlockKey, Map<BlockPosition, Boolean>>> islandChunks = placedBlockCounts.get(islandId);
-		islandChunks.putIfAbsent(coord, new HashMap<>());
-		Map<BlockKey, Map<BlockPosition, Boolean>> blockMap = islandChunks.get(coord);
-
-		blockMap.putIfAbsent(key, new HashMap<>());
-		blockMap.get(key).put(BlockPosition.fromLocation(block.getLocation()), true); // true = player placed
-
 		Optional<HellblockWorld<?>> worldOpt = instance.getWorldManager().getWorld(block.getWorld());
 		if (worldOpt.isEmpty()) {
 			return CompletableFuture.completedFuture(false);
 		}
 
+		int islandId = ownerData.getIslandId();
+		long position = PackedPositionList.pack(block.getX(), block.getY(), block.getZ());
 		LevelBlockCache cache = new LevelBlockCache(material, entity, worldOpt.get(), block.getX(), block.getY(),
 				block.getZ(), true);
-		return updateLevelFromBlockChange(ownerData, cache, true);
+
+		// The stored index must be loaded before it is modified
+		return loadIslandPlacedBlocksIfNeeded(islandId).thenCompose(loaded -> {
+			placedBlockIndexes.computeIfAbsent(islandId, id -> new PlacedBlockIndex()).put(position,
+					BlockKey.from(material, entity), true); // true = player placed
+			return updateLevelFromBlockChange(ownerData, cache, true);
+		});
 	}
 
 	/**
 	 * Handles the removal of a block on an island and updates the placed block
-	 * cache accordingly. If the block was player-placed and is tracked for level
-	 * progression, it removes the block from cache and triggers a level
+	 * index accordingly. If the block was player-placed and is tracked for level
+	 * progression, it removes the block from the index and triggers a level
 	 * recalculation via {@code updateLevelFromBlockChange}.
 	 *
 	 * @param block     The removed block.
@@ -1353,49 +1346,31 @@ public class LevelHandler implements Listener, Reloadable {
 		final EntityType entity = (material == Material.SPAWNER) ? ((CreatureSpawner) block.getState()).getSpawnedType()
 				: null;
 
-		BlockKey key = BlockKey.from(material, entity);
-
-		if (!getLevelBlockList().contains(Pair.of(material, entity))) {
+		if (!levelBlockValues.containsKey(Pair.of(material, entity))) {
 			return CompletableFuture.completedFuture(false);
 		}
 
-		int islandId = ownerData.getIslandId();
-		ChunkCoord coord = ChunkCoord.fromLocation(block.getLocation());
-
-		Map<ChunkCoord, Map<BlockKey, Map<BlockPosition, Boolean>>> islandChunks = placedBlockCounts.get(islandId);
-		if (islandChunks == null)
-			return CompletableFuture.completedFuture(false);
-
-		Map<BlockKey, Map<BlockPosition, Boolean>> blockMap = islandChunks.get(coord);
-		if (blockMap == null)
-			return CompletableFuture.completedFuture(false);
-
-		BlockPosition pos = BlockPosition.fromLocation(block.getLocation());
-		Map<BlockPosition, Boolean> positions = blockMap.get(key);
-		if (positions == null || !positions.containsKey(pos))
-			return CompletableFuture.completedFuture(false);
-
-		boolean wasPlacedByPlayer = positions.get(pos);
-		positions.remove(pos);
-		if (positions.isEmpty()) {
-			blockMap.remove(key);
-		}
-
-		if (blockMap.isEmpty()) {
-			islandChunks.remove(coord);
-		}
-
-		if (!wasPlacedByPlayer)
-			return CompletableFuture.completedFuture(false);
-
 		Optional<HellblockWorld<?>> worldOpt = instance.getWorldManager().getWorld(block.getWorld());
 		if (worldOpt.isEmpty()) {
 			return CompletableFuture.completedFuture(false);
 		}
 
+		int islandId = ownerData.getIslandId();
+		long position = PackedPositionList.pack(block.getX(), block.getY(), block.getZ());
 		LevelBlockCache cache = new LevelBlockCache(material, entity, worldOpt.get(), block.getX(), block.getY(),
 				block.getZ(), true);
-		return updateLevelFromBlockChange(ownerData, cache, false);
+
+		return loadIslandPlacedBlocksIfNeeded(islandId).thenCompose(loaded -> {
+			PlacedBlockIndex index = placedBlockIndexes.get(islandId);
+			if (index == null)
+				return CompletableFuture.completedFuture(false);
+
+			Boolean wasPlacedByPlayer = index.remove(position, BlockKey.from(material, entity));
+			if (wasPlacedByPlayer == null || !wasPlacedByPlayer)
+				return CompletableFuture.completedFuture(false);
+
+			return updateLevelFromBlockChange(ownerData, cache, false);
+		});
 	}
 
 	/**
@@ -1474,19 +1449,6 @@ public class LevelHandler implements Listener, Reloadable {
 		}
 	}
 
-	/**
-	 * Represents the X and Z coordinates of a Minecraft chunk.
-	 * <p>
-	 * Used to group blocks or cache data at the chunk level for optimization
-	 * purposes.
-	 */
-	private record ChunkCoord(int x, int z) {
-		@NotNull
-		public static ChunkCoord fromLocation(@NotNull Location location) {
-			return new ChunkCoord(location.getChunk().getX(), location.getChunk().getZ());
-		}
-	}
-
 	/**
 	 * Represents a unique identifier for a block, optionally including an
 	 * associated entity type.
@@ -1494,7 +1456,7 @@ public class LevelHandler implements Listener, Reloadable {
 	 * Useful for categorizing or counting placed blocks that may have different
 	 * variations (e.g., spawners with specific entities).
 	 */
-	private record BlockKey(@NotNull Material material, @Nullable EntityType entity) {
+	record BlockKey(@NotNull Material material, @Nullable EntityType entity) {
 		@Override
 		public String toString() {
 			return material.name() + "|" + (entity != null ? entity.name() : "NONE");
@@ -1513,11 +1475,6 @@ public class LevelHandler implements Listener, Reloadable {
 	 * purposes.
 	 */
 	private record BlockPosition(int x, int y, int z) {
-		@NotNull
-		public static BlockPosition fromLocation(@NotNull Location location) {
-			return new BlockPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ());
-		}
-
 		@Override
 		public String toString() {
 			return x + "," + y + "," + z;
@@ -28,21 +28,36 @@ public class MobSpawnHandler implements Listener, Reloadable {
 
 	private final Map<Integer, Double> mobSpawnBonusCache = new ConcurrentHashMap<>();
 
+	private final IslandEntityCounter entityCounter;
+
 	public MobSpawnHandler(HellblockPlugin plugin) {
 		instance = plugin;
+		this.entityCounter = new IslandEntityCounter(plugin);
+		instance.registerPerformanceReporter(this.entityCounter);
 	}
 
 	@Override
 	public void load() {
 		Bukkit.getPluginManager().registerEvents(this, instance);
+		this.entityCounter.load();
 	}
 
 	@Override
 	public void unload() {
 		HandlerList.unregisterAll(this);
+		this.entityCounter.unload();
 		mobSpawnBonusCache.clear();
 	}
 
+	/**
+	 * @return the live per-island counts of island-owned entities, used for the
+	 *         animal cap
+	 */
+	@NotNull
+	public IslandEntityCounter getEntityCounter() {
+		return this.entityCounter;
+	}
+
 	@EventHandler
 	public void onMobSpawn(CreatureSpawnEvent event) {
 		final LivingEntity entity = event.getEntity();
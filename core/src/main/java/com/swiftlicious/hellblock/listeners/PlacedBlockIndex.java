@@ -0,0 +1,263 @@
+package com.swiftlicious.hellblock.listeners;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.listeners.LevelHandler.BlockKey;
+import com.swiftlicious.hellblock.utils.EntityTypeUtils;
+import com.swiftlicious.hellblock.utils.extras.LongShortHashMap;
+import com.swiftlicious.hellblock.utils.extras.PackedLongs;
+import com.swiftlicious.hellblock.utils.extras.Pair;
+import com.swiftlicious.hellblock.world.PackedPositionList;
+
+/**
+ * The level relevant blocks of one island.
+ * <p>
+ * Block positions are packed with {@link PackedPositionList#pack(int, int, int)}
+ * and mapped to a {@code short} that holds the index of the block type in a
+ * small palette and whether a player placed the block. The number of blocks of each palette
+ * entry is counted as blocks are added and removed, so the worth of an island
+ * is a sum over its block types instead of over its blocks.
+ * <p>
+ * The index is stored as a deflated binary blob that writes the palette once
+ * and the positions in ascending order as differences, see {@link #encode()}.
+ * All methods are synchronized.
+ */
+final class PlacedBlockIndex {
+
+	private static final int VERSION = 1;
+	private static final short MISSING = -1;
+	private static final int PLACED_FLAG = 1;
+
+	private final LongShortHashMap blocks;
+	private final List<BlockKey> palette = new ArrayList<>();
+	private final Map<BlockKey, Integer> paletteIds = new HashMap<>();
+	private int[] placedCounts = new int[8];
+	private int[] naturalCounts = new int[8];
+
+	PlacedBlockIndex() {
+		this(0);
+	}
+
+	PlacedBlockIndex(int expectedBlocks) {
+		this.blocks = new LongShortHashMap(MISSING, expectedBlocks);
+	}
+
+	/**
+	 * Records a block, replacing whatever was recorded at its position.
+	 *
+	 * @param placedByPlayer whether a player placed the block, only those count
+	 *                       towards the island level
+	 */
+	synchronized void put(long position, @NotNull BlockKey key, boolean placedByPlayer) {
+		final int id = paletteId(key);
+		final short previous = blocks.put(position, (short) (id << 1 | (placedByPlayer ? PLACED_FLAG : 0)));
+		if (previous != MISSING) {
+			count(previous, -1);
+		}
+		count((short) (id << 1 | (placedByPlayer ? PLACED_FLAG : 0)), 1);
+	}
+
+	/**
+	 * Removes a block if the recorded block has the given type.
+	 *
+	 * @return whether a player placed the removed block, or {@code null} if no
+	 *         block of that type was recorded at the position
+	 */
+	@Nullable
+	synchronized Boolean remove(long position, @NotNull BlockKey key) {
+		final Integer id = paletteIds.get(key);
+		final short value = blocks.get(position);
+		if (id == null || value == MISSING || value >>> 1 != id) {
+			return null;
+		}
+		blocks.remove(position);
+		count(value, -1);
+		return (value & PLACED_FLAG) != 0;
+	}
+
+	/**
+	 * @return whether a player placed the block recorded at the position
+	 */
+	synchronized boolean isPlacedByPlayer(long position) {
+		final short value = blocks.get(position);
+		return value != MISSING && (value & PLACED_FLAG) != 0;
+	}
+
+	/**
+	 * Sums up the worth of all player placed blocks.
+	 *
+	 * @param worth the worth of each block type
+	 * @return the summed worth
+	 */
+	synchronized float placedWorth(@NotNull Map<Pair<Material, EntityType>, Float> worth) {
+		float total = 0.0F;
+		for (int id = 0; id < palette.size(); id++) {
+			if (placedCounts[id] == 0) {
+				continue;
+			}
+			final BlockKey key = palette.get(id);
+			final Float value = worth.get(Pair.of(key.material(), key.entity()));
+			if (value != null) {
+				total += value * placedCounts[id];
+			}
+		}
+		return total;
+	}
+
+	synchronized int size() {
+		return blocks.size();
+	}
+
+	synchronized int placedCount() {
+		return Arrays.stream(placedCounts).sum();
+	}
+
+	synchronized boolean isEmpty() {
+		return blocks.isEmpty();
+	}
+
+	/**
+	 * Estimates the heap used by this index.
+	 *
+	 * @return the size in bytes
+	 */
+	synchronized long estimateBytes() {
+		return blocks.estimateBytes() + 8L * (placedCounts.length + naturalCounts.length) + 64L * palette.size();
+	}
+
+	/**
+	 * Writes the index as a compact binary blob.
+	 * <p>
+	 * Layout before deflating: version, palette size, and for each palette entry
+	 * the material and entity name; then the block count, and for each block in
+	 * ascending position order the distance to the previous position and the
+	 * palette index shifted left by one with the placed flag in the lowest bit.
+	 * Numbers are written as variable length integers.
+	 *
+	 * @return the blob
+	 */
+	@NotNull
+	synchronized byte[] encode() throws IOException {
+		final long[] positions = blocks.keys();
+		Arrays.sort(positions);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + positions.length * 3);
+		final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+			out.writeByte(VERSION);
+			PackedLongs.writeVarLong(out, palette.size());
+			for (BlockKey key : palette) {
+				out.writeUTF(key.material().name());
+				out.writeUTF(key.entity() != null ? key.entity().name() : "");
+			}
+			PackedLongs.writeVarLong(out, positions.length);
+			long previous = 0L;
+			for (long position : positions) {
+				PackedLongs.writeVarLong(out, position - previous);
+				PackedLongs.writeVarLong(out, blocks.get(position) & 0xFFFF);
+				previous = position;
+			}
+		} finally {
+			deflater.end();
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Reads an index written by {@link #encode()}. Blocks whose material or
+	 * entity no longer exists are dropped.
+	 *
+	 * @param blob the blob
+	 * @return the index
+	 * @throws IOException if the blob is malformed
+	 */
+	@NotNull
+	static PlacedBlockIndex decode(@NotNull byte[] blob) throws IOException {
+		final Inflater inflater = new Inflater();
+		try (DataInputStream in = new DataInputStream(
+				new InflaterInputStream(new ByteArrayInputStream(blob), inflater))) {
+			final int version = in.readUnsignedByte();
+			if (version != VERSION) {
+				throw new IOException("Unsupported placed block data version " + version);
+			}
+			final int paletteSize = (int) PackedLongs.readVarLong(in);
+			final BlockKey[] keys = new BlockKey[paletteSize];
+			for (int i = 0; i < paletteSize; i++) {
+				final Material material = Material.matchMaterial(in.readUTF().toUpperCase(Locale.ROOT));
+				final String entityName = in.readUTF();
+				EntityType entity = null;
+				if (!entityName.isEmpty()) {
+					try {
+						entity = EntityTypeUtils.getCompatibleEntityType(entityName);
+					} catch (IllegalArgumentException ex) {
+						continue;
+					}
+				}
+				if (material != null) {
+					keys[i] = BlockKey.from(material, entity);
+				}
+			}
+
+			final int count = (int) PackedLongs.readVarLong(in);
+			final PlacedBlockIndex index = new PlacedBlockIndex(count);
+			long position = 0L;
+			for (int i = 0; i < count; i++) {
+				position += PackedLongs.readVarLong(in);
+				final int value = (int) PackedLongs.readVarLong(in);
+				final int id = value >>> 1;
+				if (id >= paletteSize) {
+					throw new IOException("Palette index " + id + " out of bounds");
+				}
+				if (keys[id] != null) {
+					index.put(position, keys[id], (value & PLACED_FLAG) != 0);
+				}
+			}
+			return index;
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private int paletteId(BlockKey key) {
+		final Integer existing = paletteIds.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		final int id = palette.size();
+		palette.add(key);
+		paletteIds.put(key, id);
+		if (id >= placedCounts.length) {
+			placedCounts = Arrays.copyOf(placedCounts, placedCounts.length * 2);
+			naturalCounts = Arrays.copyOf(naturalCounts, naturalCounts.length * 2);
+		}
+		return id;
+	}
+
+	private void count(short value, int delta) {
+		final int id = value >>> 1;
+		if ((value & PLACED_FLAG) != 0) {
+			placedCounts[id] += delta;
+		} else {
+			naturalCounts[id] += delta;
+		}
+	}
+}
@@ -1,8 +1,19 @@
 package com.swiftlicious.hellblock.listeners.weather;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager.ColumnConsumer;
+import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager.NetherWeatherRegion;
 import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.utils.LocationUtils;
 import com.swiftlicious.hellblock.utils.RandomUtils;
@@ -20,6 +31,10 @@ public abstract class AbstractNetherWeatherTask implements NetherWeather {
 	protected long remainingTicks;
 	protected boolean recentlyOccurred;
 
+	private volatile NetherWeatherRegion region;
+	private volatile boolean regionRequested;
+	private int sampledColumns;
+
 	protected AbstractNetherWeatherTask(@NotNull HellblockPlugin plugin, int islandId,
 			@NotNull HellblockWorld<?> world) {
 		this.instance = plugin;
@@ -85,11 +100,99 @@ public abstract class AbstractNetherWeatherTask implements NetherWeather {
 		return !instance.getIslandManager().getPlayersOnIsland(this.islandId).isEmpty();
 	}
 
+	/**
+	 * @return the online players on this island who are in its Nether world
+	 */
+	@NotNull
+	protected List<Player> getPlayersInWeather() {
+		return instance.getIslandManager().getPlayersOnIsland(islandId).stream().map(Bukkit::getPlayer)
+				.filter(Objects::nonNull).filter(Player::isOnline)
+				.filter(p -> p.getWorld().getName().equalsIgnoreCase(world.worldName()))
+				.filter(p -> instance.getHellblockHandler().isInCorrectWorld(p))
+				.filter(p -> world.bukkitWorld().getEnvironment() == World.Environment.NETHER).toList();
+	}
+
+	/**
+	 * Resolves the area above the island in which this weather shows effects.
+	 *
+	 * @return a future with the region, or {@code null} if the island center is
+	 *         not in this weather's world
+	 */
+	public CompletableFuture<NetherWeatherRegion> getWeatherRegion() {
+		NetherWeatherRegion cached = this.region;
+		if (cached != null)
+			return CompletableFuture.completedFuture(cached);
+
+		NetherWeatherManager weatherManager = instance.getNetherWeatherManager();
+		return instance.getIslandManager().getIslandCenterLocation(islandId).thenApply(center -> {
+			if (center == null || center.getWorld() == null
+					|| !center.getWorld().getName().equalsIgnoreCase(world.worldName()))
+				return null;
+
+			int radius = instance.getConfigManager().radius();
+			Location min = center.clone().subtract(radius, 0, radius).add(0, 20, 0);
+			Location max = center.clone().add(radius, 20, radius);
+			NetherWeatherRegion resolved = weatherManager.new NetherWeatherRegion(islandId, min, max);
+			this.region = resolved;
+			return resolved;
+		});
+	}
+
+	/**
+	 * Gets the weather region once it has been resolved. The island center does
+	 * not change during a weather event, so the region is looked up once and
+	 * effects skip the ticks before it is known.
+	 *
+	 * @return the region, or {@code null} while it is being resolved
+	 */
+	@Nullable
+	protected NetherWeatherRegion getResolvedWeatherRegion() {
+		NetherWeatherRegion cached = this.region;
+		if (cached == null && !this.regionRequested) {
+			this.regionRequested = true;
+			getWeatherRegion().whenComplete((resolved, error) -> {
+				if (resolved == null)
+					this.regionRequested = false;
+			});
+		}
+		return cached;
+	}
+
+	/**
+	 * Gets how many columns {@link #sampleColumns(NetherWeatherRegion, int, ColumnConsumer)}
+	 * picks: about one in {@code oneIn} columns of the region, capped by the
+	 * configured sample count.
+	 *
+	 * @param region the weather region
+	 * @param oneIn  the share of columns to pick
+	 * @return the number of columns picked per tick
+	 */
+	protected int columnSamples(@NotNull NetherWeatherRegion region, int oneIn) {
+		return Math.min(instance.getConfigManager().weatherSamples(), (region.getColumnCount() + oneIn - 1) / oneIn);
+	}
+
+	/**
+	 * Picks random columns of the region for this tick's effects, see
+	 * {@link #columnSamples(NetherWeatherRegion, int)}.
+	 *
+	 * @param region   the weather region
+	 * @param oneIn    the share of columns to pick
+	 * @param consumer receives each picked column
+	 */
+	protected void sampleColumns(@NotNull NetherWeatherRegion region, int oneIn, @NotNull ColumnConsumer consumer) {
+		int samples = columnSamples(region, oneIn);
+		this.sampledColumns += samples;
+		region.sampleColumns(samples, consumer);
+	}
+
 	/**
 	 * Runs each tick via the scheduler (do not override — use {@link #tick()}).
 	 */
 	protected final void runInternal() {
+		this.sampledColumns = 0;
+		long start = System.nanoTime();
 		tick();
+		instance.getNetherWeatherManager().recordTick(getType(), System.nanoTime() - start, this.sampledColumns);
 	}
 
 	@Override
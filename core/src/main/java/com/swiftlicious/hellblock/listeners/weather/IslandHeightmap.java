@@ -0,0 +1,109 @@
+package com.swiftlicious.hellblock.listeners.weather;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.bukkit.HeightMap;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The surface height of every column of one island's weather region.
+ * <p>
+ * The surface of a column is its highest block that is not
+ * {@link NetherWeatherManager#isTransparent(org.bukkit.Material) transparent}.
+ * It is found from the server's {@link HeightMap#WORLD_SURFACE} heightmap and
+ * only walks down over transparent blocks, then kept until a block in the
+ * column is placed or broken, see {@link #invalidate(UUID, int, int)}.
+ */
+final class IslandHeightmap {
+
+	private static final int UNKNOWN = Integer.MIN_VALUE;
+
+	private final World world;
+	private final int minX;
+	private final int minZ;
+	private final int sizeX;
+	private final int sizeZ;
+	private final AtomicIntegerArray heights;
+
+	IslandHeightmap(@NotNull World world, int minX, int minZ, int maxX, int maxZ) {
+		this.world = world;
+		this.minX = minX;
+		this.minZ = minZ;
+		this.sizeX = maxX - minX + 1;
+		this.sizeZ = maxZ - minZ + 1;
+		final int[] initial = new int[sizeX * sizeZ];
+		Arrays.fill(initial, UNKNOWN);
+		this.heights = new AtomicIntegerArray(initial);
+	}
+
+	/**
+	 * @return whether this heightmap covers exactly the given columns
+	 */
+	boolean covers(@NotNull World world, int minX, int minZ, int maxX, int maxZ) {
+		return this.world.getUID().equals(world.getUID()) && this.minX == minX && this.minZ == minZ
+				&& this.sizeX == maxX - minX + 1 && this.sizeZ == maxZ - minZ + 1;
+	}
+
+	/**
+	 * Gets the surface height of a column, computing it on first use.
+	 *
+	 * @param stats counts cache hits and misses
+	 * @return the y of the surface block, or one below the world's minimum height
+	 *         for an empty column
+	 */
+	int surfaceY(int x, int z, @NotNull NetherWeatherManager.HeightmapStats stats) {
+		final int index = indexOf(x, z);
+		if (index < 0) {
+			stats.misses.increment();
+			return computeSurfaceY(x, z);
+		}
+		final int cached = heights.get(index);
+		if (cached != UNKNOWN) {
+			stats.hits.increment();
+			return cached;
+		}
+		stats.misses.increment();
+		final int surface = computeSurfaceY(x, z);
+		heights.compareAndSet(index, UNKNOWN, surface);
+		return surface;
+	}
+
+	/**
+	 * Forgets the surface height of a column after a block in it changed.
+	 *
+	 * @return whether the column belongs to this heightmap
+	 */
+	boolean invalidate(@NotNull UUID worldId, int x, int z) {
+		final int index = indexOf(x, z);
+		if (index < 0 || !world.getUID().equals(worldId)) {
+			return false;
+		}
+		heights.set(index, UNKNOWN);
+		return true;
+	}
+
+	int columns() {
+		return sizeX * sizeZ;
+	}
+
+	private int indexOf(int x, int z) {
+		final int dx = x - minX;
+		final int dz = z - minZ;
+		if (dx < 0 || dz < 0 || dx >= sizeX || dz >= sizeZ) {
+			return -1;
+		}
+		return dz * sizeX + dx;
+	}
+
+	private int computeSurfaceY(int x, int z) {
+		final int min = world.getMinHeight();
+		int y = world.getHighestBlockYAt(x, z, HeightMap.WORLD_SURFACE);
+		while (y >= min && NetherWeatherManager.isTransparent(world.getBlockAt(x, y, z).getType())) {
+			y--;
+		}
+		return y;
+	}
+}
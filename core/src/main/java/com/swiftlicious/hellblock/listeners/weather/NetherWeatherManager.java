@@ -2,15 +2,20 @@ package com.swiftlicious.hellblock.listeners.weather;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
@@ -18,12 +23,25 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPistonEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
 import com.swiftlicious.hellblock.api.Reloadable;
 import com.swiftlicious.hellblock.config.locale.MessageConstants;
 import com.swiftlicious.hellblock.context.Context;
@@ -39,8 +57,10 @@ import com.swiftlicious.hellblock.world.HellblockWorld;
 
 import net.kyori.adventure.text.TranslatableComponent;
 
-public class NetherWeatherManager implements Reloadable {
+public class NetherWeatherManager implements Listener, Reloadable {
 
+	private static final List<String> TRANSPARENT_SUFFIXES = List.of("_SIGN", "_GLASS_PANE", "_FENCE",
+			"_FENCE_GATE", "_DOOR", "_BUTTON", "_PRESSURE_PLATE");
 	private static final Set<Material> TRANSPARENT_MATERIALS = createTransparentMaterialSet();
 
 	@NotNull
@@ -78,6 +98,12 @@ public class NetherWeatherManager implements Reloadable {
 		addIfExists(set, "POWDER_SNOW");
 		addIfExists(set, "TRIPWIRE");
 		addIfExists(set, "TRIPWIRE_HOOK");
+		// Resolve the name based families once instead of on every lookup
+		for (Material material : Material.values()) {
+			if (TRANSPARENT_SUFFIXES.stream().anyMatch(material.name()::endsWith)) {
+				set.add(material);
+			}
+		}
 		return Collections.unmodifiableSet(set);
 	}
 
@@ -92,15 +118,53 @@ public class NetherWeatherManager implements Reloadable {
 
 	private final HellblockPlugin instance;
 	private final Map<Integer, AbstractNetherWeatherTask> activeWeather = new ConcurrentHashMap<>();
+	/** Surface heights of the weather regions, only kept while an island has weather */
+	private final Map<Integer, IslandHeightmap> heightmaps = new ConcurrentHashMap<>();
+	private final HeightmapStats heightmapStats = new HeightmapStats();
+	private final Map<WeatherType, TickStats> tickStats = new EnumMap<>(WeatherType.class);
 	
 	private SchedulerTask cooldownTask;
 
 	public NetherWeatherManager(HellblockPlugin plugin) {
 		this.instance = plugin;
+		for (WeatherType type : WeatherType.values()) {
+			tickStats.put(type, new TickStats());
+		}
+		instance.registerPerformanceReporter(new PerformanceReporter() {
+			@Override
+			@NotNull
+			public String getReporterName() {
+				return "nether-weather";
+			}
+
+			@Override
+			@NotNull
+			public Map<String, String> getPerformanceReport() {
+				final Map<String, String> report = new LinkedHashMap<>();
+				report.put("Active weather", String.valueOf(activeWeather.size()));
+				tickStats.forEach((type, stats) -> {
+					final long ticks = stats.ticks.sum();
+					report.put(type.name(),
+							ticks == 0 ? "idle"
+									: "%d ticks, avg %.1fµs, max %.1fµs, %d columns sampled".formatted(ticks,
+											stats.nanos.sum() / 1000.0 / ticks, stats.maxNanos.get() / 1000.0,
+											stats.columns.sum()));
+				});
+				final long hits = heightmapStats.hits.sum();
+				final long lookups = hits + heightmapStats.misses.sum();
+				report.put("Heightmaps", heightmaps.size() + " ("
+						+ heightmaps.values().stream().mapToInt(IslandHeightmap::columns).sum() + " columns)");
+				report.put("Heightmap hit rate",
+						lookups == 0 ? "n/a" : "%.1f%% of %d lookups".formatted(hits * 100.0 / lookups, lookups));
+				report.put("Heightmap invalidations", String.valueOf(heightmapStats.invalidations.sum()));
+				return report;
+			}
+		});
 	}
 
 	@Override
 	public void load() {
+		Bukkit.getPluginManager().registerEvents(this, instance);
 		startWeatherForAllIslands();
 		this.cooldownTask = instance.getScheduler().sync().runRepeating(
 				() -> instance.getIslandManager().getWeatherCooldowns().entrySet()
@@ -110,6 +174,7 @@ public class NetherWeatherManager implements Reloadable {
 
 	@Override
 	public void unload() {
+		HandlerList.unregisterAll(this);
 		stopAllWeather();
 		if (this.cooldownTask != null && !this.cooldownTask.isCancelled()) {
 			this.cooldownTask.cancel();
@@ -136,6 +201,7 @@ public class NetherWeatherManager implements Reloadable {
 
 	public void stopWeather(int islandId) {
 		AbstractNetherWeatherTask task = activeWeather.remove(islandId);
+		heightmaps.remove(islandId);
 		if (task != null)
 			task.stop();
 	}
@@ -144,6 +210,7 @@ public class NetherWeatherManager implements Reloadable {
 		activeWeather.keySet().forEach(this::clearAllWeatherContext);
 		activeWeather.values().forEach(AbstractNetherWeatherTask::cancel);
 		activeWeather.clear();
+		heightmaps.clear();
 	}
 
 	/**
@@ -305,6 +372,7 @@ public class NetherWeatherManager implements Reloadable {
 
 	public void onWeatherEnd(int islandId, WeatherType endedType) {
 		activeWeather.remove(islandId);
+		heightmaps.remove(islandId);
 
 		long cooldownMinutes = RandomUtils.generateRandomInt(10, 25);
 		long cooldownTicks = TimeUnit.MINUTES.toSeconds(cooldownMinutes) * 20;
@@ -395,32 +463,259 @@ public class NetherWeatherManager implements Reloadable {
 	}
 
 	private boolean isTransparent(@NotNull Block block) {
-		Material type = block.getType();
-		String name = type.name();
-		return TRANSPARENT_MATERIALS.contains(type) || name.endsWith("_SIGN") || name.endsWith("_GLASS_PANE")
-				|| name.endsWith("_FENCE") || name.endsWith("_FENCE_GATE") || name.endsWith("_DOOR")
-				|| name.endsWith("_BUTTON") || name.endsWith("_PRESSURE_PLATE");
+		return isTransparent(block.getType());
 	}
 
+	/**
+	 * Checks whether weather passes through a material, such as air, liquids,
+	 * panes, fences and doors.
+	 *
+	 * @param material the material
+	 * @return true if the material does not cover the blocks below it
+	 */
+	public static boolean isTransparent(@NotNull Material material) {
+		return TRANSPARENT_MATERIALS.contains(material);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockPlace(BlockPlaceEvent event) {
+		invalidateColumn(event.getBlock());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockBreak(BlockBreakEvent event) {
+		invalidateColumn(event.getBlock());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onEntityExplode(EntityExplodeEvent event) {
+		invalidateColumns(event.blockList());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onBlockExplode(BlockExplodeEvent event) {
+		invalidateColumn(event.getBlock());
+		invalidateColumns(event.blockList());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPistonExtend(BlockPistonExtendEvent event) {
+		invalidatePiston(event, event.getBlocks());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onPistonRetract(BlockPistonRetractEvent event) {
+		invalidatePiston(event, event.getBlocks());
+	}
+
+	/**
+	 * Forgets the columns of a piston, its head and every block it moves, both
+	 * where the blocks are now and where they end up.
+	 */
+	private void invalidatePiston(@NotNull BlockPistonEvent event, @NotNull List<Block> moved) {
+		if (heightmaps.isEmpty())
+			return;
+
+		final Block piston = event.getBlock();
+		final BlockFace direction = event.getDirection();
+		invalidateColumn(piston);
+		invalidateColumn(piston.getRelative(direction));
+		invalidateColumn(piston.getRelative(direction.getOppositeFace()));
+		for (Block block : moved) {
+			invalidateColumn(block);
+			invalidateColumn(block.getRelative(direction));
+		}
+	}
+
+	private void invalidateColumns(@NotNull List<Block> blocks) {
+		if (heightmaps.isEmpty())
+			return;
+
+		for (Block block : blocks) {
+			invalidateColumn(block);
+		}
+	}
+
+	/**
+	 * Forgets the cached surface height of a block's column, to be called after
+	 * the block changed. Blocks outside of any weather region are ignored.
+	 *
+	 * @param block the changed block
+	 */
+	public void invalidateColumn(@NotNull Block block) {
+		if (heightmaps.isEmpty())
+			return;
+
+		for (IslandHeightmap heightmap : heightmaps.values()) {
+			if (heightmap.invalidate(block.getWorld().getUID(), block.getX(), block.getZ())) {
+				heightmapStats.invalidations.increment();
+			}
+		}
+	}
+
+	/**
+	 * Records how long one tick of a weather event took.
+	 *
+	 * @param type    the weather type
+	 * @param nanos   the duration of the tick
+	 * @param columns the number of columns sampled during the tick
+	 */
+	void recordTick(@NotNull WeatherType type, long nanos, int columns) {
+		TickStats stats = tickStats.get(type);
+		stats.ticks.increment();
+		stats.nanos.add(nanos);
+		stats.maxNanos.accumulateAndGet(nanos, Math::max);
+		stats.columns.add(columns);
+	}
+
+	@NotNull
+	private IslandHeightmap getHeightmap(int islandId, @NotNull World world, int minX, int minZ, int maxX, int maxZ) {
+		return heightmaps.compute(islandId,
+				(id, existing) -> existing != null && existing.covers(world, minX, minZ, maxX, maxZ) ? existing
+						: new IslandHeightmap(world, minX, minZ, maxX, maxZ));
+	}
+
+	static final class HeightmapStats {
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder invalidations = new LongAdder();
+	}
+
+	private static final class TickStats {
+		final LongAdder ticks = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		final AtomicLong maxNanos = new AtomicLong();
+		final LongAdder columns = new LongAdder();
+	}
+
+	/**
+	 * A callback for the columns sampled by
+	 * {@link NetherWeatherRegion#sampleColumns(int, ColumnConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface ColumnConsumer {
+		/**
+		 * @param x        the column x coordinate
+		 * @param surfaceY the y of the highest non transparent block in the column
+		 * @param z        the column z coordinate
+		 */
+		void accept(int x, int surfaceY, int z);
+	}
+
+	/**
+	 * The area above an island in which weather effects appear.
+	 * <p>
+	 * Effects pick a few random columns per tick with
+	 * {@link #sampleColumns(int, ColumnConsumer)} instead of visiting every block.
+	 * The surface height of each column is cached per island until a block in
+	 * the column is placed or broken.
+	 */
 	public class NetherWeatherRegion {
 		private final World world;
 		private final BoundingBox box;
+		private final int minX;
+		private final int minZ;
+		private final int sizeX;
+		private final int sizeZ;
+		private final IslandHeightmap heightmap;
 
-		public NetherWeatherRegion(@NotNull Location min, @NotNull Location max) {
+		public NetherWeatherRegion(int islandId, @NotNull Location min, @NotNull Location max) {
 			if (!Objects.equals(min.getWorld(), max.getWorld()))
 				throw new IllegalArgumentException("NetherWeatherRegion requires both locations in the same world!");
 			this.world = Objects.requireNonNull(min.getWorld());
 			this.box = BoundingBox.of(min, max);
+			this.minX = (int) Math.floor(box.getMinX());
+			this.minZ = (int) Math.floor(box.getMinZ());
+			final int maxX = (int) Math.floor(box.getMaxX());
+			final int maxZ = (int) Math.floor(box.getMaxZ());
+			this.sizeX = maxX - minX + 1;
+			this.sizeZ = maxZ - minZ + 1;
+			this.heightmap = getHeightmap(islandId, world, minX, minZ, maxX, maxZ);
 		}
 
+		/**
+		 * Iterates over every block of the region without collecting them first.
+		 * Prefer {@link #sampleColumns(int, ColumnConsumer)} for per tick effects.
+		 */
 		@NotNull
 		public Iterator<Block> getBlocks() {
-			List<Block> list = new ArrayList<>((int) box.getVolume());
-			for (int x = (int) box.getMinX(); x <= box.getMaxX(); x++)
-				for (int y = (int) box.getMinY(); y <= box.getMaxY(); y++)
-					for (int z = (int) box.getMinZ(); z <= box.getMaxZ(); z++)
-						list.add(world.getBlockAt(x, y, z));
-			return list.iterator();
+			final int minY = (int) Math.floor(box.getMinY());
+			final int sizeY = (int) Math.floor(box.getMaxY()) - minY + 1;
+			final long volume = (long) sizeX * sizeY * sizeZ;
+			return new Iterator<>() {
+				private long next;
+
+				@Override
+				public boolean hasNext() {
+					return next < volume;
+				}
+
+				@Override
+				public Block next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					final long index = next++;
+					final int x = (int) (index / ((long) sizeY * sizeZ));
+					final int y = (int) (index / sizeZ % sizeY);
+					final int z = (int) (index % sizeZ);
+					return world.getBlockAt(minX + x, minY + y, minZ + z);
+				}
+			};
+		}
+
+		/**
+		 * Calls the consumer for random columns of the region, picked with
+		 * repetition.
+		 *
+		 * @param samples  the number of columns to pick
+		 * @param consumer receives each column with its surface height
+		 */
+		public void sampleColumns(int samples, @NotNull ColumnConsumer consumer) {
+			for (int i = 0; i < samples; i++) {
+				final int x = minX + RandomUtils.generateRandomInt(sizeX);
+				final int z = minZ + RandomUtils.generateRandomInt(sizeZ);
+				consumer.accept(x, getSurfaceY(x, z), z);
+			}
+		}
+
+		/**
+		 * Gets the y of the highest non transparent block in a column, from the
+		 * island's heightmap for columns inside the region.
+		 *
+		 * @param x the column x coordinate
+		 * @param z the column z coordinate
+		 * @return the surface height, or one below the world's minimum height for an
+		 *         empty column
+		 */
+		public int getSurfaceY(int x, int z) {
+			return heightmap.surfaceY(x, z, heightmapStats);
+		}
+
+		/**
+		 * Gets where a column shows its effects: the top layer of the region, or
+		 * right above the surface if something was built higher.
+		 *
+		 * @return the location of the effects in the column
+		 */
+		@NotNull
+		public Location getEmitLocation(int x, int surfaceY, int z) {
+			return new Location(world, x, Math.max(getTopY(), surfaceY + 1), z);
+		}
+
+		/**
+		 * @return the y of the top layer of the region
+		 */
+		public int getTopY() {
+			return (int) Math.floor(box.getMaxY());
+		}
+
+		public int getColumnCount() {
+			return sizeX * sizeZ;
+		}
+
+		@NotNull
+		public World getWorld() {
+			return world;
 		}
 
 		@NotNull
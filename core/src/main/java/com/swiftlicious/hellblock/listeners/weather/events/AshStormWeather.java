@@ -1,11 +1,10 @@
 package com.swiftlicious.hellblock.listeners.weather.events;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
@@ -18,11 +17,9 @@ import com.swiftlicious.hellblock.config.locale.MessageConstants;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.context.ContextKeys;
 import com.swiftlicious.hellblock.listeners.weather.AbstractNetherWeatherTask;
-import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager;
 import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager.NetherWeatherRegion;
 import com.swiftlicious.hellblock.listeners.weather.WeatherType;
 import com.swiftlicious.hellblock.utils.PotionUtils;
-import com.swiftlicious.hellblock.utils.RandomUtils;
 import com.swiftlicious.hellblock.world.HellblockWorld;
 
 public final class AshStormWeather extends AbstractNetherWeatherTask {
@@ -63,12 +60,12 @@ public final class AshStormWeather extends AbstractNetherWeatherTask {
 			return;
 		}
 
-		instance.getIslandManager().getPlayersOnIsland(islandId).stream().map(Bukkit::getPlayer)
-				.filter(Objects::nonNull).filter(Player::isOnline)
-				.filter(p -> p.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				.filter(p -> instance.getHellblockHandler().isInCorrectWorld(p))
-				.filter(p -> world.bukkitWorld().getEnvironment() == World.Environment.NETHER)
-				.forEach(this::processPlayer);
+		List<Player> players = getPlayersInWeather();
+		players.forEach(this::processPlayer);
+
+		// Region effects are shared by everyone on the island, so emit them once
+		if (hasAshStorm && !players.isEmpty())
+			spawnAshParticles();
 	}
 
 	private void processPlayer(@NotNull Player player) {
@@ -80,36 +77,17 @@ public final class AshStormWeather extends AbstractNetherWeatherTask {
 			player.addPotionEffect(new PotionEffect(PotionUtils.getCompatiblePotionEffectType("SLOWNESS", "SLOW"), 60,
 					0, false, false));
 		}
-
-		spawnAshParticles(player);
 	}
 
-	private void spawnAshParticles(@NotNull Player player) {
-		getWeatherRegion().thenAccept(region -> {
-			if (region == null)
-				return;
-			World w = world.bukkitWorld();
-
-			region.getBlocks().forEachRemaining(block -> {
-				if (RandomUtils.generateRandomInt(12) != 1)
-					return;
-				w.spawnParticle(Particle.ASH, block.getLocation(), 2, 0.3, 0.3, 0.3, 0.01);
-			});
-		});
-	}
+	private void spawnAshParticles() {
+		NetherWeatherRegion region = getResolvedWeatherRegion();
+		if (region == null)
+			return;
+		World w = world.bukkitWorld();
 
-	public CompletableFuture<NetherWeatherRegion> getWeatherRegion() {
-		NetherWeatherManager weatherManager = instance.getNetherWeatherManager();
-		return instance.getIslandManager().getIslandCenterLocation(islandId).thenApply(center -> {
-			if (center == null || center.getWorld() == null
-					|| !center.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				return null;
-
-			int radius = instance.getConfigManager().radius();
-			Location min = center.clone().subtract(radius, 0, radius).add(0, 20, 0);
-			Location max = center.clone().add(radius, 20, radius);
-			return weatherManager.new NetherWeatherRegion(min, max);
-		});
+		// About one in twelve columns, as the storm used to cover
+		sampleColumns(region, 12, (x, surfaceY, z) -> w.spawnParticle(Particle.ASH,
+				region.getEmitLocation(x, surfaceY, z), 2, 0.3, 0.3, 0.3, 0.01));
 	}
 
 	private void broadcastWarning() {
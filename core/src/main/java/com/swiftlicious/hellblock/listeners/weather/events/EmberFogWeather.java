@@ -1,7 +1,7 @@
 package com.swiftlicious.hellblock.listeners.weather.events;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
@@ -17,11 +17,9 @@ import com.swiftlicious.hellblock.config.locale.MessageConstants;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.context.ContextKeys;
 import com.swiftlicious.hellblock.listeners.weather.AbstractNetherWeatherTask;
-import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager;
 import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager.NetherWeatherRegion;
 import com.swiftlicious.hellblock.listeners.weather.WeatherType;
 import com.swiftlicious.hellblock.utils.PotionUtils;
-import com.swiftlicious.hellblock.utils.RandomUtils;
 import com.swiftlicious.hellblock.world.HellblockWorld;
 
 public final class EmberFogWeather extends AbstractNetherWeatherTask {
@@ -62,52 +60,34 @@ public final class EmberFogWeather extends AbstractNetherWeatherTask {
 			return;
 		}
 
-		instance.getIslandManager().getPlayersOnIsland(islandId).stream().map(Bukkit::getPlayer)
-				.filter(Objects::nonNull).filter(Player::isOnline)
-				.filter(p -> p.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				.filter(p -> instance.getHellblockHandler().isInCorrectWorld(p))
-				.filter(p -> world.bukkitWorld().getEnvironment() == World.Environment.NETHER)
-				.forEach(this::processPlayer);
+		List<Player> players = getPlayersInWeather();
+		players.forEach(this::processPlayer);
+
+		// Region effects are shared by everyone on the island, so emit them once
+		if (hasEmberFog && !players.isEmpty())
+			spawnEmberParticles();
 	}
 
 	private void processPlayer(@NotNull Player player) {
 		if (!hasEmberFog)
 			return;
 
-		spawnEmberParticles(player);
-
 		if (Math.random() < 0.02) {
 			player.addPotionEffect(new PotionEffect(PotionUtils.getCompatiblePotionEffectType("CONFUSION", "NAUSEA"),
 					80, 0, false, false));
 		}
 	}
 
-	private void spawnEmberParticles(@NotNull Player player) {
-		getWeatherRegion().thenAccept(region -> {
-			if (region == null)
-				return;
-			World w = world.bukkitWorld();
-
-			region.getBlocks().forEachRemaining(block -> {
-				if (RandomUtils.generateRandomInt(6) != 1)
-					return;
-				w.spawnParticle(Particle.LAVA, block.getLocation(), 1, 0.3, 0.3, 0.3, 0.02);
-				w.spawnParticle(Particle.FLAME, block.getLocation(), 1, 0.3, 0.3, 0.3, 0.01);
-			});
-		});
-	}
+	private void spawnEmberParticles() {
+		NetherWeatherRegion region = getResolvedWeatherRegion();
+		if (region == null)
+			return;
+		World w = world.bukkitWorld();
 
-	public CompletableFuture<NetherWeatherRegion> getWeatherRegion() {
-		NetherWeatherManager weatherManager = instance.getNetherWeatherManager();
-		return instance.getIslandManager().getIslandCenterLocation(islandId).thenApply(center -> {
-			if (center == null || center.getWorld() == null
-					|| !center.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				return null;
-
-			int radius = instance.getConfigManager().radius();
-			Location min = center.clone().subtract(radius, 0, radius).add(0, 20, 0);
-			Location max = center.clone().add(radius, 20, radius);
-			return weatherManager.new NetherWeatherRegion(min, max);
+		sampleColumns(region, 6, (x, surfaceY, z) -> {
+			Location location = region.getEmitLocation(x, surfaceY, z);
+			w.spawnParticle(Particle.LAVA, location, 1, 0.3, 0.3, 0.3, 0.02);
+			w.spawnParticle(Particle.FLAME, location, 1, 0.3, 0.3, 0.3, 0.01);
 		});
 	}
 
@@ -5,11 +5,9 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -21,8 +19,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.TNTPrimed;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.util.BlockIterator;
-import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,7 +28,6 @@ import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.context.ContextKeys;
 import com.swiftlicious.hellblock.handlers.AdventureHelper;
 import com.swiftlicious.hellblock.listeners.weather.AbstractNetherWeatherTask;
-import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager;
 import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager.NetherWeatherRegion;
 import com.swiftlicious.hellblock.listeners.weather.WeatherType;
 import com.swiftlicious.hellblock.utils.EnumUtils;
@@ -99,12 +94,12 @@ public final class LavaRainWeather extends AbstractNetherWeatherTask {
 		}
 
 		// Main loop
-		instance.getIslandManager().getPlayersOnIsland(islandId).stream().map(Bukkit::getPlayer)
-				.filter(Objects::nonNull).filter(Player::isOnline)
-				.filter(p -> p.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				.filter(p -> instance.getHellblockHandler().isInCorrectWorld(p))
-				.filter(p -> world.bukkitWorld().getEnvironment() == World.Environment.NETHER)
-				.forEach(this::processPlayer);
+		List<Player> players = getPlayersInWeather();
+		players.forEach(this::processPlayer);
+
+		// Region effects are shared by everyone on the island, so emit them once
+		if (hasLavaRain && !players.isEmpty())
+			spawnParticlesAndFire(players);
 	}
 
 	private void processPlayer(@NotNull Player player) {
@@ -113,11 +108,6 @@ public final class LavaRainWeather extends AbstractNetherWeatherTask {
 
 		handlePlayerEffects(player);
 		handleMobEffects(player);
-		spawnParticlesAndFire(player);
-
-		if (instance.getNetherWeatherManager().willTNTExplode()) {
-			triggerTNTEvents(player.getLocation());
-		}
 	}
 
 	private void broadcastWarning() {
@@ -166,35 +156,39 @@ public final class LavaRainWeather extends AbstractNetherWeatherTask {
 		}).forEach(living -> living.setFireTicks(120));
 	}
 
-	private void spawnParticlesAndFire(@NotNull Player player) {
-		getWeatherRegion().thenAccept(region -> {
-			if (region == null)
+	private void spawnParticlesAndFire(@NotNull List<Player> players) {
+		NetherWeatherRegion region = getResolvedWeatherRegion();
+		if (region == null)
+			return;
+		World w = world.bukkitWorld();
+
+		// Each sampled column stands in for the columns that were not picked, so
+		// scale the per column chances to keep the same rate over the region
+		int samples = columnSamples(region, 8);
+		double fireChance = instance.getConfigManager().fireChance() / 1000.0D
+				* Math.ceil(region.getColumnCount() / 8.0D) / samples;
+		double cauldronChance = Math.min(1.0D, 0.005D * region.getColumnCount() / samples);
+		boolean explodeTNT = instance.getNetherWeatherManager().willTNTExplode();
+
+		sampleColumns(region, 8, (x, surfaceY, z) -> {
+			w.spawnParticle(ParticleUtils.getParticle("DRIP_LAVA"), region.getEmitLocation(x, surfaceY, z), 1);
+			if (surfaceY < w.getMinHeight())
 				return;
-			World w = world.bukkitWorld();
-
-			region.getBlocks().forEachRemaining(block -> {
-				if (RandomUtils.generateRandomInt(8) != 1)
-					return;
-
-				Block particleBlock = findAirBelow(block);
-				if (particleBlock != null) {
-					Block highest = instance.getNetherWeatherManager().getHighestBlock(particleBlock.getLocation());
-					if (highest != null && highest.getY() > particleBlock.getY())
-						return;
-
-					w.spawnParticle(ParticleUtils.getParticle("DRIP_LAVA"), particleBlock.getLocation(), 1);
-					AdventureHelper.playSound(instance.getSenderFactory().getAudience(player),
-							Sound.sound(Key.key("minecraft:block.pointed_dripstone.drip_lava"), Source.WEATHER, 1F, 1F),
-							player.getLocation().getX(), player.getLocation().getY(), player.getLocation().getZ());
-				}
-
-				if (Math.random() < instance.getConfigManager().fireChance() / 1000.0D) {
-					tryPlaceFire(region);
-				}
-			});
-
-			fillNearbyCauldronsWithLava(region);
+
+			Block surface = w.getBlockAt(x, surfaceY, z);
+			if (explodeTNT && surface.getType() == Material.TNT) {
+				igniteTNT(surface);
+			} else if (surface.getType() == Material.CAULDRON || surface.getType() == Material.LAVA_CAULDRON) {
+				fillCauldronWithLava(surface, cauldronChance);
+			} else if (Math.random() < fireChance) {
+				tryPlaceFire(surface);
+			}
 		});
+
+		// One drip sound per run instead of one per emitting block
+		players.forEach(player -> AdventureHelper.playSound(instance.getSenderFactory().getAudience(player),
+				Sound.sound(Key.key("minecraft:block.pointed_dripstone.drip_lava"), Source.WEATHER, 1F, 1F),
+				player.getLocation().getX(), player.getLocation().getY(), player.getLocation().getZ()));
 	}
 
 	private void handleRainEnd() {
@@ -215,81 +209,37 @@ public final class LavaRainWeather extends AbstractNetherWeatherTask {
 		instance.getNetherWeatherManager().onWeatherEnd(islandId, getType());
 	}
 
-	public CompletableFuture<NetherWeatherRegion> getWeatherRegion() {
-		NetherWeatherManager weatherManager = instance.getNetherWeatherManager();
-		return instance.getIslandManager().getIslandCenterLocation(islandId).thenApply(center -> {
-			if (center == null || center.getWorld() == null
-					|| !center.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				return null;
-
-			int radius = instance.getConfigManager().radius();
-			Location min = center.clone().subtract(radius, 0, radius).add(0, 20, 0);
-			Location max = center.clone().add(radius, 20, radius);
-			return weatherManager.new NetherWeatherRegion(min, max);
-		});
-	}
-
-	@Nullable
-	private Block findAirBelow(@NotNull Block start) {
-		BlockIterator it = new BlockIterator(world.bukkitWorld(), start.getLocation().toVector(), new Vector(0, -1, 0),
-				0.0D, 30);
-		while (it.hasNext()) {
-			Block b = it.next();
-			if (b.isEmpty())
-				return b;
-		}
-		return null;
-	}
-
-	private void tryPlaceFire(@NotNull NetherWeatherRegion region) {
-		region.getBlocks().forEachRemaining(block -> {
-			if (!block.isEmpty())
-				return;
-
-			Block highest = instance.getNetherWeatherManager().getHighestBlock(block.getLocation());
-			if (highest != null && highest.getY() > block.getY())
-				return;
+	private void tryPlaceFire(@NotNull Block surface) {
+		Block above = surface.getRelative(BlockFace.UP);
+		if (!surface.getType().isSolid() || !above.isEmpty())
+			return;
 
-			Block below = block.getRelative(BlockFace.DOWN);
-			Material fireType = (below.getType() == Material.SOUL_SAND || below.getType() == Material.SOUL_SOIL)
-					? Material.SOUL_FIRE
-					: Material.FIRE;
+		Material fireType = (surface.getType() == Material.SOUL_SAND || surface.getType() == Material.SOUL_SOIL)
+				? Material.SOUL_FIRE
+				: Material.FIRE;
 
-			block.setType(fireType);
-			block.getState().update(true, false);
-		});
+		above.setType(fireType);
+		above.getState().update(true, false);
+		instance.getNetherWeatherManager().invalidateColumn(above);
 	}
 
-	private void fillNearbyCauldronsWithLava(@NotNull NetherWeatherRegion region) {
-		region.getBlocks().forEachRemaining(block -> {
-			if (block.getType() == Material.CAULDRON || block.getType() == Material.LAVA_CAULDRON) {
-				Block above = block.getRelative(BlockFace.UP);
-				if (!above.isPassable())
-					return;
-
-				if (Math.random() < 0.005) {
-					block.setType(Material.LAVA_CAULDRON);
-					block.getState().update(true, true);
-				}
-			}
-		});
+	private void fillCauldronWithLava(@NotNull Block cauldron, double chance) {
+		Block above = cauldron.getRelative(BlockFace.UP);
+		if (!above.isPassable())
+			return;
+
+		if (Math.random() < chance) {
+			cauldron.setType(Material.LAVA_CAULDRON);
+			cauldron.getState().update(true, true);
+		}
 	}
 
-	private void triggerTNTEvents(@NotNull Location location) {
-		getWeatherRegion().thenAccept(region -> {
-			if (region == null)
-				return;
-			World w = world.bukkitWorld();
-
-			region.getBlocks().forEachRemaining(block -> {
-				Block top = w.getHighestBlockAt(block.getLocation());
-				if (top.getType() == Material.TNT) {
-					top.setType(Material.AIR);
-					w.spawn(top.getLocation(), TNTPrimed.class,
-							primed -> primed.setFuseTicks(RandomUtils.generateRandomInt(3, 5) * 20));
-				}
-			});
-		});
+	private void igniteTNT(@NotNull Block tnt) {
+		World w = world.bukkitWorld();
+		tnt.setType(Material.AIR);
+		instance.getNetherWeatherManager().invalidateColumn(tnt);
+		w.spawn(tnt.getLocation(), TNTPrimed.class,
+				primed -> primed.setFuseTicks(RandomUtils.generateRandomInt(3, 5) * 20));
 	}
 
 	@Override
@@ -1,7 +1,7 @@
 package com.swiftlicious.hellblock.listeners.weather.events;
 
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.bukkit.Bukkit;
@@ -18,7 +18,6 @@ import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.context.ContextKeys;
 import com.swiftlicious.hellblock.handlers.AdventureHelper;
 import com.swiftlicious.hellblock.listeners.weather.AbstractNetherWeatherTask;
-import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager;
 import com.swiftlicious.hellblock.listeners.weather.NetherWeatherManager.NetherWeatherRegion;
 import com.swiftlicious.hellblock.listeners.weather.WeatherType;
 import com.swiftlicious.hellblock.utils.ParticleUtils;
@@ -67,12 +66,12 @@ public final class MagmaWindWeather extends AbstractNetherWeatherTask {
 			return;
 		}
 
-		instance.getIslandManager().getPlayersOnIsland(islandId).stream().map(Bukkit::getPlayer)
-				.filter(Objects::nonNull).filter(Player::isOnline)
-				.filter(p -> p.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				.filter(p -> instance.getHellblockHandler().isInCorrectWorld(p))
-				.filter(p -> world.bukkitWorld().getEnvironment() == World.Environment.NETHER)
-				.forEach(this::processPlayer);
+		List<Player> players = getPlayersInWeather();
+		players.forEach(this::processPlayer);
+
+		// Region effects are shared by everyone on the island, so emit them once
+		if (hasMagmaWind && !players.isEmpty())
+			spawnParticlesAndSound(players);
 	}
 
 	private void processPlayer(@NotNull Player player) {
@@ -88,41 +87,24 @@ public final class MagmaWindWeather extends AbstractNetherWeatherTask {
 		if (Math.random() < 0.05 && instance.getNetherWeatherManager().canHurtLivingCreatures()) {
 			player.setFireTicks(80);
 		}
-
-		spawnParticlesAndSound(player);
 	}
 
-	private void spawnParticlesAndSound(@NotNull Player player) {
-		getWeatherRegion().thenAccept(region -> {
-			if (region == null)
-				return;
-			World w = world.bukkitWorld();
-
-			region.getBlocks().forEachRemaining(block -> {
-				if (RandomUtils.generateRandomInt(10) != 1)
-					return;
-
-				w.spawnParticle(Particle.FLAME, block.getLocation(), 2, 0.2, 0.2, 0.2, 0.01);
-				w.spawnParticle(ParticleUtils.getParticle("SMOKE_LARGE"), block.getLocation(), 1, 0.1, 0.1, 0.1, 0.01);
-				AdventureHelper.playSound(instance.getSenderFactory().getAudience(player),
-						Sound.sound(Key.key("minecraft:block.fire.ambient"), Source.WEATHER, 0.7F, 1.2F),
-						player.getLocation().getX(), player.getLocation().getY(), player.getLocation().getZ());
-			});
-		});
-	}
+	private void spawnParticlesAndSound(@NotNull List<Player> players) {
+		NetherWeatherRegion region = getResolvedWeatherRegion();
+		if (region == null)
+			return;
+		World w = world.bukkitWorld();
 
-	public CompletableFuture<NetherWeatherRegion> getWeatherRegion() {
-		NetherWeatherManager weatherManager = instance.getNetherWeatherManager();
-		return instance.getIslandManager().getIslandCenterLocation(islandId).thenApply(center -> {
-			if (center == null || center.getWorld() == null
-					|| !center.getWorld().getName().equalsIgnoreCase(world.worldName()))
-				return null;
-
-			int radius = instance.getConfigManager().radius();
-			Location min = center.clone().subtract(radius, 0, radius).add(0, 20, 0);
-			Location max = center.clone().add(radius, 20, radius);
-			return weatherManager.new NetherWeatherRegion(min, max);
+		sampleColumns(region, 10, (x, surfaceY, z) -> {
+			Location location = region.getEmitLocation(x, surfaceY, z);
+			w.spawnParticle(Particle.FLAME, location, 2, 0.2, 0.2, 0.2, 0.01);
+			w.spawnParticle(ParticleUtils.getParticle("SMOKE_LARGE"), location, 1, 0.1, 0.1, 0.1, 0.01);
 		});
+
+		// One sound per run instead of one per emitting block
+		players.forEach(player -> AdventureHelper.playSound(instance.getSenderFactory().getAudience(player),
+				Sound.sound(Key.key("minecraft:block.fire.ambient"), Source.WEATHER, 0.7F, 1.2F),
+				player.getLocation().getX(), player.getLocation().getY(), player.getLocation().getZ()));
 	}
 
 	private void broadcastWarning() {
@@ -17,9 +17,7 @@ import org.jetbrains.annotations.Nullable;
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.effects.Effect;
-import com.swiftlicious.hellblock.handlers.RequirementManager;
 import com.swiftlicious.hellblock.loot.operation.WeightOperation;
-import com.swiftlicious.hellblock.utils.WeightUtils;
 import com.swiftlicious.hellblock.utils.extras.ConditionalElement;
 import com.swiftlicious.hellblock.utils.extras.Pair;
 
@@ -32,6 +30,7 @@ public class LootManager implements LootManagerInterface {
 	private final Map<String, Loot> lootMap = new HashMap<>();
 	private final Map<String, List<String>> groupMembersMap = new HashMap<>();
 	private final LinkedHashMap<String, ConditionalElement<List<Pair<String, WeightOperation>>, Player>> lootConditions = new LinkedHashMap<>();
+	private volatile LootWeightTable weightTable = LootWeightTable.compile(List.of(), List.of());
 
 	public LootManager(HellblockPlugin plugin) {
 		this.instance = plugin;
@@ -42,6 +41,7 @@ public class LootManager implements LootManagerInterface {
 		this.lootMap.clear();
 		this.groupMembersMap.clear();
 		this.lootConditions.clear();
+		this.weightTable = LootWeightTable.compile(List.of(), List.of());
 	}
 
 	@Override
@@ -66,6 +66,11 @@ public class LootManager implements LootManagerInterface {
 					final Section section = (Section) entry.getValue();
 					lootConditions.put(entry.getKey(), parseLootConditions(section));
 				});
+		this.weightTable = LootWeightTable.compile(lootConditions.values(), lootMap.keySet());
+		instance.debug("Compiled " + lootConditions.size() + " loot condition group"
+				+ (lootConditions.size() == 1 ? "" : "s") + " into " + weightTable.nodes() + " node"
+				+ (weightTable.nodes() == 1 ? "" : "s") + " for " + weightTable.size() + " loot id"
+				+ (weightTable.size() == 1 ? "" : "s") + ".");
 	}
 
 	private ConditionalElement<List<Pair<String, WeightOperation>>, Player> parseLootConditions(Section section) {
@@ -132,57 +137,32 @@ public class LootManager implements LootManagerInterface {
 
 	@Override
 	public Map<String, Double> getWeightedLoots(Effect effect, Context<Player> context) {
-		final Map<String, Double> lootWeightMap = new HashMap<>();
-		lootConditions.values()
-				.forEach(conditionalElement -> modifyWeightMap(lootWeightMap, context, conditionalElement));
-		effect.weightOperations().forEach(pair -> {
-			final Double previous = lootWeightMap.get(pair.left());
-			if (previous != null) {
-				lootWeightMap.put(pair.left(), pair.right().apply(context, previous, lootWeightMap));
-			}
-		});
-		effect.weightOperationsIgnored().forEach(pair -> {
-			final double previous = lootWeightMap.getOrDefault(pair.left(), 0d);
-			lootWeightMap.put(pair.left(), pair.right().apply(context, previous, lootWeightMap));
-		});
-		return lootWeightMap;
+		return computeWeights(effect, context);
 	}
 
 	@Nullable
 	@Override
 	public Loot getNextLoot(Effect effect, Context<Player> context) {
-		final Map<String, Double> weightMap = new HashMap<>();
-		lootConditions.values().forEach(conditionalElement -> modifyWeightMap(weightMap, context, conditionalElement));
-		effect.weightOperations().forEach(pair -> {
-			final Double previous = weightMap.get(pair.left());
-			if (previous != null) {
-				weightMap.put(pair.left(), pair.right().apply(context, previous, weightMap));
-			}
-		});
-		effect.weightOperationsIgnored().forEach(pair -> {
-			final double previous = weightMap.getOrDefault(pair.left(), 0d);
-			weightMap.put(pair.left(), pair.right().apply(context, previous, weightMap));
-		});
-
-		instance.debug(weightMap::toString);
-		final String lootID = WeightUtils.getRandom(weightMap);
+		final LootWeights weights = computeWeights(effect, context);
+		instance.debug(weights::toString);
+		final String lootID = weights.pickRandom();
 		return Optional.ofNullable(lootID)
 				.map(id -> getLoot(lootID).orElseThrow(() -> new NullPointerException("Could not find loot " + lootID)))
 				.orElse(null);
 	}
 
-	private void modifyWeightMap(Map<String, Double> weightMap, Context<Player> context,
-			ConditionalElement<List<Pair<String, WeightOperation>>, Player> conditionalElement) {
-		if (conditionalElement == null) {
-			return;
-		}
-		if (!RequirementManager.isSatisfied(context, conditionalElement.getRequirements())) {
-			return;
-		}
-		conditionalElement.getElement().forEach(modifierPair -> {
-			final double previous = weightMap.getOrDefault(modifierPair.left(), 0d);
-			weightMap.put(modifierPair.left(), modifierPair.right().apply(context, previous, weightMap));
+	private LootWeights computeWeights(Effect effect, Context<Player> context) {
+		final LootWeights weights = weightTable.evaluate(context);
+		effect.weightOperations().forEach(pair -> {
+			final Double previous = weights.get(pair.left());
+			if (previous != null) {
+				weights.put(pair.left(), pair.right().apply(context, previous, weights));
+			}
+		});
+		effect.weightOperationsIgnored().forEach(pair -> {
+			final double previous = weights.getOrDefault(pair.left(), 0d);
+			weights.put(pair.left(), pair.right().apply(context, previous, weights));
 		});
-		conditionalElement.getSubElements().values().forEach(sub -> modifyWeightMap(weightMap, context, sub));
+		return weights;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package com.swiftlicious.hellblock.loot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.context.Context;
+import com.swiftlicious.hellblock.handlers.RequirementManager;
+import com.swiftlicious.hellblock.loot.operation.WeightOperation;
+import com.swiftlicious.hellblock.utils.extras.ConditionalElement;
+import com.swiftlicious.hellblock.utils.extras.Pair;
+import com.swiftlicious.hellblock.utils.extras.Requirement;
+
+/**
+ * The loot conditions of {@code loot-conditions.yml} compiled into flat arrays.
+ * <p>
+ * Every loot id gets an index, so weights are kept in a {@code double[]}
+ * instead of a map keyed by string. The tree of conditional groups is stored in
+ * pre-order: each node knows where its subtree ends, so a node whose
+ * requirements are not met skips its whole subtree with a single jump instead
+ * of recursing through the sub-group maps.
+ */
+final class LootWeightTable {
+
+	private final String[] ids;
+	private final Map<String, Integer> indexes;
+
+	private final Requirement<Player>[][] requirements;
+	private final int[] subtreeEnd;
+	private final int[] operationStart;
+	private final int[] operationTargets;
+	private final WeightOperation[] operations;
+
+	private LootWeightTable(String[] ids, Map<String, Integer> indexes, Requirement<Player>[][] requirements,
+			int[] subtreeEnd, int[] operationStart, int[] operationTargets, WeightOperation[] operations) {
+		this.ids = ids;
+		this.indexes = indexes;
+		this.requirements = requirements;
+		this.subtreeEnd = subtreeEnd;
+		this.operationStart = operationStart;
+		this.operationTargets = operationTargets;
+		this.operations = operations;
+	}
+
+	/**
+	 * Compiles the given condition trees.
+	 *
+	 * @param conditions the top level conditional groups, in evaluation order
+	 * @param lootIds    every registered loot id, indexed up front so weight
+	 *                   operations of effects rarely have to fall back to a map
+	 * @return the compiled table
+	 */
+	@NotNull
+	static LootWeightTable compile(
+			@NotNull Collection<ConditionalElement<List<Pair<String, WeightOperation>>, Player>> conditions,
+			@NotNull Collection<String> lootIds) {
+		final List<ConditionalElement<List<Pair<String, WeightOperation>>, Player>> nodes = new ArrayList<>();
+		final List<Integer> ends = new ArrayList<>();
+		conditions.forEach(condition -> flatten(condition, nodes, ends));
+
+		final Set<String> idSet = new LinkedHashSet<>(lootIds);
+		nodes.forEach(node -> node.getElement().forEach(pair -> idSet.add(pair.left())));
+		final String[] ids = idSet.toArray(String[]::new);
+		final Map<String, Integer> indexes = new HashMap<>(ids.length * 2);
+		for (int i = 0; i < ids.length; i++) {
+			indexes.put(ids[i], i);
+		}
+
+		@SuppressWarnings("unchecked")
+		final Requirement<Player>[][] requirements = new Requirement[nodes.size()][];
+		final int[] subtreeEnd = new int[nodes.size()];
+		final int[] operationStart = new int[nodes.size() + 1];
+		final List<Integer> targets = new ArrayList<>();
+		final List<WeightOperation> operations = new ArrayList<>();
+		for (int node = 0; node < nodes.size(); node++) {
+			final ConditionalElement<List<Pair<String, WeightOperation>>, Player> element = nodes.get(node);
+			requirements[node] = element.getRequirements();
+			subtreeEnd[node] = ends.get(node);
+			operationStart[node] = operations.size();
+			for (Pair<String, WeightOperation> pair : element.getElement()) {
+				targets.add(indexes.get(pair.left()));
+				operations.add(pair.right());
+			}
+		}
+		operationStart[nodes.size()] = operations.size();
+
+		return new LootWeightTable(ids, indexes, requirements, subtreeEnd, operationStart,
+				targets.stream().mapToInt(Integer::intValue).toArray(), operations.toArray(WeightOperation[]::new));
+	}
+
+	private static void flatten(ConditionalElement<List<Pair<String, WeightOperation>>, Player> element,
+			List<ConditionalElement<List<Pair<String, WeightOperation>>, Player>> nodes, List<Integer> ends) {
+		if (element == null) {
+			return;
+		}
+		final int node = nodes.size();
+		nodes.add(element);
+		ends.add(-1);
+		element.getSubElements().values().forEach(sub -> flatten(sub, nodes, ends));
+		ends.set(node, nodes.size());
+	}
+
+	/**
+	 * Applies every condition group whose requirements are met.
+	 *
+	 * @param context the context of the roll
+	 * @return the resulting weights
+	 */
+	@NotNull
+	LootWeights evaluate(@NotNull Context<Player> context) {
+		final LootWeights weights = new LootWeights(this);
+		int node = 0;
+		while (node < subtreeEnd.length) {
+			if (!RequirementManager.isSatisfied(context, requirements[node])) {
+				node = subtreeEnd[node];
+				continue;
+			}
+			for (int op = operationStart[node]; op < operationStart[node + 1]; op++) {
+				final int target = operationTargets[op];
+				weights.set(target, operations[op].apply(context, weights.get(target, 0d), weights));
+			}
+			node++;
+		}
+		return weights;
+	}
+
+	int size() {
+		return ids.length;
+	}
+
+	String id(int index) {
+		return ids[index];
+	}
+
+	/**
+	 * @return the index of the loot id, or {@code -1} if it is not part of the
+	 *         table
+	 */
+	int indexOf(Object id) {
+		final Integer index = indexes.get(id);
+		return index != null ? index : -1;
+	}
+
+	int nodes() {
+		return subtreeEnd.length;
+	}
+}
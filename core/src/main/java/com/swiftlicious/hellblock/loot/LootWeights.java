@@ -0,0 +1,176 @@
+package com.swiftlicious.hellblock.loot;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The weights of a single loot roll, stored by the index of the loot id in a
+ * {@link LootWeightTable}.
+ * <p>
+ * It is also a {@link Map} from loot id to weight, since weight operations may
+ * read the weights of other entries. Ids that are not part of the table are
+ * kept in a small fallback map.
+ */
+final class LootWeights extends AbstractMap<String, Double> {
+
+	private final LootWeightTable table;
+	private final double[] values;
+	private final boolean[] present;
+	private int presentCount;
+	private Map<String, Double> extra;
+
+	LootWeights(LootWeightTable table) {
+		this.table = table;
+		this.values = new double[table.size()];
+		this.present = new boolean[table.size()];
+	}
+
+	double get(int index, double def) {
+		return present[index] ? values[index] : def;
+	}
+
+	void set(int index, double value) {
+		if (!present[index]) {
+			present[index] = true;
+			presentCount++;
+		}
+		values[index] = value;
+	}
+
+	/**
+	 * Picks a random loot id, each with a chance proportional to its weight.
+	 * Entries without a positive weight are never picked.
+	 *
+	 * @return the picked loot id, or {@code null} if no entry has a positive
+	 *         weight
+	 */
+	@Nullable
+	String pickRandom() {
+		final int extraSize = extra != null ? extra.size() : 0;
+		final double[] cumulative = new double[presentCount + extraSize];
+		final String[] candidates = new String[cumulative.length];
+		int count = 0;
+		double total = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (present[i] && values[i] > 0) {
+				total += values[i];
+				cumulative[count] = total;
+				candidates[count++] = table.id(i);
+			}
+		}
+		if (extraSize > 0) {
+			for (Map.Entry<String, Double> entry : extra.entrySet()) {
+				final double weight = entry.getValue();
+				if (weight > 0) {
+					total += weight;
+					cumulative[count] = total;
+					candidates[count++] = entry.getKey();
+				}
+			}
+		}
+		if (count == 0) {
+			return null;
+		}
+
+		final double random = ThreadLocalRandom.current().nextDouble() * total;
+		int pos = Arrays.binarySearch(cumulative, 0, count, random);
+		// Ranges are [previous, cumulative), an exact hit belongs to the next entry
+		pos = pos < 0 ? -pos - 1 : pos + 1;
+		return candidates[Math.min(pos, count - 1)];
+	}
+
+	@Override
+	public Double get(Object key) {
+		final int index = table.indexOf(key);
+		if (index >= 0) {
+			return present[index] ? values[index] : null;
+		}
+		return extra != null ? extra.get(key) : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		final int index = table.indexOf(key);
+		if (index >= 0) {
+			return present[index];
+		}
+		return extra != null && extra.containsKey(key);
+	}
+
+	@Override
+	public Double put(String key, Double value) {
+		final int index = table.indexOf(key);
+		if (index >= 0) {
+			final Double previous = present[index] ? values[index] : null;
+			set(index, value);
+			return previous;
+		}
+		if (extra == null) {
+			extra = new HashMap<>();
+		}
+		return extra.put(key, value);
+	}
+
+	@Override
+	public int size() {
+		return presentCount + (extra != null ? extra.size() : 0);
+	}
+
+	@NotNull
+	@Override
+	public Set<Entry<String, Double>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<String, Double>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return LootWeights.this.size();
+			}
+		};
+	}
+
+	private final class EntryIterator implements Iterator<Entry<String, Double>> {
+		private final Iterator<Entry<String, Double>> extraIterator = extra != null ? extra.entrySet().iterator()
+				: null;
+		private int next = advance(0);
+
+		private int advance(int from) {
+			int index = from;
+			while (index < values.length && !present[index]) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < values.length || (extraIterator != null && extraIterator.hasNext());
+		}
+
+		@Override
+		public Entry<String, Double> next() {
+			if (next < values.length) {
+				final int index = next;
+				next = advance(index + 1);
+				return new SimpleImmutableEntry<>(table.id(index), values[index]);
+			}
+			if (extraIterator == null) {
+				throw new NoSuchElementException();
+			}
+			return extraIterator.next();
+		}
+	}
+}
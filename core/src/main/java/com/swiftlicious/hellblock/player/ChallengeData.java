@@ -34,7 +34,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * Challenge progress and status are managed using a
  * {@code Map<ChallengeType, ChallengeResult>}.
  */
-public class ChallengeData implements EmptyCheck {
+public class ChallengeData extends TrackedData implements EmptyCheck {
 
 	private static final int PROGRESS_BAR_WIDTH = 25;
 
@@ -134,6 +134,7 @@ public class ChallengeData implements EmptyCheck {
 	 */
 	public void setChallenges(@NotNull Map<ChallengeType, ChallengeResult> challenges) {
 		this.challenges = challenges;
+		markChanged();
 	}
 
 	/**
@@ -150,6 +151,7 @@ public class ChallengeData implements EmptyCheck {
 		}
 		result.setProgress(challengeType.getNeededAmount());
 		result.setRewardClaimed(true);
+		markChanged();
 	}
 
 	/**
@@ -163,6 +165,7 @@ public class ChallengeData implements EmptyCheck {
 		final HellblockChallenge newChallenge = new HellblockChallenge(challengeType, CompletionStatus.IN_PROGRESS, 1);
 		challenges.putIfAbsent(newChallenge.getChallengeType(),
 				new ChallengeResult(newChallenge.getCompletionStatus(), newChallenge.getProgress(), false));
+		markChanged();
 
 		// Store island start level for relative LEVELUP challenges
 		if (challengeType.getChallengeType() == ActionType.LEVELUP) {
@@ -217,6 +220,7 @@ public class ChallengeData implements EmptyCheck {
 			return;
 		}
 		result.setProgress(result.getProgress() + progressToAdd);
+		markChanged();
 
 		sendProgressBar(player, challengeType);
 	}
@@ -242,6 +246,7 @@ public class ChallengeData implements EmptyCheck {
 
 		challenges.putIfAbsent(completedChallenge.getChallengeType(),
 				new ChallengeResult(completedChallenge.getCompletionStatus(), challengeType.getNeededAmount(), false));
+		markChanged();
 
 		// Trigger completion effects
 		HellblockPlugin.getInstance().getChallengeManager().performChallengeCompletionActions(player, challengeType);
@@ -14,7 +14,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * This class also tracks whether the name and bio are currently using default
  * values.
  */
-public class DisplaySettings implements EmptyCheck {
+public class DisplaySettings extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("islandName")
@@ -74,6 +74,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void setIslandName(@NotNull String islandName) {
 		this.islandName = islandName;
+		markChanged();
 	}
 
 	/**
@@ -96,6 +97,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void setIslandBio(@NotNull String islandBio) {
 		this.islandBio = islandBio;
+		markChanged();
 	}
 
 	/**
@@ -118,6 +120,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void setDisplayChoice(@NotNull DisplayChoice displayChoice) {
 		this.displayChoice = displayChoice;
+		markChanged();
 	}
 
 	/**
@@ -143,6 +146,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void setAsDefaultIslandName() {
 		this.defaultIslandName = true;
+		markChanged();
 	}
 
 	/**
@@ -150,6 +154,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void setAsDefaultIslandBio() {
 		this.defaultIslandBio = true;
+		markChanged();
 	}
 
 	/**
@@ -157,6 +162,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void isNotDefaultIslandName() {
 		this.defaultIslandName = false;
+		markChanged();
 	}
 
 	/**
@@ -164,6 +170,7 @@ public class DisplaySettings implements EmptyCheck {
 	 */
 	public void isNotDefaultIslandBio() {
 		this.defaultIslandBio = false;
+		markChanged();
 	}
 
 	/**
@@ -16,7 +16,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * This class implements {@link EmptyCheck} to determine if any earnings are
  * recorded.
  */
-public final class EarningData implements EmptyCheck {
+public final class EarningData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("earnings")
@@ -65,6 +65,7 @@ public final class EarningData implements EmptyCheck {
 	 */
 	public void setEarnings(double earnings) {
 		this.earnings = earnings;
+		markChanged();
 	}
 
 	/**
@@ -74,6 +75,7 @@ public final class EarningData implements EmptyCheck {
 	 */
 	public void setDate(@NotNull LocalDate date) {
 		this.date = date;
+		markChanged();
 	}
 
 	/**
@@ -106,6 +108,7 @@ public final class EarningData implements EmptyCheck {
 		if (!today.equals(date)) {
 			this.date = today;
 			this.earnings = 0.0D;
+			markChanged();
 		}
 	}
 
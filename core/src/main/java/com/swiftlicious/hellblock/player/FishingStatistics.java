@@ -6,7 +6,7 @@ import java.util.Map;
 
 import com.swiftlicious.hellblock.utils.extras.Pair;
 
-public class FishingStatistics implements FishingStatisticsInterface {
+public class FishingStatistics extends TrackedData implements FishingStatisticsInterface {
 
 	private int amountOfFishCaught;
 	private final Map<String, Integer> amountMap;
@@ -26,6 +26,7 @@ public class FishingStatistics implements FishingStatisticsInterface {
 	@Override
 	public void amountOfFishCaught(int amountOfFishCaught) {
 		this.amountOfFishCaught = amountOfFishCaught;
+		markChanged();
 	}
 
 	@Override
@@ -41,6 +42,7 @@ public class FishingStatistics implements FishingStatisticsInterface {
 		final int previous = amountMap.getOrDefault(id, 0);
 		amountMap.put(id, previous + amount);
 		amountOfFishCaught += amount;
+		markChanged();
 		return Pair.of(previous, previous + amount);
 	}
 
@@ -53,6 +55,7 @@ public class FishingStatistics implements FishingStatisticsInterface {
 		final int delta = amount - previous;
 		this.amountOfFishCaught += delta;
 		amountMap.put(id, amount);
+		markChanged();
 	}
 
 	@Override
@@ -66,6 +69,7 @@ public class FishingStatistics implements FishingStatisticsInterface {
 			return;
 		}
 		sizeMap.put(id, maxSize);
+		markChanged();
 	}
 
 	@Override
@@ -78,6 +82,7 @@ public class FishingStatistics implements FishingStatisticsInterface {
 			return false;
 		}
 		sizeMap.put(id, newSize);
+		markChanged();
 		return true;
 	}
 
@@ -86,6 +91,7 @@ public class FishingStatistics implements FishingStatisticsInterface {
 		this.sizeMap.clear();
 		this.amountMap.clear();
 		this.amountOfFishCaught = 0;
+		markChanged();
 	}
 
 	@Override
@@ -1,74 +1,357 @@
 package com.swiftlicious.hellblock.player;
 
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.yaml.snakeyaml.external.biz.base64Coder.Base64Coder;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import com.mojang.authlib.properties.PropertyMap;
+import com.swiftlicious.hellblock.HellblockPlugin;
 
+/**
+ * Fetches and builds {@link GameProfile}s, mainly for player head textures.
+ * <p>
+ * Fetched profiles are kept in a bounded cache and are reused until they are
+ * older than the configured cache time; an outdated profile is still returned
+ * when the session server can't be reached. The cache is written to disk on
+ * shutdown and read back on startup, so heads don't have to be fetched again
+ * after every restart. Concurrent fetches of the same player share a single
+ * request, and requests are spread out to stay below the configured rate.
+ * <p>
+ * No thread ever waits for the rate limit. {@link #fetchAsync(UUID)} schedules
+ * the request for its reserved slot, while {@link #fetch(UUID)} only sends a
+ * request if a slot is free right away and otherwise serves the outdated
+ * profile or fails immediately.
+ */
 public class GameProfileBuilder {
 
+	public static final String DEFAULT_ENDPOINT = "https://sessionserver.mojang.com/session/minecraft/profile/%s?unsigned=false";
+	private static final long MAX_RATE_LIMIT_WAIT = TimeUnit.SECONDS.toNanos(5);
+	private static final long MISSING_PROFILE_TIME = TimeUnit.MINUTES.toMillis(10);
+
 	private static final Gson gson = new GsonBuilder().disableHtmlEscaping()
 			.registerTypeAdapter(UUID.class, new SimpleUUIDAdapter())
 			.registerTypeAdapter(GameProfile.class, new GameProfileSerializer())
 			.registerTypeAdapter(PropertyMap.class, new PropertyMap.Serializer()).create();
-	private static final Map<UUID, CachedProfile> cache = Collections.unmodifiableMap(new HashMap<>());
-	private static final Object sync = new Object();
-	private static long cacheTime = -1L;
+	private static final Map<UUID, CompletableFuture<GameProfile>> inFlight = new ConcurrentHashMap<>();
+	private static final AtomicLong nextRequest = new AtomicLong(System.nanoTime());
+	private static volatile Cache<UUID, CachedProfile> cache = Caffeine.newBuilder().maximumSize(1000).build();
+	private static volatile String endpoint = DEFAULT_ENDPOINT;
+	private static volatile long cacheTime = TimeUnit.HOURS.toMillis(6);
+	private static volatile long requestInterval = TimeUnit.MINUTES.toNanos(1) / 120;
 
 	public static GameProfile fetch(UUID uuid) throws IOException {
 		return fetch(uuid, false);
 	}
 
 	public static GameProfile fetch(UUID uuid, boolean forceNew) throws IOException {
-		if ((!forceNew) && (cache.containsKey(uuid)) && (cache.get(uuid).isValid())) {
-			return cache.get(uuid).profile;
+		final CachedProfile cached = cache.getIfPresent(uuid);
+		if (!forceNew && cached != null && cached.isValid()) {
+			if (cached.profile() == null) {
+				throw new IOException("No profile found for player: " + uuid);
+			}
+			return cached.profile();
 		}
 
-		final HttpURLConnection connection;
-		synchronized (sync) {
-			connection = (HttpURLConnection) URI
-					.create("https://sessionserver.mojang.com/session/minecraft/profile/%s?unsigned=false"
-							.formatted(SimpleUUIDAdapter.fromUUID(uuid)))
-					.toURL().openConnection();
-			connection.setReadTimeout(5000);
+		// Callers asking for the same player at the same time share one request
+		final CachedProfile fallback = forceNew ? null : cached;
+		final CompletableFuture<GameProfile> future = new CompletableFuture<>();
+		final CompletableFuture<GameProfile> running = inFlight.putIfAbsent(uuid, future);
+		if (running != null) {
+			if (!running.isDone() && fallback != null && fallback.profile() != null) {
+				return fallback.profile();
+			}
+			return await(uuid, running, fallback);
 		}
-		if (connection.getResponseCode() == 200) {
-			@SuppressWarnings("resource")
-			final String json = new BufferedReader(new InputStreamReader(connection.getInputStream())).readLine();
+		try {
+			if (reservePermit(0L) < 0L) {
+				throw new IOException("Too many profile requests, skipped fetching the profile of " + uuid);
+			}
+			future.complete(request(uuid));
+		} catch (IOException | RuntimeException ex) {
+			future.completeExceptionally(ex);
+		} finally {
+			inFlight.remove(uuid, future);
+		}
+		return await(uuid, future, fallback);
+	}
 
-			final GameProfile result = gson.fromJson(json, GameProfile.class);
-			cache.put(uuid, new CachedProfile(result));
-			return result;
+	/**
+	 * Fetches the profile of a player without blocking the calling thread.
+	 * <p>
+	 * Cached profiles are returned as an already completed future. Otherwise the
+	 * request is sent once its rate limit slot is due; if no slot is free within
+	 * a few seconds, or the request fails, the future completes with the outdated
+	 * cached profile, or exceptionally if there is none.
+	 *
+	 * @param uuid the player
+	 * @return a future completed with the profile
+	 */
+	public static CompletableFuture<GameProfile> fetchAsync(UUID uuid) {
+		final CachedProfile cached = cache.getIfPresent(uuid);
+		if (cached != null && cached.isValid()) {
+			return cached.profile() != null ? CompletableFuture.completedFuture(cached.profile())
+					: CompletableFuture.failedFuture(new IOException("No profile found for player: " + uuid));
+		}
+
+		final CompletableFuture<GameProfile> future = new CompletableFuture<>();
+		final CompletableFuture<GameProfile> running = inFlight.putIfAbsent(uuid, future);
+		if (running != null) {
+			return withFallback(running, cached);
+		}
+		future.whenComplete((profile, ex) -> inFlight.remove(uuid, future));
+
+		final long delay = reservePermit(MAX_RATE_LIMIT_WAIT);
+		if (delay < 0L) {
+			future.completeExceptionally(
+					new IOException("Too many profile requests, skipped fetching the profile of " + uuid));
+			return withFallback(future, cached);
+		}
+		final Runnable task = () -> {
+			try {
+				future.complete(request(uuid));
+			} catch (IOException | RuntimeException ex) {
+				future.completeExceptionally(ex);
+			}
+		};
+		try {
+			if (delay == 0L) {
+				HellblockPlugin.getInstance().getScheduler().async().execute(task);
+			} else {
+				HellblockPlugin.getInstance().getScheduler().asyncLater(task, delay, TimeUnit.NANOSECONDS);
+			}
+		} catch (RuntimeException ex) {
+			future.completeExceptionally(ex);
 		}
-		if ((!forceNew) && (cache.containsKey(uuid))) {
-			return cache.get(uuid).profile;
+		return withFallback(future, cached);
+	}
+
+	/**
+	 * Reads the skin texture of a profile.
+	 *
+	 * @param profile the profile
+	 * @return the base64 texture value, or {@code null} if the profile has none
+	 */
+	public static String getTexture(GameProfile profile) {
+		if (profile == null) {
+			return null;
+		}
+		final Iterator<Property> textures = profile.getProperties().get("textures").iterator();
+		return textures.hasNext() ? textures.next().getValue() : null;
+	}
+
+	/**
+	 * Reads the skin texture of a player from the cache, without fetching it.
+	 *
+	 * @param uuid the player
+	 * @return the base64 texture value, or {@code null} if no up to date profile
+	 *         is cached
+	 */
+	public static String getCachedTexture(UUID uuid) {
+		return getCachedTexture(uuid, false);
+	}
+
+	/**
+	 * Reads the skin texture of a player from the cache, without fetching it.
+	 *
+	 * @param uuid       the player
+	 * @param allowStale whether an expired profile may be used
+	 * @return the base64 texture value, or {@code null} if no matching profile is
+	 *         cached
+	 */
+	public static String getCachedTexture(UUID uuid, boolean allowStale) {
+		final CachedProfile cached = cache.getIfPresent(uuid);
+		return cached != null && (allowStale || cached.isValid()) ? getTexture(cached.profile()) : null;
+	}
+
+	private static CompletableFuture<GameProfile> withFallback(CompletableFuture<GameProfile> future,
+			CachedProfile fallback) {
+		if (fallback == null || fallback.profile() == null) {
+			return future;
+		}
+		return future.exceptionally(ex -> fallback.profile());
+	}
+
+	private static GameProfile await(UUID uuid, CompletableFuture<GameProfile> future, CachedProfile fallback)
+			throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while fetching the profile of " + uuid, ex);
+		} catch (ExecutionException ex) {
+			if (fallback != null && fallback.profile() != null) {
+				return fallback.profile();
+			}
+			throw ex.getCause() instanceof IOException io ? io : new IOException(ex.getCause());
+		}
+	}
+
+	private static GameProfile request(UUID uuid) throws IOException {
+		final HttpURLConnection connection = (HttpURLConnection) URI
+				.create(endpoint.formatted(SimpleUUIDAdapter.fromUUID(uuid))).toURL().openConnection();
+		connection.setConnectTimeout(5000);
+		connection.setReadTimeout(5000);
+		try {
+			final int code = connection.getResponseCode();
+			if (code == 200) {
+				final String json;
+				try (InputStream in = connection.getInputStream()) {
+					json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+				}
+				final GameProfile result = gson.fromJson(json, GameProfile.class);
+				cache.put(uuid, new CachedProfile(result, System.currentTimeMillis()));
+				return result;
+			}
+			if (code == 204 || code == 404) {
+				// Unknown player, e.g. on offline mode servers; don't ask again for a while
+				cache.put(uuid, new CachedProfile(null, System.currentTimeMillis()));
+			}
+		} finally {
+			connection.disconnect();
 		}
 		throw new IOException("Could not connect to mojang servers for unknown player: " + uuid.toString());
 	}
 
+	/**
+	 * Reserves the next request slot without waiting for it.
+	 *
+	 * @param maxWait the maximum time in nanoseconds until the slot is due
+	 * @return the time in nanoseconds until the reserved slot is due, or
+	 *         {@code -1} if the next free slot is further away than allowed
+	 */
+	private static long reservePermit(long maxWait) {
+		while (true) {
+			final long now = System.nanoTime();
+			final long next = nextRequest.get();
+			final long slot = Math.max(next, now);
+			if (slot - now > maxWait) {
+				return -1L;
+			}
+			if (nextRequest.compareAndSet(next, slot + requestInterval)) {
+				return slot - now;
+			}
+		}
+	}
+
+	/**
+	 * Applies the cache settings.
+	 *
+	 * @param profileEndpoint   the URL profiles are fetched from, {@code %s} is
+	 *                          replaced with the UUID without dashes
+	 * @param cacheMinutes      how long a fetched profile is used before it is
+	 *                          fetched again
+	 * @param maxSize           the maximum number of cached profiles
+	 * @param requestsPerMinute the maximum number of requests per minute
+	 */
+	public static void configure(String profileEndpoint, long cacheMinutes, int maxSize, int requestsPerMinute) {
+		endpoint = profileEndpoint == null || profileEndpoint.isBlank() ? DEFAULT_ENDPOINT : profileEndpoint;
+		cacheTime = TimeUnit.MINUTES.toMillis(Math.max(1, cacheMinutes));
+		requestInterval = TimeUnit.MINUTES.toNanos(1) / Math.max(1, requestsPerMinute);
+		final Cache<UUID, CachedProfile> resized = Caffeine.newBuilder().maximumSize(Math.max(1, maxSize)).build();
+		resized.putAll(cache.asMap());
+		cache = resized;
+	}
+
+	/**
+	 * Reads profiles written by {@link #saveCache(File)}. Missing or unreadable
+	 * files are ignored.
+	 *
+	 * @param file the cache file
+	 * @return the number of loaded profiles
+	 */
+	public static int loadCache(File file) {
+		if (!file.isFile()) {
+			return 0;
+		}
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			final JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+			int loaded = 0;
+			for (Map.Entry<String, JsonElement> entry : root.entrySet()) {
+				final JsonObject object = entry.getValue().getAsJsonObject();
+				final GameProfile profile = gson.fromJson(object.get("profile"), GameProfile.class);
+				if (profile != null) {
+					cache.put(UUID.fromString(entry.getKey()),
+							new CachedProfile(profile, object.get("fetched").getAsLong()));
+					loaded++;
+				}
+			}
+			return loaded;
+		} catch (IOException | RuntimeException ex) {
+			HellblockPlugin.getInstance().getPluginLogger().warn("Failed to read profile cache " + file.getName(), ex);
+			return 0;
+		}
+	}
+
+	/**
+	 * Writes every cached profile to disk.
+	 *
+	 * @param file the cache file
+	 */
+	public static void saveCache(File file) {
+		final JsonObject root = new JsonObject();
+		cache.asMap().forEach((uuid, cached) -> {
+			if (cached.profile() != null) {
+				final JsonObject object = new JsonObject();
+				object.addProperty("fetched", cached.fetchedAt());
+				object.add("profile", gson.toJsonTree(cached.profile(), GameProfile.class));
+				root.add(uuid.toString(), object);
+			}
+		});
+
+		final File parent = file.getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs()) {
+			HellblockPlugin.getInstance().getPluginLogger()
+					.warn("Failed to create profile cache folder " + parent.getAbsolutePath());
+			return;
+		}
+		final Path temp = file.toPath().resolveSibling(file.getName() + ".tmp");
+		try {
+			Files.writeString(temp, gson.toJson(root), StandardCharsets.UTF_8);
+			try {
+				Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException ex) {
+			HellblockPlugin.getInstance().getPluginLogger().warn("Failed to write profile cache " + file.getName(), ex);
+		}
+	}
+
 	public static GameProfile getProfile(UUID uuid, String name, String skin) {
 		return getProfile(uuid, name, skin, null);
 	}
@@ -92,10 +375,6 @@ public class GameProfileBuilder {
 		return profile;
 	}
 
-	public static void setCacheTime(long time) {
-		cacheTime = time;
-	}
-
 	private static class GameProfileSerializer implements JsonSerializer<GameProfile>, JsonDeserializer<GameProfile> {
 
 		@Override
@@ -127,9 +406,10 @@ public class GameProfileBuilder {
 		}
 	}
 
-	private record CachedProfile(GameProfile profile) {
+	private record CachedProfile(GameProfile profile, long fetchedAt) {
 		public boolean isValid() {
-			return GameProfileBuilder.cacheTime < 0L;
+			final long maxAge = profile != null ? GameProfileBuilder.cacheTime : MISSING_PROFILE_TIME;
+			return System.currentTimeMillis() - fetchedAt < maxAge;
 		}
 	}
 
@@ -86,7 +86,7 @@ import net.kyori.adventure.text.JoinConfiguration;
  * data or is in a default/uninitialized state.
  * </p>
  */
-public class HellblockData implements EmptyCheck {
+public class HellblockData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("islandId")
@@ -1516,6 +1516,8 @@ public class HellblockData implements EmptyCheck {
 		if (oldBoundingBox != null && getBoundingBox() != null) {
 			HellblockPlugin.getInstance().getHopperHandler().transferHoppers(oldBoundingBox, getBoundingBox().clone());
 		}
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1556,6 +1558,8 @@ public class HellblockData implements EmptyCheck {
 		setSkysiegeData(SkysiegeData.empty());
 		this.recentVisitors.clear();
 		this.offlineVisitors.clear();
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1566,6 +1570,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setHasHellblock(boolean hasHellblock) {
 		this.hasHellblock = hasHellblock;
+		markChanged();
 	}
 
 	/**
@@ -1575,6 +1580,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setLockedStatus(boolean locked) {
 		this.locked = locked;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1584,6 +1591,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setAsAbandoned(boolean abandoned) {
 		this.abandoned = abandoned;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1592,7 +1601,10 @@ public class HellblockData implements EmptyCheck {
 	 * @param id The integer ID to assign to the island.
 	 */
 	public void setIslandId(int id) {
+		invalidateProtectionSnapshot();
 		this.id = id;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1605,6 +1617,7 @@ public class HellblockData implements EmptyCheck {
 		if (hasHellblock() && getIslandLevel() <= 0) {
 			this.level = DEFAULT_LEVEL;
 		}
+		markChanged();
 	}
 
 	/**
@@ -1646,6 +1659,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setVisitData(@NotNull VisitData visitData) {
 		this.visitData = visitData;
+		markChanged();
 	}
 
 	/**
@@ -1655,6 +1669,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setInvasionData(@NotNull InvasionData invasionData) {
 		this.invasionData = invasionData;
+		markChanged();
 	}
 
 	/**
@@ -1664,6 +1679,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setWitherData(@NotNull WitherData witherData) {
 		this.witherData = witherData;
+		markChanged();
 	}
 
 	/**
@@ -1673,6 +1689,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setSkysiegeData(@NotNull SkysiegeData skysiegeData) {
 		this.skysiegeData = skysiegeData;
+		markChanged();
 	}
 
 	/**
@@ -1689,6 +1706,7 @@ public class HellblockData implements EmptyCheck {
 		if (this.recentVisitors.size() > 50) {
 			this.recentVisitors.remove(0); // remove oldest
 		}
+		markChanged();
 	}
 
 	/**
@@ -1697,7 +1715,11 @@ public class HellblockData implements EmptyCheck {
 	 * @param cutoff The timestamp (in milliseconds) used to filter old records.
 	 */
 	public boolean cleanupOldVisitors(long cutoff) {
-		return this.recentVisitors.removeIf(record -> record.getTimestamp() < cutoff);
+		final boolean changed = this.recentVisitors.removeIf(record -> record.getTimestamp() < cutoff);
+		if (changed) {
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1707,6 +1729,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setRecentVisitors(@NotNull List<VisitRecord> recentVisitors) {
 		this.recentVisitors = recentVisitors;
+		markChanged();
 	}
 
 	/**
@@ -1715,7 +1738,11 @@ public class HellblockData implements EmptyCheck {
 	 * @param visitorId The UUID of the visiting player.
 	 */
 	public boolean addOfflineVisitor(@NotNull UUID visitorId) {
-		return this.offlineVisitors.add(visitorId);
+		final boolean changed = this.offlineVisitors.add(visitorId);
+		if (changed) {
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1724,7 +1751,11 @@ public class HellblockData implements EmptyCheck {
 	 * @param visitorId The UUID of the visiting player.
 	 */
 	public boolean removeOfflineVisitor(@NotNull UUID visitorId) {
-		return this.offlineVisitors.remove(visitorId);
+		final boolean changed = this.offlineVisitors.remove(visitorId);
+		if (changed) {
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1732,6 +1763,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void clearOfflineVisitors() {
 		this.offlineVisitors.clear();
+		markChanged();
 	}
 
 	/**
@@ -1741,6 +1773,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setOfflineVisitors(@NotNull Set<UUID> offlineVisitors) {
 		this.offlineVisitors = offlineVisitors;
+		markChanged();
 	}
 
 	/**
@@ -1751,6 +1784,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setDisplaySettings(@NotNull DisplaySettings display) {
 		this.display = display;
+		markChanged();
 	}
 
 	/**
@@ -1760,6 +1794,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setChatSetting(@NotNull CoopChatSetting chat) {
 		this.chat = chat;
+		markChanged();
 	}
 
 	/**
@@ -1769,6 +1804,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setBiome(@Nullable HellBiome biome) {
 		this.biome = biome;
+		markChanged();
 	}
 
 	/**
@@ -1778,6 +1814,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setIslandChoice(@Nullable IslandOptions choice) {
 		this.choice = choice;
+		markChanged();
 	}
 
 	/**
@@ -1787,6 +1824,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setUsedSchematic(@Nullable String schematic) {
 		this.schematic = schematic;
+		markChanged();
 	}
 
 	/**
@@ -1796,6 +1834,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setCreationTime(long creationTime) {
 		this.creationTime = creationTime;
+		markChanged();
 	}
 
 	/**
@@ -1805,6 +1844,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setResetCooldown(long resetCooldown) {
 		this.resetCooldown = resetCooldown;
+		markChanged();
 	}
 
 	/**
@@ -1814,6 +1854,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setBiomeCooldown(long biomeCooldown) {
 		this.biomeCooldown = biomeCooldown;
+		markChanged();
 	}
 
 	/**
@@ -1823,6 +1864,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setTransferCooldown(long transferCooldown) {
 		this.transferCooldown = transferCooldown;
+		markChanged();
 	}
 
 	/**
@@ -1832,6 +1874,7 @@ public class HellblockData implements EmptyCheck {
 		long now = System.currentTimeMillis();
 		if (now - getLastIslandActivity() > ACTIVITY_UPDATE_INTERVAL) {
 			this.lastIslandActivity = now;
+			markChanged();
 		}
 	}
 
@@ -1847,6 +1890,7 @@ public class HellblockData implements EmptyCheck {
 			return;
 		}
 		this.lastWorldAccess = System.currentTimeMillis();
+		markChanged();
 	}
 
 	/**
@@ -1866,6 +1910,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setOwnerUUID(@Nullable UUID ownerUUID) {
 		this.ownerUUID = ownerUUID;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1876,6 +1922,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setLinkedPortalUUID(@Nullable UUID linkedPortalUUID) {
 		this.linkedPortalUUID = linkedPortalUUID;
+		markChanged();
 	}
 
 	/**
@@ -1885,6 +1932,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setBoundingBox(@Nullable BoundingBox boundingBox) {
 		this.boundingBox = boundingBox;
+		markChanged();
 	}
 
 	/**
@@ -1895,6 +1943,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setPreservedBoundingBox(@Nullable BoundingBox preservedBoundingBox) {
 		this.preservedBoundingBox = preservedBoundingBox;
+		markChanged();
 	}
 
 	/**
@@ -1904,6 +1953,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setHellblockLocation(@Nullable Location location) {
 		this.location = location;
+		markChanged();
 	}
 
 	/**
@@ -1913,6 +1963,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setHomeLocation(@Nullable Location home) {
 		this.home = home;
+		markChanged();
 	}
 
 	/**
@@ -1921,7 +1972,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param newMember the UUID of the new party member.
 	 */
 	public boolean addToParty(@NotNull UUID newMember) {
-		return !(getPartyMembers().contains(newMember)) ? getPartyMembers().add(newMember) : false;
+		final boolean changed = !(getPartyMembers().contains(newMember)) ? getPartyMembers().add(newMember) : false;
+		if (changed) {
+			invalidateProtectionSnapshot();
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1930,7 +1986,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param oldMember The UUID of the player to be removed from the party.
 	 */
 	public boolean kickFromParty(@NotNull UUID oldMember) {
-		return getPartyMembers().contains(oldMember) ? getPartyMembers().remove(oldMember) : false;
+		final boolean changed = getPartyMembers().contains(oldMember) ? getPartyMembers().remove(oldMember) : false;
+		if (changed) {
+			invalidateProtectionSnapshot();
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1940,6 +2001,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setPartyMembers(@NotNull Set<UUID> partyMembers) {
 		this.party = partyMembers;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1948,7 +2011,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param newTrustee The UUID of the player to trust.
 	 */
 	public boolean addTrustPermission(@NotNull UUID newTrustee) {
-		return !(getTrustedMembers().contains(newTrustee)) ? getTrustedMembers().add(newTrustee) : false;
+		final boolean changed = !(getTrustedMembers().contains(newTrustee)) ? getTrustedMembers().add(newTrustee) : false;
+		if (changed) {
+			invalidateProtectionSnapshot();
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1958,7 +2026,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param oldTrustee The UUID of the player to remove from trusted members.
 	 */
 	public boolean removeTrustPermission(@NotNull UUID oldTrustee) {
-		return getTrustedMembers().contains(oldTrustee) ? getTrustedMembers().remove(oldTrustee) : false;
+		final boolean changed = getTrustedMembers().contains(oldTrustee) ? getTrustedMembers().remove(oldTrustee) : false;
+		if (changed) {
+			invalidateProtectionSnapshot();
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1968,6 +2041,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setTrustedMembers(@NotNull Set<UUID> trustedMembers) {
 		this.trusted = trustedMembers;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -1976,7 +2051,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param bannedPlayer The UUID of the player to ban from the island.
 	 */
 	public boolean banPlayer(@NotNull UUID bannedPlayer) {
-		return !(getBannedMembers().contains(bannedPlayer)) ? getBannedMembers().add(bannedPlayer) : false;
+		final boolean changed = !(getBannedMembers().contains(bannedPlayer)) ? getBannedMembers().add(bannedPlayer) : false;
+		if (changed) {
+			invalidateProtectionSnapshot();
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1985,7 +2065,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param unbannedPlayer The UUID of the player to unban.
 	 */
 	public boolean unbanPlayer(@NotNull UUID unbannedPlayer) {
-		return getBannedMembers().contains(unbannedPlayer) ? getBannedMembers().remove(unbannedPlayer) : false;
+		final boolean changed = getBannedMembers().contains(unbannedPlayer) ? getBannedMembers().remove(unbannedPlayer) : false;
+		if (changed) {
+			invalidateProtectionSnapshot();
+			markChanged();
+		}
+		return changed;
 	}
 
 	/**
@@ -1995,6 +2080,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setBannedMembers(@NotNull Set<UUID> bannedPlayers) {
 		this.banned = bannedPlayers;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -2005,6 +2092,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setInvitations(@NotNull Map<UUID, Long> invitations) {
 		this.invitations = invitations;
+		markChanged();
 	}
 
 	/**
@@ -2014,7 +2102,9 @@ public class HellblockData implements EmptyCheck {
 	 * @param playerId The UUID of the player to invite.
 	 */
 	public long sendInvitation(@NotNull UUID playerId) {
-		return getInvitations().putIfAbsent(playerId, TimeUnit.SECONDS.toDays(86400));
+		final Long previous = getInvitations().putIfAbsent(playerId, TimeUnit.SECONDS.toDays(86400));
+		markChanged();
+		return previous;
 	}
 
 	/**
@@ -2023,7 +2113,12 @@ public class HellblockData implements EmptyCheck {
 	 * @param playerId The UUID of the player whose invitation should be revoked.
 	 */
 	public long removeInvitation(@NotNull UUID playerId) {
-		return getInvitations().containsKey(playerId) ? getInvitations().remove(playerId) : 0L;
+		if (!getInvitations().containsKey(playerId)) {
+			return 0L;
+		}
+		final long expiry = getInvitations().remove(playerId);
+		markChanged();
+		return expiry;
 	}
 
 	/**
@@ -2031,6 +2126,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void clearInvitations() {
 		getInvitations().clear();
+		markChanged();
 	}
 
 	/**
@@ -2041,6 +2137,8 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setProtectionFlags(@NotNull EnumMap<FlagType, HellblockFlag> flags) {
 		this.flags = flags;
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -2060,6 +2158,8 @@ public class HellblockData implements EmptyCheck {
 		} else {
 			getProtectionFlags().remove(type);
 		}
+		invalidateProtectionSnapshot();
+		markChanged();
 	}
 
 	/**
@@ -2092,6 +2192,7 @@ public class HellblockData implements EmptyCheck {
 			// Update the data on the existing flag
 			flag.setData(data);
 		}
+		markChanged();
 	}
 
 	/**
@@ -2113,6 +2214,7 @@ public class HellblockData implements EmptyCheck {
 		HellblockFlag flag = getProtectionFlags().get(flagType);
 		if (flag != null) {
 			flag.setData(null);
+			markChanged();
 		}
 	}
 
@@ -2124,6 +2226,7 @@ public class HellblockData implements EmptyCheck {
 	 */
 	public void setIslandUpgrades(@NotNull EnumMap<IslandUpgradeType, Integer> upgrades) {
 		this.upgrades = upgrades;
+		markChanged();
 	}
 
 	/**
@@ -2133,7 +2236,9 @@ public class HellblockData implements EmptyCheck {
 	 * @param upgradeType The {@link IslandUpgradeType} to upgrade.
 	 */
 	public int upgradeTier(@NotNull IslandUpgradeType upgradeType) {
-		return getIslandUpgrades().put(upgradeType, getUpgradeLevel(upgradeType) + 1);
+		final Integer previous = getIslandUpgrades().put(upgradeType, getUpgradeLevel(upgradeType) + 1);
+		markChanged();
+		return previous;
 	}
 
 	/**
@@ -2146,6 +2251,40 @@ public class HellblockData implements EmptyCheck {
 		for (IslandUpgradeType upgrade : IslandUpgradeType.values()) {
 			getIslandUpgrades().put(upgrade, 0);
 		}
+		markChanged();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Display settings and event data are modified through their own setters, so
+	 * their stamps are taken into account. Every change hands out a stamp newer
+	 * than all previous ones, which makes the maximum change as well.
+	 */
+	@Override
+	public long getChangeStamp() {
+		long stamp = super.getChangeStamp();
+		stamp = Math.max(stamp, stampOf(this.display));
+		stamp = Math.max(stamp, stampOf(this.visitData));
+		stamp = Math.max(stamp, stampOf(this.invasionData));
+		stamp = Math.max(stamp, stampOf(this.witherData));
+		return Math.max(stamp, stampOf(this.skysiegeData));
+	}
+
+	private static long stampOf(@Nullable TrackedData data) {
+		return data != null ? data.getChangeStamp() : 0L;
+	}
+
+	/**
+	 * Drops the cached protection snapshot of this island so that protection
+	 * checks pick up the new state. Called from every mutator that changes
+	 * membership, trust, bans, flags, ownership, lock or abandoned state.
+	 */
+	private void invalidateProtectionSnapshot() {
+		final HellblockPlugin plugin = HellblockPlugin.getInstance();
+		if (this.id > 0 && plugin != null && plugin.getProtectionManager() != null) {
+			plugin.getProtectionManager().getSnapshotCache().invalidate(this.id);
+		}
 	}
 
 	/**
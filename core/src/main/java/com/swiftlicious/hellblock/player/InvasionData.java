@@ -17,7 +17,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * tracking, progression rewards, boss kill achievements, and invasion cooldown
  * management.
  */
-public class InvasionData implements EmptyCheck {
+public class InvasionData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("totalInvasions")
@@ -74,6 +74,7 @@ public class InvasionData implements EmptyCheck {
 		if (bossDefeated) {
 			bossKills++;
 		}
+		markChanged();
 	}
 
 	/**
@@ -85,6 +86,7 @@ public class InvasionData implements EmptyCheck {
 		totalInvasions++;
 		failedInvasions++;
 		currentStreak = 0;
+		markChanged();
 	}
 
 	/**
@@ -157,6 +159,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setTotalInvasions(int totalInvasions) {
 		this.totalInvasions = totalInvasions;
+		markChanged();
 	}
 
 	/**
@@ -166,6 +169,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setSuccessfulInvasions(int successfulInvasions) {
 		this.successfulInvasions = successfulInvasions;
+		markChanged();
 	}
 
 	/**
@@ -175,6 +179,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setFailedInvasions(int failedInvasions) {
 		this.failedInvasions = failedInvasions;
+		markChanged();
 	}
 
 	/**
@@ -184,6 +189,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setBossKills(int bossKills) {
 		this.bossKills = bossKills;
+		markChanged();
 	}
 
 	/**
@@ -193,6 +199,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setCurrentStreak(int currentStreak) {
 		this.currentStreak = currentStreak;
+		markChanged();
 	}
 
 	/**
@@ -202,6 +209,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setLastInvasionTime(long timeMillis) {
 		this.lastInvasionTime = timeMillis;
+		markChanged();
 	}
 
 	/**
@@ -211,6 +219,7 @@ public class InvasionData implements EmptyCheck {
 	 */
 	public void setHighestDifficultyTierReached(int tier) {
 		this.highestDifficultyTierReached = tier;
+		markChanged();
 	}
 
 	/**
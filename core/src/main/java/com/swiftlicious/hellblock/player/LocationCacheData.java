@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
@@ -20,7 +21,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * This class implements {@link EmptyCheck} to allow checking if the cache is
  * empty.
  */
-public class LocationCacheData implements EmptyCheck {
+public class LocationCacheData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("cachedPistons")
@@ -32,6 +33,11 @@ public class LocationCacheData implements EmptyCheck {
 	// chunkKey -> (blockData -> count)
 	protected Map<String, Map<String, Integer>> placedBlocks;
 
+	@Expose
+	@SerializedName("placedBlockData")
+	// Base64 of the binary placed block index, replaces placedBlocks
+	protected String placedBlockData;
+
 	/**
 	 * Constructs a new {@code LocationCacheData} instance with provided maps.
 	 *
@@ -49,6 +55,22 @@ public class LocationCacheData implements EmptyCheck {
 				.collect(Collectors.toMap(Map.Entry::getKey, e -> new HashMap<>(e.getValue())));
 	}
 
+	/**
+	 * Constructs a new {@code LocationCacheData} instance with provided maps and
+	 * placed block data.
+	 *
+	 * @param pistonLocationsByIsland a map from island ID to a list of serialized
+	 *                                piston locations
+	 * @param placedBlocks            the legacy placed block map
+	 * @param placedBlockData         the encoded placed block index, or
+	 *                                {@code null}
+	 */
+	public LocationCacheData(@NotNull Map<Integer, List<String>> pistonLocationsByIsland,
+			@NotNull Map<String, Map<String, Integer>> placedBlocks, @Nullable String placedBlockData) {
+		this(pistonLocationsByIsland, placedBlocks);
+		this.placedBlockData = placedBlockData;
+	}
+
 	/**
 	 * Gets the mapping of island IDs to lists of serialized piston locations.
 	 *
@@ -64,6 +86,9 @@ public class LocationCacheData implements EmptyCheck {
 
 	/**
 	 * Gets the mapping of placed blocks by chunk key and block data.
+	 * <p>
+	 * This is the format used before {@link #getPlacedBlockData()} and is only
+	 * read to migrate existing data.
 	 *
 	 * @return the map of placed blocks
 	 */
@@ -75,6 +100,16 @@ public class LocationCacheData implements EmptyCheck {
 		return this.placedBlocks;
 	}
 
+	/**
+	 * Gets the encoded placed block index of the island.
+	 *
+	 * @return the Base64 encoded index, or {@code null} if none was saved yet
+	 */
+	@Nullable
+	public String getPlacedBlockData() {
+		return this.placedBlockData;
+	}
+
 	/**
 	 * Sets the map of piston locations by island.
 	 *
@@ -83,6 +118,7 @@ public class LocationCacheData implements EmptyCheck {
 	 */
 	public void setPistonLocationsByIsland(@NotNull Map<Integer, List<String>> pistonLocationsByIsland) {
 		this.pistonLocationsByIsland = pistonLocationsByIsland;
+		markChanged();
 	}
 
 	/**
@@ -92,6 +128,17 @@ public class LocationCacheData implements EmptyCheck {
 	 */
 	public void setPlacedBlocks(@NotNull Map<String, Map<String, Integer>> placedBlocks) {
 		this.placedBlocks = placedBlocks;
+		markChanged();
+	}
+
+	/**
+	 * Sets the encoded placed block index of the island.
+	 *
+	 * @param placedBlockData the Base64 encoded index, or {@code null} to clear it
+	 */
+	public void setPlacedBlockData(@Nullable String placedBlockData) {
+		this.placedBlockData = placedBlockData;
+		markChanged();
 	}
 
 	/**
@@ -99,7 +146,9 @@ public class LocationCacheData implements EmptyCheck {
 	 */
 	public void clearBlockData() {
 		this.placedBlocks.clear();
+		this.placedBlockData = null;
 		this.pistonLocationsByIsland.clear();
+		markChanged();
 	}
 
 	/**
@@ -135,16 +184,17 @@ public class LocationCacheData implements EmptyCheck {
 			placedBlocksCopy.put(outerEntry.getKey(), innerCopy);
 		});
 
-		return new LocationCacheData(pistonLocationsCopy, placedBlocksCopy);
+		return new LocationCacheData(pistonLocationsCopy, placedBlocksCopy, placedBlockData);
 	}
 
 	/**
 	 * Checks whether this cache contains any piston locations or placed block data.
 	 *
-	 * @return true if both maps are empty, false otherwise
+	 * @return true if nothing is cached, false otherwise
 	 */
 	@Override
 	public boolean isEmpty() {
-		return this.pistonLocationsByIsland.isEmpty() && this.placedBlocks.isEmpty();
+		return this.pistonLocationsByIsland.isEmpty() && this.placedBlocks.isEmpty()
+				&& (this.placedBlockData == null || this.placedBlockData.isEmpty());
 	}
 }
\ No newline at end of file
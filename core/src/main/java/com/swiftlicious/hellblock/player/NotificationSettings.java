@@ -13,7 +13,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * This class implements {@link EmptyCheck} to determine whether both
  * notification types are enabled (i.e., the default state).
  */
-public class NotificationSettings implements EmptyCheck {
+public class NotificationSettings extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("joinNotifications")
@@ -60,6 +60,7 @@ public class NotificationSettings implements EmptyCheck {
 	 */
 	public void setJoinNotifications(boolean joinNotifications) {
 		this.joinNotifications = joinNotifications;
+		markChanged();
 	}
 
 	/**
@@ -69,6 +70,7 @@ public class NotificationSettings implements EmptyCheck {
 	 */
 	public void setInviteNotifications(boolean inviteNotifications) {
 		this.inviteNotifications = inviteNotifications;
+		markChanged();
 	}
 
 	/**
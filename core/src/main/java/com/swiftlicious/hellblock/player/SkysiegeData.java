@@ -18,7 +18,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * All values are persisted along with the island’s save data and remain
  * available between sessions.
  */
-public class SkysiegeData implements EmptyCheck {
+public class SkysiegeData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("totalSkysieges")
@@ -81,6 +81,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void recordStart() {
 		totalSkysieges++;
+		markChanged();
 	}
 
 	/**
@@ -109,6 +110,7 @@ public class SkysiegeData implements EmptyCheck {
 			shortestDurationMillis = duration;
 
 		lastSkysiegeTime = System.currentTimeMillis();
+		markChanged();
 	}
 
 	/**
@@ -120,6 +122,7 @@ public class SkysiegeData implements EmptyCheck {
 	public void recordFailure() {
 		failedSkysieges++;
 		lastSkysiegeTime = System.currentTimeMillis();
+		markChanged();
 	}
 
 	/**
@@ -210,6 +213,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setTotalSkysieges(int totalSkysieges) {
 		this.totalSkysieges = totalSkysieges;
+		markChanged();
 	}
 
 	/**
@@ -219,6 +223,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setSuccessfulSkysieges(int successfulSkysieges) {
 		this.successfulSkysieges = successfulSkysieges;
+		markChanged();
 	}
 
 	/**
@@ -228,6 +233,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setFailedSkysieges(int failedSkysieges) {
 		this.failedSkysieges = failedSkysieges;
+		markChanged();
 	}
 
 	/**
@@ -237,6 +243,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setQueenKills(int queenKills) {
 		this.queenKills = queenKills;
+		markChanged();
 	}
 
 	/**
@@ -246,6 +253,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setTotalWavesCompleted(int totalWavesCompleted) {
 		this.totalWavesCompleted = totalWavesCompleted;
+		markChanged();
 	}
 
 	/**
@@ -255,6 +263,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setTotalGhastsKilled(int totalGhastsKilled) {
 		this.totalGhastsKilled = totalGhastsKilled;
+		markChanged();
 	}
 
 	/**
@@ -264,6 +273,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setLongestDurationMillis(long longestDurationMillis) {
 		this.longestDurationMillis = longestDurationMillis;
+		markChanged();
 	}
 
 	/**
@@ -273,6 +283,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setShortestDurationMillis(long shortestDurationMillis) {
 		this.shortestDurationMillis = shortestDurationMillis;
+		markChanged();
 	}
 
 	/**
@@ -282,6 +293,7 @@ public class SkysiegeData implements EmptyCheck {
 	 */
 	public void setLastSkysiegeTime(long lastSkysiegeTime) {
 		this.lastSkysiegeTime = lastSkysiegeTime;
+		markChanged();
 	}
 
 	/**
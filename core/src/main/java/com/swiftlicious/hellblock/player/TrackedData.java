@@ -0,0 +1,50 @@
+package com.swiftlicious.hellblock.player;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Base class of player data sections whose changes are tracked for saving.
+ * <p>
+ * Every mutator calls {@link #markChanged()} after modifying the section, which
+ * assigns it a new change stamp from a global sequence. Stamps are unique
+ * across all instances and only ever grow, so a copied or reloaded section
+ * never shares a stamp with the state that was last saved, and comparing
+ * stamps is enough to tell whether a section changed since then.
+ */
+public abstract class TrackedData {
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+	private static final AtomicLongFieldUpdater<TrackedData> STAMP = AtomicLongFieldUpdater
+			.newUpdater(TrackedData.class, "changeStamp");
+
+	/** Assigned lazily, since instances created by Gson skip field initializers. */
+	private transient volatile long changeStamp;
+
+	/**
+	 * @return the stamp of the last change to this section
+	 */
+	public long getChangeStamp() {
+		long stamp = this.changeStamp;
+		if (stamp == 0L) {
+			STAMP.compareAndSet(this, 0L, nextStamp());
+			stamp = this.changeStamp;
+		}
+		return stamp;
+	}
+
+	/**
+	 * Records that this section was modified. Must be called after the
+	 * modification, so a save that reads the old stamp is followed by another.
+	 */
+	protected final void markChanged() {
+		this.changeStamp = nextStamp();
+	}
+
+	/**
+	 * @return a new change stamp, greater than every stamp handed out before
+	 */
+	static long nextStamp() {
+		return SEQUENCE.incrementAndGet();
+	}
+}
@@ -64,6 +64,9 @@ public class UserData implements UserDataInterface {
 	/** Whether the user is currently holding a glowstone tool (transient). */
 	protected transient boolean holdingGlowstoneTool;
 
+	/** Change stamp of the mailbox, which is a plain list (transient). */
+	private transient volatile long mailboxStamp = TrackedData.nextStamp();
+
 	/**
 	 * Constructs a fully initialized {@code UserData} instance.
 	 *
@@ -353,6 +356,21 @@ public class UserData implements UserDataInterface {
 		this.holdingGlowstoneTool = holdingGlowstoneTool;
 	}
 
+	/**
+	 * @return the stamp of the last change to the mailbox
+	 */
+	public long getMailboxChangeStamp() {
+		return this.mailboxStamp;
+	}
+
+	/**
+	 * Records that mailbox entries were added or removed, so the mailbox is
+	 * written on the next save.
+	 */
+	public void markMailboxChanged() {
+		this.mailboxStamp = TrackedData.nextStamp();
+	}
+
 	/** {@inheritDoc} */
 	@NotNull
 	@Override
@@ -23,7 +23,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  * intervals (daily, weekly, monthly), and includes logic for featured ranking
  * and expiry.
  */
-public class VisitData implements EmptyCheck {
+public class VisitData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("warpLocation")
@@ -81,6 +81,7 @@ public class VisitData implements EmptyCheck {
 		visitsToday++;
 		visitsThisWeek++;
 		visitsThisMonth++;
+		markChanged();
 	}
 
 	/**
@@ -94,6 +95,7 @@ public class VisitData implements EmptyCheck {
 		visitsThisMonth = 0;
 		lastVisitReset = System.currentTimeMillis();
 		featuredUntil = 0L;
+		markChanged();
 	}
 
 	/**
@@ -122,6 +124,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setFeaturedUntil(long until) {
 		this.featuredUntil = until;
+		markChanged();
 	}
 
 	/**
@@ -129,6 +132,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void removeFeatured() {
 		this.featuredUntil = 0L;
+		markChanged();
 	}
 
 	/**
@@ -183,6 +187,7 @@ public class VisitData implements EmptyCheck {
 
 		if (changed) {
 			lastVisitReset = now;
+			markChanged();
 		}
 	}
 
@@ -203,6 +208,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setWarpLocation(@Nullable Location warp) {
 		this.warp = warp;
+		markChanged();
 	}
 
 	/**
@@ -261,6 +267,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setTotalVisits(int totalVisits) {
 		this.totalVisits = totalVisits;
+		markChanged();
 	}
 
 	/**
@@ -270,6 +277,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setVisitsToday(int visitsToday) {
 		this.visitsToday = visitsToday;
+		markChanged();
 	}
 
 	/**
@@ -279,6 +287,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setVisitsThisWeek(int visitsThisWeek) {
 		this.visitsThisWeek = visitsThisWeek;
+		markChanged();
 	}
 
 	/**
@@ -288,6 +297,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setVisitsThisMonth(int visitsThisMonth) {
 		this.visitsThisMonth = visitsThisMonth;
+		markChanged();
 	}
 
 	/**
@@ -297,6 +307,7 @@ public class VisitData implements EmptyCheck {
 	 */
 	public void setLastVisitReset(long lastVisitReset) {
 		this.lastVisitReset = lastVisitReset;
+		markChanged();
 	}
 
 	/**
@@ -20,7 +20,7 @@ import com.swiftlicious.hellblock.utils.adapters.HellblockTypeAdapterFactory.Emp
  *
  * This data is saved and persisted per island across sessions.
  */
-public class WitherData implements EmptyCheck {
+public class WitherData extends TrackedData implements EmptyCheck {
 
 	@Expose
 	@SerializedName("totalSpawns")
@@ -76,6 +76,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void recordSpawn() {
 		totalSpawns++;
+		markChanged();
 	}
 
 	/**
@@ -92,6 +93,7 @@ public class WitherData implements EmptyCheck {
 		if (shortestFightMillis == 0 || fightMillis < shortestFightMillis) {
 			shortestFightMillis = fightMillis;
 		}
+		markChanged();
 	}
 
 	/**
@@ -100,6 +102,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void recordDespawn() {
 		despawns++;
+		markChanged();
 	}
 
 	/**
@@ -107,6 +110,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void recordHeal() {
 		totalHeals++;
+		markChanged();
 	}
 
 	/**
@@ -115,6 +119,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void recordMinionWave() {
 		totalMinionWaves++;
+		markChanged();
 	}
 
 	/**
@@ -196,6 +201,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setTotalSpawns(int totalSpawns) {
 		this.totalSpawns = totalSpawns;
+		markChanged();
 	}
 
 	/**
@@ -205,6 +211,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setKills(int kills) {
 		this.kills = kills;
+		markChanged();
 	}
 
 	/**
@@ -214,6 +221,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setDespawns(int despawns) {
 		this.despawns = despawns;
+		markChanged();
 	}
 
 	/**
@@ -223,6 +231,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setLongestFightMillis(long longestFightMillis) {
 		this.longestFightMillis = longestFightMillis;
+		markChanged();
 	}
 
 	/**
@@ -232,6 +241,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setShortestFightMillis(long shortestFightMillis) {
 		this.shortestFightMillis = shortestFightMillis;
+		markChanged();
 	}
 
 	/**
@@ -241,6 +251,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setTotalHeals(int totalHeals) {
 		this.totalHeals = totalHeals;
+		markChanged();
 	}
 
 	/**
@@ -250,6 +261,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setTotalMinionWaves(int totalMinionWaves) {
 		this.totalMinionWaves = totalMinionWaves;
+		markChanged();
 	}
 
 	/**
@@ -259,6 +271,7 @@ public class WitherData implements EmptyCheck {
 	 */
 	public void setLastSpawnTime(long lastSpawnTime) {
 		this.lastSpawnTime = lastSpawnTime;
+		markChanged();
 	}
 
 	/**
@@ -54,7 +54,9 @@ public class MailboxManager {
 			UserData userData = optData.get();
 
 			// This may succeed or fail — handle below ensures unlock is always attempted
-			return CompletableFuture.completedFuture(userData.getMailbox().add(entry));
+			boolean added = userData.getMailbox().add(entry);
+			userData.markMailboxChanged();
+			return CompletableFuture.completedFuture(added);
 		}).handle((result, ex) -> {
 			// Always unlock, regardless of success or failure
 			return instance.getStorageManager().unlockUserData(playerId).thenApply(unused -> {
@@ -175,5 +177,6 @@ public class MailboxManager {
 
 		// Clear processed entries
 		userData.getMailbox().clear();
+		userData.markMailboxChanged();
 	}
 }
\ No newline at end of file
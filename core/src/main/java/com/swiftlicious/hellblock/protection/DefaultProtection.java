@@ -74,10 +74,14 @@ public class DefaultProtection implements IslandProtection<Vector> {
 				boundingBox = hellblockData.getPreservedBoundingBox();
 				instance.debug("protectHellblock: Using preserved bounding box from previous island reset.");
 
-				// Option 3: Shared world → derive bounding box from spiral logic
+				// Option 3: Shared world → bounding box around the claimed spiral slot
+			} else if (hellblockData.getHellblockLocation() != null) {
+				boundingBox = instance.getPlacementDetector().computeBoundingBoxForIsland(islandId,
+						hellblockData.getHellblockLocation(), world);
+				instance.debug("protectHellblock: Computed bounding box around the island location.");
 			} else {
-				boundingBox = instance.getPlacementDetector().computeSpiralBoundingBoxForIsland(islandId, world);
-				instance.debug("protectHellblock: Computed bounding box from spiral placement.");
+				return CompletableFuture.failedFuture(new IllegalStateException(
+						"protectHellblock: Missing island location for player: " + playerName));
 			}
 
 			hellblockData.setBoundingBox(boundingBox);
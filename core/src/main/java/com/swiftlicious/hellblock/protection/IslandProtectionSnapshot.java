@@ -0,0 +1,112 @@
+package com.swiftlicious.hellblock.protection;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.player.HellblockData;
+import com.swiftlicious.hellblock.protection.HellblockFlag.AccessType;
+import com.swiftlicious.hellblock.protection.HellblockFlag.FlagType;
+
+/**
+ * Immutable, precomputed view of the protection-relevant state of a single
+ * island.
+ * <p>
+ * Snapshots are built from the owner's {@link HellblockData} and allow
+ * protection listeners to decide synchronously without resolving user data.
+ * Flag values are folded into a bitset indexed by {@link FlagType#ordinal()}.
+ *
+ * @param islandId     the island ID
+ * @param owner        the island owner, if any
+ * @param members      owner, party and trusted players (everyone who can
+ *                     access the island)
+ * @param banned       players banned from the island
+ * @param allowedFlags bitset of flags whose access value is
+ *                     {@link AccessType#ALLOW}
+ * @param abandoned    whether the island is abandoned
+ * @param locked       whether the island is locked to visitors
+ * @param createdAt    the {@link System#nanoTime()} at which the snapshot was
+ *                     built
+ */
+public record IslandProtectionSnapshot(int islandId, @Nullable UUID owner, @NotNull Set<UUID> members,
+		@NotNull Set<UUID> banned, long allowedFlags, boolean abandoned, boolean locked, long createdAt) {
+
+	static {
+		if (FlagType.values().length > Long.SIZE) {
+			throw new IllegalStateException("Too many flag types to fit in a protection snapshot bitset");
+		}
+	}
+
+	/**
+	 * Builds a snapshot from the given island data.
+	 *
+	 * @param data the owner's island data
+	 * @return a new immutable snapshot
+	 */
+	@NotNull
+	public static IslandProtectionSnapshot of(@NotNull HellblockData data) {
+		long allowed = 0L;
+		for (FlagType type : FlagType.values()) {
+			if (data.getProtectionValue(type) == AccessType.ALLOW) {
+				allowed |= 1L << type.ordinal();
+			}
+		}
+		return new IslandProtectionSnapshot(data.getIslandId(), data.getOwnerUUID(),
+				Set.copyOf(data.getIslandMembers()), Set.copyOf(data.getBannedMembers()), allowed,
+				data.isAbandoned(), data.isLocked(), System.nanoTime());
+	}
+
+	/**
+	 * @param type the flag to check
+	 * @return whether the owner allows the flag for everyone
+	 */
+	public boolean isAllowed(@NotNull FlagType type) {
+		return (allowedFlags & (1L << type.ordinal())) != 0L;
+	}
+
+	/**
+	 * @param playerId the player to check
+	 * @return whether the player is the owner, a party member or trusted
+	 */
+	public boolean canAccess(@NotNull UUID playerId) {
+		return members.contains(playerId);
+	}
+
+	/**
+	 * @param playerId the player to check
+	 * @return whether the player is banned from this island
+	 */
+	public boolean isBanned(@NotNull UUID playerId) {
+		return banned.contains(playerId);
+	}
+
+	/**
+	 * Mirrors the flag rules applied by the protection listeners, including the
+	 * fixed rules for abandoned islands.
+	 *
+	 * @param player the acting player, or {@code null} for natural events
+	 * @param type   the flag being checked
+	 * @return whether the action is permitted
+	 */
+	public boolean canInteract(@Nullable Player player, @NotNull FlagType type) {
+		if (abandoned) {
+			return switch (type) {
+			case PVP, ENTRY, BUILD -> true;
+			default -> false;
+			};
+		}
+		return player != null && (canAccess(player.getUniqueId()) || isAllowed(type));
+	}
+
+	/**
+	 * @param player the visiting player
+	 * @return whether the player may enter while the island is locked
+	 */
+	public boolean isWelcome(@NotNull Player player) {
+		return !locked || canAccess(player.getUniqueId()) || player.hasPermission("hellblock.bypass.lock")
+				|| player.hasPermission("hellblock.admin") || player.isOp();
+	}
+}
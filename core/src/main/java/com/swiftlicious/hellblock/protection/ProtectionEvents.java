@@ -1908,6 +1908,12 @@ public class ProtectionEvents implements Listener, Reloadable {
 			return CompletableFuture.completedFuture(false);
 		}
 
+		// Fast path: decide from the in-memory protection snapshot
+		final ProtectionSnapshotCache.Decision decision = snapshots().decideNatural(location, flag);
+		if (decision != ProtectionSnapshotCache.Decision.UNKNOWN) {
+			return CompletableFuture.completedFuture(decision == ProtectionSnapshotCache.Decision.DENY);
+		}
+
 		return instance.getCoopManager().getHellblockOwnerOfBlock(location.getBlock()).thenCompose(ownerUUID -> {
 			if (ownerUUID == null) {
 				return CompletableFuture.completedFuture(false);
@@ -1940,6 +1946,12 @@ public class ProtectionEvents implements Listener, Reloadable {
 			return CompletableFuture.completedFuture(false);
 		}
 
+		// Fast path: decide from the in-memory protection snapshot
+		final ProtectionSnapshotCache.Decision decision = snapshots().decide(player, location, flag);
+		if (decision != ProtectionSnapshotCache.Decision.UNKNOWN) {
+			return CompletableFuture.completedFuture(decision == ProtectionSnapshotCache.Decision.ALLOW);
+		}
+
 		return instance.getCoopManager().getHellblockOwnerOfBlock(location.getBlock()).thenCompose(ownerUUID -> {
 			if (ownerUUID == null) {
 				instance.debug("Protection: Skipped non-island location at " + location.getWorld().getName() + " ("
@@ -1977,6 +1989,31 @@ public class ProtectionEvents implements Listener, Reloadable {
 
 	private CompletableFuture<Boolean> denyIfNotAllowed(@NotNull Player player, @NotNull Location location,
 			@Nullable Cancellable event, @NotNull Component message, @NotNull HellblockFlag.FlagType flag) {
+		// Fast path: decide synchronously so the event is cancelled while it is still
+		// being dispatched
+		if (location.getWorld() != null && instance.getHellblockHandler().isInCorrectWorld(location.getWorld())) {
+			final ProtectionSnapshotCache.Decision decision = flag == HellblockFlag.FlagType.ENTRY
+					? snapshots().decideEntry(player, location)
+					: snapshots().decide(player, location, flag);
+			if (decision != ProtectionSnapshotCache.Decision.UNKNOWN) {
+				if (decision == ProtectionSnapshotCache.Decision.ALLOW || bypass(player)) {
+					return CompletableFuture.completedFuture(false);
+				}
+				if (flag == HellblockFlag.FlagType.ENTRY && decision == ProtectionSnapshotCache.Decision.NO_ISLAND) {
+					// Entering a location outside of any island is never restricted
+					return CompletableFuture.completedFuture(false);
+				}
+				if (Bukkit.isPrimaryThread()) {
+					applyDenial(player, location, event, message, decision);
+					return CompletableFuture.completedFuture(true);
+				}
+				return instance.getScheduler().callSync(() -> {
+					applyDenial(player, location, event, message, decision);
+					return CompletableFuture.completedFuture(true);
+				});
+			}
+		}
+
 		final CompletableFuture<Boolean> canInteractFuture = canInteract(player, location, flag);
 
 		if (flag == HellblockFlag.FlagType.ENTRY) {
@@ -2055,6 +2092,35 @@ public class ProtectionEvents implements Listener, Reloadable {
 		});
 	}
 
+	/**
+	 * Cancels the event and notifies the player of a denial decided from the
+	 * protection snapshot cache. Must be called on the main thread.
+	 */
+	private void applyDenial(@NotNull Player player, @NotNull Location location, @Nullable Cancellable event,
+			@NotNull Component message, @NotNull ProtectionSnapshotCache.Decision decision) {
+		if (event != null) {
+			event.setCancelled(true);
+		}
+		final Component denyMessage = switch (decision) {
+		case DENY_BANNED ->
+			instance.getTranslationManager().render(MessageConstants.MSG_HELLBLOCK_BANNED_ENTRY.build());
+		case DENY_LOCKED ->
+			instance.getTranslationManager().render(MessageConstants.MSG_HELLBLOCK_LOCKED_ENTRY.build());
+		default -> instance.getTranslationManager().render(message);
+		};
+		instance.getSenderFactory().wrap(player).sendMessage(denyMessage);
+		instance.debug("Protection: Denied %s (%s) at [world=%s, x=%d, y=%d, z=%d]. Decision=%s, Event=%s".formatted(
+				player.getName(), player.getUniqueId(),
+				location.getWorld() != null ? location.getWorld().getName() : "unknown", location.getBlockX(),
+				location.getBlockY(), location.getBlockZ(), decision,
+				(event != null ? event.getClass().getSimpleName() : "unknownEventClass")));
+	}
+
+	@NotNull
+	private ProtectionSnapshotCache snapshots() {
+		return instance.getProtectionManager().getSnapshotCache();
+	}
+
 	private CompletableFuture<Boolean> checkFlag(@Nullable Player player, @NotNull Location location,
 			@NotNull Cancellable event, @NotNull Component message, @NotNull HellblockFlag.FlagType flag) {
 		return denyIfNotAllowed(player, location, event, message, flag);
@@ -61,6 +61,7 @@ public class ProtectionManager implements ProtectionManagerInterface, Reloadable
 
 	private IslandProtection<?> islandProtection;
 	private ProtectionEvents protectionEvents;
+	private final ProtectionSnapshotCache snapshotCache;
 
 	private final Map<UUID, CompletableFuture<Set<Pos3>>> activeBlockScans = new ConcurrentHashMap<>();
 	private final Map<UUID, Set<ChunkPos>> skippedChunksPerIsland = new ConcurrentHashMap<>();
@@ -72,6 +73,8 @@ public class ProtectionManager implements ProtectionManagerInterface, Reloadable
 
 	public ProtectionManager(HellblockPlugin plugin) {
 		instance = plugin;
+		this.snapshotCache = new ProtectionSnapshotCache(plugin);
+		plugin.registerPerformanceReporter(snapshotCache);
 	}
 
 	@Override
@@ -86,7 +89,18 @@ public class ProtectionManager implements ProtectionManagerInterface, Reloadable
 		activeBlockScans.clear();
 		skippedChunksPerIsland.clear();
 		islandChunksCache.cleanUp();
+		snapshotCache.clear();
+	}
 
+	/**
+	 * Gets the cache of precomputed per-island protection snapshots used for
+	 * synchronous protection decisions.
+	 *
+	 * @return the protection snapshot cache
+	 */
+	@NotNull
+	public ProtectionSnapshotCache getSnapshotCache() {
+		return this.snapshotCache;
 	}
 
 	/**
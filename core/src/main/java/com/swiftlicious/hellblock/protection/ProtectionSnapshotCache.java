@@ -0,0 +1,316 @@
+package com.swiftlicious.hellblock.protection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.generation.IslandSpatialIndex;
+import com.swiftlicious.hellblock.player.UserData;
+import com.swiftlicious.hellblock.protection.HellblockFlag.FlagType;
+
+/**
+ * In-memory cache of {@link IslandProtectionSnapshot}s indexed by island ID.
+ * <p>
+ * Protection listeners use this cache to decide synchronously whether an action
+ * is allowed, instead of resolving the island owner and their user data
+ * through chained futures. A snapshot is built lazily from the owner's cached
+ * {@link UserData} and is invalidated whenever the owner's
+ * {@link com.swiftlicious.hellblock.player.HellblockData} changes state that
+ * affects protection (members, trust, bans, flags, lock and abandoned state).
+ * As a safety net for data replaced wholesale (for example by cross-server
+ * synchronization), snapshots also expire after {@link #SNAPSHOT_TTL_NANOS}.
+ * <p>
+ * When no snapshot can be built without touching storage, the decision is
+ * {@link Decision#UNKNOWN} and callers fall back to the asynchronous path.
+ */
+public class ProtectionSnapshotCache implements PerformanceReporter {
+
+	private static final long SNAPSHOT_TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+	private static final int INITIAL_CAPACITY = 256;
+
+	/** Sentinel returned by {@link #resolve(Location)} for locations outside islands. */
+	private static final IslandProtectionSnapshot NO_ISLAND = new IslandProtectionSnapshot(0, null, Set.of(),
+			Set.of(), 0L, false, false, 0L);
+
+	/**
+	 * Outcome of a synchronous protection check.
+	 */
+	public enum Decision {
+		/** The action is permitted. */
+		ALLOW,
+		/** The action is denied by island membership or flags. */
+		DENY,
+		/** Entry is denied because the player is banned from the island. */
+		DENY_BANNED,
+		/** Entry is denied because the island is locked. */
+		DENY_LOCKED,
+		/** The location is not part of any island. */
+		NO_ISLAND,
+		/** No snapshot is available; the caller must resolve asynchronously. */
+		UNKNOWN
+	}
+
+	protected final HellblockPlugin instance;
+
+	private volatile AtomicReferenceArray<IslandProtectionSnapshot> snapshots = new AtomicReferenceArray<>(
+			INITIAL_CAPACITY);
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder builds = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+	private final LongAdder decisions = new LongAdder();
+	private final LongAdder decisionNanos = new LongAdder();
+	private final AtomicLong maxDecisionNanos = new AtomicLong();
+
+	public ProtectionSnapshotCache(HellblockPlugin plugin) {
+		this.instance = plugin;
+	}
+
+	/**
+	 * Decides whether the given player may perform an action guarded by the given
+	 * flag at the given location, using only in-memory state.
+	 *
+	 * @param player   the acting player, or {@code null} for natural events
+	 * @param location the location of the action
+	 * @param flag     the flag guarding the action
+	 * @return the decision, or {@link Decision#UNKNOWN} if the caller has to
+	 *         resolve it asynchronously
+	 */
+	@NotNull
+	public Decision decide(@Nullable Player player, @NotNull Location location, @NotNull FlagType flag) {
+		final long start = System.nanoTime();
+		try {
+			final IslandProtectionSnapshot snapshot = resolve(location);
+			if (snapshot == null) {
+				return Decision.UNKNOWN;
+			}
+			if (snapshot == NO_ISLAND) {
+				return Decision.NO_ISLAND;
+			}
+			return snapshot.canInteract(player, flag) ? Decision.ALLOW : Decision.DENY;
+		} finally {
+			recordLatency(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Decides whether the given player may enter the island at the given location,
+	 * taking bans and the locked state into account.
+	 *
+	 * @param player   the entering player
+	 * @param location the location being entered
+	 * @return the decision, or {@link Decision#UNKNOWN} if the caller has to
+	 *         resolve it asynchronously
+	 */
+	@NotNull
+	public Decision decideEntry(@NotNull Player player, @NotNull Location location) {
+		final long start = System.nanoTime();
+		try {
+			final IslandProtectionSnapshot snapshot = resolve(location);
+			if (snapshot == null) {
+				return Decision.UNKNOWN;
+			}
+			if (snapshot == NO_ISLAND) {
+				return Decision.NO_ISLAND;
+			}
+			if (snapshot.isBanned(player.getUniqueId())) {
+				return Decision.DENY_BANNED;
+			}
+			if (!snapshot.isWelcome(player)) {
+				return Decision.DENY_LOCKED;
+			}
+			return snapshot.canInteract(player, FlagType.ENTRY) ? Decision.ALLOW : Decision.DENY;
+		} finally {
+			recordLatency(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Decides whether the island owner's flag setting permits a natural
+	 * (non-player) event at the given location.
+	 *
+	 * @param location the location of the event
+	 * @param flag     the flag guarding the event
+	 * @return {@link Decision#ALLOW} or {@link Decision#DENY} based on the owner's
+	 *         flag value, {@link Decision#NO_ISLAND}, or {@link Decision#UNKNOWN}
+	 */
+	@NotNull
+	public Decision decideNatural(@NotNull Location location, @NotNull FlagType flag) {
+		final long start = System.nanoTime();
+		try {
+			final IslandProtectionSnapshot snapshot = resolve(location);
+			if (snapshot == null) {
+				return Decision.UNKNOWN;
+			}
+			if (snapshot == NO_ISLAND) {
+				return Decision.NO_ISLAND;
+			}
+			return snapshot.isAllowed(flag) ? Decision.ALLOW : Decision.DENY;
+		} finally {
+			recordLatency(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Resolves the snapshot of the island at the given location.
+	 *
+	 * @return the snapshot, {@link #NO_ISLAND} if the location is not part of an
+	 *         island, or {@code null} if the island's snapshot is unavailable
+	 */
+	@Nullable
+	private IslandProtectionSnapshot resolve(@NotNull Location location) {
+		final World world = location.getWorld();
+		if (world == null || !instance.getPlacementDetector().checkSpiralPlacementCompletion().isDone()) {
+			misses.increment();
+			return null;
+		}
+
+		final int islandId = instance.getPlacementDetector().findIslandIdAt(world.getName(), location.getX(),
+				location.getY(), location.getZ());
+		if (islandId == IslandSpatialIndex.NO_ISLAND) {
+			hits.increment();
+			return NO_ISLAND;
+		}
+
+		final IslandProtectionSnapshot snapshot = getSnapshot(islandId);
+		if (snapshot == null || (snapshot.owner() != null && instance.getCoopManager().shouldSkip(snapshot.owner()))) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return snapshot;
+	}
+
+	/**
+	 * Returns the snapshot of the given island, building it from cached owner data
+	 * if it is missing or expired.
+	 *
+	 * @param islandId the island ID
+	 * @return the snapshot, or {@code null} if the owner's data is not cached
+	 */
+	@Nullable
+	public IslandProtectionSnapshot getSnapshot(int islandId) {
+		if (islandId <= 0) {
+			return null;
+		}
+
+		final AtomicReferenceArray<IslandProtectionSnapshot> current = this.snapshots;
+		IslandProtectionSnapshot snapshot = islandId < current.length() ? current.get(islandId) : null;
+		if (snapshot != null && System.nanoTime() - snapshot.createdAt() < SNAPSHOT_TTL_NANOS) {
+			return snapshot;
+		}
+
+		Optional<UserData> ownerData = instance.getCoopManager().getCachedIslandOwnerDataNow(islandId);
+		if (ownerData.isEmpty()) {
+			return null;
+		}
+
+		snapshot = IslandProtectionSnapshot.of(ownerData.get().getHellblockData());
+		store(islandId, snapshot);
+		builds.increment();
+		return snapshot;
+	}
+
+	/**
+	 * Drops the snapshot of the given island. The next decision for that island
+	 * rebuilds it from the owner's current data.
+	 *
+	 * @param islandId the island ID
+	 */
+	public void invalidate(int islandId) {
+		final AtomicReferenceArray<IslandProtectionSnapshot> current = this.snapshots;
+		if (islandId > 0 && islandId < current.length() && current.getAndSet(islandId, null) != null) {
+			invalidations.increment();
+		}
+	}
+
+	/**
+	 * Drops all snapshots and resets the counters.
+	 */
+	public synchronized void clear() {
+		this.snapshots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+		hits.reset();
+		misses.reset();
+		builds.reset();
+		invalidations.reset();
+		decisions.reset();
+		decisionNanos.reset();
+		maxDecisionNanos.set(0L);
+	}
+
+	private void store(int islandId, @NotNull IslandProtectionSnapshot snapshot) {
+		AtomicReferenceArray<IslandProtectionSnapshot> current = this.snapshots;
+		if (islandId >= current.length()) {
+			synchronized (this) {
+				current = this.snapshots;
+				if (islandId >= current.length()) {
+					int capacity = current.length();
+					while (capacity <= islandId) {
+						capacity <<= 1;
+					}
+					AtomicReferenceArray<IslandProtectionSnapshot> grown = new AtomicReferenceArray<>(capacity);
+					for (int i = 0; i < current.length(); i++) {
+						grown.set(i, current.get(i));
+					}
+					this.snapshots = grown;
+					current = grown;
+				}
+			}
+		}
+		current.set(islandId, snapshot);
+	}
+
+	private void recordLatency(long nanos) {
+		decisions.increment();
+		decisionNanos.add(nanos);
+		maxDecisionNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "protection";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final long hitCount = hits.sum();
+		final long missCount = misses.sum();
+		final long decisionCount = decisions.sum();
+		final long total = hitCount + missCount;
+
+		int cached = 0;
+		final AtomicReferenceArray<IslandProtectionSnapshot> current = this.snapshots;
+		for (int i = 0; i < current.length(); i++) {
+			if (current.get(i) != null) {
+				cached++;
+			}
+		}
+
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Cached snapshots", String.valueOf(cached));
+		report.put("Hits", String.valueOf(hitCount));
+		report.put("Misses", String.valueOf(missCount));
+		report.put("Hit rate", total == 0 ? "n/a" : "%.2f%%".formatted(hitCount * 100.0 / total));
+		report.put("Snapshot builds", String.valueOf(builds.sum()));
+		report.put("Invalidations", String.valueOf(invalidations.sum()));
+		report.put("Avg decision", decisionCount == 0 ? "n/a" : (decisionNanos.sum() / decisionCount) + " ns");
+		report.put("Max decision", maxDecisionNanos.get() + " ns");
+		return report;
+	}
+}
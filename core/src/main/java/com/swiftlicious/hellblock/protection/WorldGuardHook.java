@@ -136,9 +136,13 @@ public class WorldGuardHook implements IslandProtection<BlockVector3> {
 			} else if (hellblockData.getPreservedBoundingBox() != null) {
 				boundingBox = hellblockData.getPreservedBoundingBox();
 				instance.debug("protectHellblock: Using preserved bounding box from previous island reset.");
+			} else if (hellblockData.getHellblockLocation() != null) {
+				boundingBox = instance.getPlacementDetector().computeBoundingBoxForIsland(islandId,
+						hellblockData.getHellblockLocation(), world);
+				instance.debug("protectHellblock: Computed bounding box around the island location.");
 			} else {
-				boundingBox = instance.getPlacementDetector().computeSpiralBoundingBoxForIsland(islandId, world);
-				instance.debug("protectHellblock: Computed bounding box from spiral placement.");
+				return CompletableFuture.failedFuture(new IllegalStateException(
+						"protectHellblock: Missing island location for player: " + playerName));
 			}
 
 			hellblockData.setBoundingBox(boundingBox);
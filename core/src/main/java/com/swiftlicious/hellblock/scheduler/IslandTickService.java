@@ -0,0 +1,332 @@
+package com.swiftlicious.hellblock.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+
+/**
+ * Runs the periodic work of every active island from a single timer.
+ * <p>
+ * Tasks are kept in a hashed timing wheel with one slot per tick. When a task
+ * is scheduled its first run is offset by a fraction of its period derived from
+ * the island ID, so the tasks of many islands are spread evenly over the period
+ * instead of all becoming due in the same tick. Due tasks are run one after
+ * another on a worker thread until the per-tick time budget is used up; the
+ * rest stay queued for the next tick.
+ * <p>
+ * Execution time is recorded per island and task type.
+ */
+public class IslandTickService implements PerformanceReporter {
+
+	private static final int WHEEL_SIZE = 512;
+	private static final long TICK_MILLIS = 50;
+	/** Fractional part of the golden ratio, spreads consecutive IDs evenly. */
+	private static final double SPREAD = 0.6180339887498949;
+
+	protected final HellblockPlugin instance;
+
+	private final List<List<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+	private final Deque<Entry> ready = new ArrayDeque<>();
+	private final Map<Integer, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private long currentTick;
+	private SchedulerTask timer;
+
+	private final Map<String, TypeStats> typeStats = new ConcurrentHashMap<>();
+	private final LongAdder deferredTicks = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+
+	public IslandTickService(HellblockPlugin plugin) {
+		this.instance = plugin;
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * The execution time of one task.
+	 *
+	 * @param runs       how often the task ran
+	 * @param totalNanos the summed execution time
+	 * @param maxNanos   the longest single execution
+	 */
+	public record Timing(long runs, long totalNanos, long maxNanos) {
+	}
+
+	public void start() {
+		if (this.timer == null) {
+			this.timer = instance.getScheduler().asyncRepeating(this::advance, TICK_MILLIS, TICK_MILLIS,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public void stop() {
+		if (this.timer != null && !this.timer.isCancelled()) {
+			this.timer.cancel();
+		}
+		this.timer = null;
+		entries.values().forEach(tasks -> tasks.values().forEach(entry -> entry.cancelled = true));
+		entries.clear();
+		synchronized (this) {
+			wheel.forEach(List::clear);
+			ready.clear();
+		}
+	}
+
+	/**
+	 * Schedules a task of an island, replacing a task of the same type.
+	 *
+	 * @param islandId    the island
+	 * @param type        the task type, e.g. {@code "crops"}
+	 * @param periodTicks the period in ticks
+	 * @param task        the work, run on a worker thread
+	 */
+	public void schedule(int islandId, @NotNull String type, long periodTicks, @NotNull Runnable task) {
+		final long period = Math.max(1, periodTicks);
+		final Entry entry = new Entry(islandId, type, period, task);
+		final Entry previous = entries.computeIfAbsent(islandId, id -> new ConcurrentHashMap<>()).put(type, entry);
+		if (previous != null) {
+			previous.cancelled = true;
+		}
+		// Consecutive island IDs land far apart in the period, different task
+		// types of the same island are shifted against each other
+		final double fraction = ((long) islandId * 31 + type.hashCode()) * SPREAD;
+		final long offset = (long) ((fraction - Math.floor(fraction)) * period);
+		synchronized (this) {
+			insert(entry, currentTick + 1 + Math.min(offset, period - 1));
+		}
+	}
+
+	/**
+	 * Schedules a task unless the island already has one of that type.
+	 *
+	 * @return whether the task was scheduled
+	 */
+	public boolean scheduleIfAbsent(int islandId, @NotNull String type, long periodTicks, @NotNull Runnable task) {
+		if (isScheduled(islandId, type)) {
+			return false;
+		}
+		schedule(islandId, type, periodTicks, task);
+		return true;
+	}
+
+	public boolean isScheduled(int islandId, @NotNull String type) {
+		final Map<String, Entry> tasks = entries.get(islandId);
+		return tasks != null && tasks.containsKey(type);
+	}
+
+	/**
+	 * Cancels one task of an island.
+	 *
+	 * @return whether the task was scheduled
+	 */
+	public boolean cancel(int islandId, @NotNull String type) {
+		final Map<String, Entry> tasks = entries.get(islandId);
+		if (tasks == null) {
+			return false;
+		}
+		final Entry entry = tasks.remove(type);
+		if (tasks.isEmpty()) {
+			entries.remove(islandId, tasks);
+		}
+		if (entry == null) {
+			return false;
+		}
+		entry.cancelled = true;
+		return true;
+	}
+
+	/**
+	 * Cancels every task of an island.
+	 */
+	public void cancelAll(int islandId) {
+		final Map<String, Entry> tasks = entries.remove(islandId);
+		if (tasks != null) {
+			tasks.values().forEach(entry -> entry.cancelled = true);
+		}
+	}
+
+	/**
+	 * Gets the execution times of the tasks of an island.
+	 *
+	 * @param islandId the island
+	 * @return the timings by task type
+	 */
+	@NotNull
+	public Map<String, Timing> getTimings(int islandId) {
+		final Map<String, Timing> timings = new LinkedHashMap<>();
+		final Map<String, Entry> tasks = entries.get(islandId);
+		if (tasks != null) {
+			tasks.forEach((type, entry) -> timings.put(type, entry.timing()));
+		}
+		return timings;
+	}
+
+	/**
+	 * Moves the wheel by one tick and starts running what is due. Runs on the
+	 * scheduler thread.
+	 */
+	private void advance() {
+		synchronized (this) {
+			currentTick++;
+			final Iterator<Entry> slot = wheel.get((int) (currentTick & (WHEEL_SIZE - 1))).iterator();
+			while (slot.hasNext()) {
+				final Entry entry = slot.next();
+				if (entry.cancelled) {
+					slot.remove();
+				} else if (entry.dueTick <= currentTick) {
+					slot.remove();
+					ready.add(entry);
+				}
+			}
+			if (ready.isEmpty()) {
+				return;
+			}
+		}
+		if (draining.compareAndSet(false, true)) {
+			instance.getScheduler().async().execute(this::drain);
+		}
+	}
+
+	/**
+	 * Runs due tasks until the tick budget is used up.
+	 */
+	private void drain() {
+		try {
+			final long deadline = System.nanoTime()
+					+ TimeUnit.MILLISECONDS.toNanos(Math.max(1, instance.getConfigManager().islandTickBudgetMs()));
+			while (System.nanoTime() < deadline) {
+				final Entry entry;
+				synchronized (this) {
+					entry = ready.poll();
+				}
+				if (entry == null) {
+					return;
+				}
+				if (entry.cancelled) {
+					continue;
+				}
+				run(entry);
+				synchronized (this) {
+					if (!entry.cancelled) {
+						insert(entry, Math.max(entry.dueTick + entry.period, currentTick + 1));
+					}
+				}
+			}
+			synchronized (this) {
+				if (!ready.isEmpty()) {
+					deferredTicks.increment();
+				}
+			}
+		} finally {
+			draining.set(false);
+		}
+	}
+
+	private void run(Entry entry) {
+		final long start = System.nanoTime();
+		try {
+			entry.task.run();
+		} catch (Throwable t) {
+			failures.increment();
+			instance.getPluginLogger().warn("Island task " + entry.type + " of island " + entry.islandId + " failed",
+					t);
+		}
+		final long elapsed = System.nanoTime() - start;
+		entry.record(elapsed);
+		typeStats.computeIfAbsent(entry.type, type -> new TypeStats()).record(elapsed);
+	}
+
+	private void insert(Entry entry, long dueTick) {
+		entry.dueTick = dueTick;
+		wheel.get((int) (dueTick & (WHEEL_SIZE - 1))).add(entry);
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "island-tick-service";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Islands", String.valueOf(entries.size()));
+		report.put("Tasks", String.valueOf(entries.values().stream().mapToInt(Map::size).sum()));
+		synchronized (this) {
+			report.put("Queued", String.valueOf(ready.size()));
+		}
+		report.put("Over budget ticks", String.valueOf(deferredTicks.sum()));
+		report.put("Failures", String.valueOf(failures.sum()));
+		typeStats.forEach((type, stats) -> {
+			final long runs = stats.runs.sum();
+			report.put("Task " + type, runs == 0 ? "n/a"
+					: "%d runs, avg %.2fms, max %.2fms".formatted(runs, stats.nanos.sum() / 1_000_000.0 / runs,
+							stats.maxNanos / 1_000_000.0));
+		});
+		entries.values().stream().flatMap(tasks -> tasks.values().stream())
+				.sorted(Comparator.comparingLong((Entry entry) -> entry.totalNanos).reversed()).limit(5)
+				.forEach(entry -> report.put("Slowest " + entry.type + " #" + entry.islandId,
+						"%.2fms total".formatted(entry.totalNanos / 1_000_000.0)));
+		return report;
+	}
+
+	private static final class Entry {
+		final int islandId;
+		final String type;
+		final long period;
+		final Runnable task;
+		volatile boolean cancelled;
+		long dueTick;
+
+		private long runs;
+		private long totalNanos;
+		private long maxNanos;
+
+		Entry(int islandId, String type, long period, Runnable task) {
+			this.islandId = islandId;
+			this.type = type;
+			this.period = period;
+			this.task = task;
+		}
+
+		synchronized void record(long nanos) {
+			runs++;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+		}
+
+		synchronized Timing timing() {
+			return new Timing(runs, totalNanos, maxNanos);
+		}
+	}
+
+	private static final class TypeStats {
+		final LongAdder runs = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		volatile long maxNanos;
+
+		void record(long elapsed) {
+			runs.increment();
+			nanos.add(elapsed);
+			if (elapsed > maxNanos) {
+				maxNanos = elapsed;
+			}
+		}
+	}
+}
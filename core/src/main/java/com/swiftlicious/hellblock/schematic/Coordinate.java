@@ -1,4 +0,0 @@
-package com.swiftlicious.hellblock.schematic;
-
-public record Coordinate(int x, int y, int z) {
-}
\ No newline at end of file
@@ -0,0 +1,355 @@
+package com.swiftlicious.hellblock.schematic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.utils.ZstdUtils;
+
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+
+/**
+ * Encodes the blocks and entities of one chunk of an island backup.
+ * <p>
+ * Every distinct block data string of the chunk is written once into a
+ * palette, and each block is stored as the distance to the previous block in
+ * chunk order plus its palette index. Tile data, inventories and entities are
+ * written as NBT. The payload is then zstd compressed, or deflated if zstd is
+ * unavailable; the first byte of a compressed record tells which one was used.
+ */
+final class IslandBackupCodec {
+
+	private static final int VERSION = 1;
+
+	private static final int COMPRESSION_ZSTD = 1;
+	private static final int COMPRESSION_DEFLATE = 2;
+
+	private static final int HAS_INVENTORY = 1;
+	private static final int HAS_TILE_DATA = 1 << 1;
+	private static final int HAS_ENTITIES = 1 << 2;
+
+	private final HellblockPlugin plugin;
+
+	IslandBackupCodec(HellblockPlugin plugin) {
+		this.plugin = plugin;
+	}
+
+	/**
+	 * The decoded content of one chunk.
+	 */
+	record ChunkData(List<IslandSnapshotBlock> blocks, List<EntitySnapshot> entities) {
+	}
+
+	/**
+	 * Encodes the blocks and entities of a chunk. The result is deterministic for
+	 * equal content, so it can be hashed to detect unchanged chunks.
+	 *
+	 * @param chunkX   the chunk x coordinate
+	 * @param chunkZ   the chunk z coordinate
+	 * @param blocks   the non-air blocks of the chunk
+	 * @param entities the free entities of the chunk
+	 * @return the uncompressed payload
+	 */
+	@NotNull
+	byte[] encode(int chunkX, int chunkZ, @NotNull List<IslandSnapshotBlock> blocks,
+			@NotNull List<EntitySnapshot> entities) throws IOException {
+		final List<IslandSnapshotBlock> sorted = new ArrayList<>(blocks);
+		sorted.sort(Comparator.comparingInt(IslandBackupCodec::localIndex));
+
+		final Map<String, Integer> palette = new LinkedHashMap<>();
+		final List<Material> paletteTypes = new ArrayList<>();
+		for (IslandSnapshotBlock block : sorted) {
+			if (!palette.containsKey(block.blockData())) {
+				palette.put(block.blockData(), palette.size());
+				paletteTypes.add(block.type());
+			}
+		}
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeVarInt(out, VERSION);
+		writeVarInt(out, chunkX);
+		writeVarInt(out, chunkZ);
+
+		writeVarInt(out, palette.size());
+		int paletteIndex = 0;
+		for (String blockData : palette.keySet()) {
+			writeString(out, paletteTypes.get(paletteIndex++).name());
+			writeString(out, blockData);
+		}
+
+		writeVarInt(out, sorted.size());
+		int previous = -1;
+		for (IslandSnapshotBlock block : sorted) {
+			final int index = localIndex(block);
+			writeVarInt(out, index - previous);
+			previous = index;
+			writeVarInt(out, palette.get(block.blockData()));
+
+			final boolean hasInventory = !block.inventory().isEmpty();
+			final boolean hasTileData = !block.tileData().isEmpty();
+			final boolean hasEntities = !block.entities().isEmpty();
+			out.writeByte((hasInventory ? HAS_INVENTORY : 0) | (hasTileData ? HAS_TILE_DATA : 0)
+					| (hasEntities ? HAS_ENTITIES : 0));
+			if (hasInventory) {
+				writeVarInt(out, block.inventory().size());
+				final List<Integer> slots = new ArrayList<>(block.inventory().keySet());
+				slots.sort(null);
+				for (int slot : slots) {
+					writeVarInt(out, slot);
+					writeTag(out, IslandSnapshotBlock.itemStackToNBT(block.inventory().get(slot)));
+				}
+			}
+			if (hasTileData) {
+				writeTag(out, block.tileData());
+			}
+			if (hasEntities) {
+				writeEntities(out, block.entities());
+			}
+		}
+
+		writeEntities(out, entities);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes a payload written by {@link #encode}.
+	 *
+	 * @param payload the uncompressed payload
+	 * @return the blocks and entities of the chunk
+	 */
+	@NotNull
+	ChunkData decode(@NotNull byte[] payload) throws IOException {
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		final int version = readVarInt(in);
+		if (version != VERSION) {
+			throw new IOException("Unsupported backup chunk version " + version);
+		}
+		final int baseX = readVarInt(in) << 4;
+		final int baseZ = readVarInt(in) << 4;
+
+		final Material[] paletteTypes = new Material[readVarInt(in)];
+		final String[] paletteData = new String[paletteTypes.length];
+		for (int i = 0; i < paletteTypes.length; i++) {
+			paletteTypes[i] = Material.valueOf(readString(in));
+			paletteData[i] = readString(in);
+		}
+
+		final int blockCount = readVarInt(in);
+		final List<IslandSnapshotBlock> blocks = new ArrayList<>(blockCount);
+		int index = -1;
+		for (int i = 0; i < blockCount; i++) {
+			index += readVarInt(in);
+			final int paletteIndex = readVarInt(in);
+			final int flags = in.readUnsignedByte();
+
+			Map<Integer, ItemStack> inventory = null;
+			if ((flags & HAS_INVENTORY) != 0) {
+				final int size = readVarInt(in);
+				inventory = new HashMap<>(size * 2);
+				for (int slot = 0; slot < size; slot++) {
+					inventory.put(readVarInt(in), IslandSnapshotBlock.itemStackFromNBT(readTag(in)));
+				}
+			}
+			final CompoundBinaryTag tileData = (flags & HAS_TILE_DATA) != 0 ? readTag(in) : null;
+			final List<EntitySnapshot> attached = (flags & HAS_ENTITIES) != 0 ? readEntities(in) : null;
+
+			blocks.add(new IslandSnapshotBlock(baseX + (index & 15), index >> 8, baseZ + ((index >> 4) & 15),
+					paletteTypes[paletteIndex], paletteData[paletteIndex], inventory, tileData, attached));
+		}
+
+		return new ChunkData(blocks, readEntities(in));
+	}
+
+	/**
+	 * Compresses a payload into a stored record.
+	 *
+	 * @param payload the uncompressed payload
+	 * @return the record, starting with the compression type and payload length
+	 */
+	@NotNull
+	byte[] compress(@NotNull byte[] payload) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length / 4 + 16);
+		final DataOutputStream out = new DataOutputStream(bytes);
+		if (ZstdUtils.isAvailable()) {
+			out.writeByte(COMPRESSION_ZSTD);
+			writeVarInt(out, payload.length);
+			out.write(ZstdUtils.compress(payload));
+		} else {
+			out.writeByte(COMPRESSION_DEFLATE);
+			writeVarInt(out, payload.length);
+			final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			try {
+				deflater.setInput(payload);
+				deflater.finish();
+				final byte[] buffer = new byte[8192];
+				while (!deflater.finished()) {
+					out.write(buffer, 0, deflater.deflate(buffer));
+				}
+			} finally {
+				deflater.end();
+			}
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Restores the payload of a record written by {@link #compress}.
+	 *
+	 * @param record the stored record
+	 * @return the uncompressed payload
+	 */
+	@NotNull
+	byte[] decompress(@NotNull byte[] record) throws IOException {
+		final ByteArrayInputStream bytes = new ByteArrayInputStream(record);
+		final DataInputStream in = new DataInputStream(bytes);
+		final int compression = in.readUnsignedByte();
+		final byte[] payload = new byte[readVarInt(in)];
+		final byte[] data = in.readAllBytes();
+
+		switch (compression) {
+		case COMPRESSION_ZSTD -> {
+			if (!ZstdUtils.isAvailable()) {
+				throw new IOException("Backup chunk is zstd compressed but zstd is unavailable");
+			}
+			ZstdUtils.decompress(payload, data);
+		}
+		case COMPRESSION_DEFLATE -> {
+			final Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(data);
+				int offset = 0;
+				while (offset < payload.length && !inflater.finished()) {
+					final int read = inflater.inflate(payload, offset, payload.length - offset);
+					if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						throw new IOException("Truncated backup chunk");
+					}
+					offset += read;
+				}
+			} catch (DataFormatException ex) {
+				throw new IOException("Corrupt backup chunk", ex);
+			} finally {
+				inflater.end();
+			}
+		}
+		default -> throw new IOException("Unknown backup chunk compression " + compression);
+		}
+		return payload;
+	}
+
+	private static int localIndex(IslandSnapshotBlock block) {
+		return (block.y() << 8) | ((block.z() & 15) << 4) | (block.x() & 15);
+	}
+
+	private static void writeEntities(DataOutput out, List<EntitySnapshot> entities) throws IOException {
+		final List<EntitySnapshot> sorted = new ArrayList<>(entities);
+		sorted.sort(Comparator.comparing(EntitySnapshot::uuid));
+		writeVarInt(out, sorted.size());
+		for (EntitySnapshot entity : sorted) {
+			writeString(out, entity.type().name());
+			out.writeLong(entity.uuid().getMostSignificantBits());
+			out.writeLong(entity.uuid().getLeastSignificantBits());
+			out.writeDouble(entity.x());
+			out.writeDouble(entity.y());
+			out.writeDouble(entity.z());
+			writeTag(out, entity.data());
+			writeVarInt(out, entity.equipment().size());
+			final Map<EquipmentSlot, CompoundBinaryTag> equipment = new EnumMap<>(EquipmentSlot.class);
+			equipment.putAll(entity.equipment());
+			for (Map.Entry<EquipmentSlot, CompoundBinaryTag> entry : equipment.entrySet()) {
+				writeString(out, entry.getKey().name());
+				writeTag(out, entry.getValue());
+			}
+		}
+	}
+
+	private static List<EntitySnapshot> readEntities(DataInput in) throws IOException {
+		final int count = readVarInt(in);
+		final List<EntitySnapshot> entities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final EntityType type = EntityType.valueOf(readString(in));
+			final UUID uuid = new UUID(in.readLong(), in.readLong());
+			final double x = in.readDouble();
+			final double y = in.readDouble();
+			final double z = in.readDouble();
+			final CompoundBinaryTag data = readTag(in);
+			final int equipmentCount = readVarInt(in);
+			final Map<EquipmentSlot, CompoundBinaryTag> equipment = new HashMap<>();
+			for (int slot = 0; slot < equipmentCount; slot++) {
+				equipment.put(EquipmentSlot.valueOf(readString(in)), readTag(in));
+			}
+			entities.add(new EntitySnapshot(type, uuid, x, y, z, data, equipment));
+		}
+		return entities;
+	}
+
+	private static void writeTag(DataOutput out, CompoundBinaryTag tag) throws IOException {
+		BinaryTagIO.writer().write(tag != null ? tag : CompoundBinaryTag.empty(), out);
+	}
+
+	private static CompoundBinaryTag readTag(DataInput in) throws IOException {
+		return BinaryTagIO.reader().read(in);
+	}
+
+	private static void writeString(DataOutput out, String value) throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInput in) throws IOException {
+		final byte[] bytes = new byte[readVarInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeVarInt(DataOutput out, int value) throws IOException {
+		int remaining = (value << 1) ^ (value >> 31);
+		while ((remaining & ~0x7F) != 0) {
+			out.writeByte((remaining & 0x7F) | 0x80);
+			remaining >>>= 7;
+		}
+		out.writeByte(remaining);
+	}
+
+	private static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+		int shift = 0;
+		int current;
+		do {
+			if (shift > 28) {
+				throw new IOException("VarInt too long");
+			}
+			current = in.readUnsignedByte();
+			value |= (current & 0x7F) << shift;
+			shift += 7;
+		} while ((current & 0x80) != 0);
+		return (value >>> 1) ^ -(value & 1);
+	}
+}
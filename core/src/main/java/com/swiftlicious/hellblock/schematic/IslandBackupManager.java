@@ -2,14 +2,11 @@ package com.swiftlicious.hellblock.schematic;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,17 +15,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.Hanging;
-import org.bukkit.entity.Shulker;
 import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,17 +28,22 @@ import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.api.Reloadable;
 import com.swiftlicious.hellblock.player.HellblockData;
 import com.swiftlicious.hellblock.scheduler.SchedulerTask;
-import com.swiftlicious.hellblock.utils.LocationUtils;
 import com.swiftlicious.hellblock.world.HellblockWorld;
 
 /**
  * Manages island backups and snapshots for players. Allows creating, saving,
  * loading, listing, and restoring snapshots.
+ * <p>
+ * Snapshots are written by {@link IslandBackupStore} as palette-compressed
+ * chunks, each snapshot storing only the chunks that changed since the previous
+ * one. Snapshots saved by earlier versions as {@code <owner>_<timestamp>.dat}
+ * files can still be listed, restored and purged.
  */
 public class IslandBackupManager implements Reloadable {
 
 	protected final HellblockPlugin instance;
 	private File backupFolder;
+	private IslandBackupStore store;
 
 	private SchedulerTask snapshotTask = null;
 
@@ -66,6 +62,7 @@ public class IslandBackupManager implements Reloadable {
 		if (!this.backupFolder.exists()) {
 			this.backupFolder.mkdirs();
 		}
+		this.store = new IslandBackupStore(instance, this.backupFolder);
 
 		this.snapshotTask = instance.getScheduler()
 				.asyncRepeating(() -> instance.getCoopManager().getAllIslandOwners().thenAccept(ownerIds -> {
@@ -136,42 +133,71 @@ public class IslandBackupManager implements Reloadable {
 	}
 
 	/**
-	 * Save snapshot to disk as a serialized file. Filename format:
-	 * {islandOwner}_{timestamp}.dat
+	 * Save snapshot to disk. Only the chunks that changed since the previous
+	 * snapshot of the island are written.
 	 * 
 	 * @param islandOwner the island owner's UUID
 	 * @param timestamp   the timestamp of the snapshot
 	 * @param snapshot    the snapshot to save
 	 */
 	public void saveSnapshot(@NotNull UUID islandOwner, long timestamp, @NotNull IslandSnapshot snapshot) {
-		final File file = new File(backupFolder, islandOwner.toString() + "_" + timestamp + ".dat");
-
-		try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-			oos.writeObject(snapshot.toSerializable());
-		} catch (IOException e) {
-			e.printStackTrace();
+		final long start = System.nanoTime();
+		try {
+			final IslandBackupStore.SaveResult result = store.write(islandOwner, timestamp, snapshot);
+			instance.debug("Saved snapshot %d of %s: %d chunks written (%d bytes), %d unchanged, took %.1fms".formatted(
+					timestamp, islandOwner, result.written(), result.bytes(), result.reused(),
+					(System.nanoTime() - start) / 1_000_000.0));
+		} catch (IOException ex) {
+			instance.getPluginLogger().warn("Failed to save island snapshot " + timestamp + " of " + islandOwner, ex);
 		}
 	}
 
 	/**
-	 * Load snapshot from disk. Filename format: {islandOwner}_{timestamp}.dat
+	 * Load a whole snapshot from disk into memory. Prefer
+	 * {@link #restoreIntoWorld} for restoring, which reads the snapshot chunk by
+	 * chunk.
 	 * 
 	 * @param islandOwner the island owner's UUID
 	 * @param timestamp   the timestamp of the snapshot
 	 * @return the loaded snapshot, or null if not found or failed
 	 */
 	public SerializableIslandSnapshot loadSnapshot(@NotNull UUID islandOwner, long timestamp) {
-		final File file = new File(backupFolder, islandOwner.toString() + "_" + timestamp + ".dat");
-		if (!file.exists()) {
-			return null;
+		final File file = legacyFile(islandOwner, timestamp);
+		if (file.exists()) {
+			try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
+				return (SerializableIslandSnapshot) ois.readObject();
+			} catch (IOException | ClassNotFoundException e) {
+				instance.getPluginLogger().warn("Failed to read island snapshot " + file.getName(), e);
+				return null;
+			}
 		}
 
-		try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-			return (SerializableIslandSnapshot) ois.readObject();
-		} catch (IOException | ClassNotFoundException e) {
-			e.printStackTrace();
+		final Optional<List<IslandBackupStore.ChunkEntry>> chunks = store.chunks(islandOwner, timestamp);
+		if (chunks.isEmpty()) {
+			return null;
+		}
+		final List<IslandSnapshotBlock> blocks = new ArrayList<>();
+		final List<EntitySnapshot> entities = new ArrayList<>();
+		try {
+			for (IslandBackupStore.ChunkEntry chunk : chunks.get()) {
+				final IslandBackupCodec.ChunkData data = store.read(islandOwner, chunk);
+				blocks.addAll(data.blocks());
+				entities.addAll(data.entities());
+			}
+		} catch (IOException ex) {
+			instance.getPluginLogger().warn("Failed to read island snapshot " + timestamp + " of " + islandOwner, ex);
 			return null;
 		}
+		return new SerializableIslandSnapshot(blocks, entities);
+	}
+
+	/**
+	 * @param islandOwner the island owner's UUID
+	 * @param timestamp   the timestamp of the snapshot
+	 * @return whether the snapshot exists
+	 */
+	public boolean hasSnapshot(@NotNull UUID islandOwner, long timestamp) {
+		return legacyFile(islandOwner, timestamp).exists() || store.chunks(islandOwner, timestamp).isPresent();
 	}
 
 	/**
@@ -214,6 +240,11 @@ public class IslandBackupManager implements Reloadable {
 	 * @return list of snapshot timestamps (sorted ascending)
 	 */
 	public List<Long> listSnapshots(@NotNull UUID islandOwner) {
+		return Stream.concat(listLegacySnapshots(islandOwner).stream(), store.timestamps(islandOwner).stream())
+				.distinct().sorted().toList();
+	}
+
+	private List<Long> listLegacySnapshots(@NotNull UUID islandOwner) {
 		final File[] files = backupFolder
 				.listFiles((dir, name) -> name.startsWith(islandOwner.toString() + "_") && name.endsWith(".dat"));
 		if (files == null) {
@@ -226,6 +257,10 @@ public class IslandBackupManager implements Reloadable {
 		}).sorted().toList();
 	}
 
+	private File legacyFile(@NotNull UUID islandOwner, long timestamp) {
+		return new File(backupFolder, islandOwner.toString() + "_" + timestamp + ".dat");
+	}
+
 	/**
 	 * Purges old snapshots for the given island owner, keeping only the most recent
 	 * 'keepLast' snapshots.
@@ -240,8 +275,12 @@ public class IslandBackupManager implements Reloadable {
 		}
 
 		final List<Long> toDelete = snapshots.subList(0, snapshots.size() - keepLast);
-		toDelete.stream().map(ts -> new File(backupFolder, islandOwner.toString() + "_" + ts + ".dat"))
-				.filter(File::exists).forEach(File::delete);
+		toDelete.stream().map(ts -> legacyFile(islandOwner, ts)).filter(File::exists).forEach(File::delete);
+		try {
+			store.remove(islandOwner, toDelete);
+		} catch (IOException ex) {
+			instance.getPluginLogger().warn("Failed to purge island snapshots of " + islandOwner, ex);
+		}
 	}
 
 	/**
@@ -267,6 +306,7 @@ public class IslandBackupManager implements Reloadable {
 				}
 			}
 		}
+		store.delete(ownerId);
 
 		instance.getPluginLogger().info("Deleted all island snapshots for " + ownerId);
 	}
@@ -302,57 +342,7 @@ public class IslandBackupManager implements Reloadable {
 					return CompletableFuture.completedFuture(null);
 				}
 
-				final List<IslandSnapshotBlock> blocks = Collections.synchronizedList(new ArrayList<>());
-				final List<EntitySnapshot> entities = Collections.synchronizedList(new ArrayList<>());
-
-				// Collect all entities inside bounding box
-				for (Entity entity : world.getEntities()) {
-					if (bounds.contains(entity.getLocation().toVector())) {
-						entities.add(EntitySnapshot.fromEntity(entity));
-					}
-				}
-
-				// Collect block states in batches
-				final List<Location> locations = new ArrayList<>();
-
-				for (int x = (int) bounds.getMinX(); x <= (int) bounds.getMaxX(); x++) {
-					for (int y = (int) bounds.getMinY(); y <= (int) bounds.getMaxY(); y++) {
-						for (int z = (int) bounds.getMinZ(); z <= (int) bounds.getMaxZ(); z++) {
-							locations.add(new Location(world, x, y, z));
-						}
-					}
-				}
-
-				final Iterator<Location> it = locations.iterator();
-
-				final AtomicReference<SchedulerTask> taskRef = new AtomicReference<>();
-				final AtomicReference<IslandSnapshot> snapshotRef = new AtomicReference<>(null);
-
-				final SchedulerTask task = instance.getScheduler().sync().runRepeating(() -> {
-					int processed = 0;
-					while (processed < BATCH_SIZE && it.hasNext()) {
-						final Location loc = it.next();
-						final Block block = loc.getBlock();
-						if (!block.getType().isAir()) {
-							// Capture attached entities near this block (optional, can be empty list)
-							final List<EntitySnapshot> nearby = findAttachedEntities(loc);
-							blocks.add(IslandSnapshotBlock.fromBlockState(block.getState(), nearby));
-						}
-						processed++;
-					}
-
-					if (!it.hasNext()) {
-						final SchedulerTask scheduled = taskRef.get();
-						if (scheduled != null && !scheduled.isCancelled()) {
-							scheduled.cancel();
-						}
-						snapshotRef.set(new IslandSnapshot(blocks, entities));
-					}
-				}, 1L, 1L, LocationUtils.getAnyLocationInstance());
-
-				// assign after scheduling so it's available inside the lambda
-				taskRef.set(task);
-				return CompletableFuture.completedFuture(snapshotRef.get());
+				return IslandSnapshot.captureAsync(instance, bounds, world);
 			});
 		}).exceptionally(ex -> {
 			instance.getPluginLogger().warn("Error capturing island snapshot for owner " + ownerId, ex);
@@ -374,8 +364,7 @@ public class IslandBackupManager implements Reloadable {
 	 */
 	public CompletableFuture<Boolean> restoreSnapshot(@NotNull UUID ownerId, long timestamp, @NotNull World world,
 			@Nullable Runnable whenDone, Consumer<Double> onProgress) {
-		final SerializableIslandSnapshot snapshot = loadSnapshot(ownerId, timestamp);
-		if (snapshot == null) {
+		if (!hasSnapshot(ownerId, timestamp)) {
 			instance.getPluginLogger().warn("No snapshot found for " + ownerId + " at " + timestamp);
 			return CompletableFuture.failedFuture(new IllegalStateException("No snapshot found for island"));
 		}
@@ -397,7 +386,7 @@ public class IslandBackupManager implements Reloadable {
 			}
 
 			// Run batched restore
-			return snapshot.restoreIntoWorldBatched(instance, world, bounds, onProgress).thenApply(success -> {
+			return restoreIntoWorld(ownerId, timestamp, world, bounds, onProgress).thenApply(success -> {
 				if (success) {
 					instance.getPluginLogger().info("Snapshot restored for " + ownerId + " at " + timestamp);
 					if (whenDone != null) {
@@ -414,38 +403,32 @@ public class IslandBackupManager implements Reloadable {
 	}
 
 	/**
-	 * Finds entities that are attached to the block at the given location. These
-	 * include item frames, paintings, shulkers, and small armor stands.
+	 * Restores a snapshot into the given bounding box. Snapshots in the chunk
+	 * format are read, decoded and placed one chunk at a time; legacy snapshots
+	 * are loaded whole and restored in batches.
 	 * 
-	 * @param loc The location of the block.
-	 * @return A list of EntitySnapshot representing the attached entities.
+	 * @param ownerId    The UUID of the island owner.
+	 * @param timestamp  The timestamp of the snapshot to restore.
+	 * @param world      The world to restore into.
+	 * @param bounds     The bounding box of the island, cleared before restoring.
+	 * @param onProgress A consumer to receive progress updates (0.0 to 1.0), can be
+	 *                   null.
+	 * @return A CompletableFuture that resolves to whether the snapshot was
+	 *         restored.
 	 */
-	private List<EntitySnapshot> findAttachedEntities(@NotNull Location loc) {
-		final World world = loc.getWorld();
-		if (world == null) {
-			return List.of();
+	public CompletableFuture<Boolean> restoreIntoWorld(@NotNull UUID ownerId, long timestamp, @NotNull World world,
+			@NotNull BoundingBox bounds, @Nullable Consumer<Double> onProgress) {
+		final Optional<List<IslandBackupStore.ChunkEntry>> chunks = legacyFile(ownerId, timestamp).exists()
+				? Optional.empty()
+				: store.chunks(ownerId, timestamp);
+		if (chunks.isPresent()) {
+			return new IslandBackupRestore(instance, store, ownerId, chunks.get(), world, bounds, onProgress).start();
 		}
 
-		final Block block = loc.getBlock();
-		final BoundingBox box = block.getBoundingBox();
-
-		// Capture nearby entities anchored to this block
-		return world.getNearbyEntities(box).stream().filter(this::isBlockAttachedEntity).map(EntitySnapshot::fromEntity)
-				.toList();
-	}
-
-	/**
-	 * Checks if the given entity is one that is typically attached to a block, such
-	 * as item frames, paintings, shulkers, or small visible armor stands.
-	 * 
-	 * @param entity The entity to check.
-	 * @return True if the entity is block-attached, false otherwise.
-	 */
-	private boolean isBlockAttachedEntity(@NotNull Entity entity) {
-		// Hanging = item frames, paintings
-		// Shulker = mob that acts like a block
-		// ArmorStand = small decorative stands
-		return entity instanceof Hanging || entity instanceof Shulker
-				|| (entity instanceof ArmorStand stand && stand.isVisible() && stand.isSmall());
+		final SerializableIslandSnapshot snapshot = loadSnapshot(ownerId, timestamp);
+		if (snapshot == null) {
+			return CompletableFuture.failedFuture(new IllegalStateException("No snapshot found for island"));
+		}
+		return snapshot.restoreIntoWorldBatched(instance, world, bounds, onProgress);
 	}
-}
\ No newline at end of file
+}
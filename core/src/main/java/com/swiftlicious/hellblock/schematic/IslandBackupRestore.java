@@ -0,0 +1,245 @@
+package com.swiftlicious.hellblock.schematic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.scheduler.SchedulerTask;
+import com.swiftlicious.hellblock.schematic.IslandBackupCodec.ChunkData;
+import com.swiftlicious.hellblock.schematic.IslandBackupStore.ChunkEntry;
+import com.swiftlicious.hellblock.utils.LocationUtils;
+
+/**
+ * Restores a stored snapshot one chunk at a time.
+ * <p>
+ * Only a few chunks are read and decoded ahead on worker threads, so memory use
+ * does not grow with the size of the island. Each chunk is cleared and rebuilt
+ * on the main thread within a per-tick budget that shrinks while the server is
+ * behind, the same way {@link SerializableIslandSnapshot} restores legacy
+ * snapshots.
+ */
+final class IslandBackupRestore {
+
+	private static final int PREFETCH_CHUNKS = 4;
+
+	private final HellblockPlugin plugin;
+	private final IslandBackupStore store;
+	private final UUID owner;
+	private final World world;
+	private final BoundingBox box;
+	private final Consumer<Double> onProgress;
+
+	private final int minX, minY, minZ, maxX, maxY, maxZ;
+	private final List<int[]> chunks = new ArrayList<>();
+	private final Map<Long, ChunkEntry> entries;
+	private final List<CompletableFuture<ChunkData>> decoded = new ArrayList<>();
+
+	private int chunkIndex = -1;
+	private int clearCursor;
+	private int clearVolume;
+	private Iterator<IslandSnapshotBlock> blockIt;
+	private Iterator<EntitySnapshot> entityIt;
+	private int batchSize;
+
+	IslandBackupRestore(HellblockPlugin plugin, IslandBackupStore store, UUID owner, List<ChunkEntry> entries,
+			World world, BoundingBox box, @Nullable Consumer<Double> onProgress) {
+		this.plugin = plugin;
+		this.store = store;
+		this.owner = owner;
+		this.world = world;
+		this.box = box;
+		this.onProgress = onProgress;
+		this.minX = (int) box.getMinX();
+		this.minY = Math.max((int) box.getMinY(), world.getMinHeight());
+		this.minZ = (int) box.getMinZ();
+		this.maxX = (int) box.getMaxX();
+		this.maxY = Math.min((int) box.getMaxY(), world.getMaxHeight() - 1);
+		this.maxZ = (int) box.getMaxZ();
+
+		this.entries = new HashMap<>();
+		entries.forEach(entry -> this.entries.put(IslandBackupStore.chunkKey(entry.x, entry.z), entry));
+		for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+			for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+				chunks.add(new int[] { chunkX, chunkZ });
+			}
+		}
+		// Start with roughly one chunk column every 20 ticks and adapt to the TPS
+		this.batchSize = Math.min(SerializableIslandSnapshot.MAX_BATCH_SIZE,
+				Math.max(SerializableIslandSnapshot.MIN_BATCH_SIZE, 16 * 16 * (maxY - minY + 1) / 20));
+	}
+
+	/**
+	 * Starts the restore.
+	 *
+	 * @return a future completed with {@code true} once every chunk was restored
+	 */
+	CompletableFuture<Boolean> start() {
+		final CompletableFuture<Boolean> future = new CompletableFuture<>();
+		final AtomicReference<SchedulerTask> taskRef = new AtomicReference<>();
+		final long startTime = System.nanoTime();
+
+		final SchedulerTask task = plugin.getScheduler().sync().runRepeating(() -> {
+			if (future.isDone()) {
+				return;
+			}
+			try {
+				if (tick()) {
+					cancel(taskRef);
+					plugin.debug("Restored %d backup chunks of %s in %.1fms".formatted(chunks.size(), owner,
+							(System.nanoTime() - startTime) / 1_000_000.0));
+					future.complete(true);
+				}
+			} catch (Exception ex) {
+				cancel(taskRef);
+				future.completeExceptionally(ex);
+			}
+		}, 1L, 1L, LocationUtils.getAnyLocationInstance());
+
+		taskRef.set(task);
+		return future;
+	}
+
+	/**
+	 * Does one tick worth of work.
+	 *
+	 * @return whether the restore is complete
+	 */
+	private boolean tick() {
+		adjustBatchSize();
+		int processed = 0;
+		while (processed < batchSize) {
+			if (blockIt == null && !nextChunk()) {
+				return chunkIndex >= chunks.size();
+			}
+			final int[] chunk = chunks.get(chunkIndex);
+			if (clearCursor < clearVolume) {
+				clearNext(chunk[0], chunk[1]);
+			} else if (blockIt.hasNext()) {
+				blockIt.next().restore(world);
+			} else if (entityIt.hasNext()) {
+				entityIt.next().spawn(world);
+			} else {
+				blockIt = null;
+				reportProgress();
+			}
+			processed++;
+		}
+		return false;
+	}
+
+	/**
+	 * Moves on to the next chunk once its data is decoded.
+	 *
+	 * @return whether a chunk is ready, {@code false} if the restore is done or
+	 *         the next chunk is still being read
+	 */
+	private boolean nextChunk() {
+		final int next = chunkIndex + 1;
+		if (next >= chunks.size()) {
+			chunkIndex = chunks.size();
+			return false;
+		}
+		prefetch(next);
+		final CompletableFuture<ChunkData> data = decoded.get(next);
+		if (!data.isDone()) {
+			return false;
+		}
+		final ChunkData chunkData = data.join();
+		decoded.set(next, null);
+		chunkIndex = next;
+
+		final int[] chunk = chunks.get(chunkIndex);
+		final int width = Math.min(maxX, (chunk[0] << 4) + 15) - Math.max(minX, chunk[0] << 4) + 1;
+		final int length = Math.min(maxZ, (chunk[1] << 4) + 15) - Math.max(minZ, chunk[1] << 4) + 1;
+		clearCursor = 0;
+		clearVolume = width * length * (maxY - minY + 1);
+		blockIt = chunkData.blocks().iterator();
+		entityIt = chunkData.entities().iterator();
+
+		final Chunk bukkitChunk = world.getChunkAt(chunk[0], chunk[1]);
+		for (Entity entity : bukkitChunk.getEntities()) {
+			if (!(entity instanceof Player) && entity.isValid() && box.contains(entity.getLocation().toVector())) {
+				entity.remove();
+			}
+		}
+		prefetch(chunkIndex + PREFETCH_CHUNKS);
+		return true;
+	}
+
+	private void prefetch(int upTo) {
+		for (int i = decoded.size(); i <= Math.min(upTo, chunks.size() - 1); i++) {
+			final int[] chunk = chunks.get(i);
+			final ChunkEntry entry = entries.get(IslandBackupStore.chunkKey(chunk[0], chunk[1]));
+			if (entry == null) {
+				decoded.add(CompletableFuture.completedFuture(new ChunkData(List.of(), List.of())));
+				continue;
+			}
+			decoded.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return store.read(owner, entry);
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}, plugin.getScheduler().async()));
+		}
+	}
+
+	private void clearNext(int chunkX, int chunkZ) {
+		final int fromX = Math.max(minX, chunkX << 4);
+		final int fromZ = Math.max(minZ, chunkZ << 4);
+		final int width = Math.min(maxX, (chunkX << 4) + 15) - fromX + 1;
+		final int length = Math.min(maxZ, (chunkZ << 4) + 15) - fromZ + 1;
+		final int cursor = clearCursor++;
+		final Block block = world.getBlockAt(fromX + cursor % width, minY + cursor / (width * length),
+				fromZ + (cursor / width) % length);
+		if (!block.getType().isAir()) {
+			block.setType(Material.AIR, false);
+		}
+	}
+
+	private void adjustBatchSize() {
+		double tps;
+		try {
+			tps = plugin.getTpsMonitor().getRecentTps();
+		} catch (Exception ex) {
+			tps = 20.0;
+		}
+		if (tps < 18) {
+			batchSize = Math.max(SerializableIslandSnapshot.MIN_BATCH_SIZE, batchSize / 2);
+		} else if (tps > 19.8) {
+			batchSize = Math.min(SerializableIslandSnapshot.MAX_BATCH_SIZE, batchSize * 2);
+		}
+	}
+
+	private void reportProgress() {
+		if (onProgress != null && !chunks.isEmpty()) {
+			final double progress = (double) (chunkIndex + 1) / chunks.size();
+			plugin.getScheduler().async().execute(() -> onProgress.accept(progress));
+		}
+	}
+
+	private static void cancel(AtomicReference<SchedulerTask> taskRef) {
+		final SchedulerTask scheduled = taskRef.get();
+		if (scheduled != null && !scheduled.isCancelled()) {
+			scheduled.cancel();
+		}
+	}
+}
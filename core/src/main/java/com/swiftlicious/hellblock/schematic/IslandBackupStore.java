@@ -0,0 +1,337 @@
+package com.swiftlicious.hellblock.schematic;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.schematic.IslandBackupCodec.ChunkData;
+
+/**
+ * Stores island snapshots chunk by chunk, sharing unchanged chunks between
+ * snapshots.
+ * <p>
+ * Every island owner gets a folder with a {@code manifest.json} and one
+ * {@code <timestamp>.chunks} file per snapshot. A snapshot only writes the
+ * chunks whose encoded content differs from the previous snapshot; the manifest
+ * lists, for every snapshot, where the data of each of its chunks is stored,
+ * which may be the file of an earlier snapshot. Data files are deleted once no
+ * remaining snapshot refers to them.
+ */
+final class IslandBackupStore {
+
+	private static final String MANIFEST = "manifest.json";
+	private static final String DATA_SUFFIX = ".chunks";
+	private static final int MANIFEST_VERSION = 1;
+
+	private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+	private final HellblockPlugin plugin;
+	private final File folder;
+	private final IslandBackupCodec codec;
+	private final Map<UUID, Manifest> manifests = new ConcurrentHashMap<>();
+
+	IslandBackupStore(HellblockPlugin plugin, File folder) {
+		this.plugin = plugin;
+		this.folder = folder;
+		this.codec = new IslandBackupCodec(plugin);
+	}
+
+	/**
+	 * The manifest of one island, as stored in {@code manifest.json}.
+	 */
+	static final class Manifest {
+		int version = MANIFEST_VERSION;
+		List<SnapshotEntry> snapshots = new ArrayList<>();
+	}
+
+	static final class SnapshotEntry {
+		long timestamp;
+		int blocks;
+		int entities;
+		List<ChunkEntry> chunks = new ArrayList<>();
+	}
+
+	/**
+	 * Where the data of one chunk of a snapshot is stored.
+	 */
+	static final class ChunkEntry {
+		int x;
+		int z;
+		long file;
+		long offset;
+		int length;
+		String hash;
+	}
+
+	/**
+	 * @param written the number of chunks written to the new data file
+	 * @param reused  the number of chunks shared with the previous snapshot
+	 * @param bytes   the size of the new data file
+	 */
+	record SaveResult(int written, int reused, long bytes) {
+	}
+
+	/**
+	 * Writes a snapshot, storing only the chunks that changed since the latest
+	 * snapshot of the island.
+	 *
+	 * @param owner     the island owner
+	 * @param timestamp the snapshot timestamp
+	 * @param snapshot  the captured snapshot
+	 * @return what was written
+	 */
+	@NotNull
+	synchronized SaveResult write(@NotNull UUID owner, long timestamp, @NotNull IslandSnapshot snapshot)
+			throws IOException {
+		final Manifest manifest = manifest(owner);
+		final Map<Long, ChunkEntry> previous = new HashMap<>();
+		if (!manifest.snapshots.isEmpty()) {
+			manifest.snapshots.get(manifest.snapshots.size() - 1).chunks
+					.forEach(chunk -> previous.put(chunkKey(chunk.x, chunk.z), chunk));
+		}
+
+		final Map<Long, List<IslandSnapshotBlock>> blocksByChunk = new TreeMap<>();
+		for (IslandSnapshotBlock block : snapshot.blocks()) {
+			blocksByChunk.computeIfAbsent(chunkKey(block.x() >> 4, block.z() >> 4), key -> new ArrayList<>())
+					.add(block);
+		}
+		final Map<Long, List<EntitySnapshot>> entitiesByChunk = new HashMap<>();
+		for (EntitySnapshot entity : snapshot.entities()) {
+			final long key = chunkKey((int) Math.floor(entity.x()) >> 4, (int) Math.floor(entity.z()) >> 4);
+			entitiesByChunk.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+			blocksByChunk.putIfAbsent(key, new ArrayList<>());
+		}
+
+		final File ownerFolder = ownerFolder(owner);
+		if (!ownerFolder.exists() && !ownerFolder.mkdirs()) {
+			throw new IOException("Failed to create backup folder " + ownerFolder.getAbsolutePath());
+		}
+
+		final SnapshotEntry entry = new SnapshotEntry();
+		entry.timestamp = timestamp;
+		entry.blocks = snapshot.blocks().size();
+		entry.entities = snapshot.entities().size();
+
+		final File dataFile = new File(ownerFolder, timestamp + DATA_SUFFIX);
+		final Path temp = dataFile.toPath().resolveSibling(dataFile.getName() + ".tmp");
+		int written = 0;
+		int reused = 0;
+		long offset = 0;
+		try (OutputStream out = new BufferedOutputStream(new FileOutputStream(temp.toFile()))) {
+			for (Map.Entry<Long, List<IslandSnapshotBlock>> chunk : blocksByChunk.entrySet()) {
+				final int chunkX = (int) (chunk.getKey() >> 32);
+				final int chunkZ = (int) (long) chunk.getKey();
+				final byte[] payload = codec.encode(chunkX, chunkZ, chunk.getValue(),
+						entitiesByChunk.getOrDefault(chunk.getKey(), List.of()));
+				final String hash = hash(payload);
+
+				final ChunkEntry unchanged = previous.get(chunk.getKey());
+				if (unchanged != null && hash.equals(unchanged.hash)) {
+					entry.chunks.add(unchanged);
+					reused++;
+					continue;
+				}
+
+				final byte[] record = codec.compress(payload);
+				out.write(record);
+				final ChunkEntry chunkEntry = new ChunkEntry();
+				chunkEntry.x = chunkX;
+				chunkEntry.z = chunkZ;
+				chunkEntry.file = timestamp;
+				chunkEntry.offset = offset;
+				chunkEntry.length = record.length;
+				chunkEntry.hash = hash;
+				entry.chunks.add(chunkEntry);
+				offset += record.length;
+				written++;
+			}
+		}
+
+		if (written > 0) {
+			move(temp, dataFile.toPath());
+		} else {
+			Files.deleteIfExists(temp);
+		}
+
+		manifest.snapshots.add(entry);
+		saveManifest(owner, manifest);
+		return new SaveResult(written, reused, offset);
+	}
+
+	/**
+	 * @param owner the island owner
+	 * @return the snapshot timestamps of the island, oldest first
+	 */
+	@NotNull
+	synchronized List<Long> timestamps(@NotNull UUID owner) {
+		return manifest(owner).snapshots.stream().map(snapshot -> snapshot.timestamp).sorted().toList();
+	}
+
+	/**
+	 * @param owner     the island owner
+	 * @param timestamp the snapshot timestamp
+	 * @return the chunks of the snapshot, if it exists
+	 */
+	@NotNull
+	synchronized Optional<List<ChunkEntry>> chunks(@NotNull UUID owner, long timestamp) {
+		return manifest(owner).snapshots.stream().filter(snapshot -> snapshot.timestamp == timestamp).findFirst()
+				.map(snapshot -> List.copyOf(snapshot.chunks));
+	}
+
+	/**
+	 * Reads and decodes the data of one chunk. Data files are never modified after
+	 * they are written, so this does not need to hold the store lock.
+	 *
+	 * @param owner the island owner
+	 * @param chunk the chunk entry of a snapshot
+	 * @return the blocks and entities of the chunk
+	 */
+	@NotNull
+	ChunkData read(@NotNull UUID owner, @NotNull ChunkEntry chunk) throws IOException {
+		final byte[] record = new byte[chunk.length];
+		try (RandomAccessFile file = new RandomAccessFile(new File(ownerFolder(owner), chunk.file + DATA_SUFFIX),
+				"r")) {
+			file.seek(chunk.offset);
+			file.readFully(record);
+		}
+		return codec.decode(codec.decompress(record));
+	}
+
+	/**
+	 * Removes snapshots from the manifest and deletes the data files no remaining
+	 * snapshot refers to.
+	 *
+	 * @param owner      the island owner
+	 * @param timestamps the snapshots to remove
+	 */
+	synchronized void remove(@NotNull UUID owner, @NotNull Collection<Long> timestamps) throws IOException {
+		final Manifest manifest = manifest(owner);
+		if (!manifest.snapshots.removeIf(snapshot -> timestamps.contains(snapshot.timestamp))) {
+			return;
+		}
+		saveManifest(owner, manifest);
+
+		final Set<Long> referenced = new HashSet<>();
+		manifest.snapshots.forEach(snapshot -> snapshot.chunks.forEach(chunk -> referenced.add(chunk.file)));
+		final File[] files = ownerFolder(owner).listFiles((dir, name) -> name.endsWith(DATA_SUFFIX));
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			final String name = file.getName();
+			try {
+				final long timestamp = Long.parseLong(name.substring(0, name.length() - DATA_SUFFIX.length()));
+				if (!referenced.contains(timestamp) && !file.delete()) {
+					plugin.getPluginLogger().warn("Failed to delete backup data file " + file.getAbsolutePath());
+				}
+			} catch (NumberFormatException ignored) {
+				// not one of ours
+			}
+		}
+	}
+
+	/**
+	 * Deletes every snapshot of an island.
+	 *
+	 * @param owner the island owner
+	 */
+	synchronized void delete(@NotNull UUID owner) {
+		manifests.remove(owner);
+		final File ownerFolder = ownerFolder(owner);
+		final File[] files = ownerFolder.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (!file.delete()) {
+					plugin.getPluginLogger().warn("Failed to delete backup file " + file.getAbsolutePath());
+				}
+			}
+		}
+		if (ownerFolder.exists() && !ownerFolder.delete()) {
+			plugin.getPluginLogger().warn("Failed to delete backup folder " + ownerFolder.getAbsolutePath());
+		}
+	}
+
+	private Manifest manifest(UUID owner) {
+		return manifests.computeIfAbsent(owner, this::loadManifest);
+	}
+
+	private Manifest loadManifest(UUID owner) {
+		final File file = new File(ownerFolder(owner), MANIFEST);
+		if (!file.isFile()) {
+			return new Manifest();
+		}
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			final Manifest manifest = gson.fromJson(reader, Manifest.class);
+			if (manifest == null || manifest.snapshots == null) {
+				return new Manifest();
+			}
+			if (manifest.version > MANIFEST_VERSION) {
+				plugin.getPluginLogger().warn("Backup manifest of " + owner + " was written by a newer version");
+			}
+			return manifest;
+		} catch (IOException | JsonParseException ex) {
+			plugin.getPluginLogger().warn("Failed to read backup manifest of " + owner, ex);
+			return new Manifest();
+		}
+	}
+
+	private void saveManifest(UUID owner, Manifest manifest) throws IOException {
+		final File file = new File(ownerFolder(owner), MANIFEST);
+		final Path temp = file.toPath().resolveSibling(MANIFEST + ".tmp");
+		Files.writeString(temp, gson.toJson(manifest), StandardCharsets.UTF_8);
+		move(temp, file.toPath());
+	}
+
+	private File ownerFolder(UUID owner) {
+		return new File(folder, owner.toString());
+	}
+
+	private static void move(Path from, Path to) throws IOException {
+		try {
+			Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException ex) {
+			Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	static long chunkKey(int x, int z) {
+		return ((long) x << 32) | (z & 0xFFFFFFFFL);
+	}
+
+	private static String hash(byte[] payload) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+}
@@ -1,24 +1,41 @@
 package com.swiftlicious.hellblock.schematic;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Hanging;
+import org.bukkit.entity.Player;
 import org.bukkit.entity.Shulker;
 import org.bukkit.util.BoundingBox;
 
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.utils.LocationUtils;
+import com.swiftlicious.hellblock.world.ChunkPos;
+import com.swiftlicious.hellblock.world.CustomSection;
+import com.swiftlicious.hellblock.world.HellblockWorld;
+import com.swiftlicious.hellblock.world.PackedPositionList;
+import com.swiftlicious.hellblock.world.Pos3;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
 
 /**
  * Island snapshot storing serializable block snapshots and entity snapshots.
@@ -26,60 +43,71 @@ import com.swiftlicious.hellblock.utils.LocationUtils;
 public record IslandSnapshot(List<IslandSnapshotBlock> blocks, List<EntitySnapshot> entities) {
 
 	private static final int BATCH_SIZE = 500; // adjust as needed
+	private static final int CHUNKS_PER_TICK = 4;
 
 	/**
-	 * Create a snapshot of blocks + entities within a bounding box. Runs in batches
-	 * so it won’t lag the server.
+	 * Create a snapshot of blocks + entities within a bounding box.
+	 * <p>
+	 * The main thread only visits each chunk of the box once, a few chunks per
+	 * tick: it takes a {@link ChunkSnapshot} and captures the tile entities,
+	 * entities and custom blocks of the chunk, which can't be read safely from
+	 * other threads. The blocks are then scanned from the chunk snapshots on
+	 * worker threads, skipping sections that only contain air.
 	 */
 	public static CompletableFuture<IslandSnapshot> captureAsync(HellblockPlugin plugin, BoundingBox box, World world) {
 		final CompletableFuture<IslandSnapshot> future = new CompletableFuture<>();
+		final CaptureBounds bounds = new CaptureBounds((int) box.getMinX(),
+				Math.max((int) box.getMinY(), world.getMinHeight()), (int) box.getMinZ(), (int) box.getMaxX(),
+				Math.min((int) box.getMaxY(), world.getMaxHeight() - 1), (int) box.getMaxZ(), world.getMinHeight());
+		final Optional<HellblockWorld<?>> hellblockWorld = plugin.getWorldManager().getWorld(world);
 
-		// Collect all block locations first
-		final List<Location> locations = new ArrayList<>();
-		for (int x = (int) box.getMinX(); x <= (int) box.getMaxX(); x++) {
-			for (int y = (int) box.getMinY(); y <= (int) box.getMaxY(); y++) {
-				for (int z = (int) box.getMinZ(); z <= (int) box.getMaxZ(); z++) {
-					locations.add(new Location(world, x, y, z));
-				}
+		final Queue<ChunkPos> pending = new ArrayDeque<>();
+		for (int chunkX = bounds.minX() >> 4; chunkX <= bounds.maxX() >> 4; chunkX++) {
+			for (int chunkZ = bounds.minZ() >> 4; chunkZ <= bounds.maxZ() >> 4; chunkZ++) {
+				pending.add(ChunkPos.of(chunkX, chunkZ));
 			}
 		}
 
-		final Iterator<Location> it = locations.iterator();
-		final List<IslandSnapshotBlock> blocks = Collections.synchronizedList(new ArrayList<>());
+		final List<CompletableFuture<List<IslandSnapshotBlock>>> scans = new ArrayList<>();
 		final List<EntitySnapshot> entities = Collections.synchronizedList(new ArrayList<>());
+		final long startTime = System.nanoTime();
+		final long[] mainThreadNanos = { 0L };
 
-		// Capture global entities first (excluding block-attached)
-		world.getEntities().stream().filter(entity -> box.contains(entity.getLocation().toVector())).forEach(entity -> {
-			if (isBlockAttachedEntity(entity)) {
-				return;
-			}
-			entities.add(EntitySnapshot.fromEntity(entity));
-		});
-
-		// Process blocks in batches (sync)
 		final AtomicReference<SchedulerTask> taskRef = new AtomicReference<>();
 		final SchedulerTask task = plugin.getScheduler().sync().runRepeating(() -> {
-			int processed = 0;
-
-			while (processed < BATCH_SIZE && it.hasNext()) {
-				final Location loc = it.next();
-				final Block block = loc.getBlock();
-
-				if (!block.getType().isAir()) {
-					// Capture attached entities for this block (e.g., item frames, shulkers)
-					final List<EntitySnapshot> nearby = findAttachedEntities(loc);
-					blocks.add(IslandSnapshotBlock.fromBlockState(block.getState(), nearby));
+			if (future.isDone()) {
+				return;
+			}
+			final long tickStart = System.nanoTime();
+			try {
+				for (int i = 0; i < CHUNKS_PER_TICK && !pending.isEmpty(); i++) {
+					final ChunkCapture capture = captureChunk(world, pending.poll(), bounds, box, hellblockWorld,
+							entities);
+					scans.add(CompletableFuture.supplyAsync(() -> scanChunk(capture, bounds, entities),
+							plugin.getScheduler().async()));
 				}
-				processed++;
+			} catch (RuntimeException ex) {
+				pending.clear();
+				future.completeExceptionally(ex);
 			}
+			mainThreadNanos[0] += System.nanoTime() - tickStart;
 
-			// Finish when no more blocks
-			if (!it.hasNext()) {
+			if (pending.isEmpty()) {
 				final SchedulerTask scheduled = taskRef.get();
 				if (scheduled != null && !scheduled.isCancelled()) {
 					scheduled.cancel();
 				}
-				future.complete(new IslandSnapshot(blocks, entities));
+				CompletableFuture.allOf(scans.toArray(CompletableFuture[]::new)).thenRun(() -> {
+					final List<IslandSnapshotBlock> blocks = new ArrayList<>();
+					scans.forEach(scan -> blocks.addAll(scan.join()));
+					plugin.debug("Captured island snapshot with %d blocks and %d entities from %d chunks in %.1fms (%.1fms on the main thread)"
+							.formatted(blocks.size(), entities.size(), scans.size(),
+									(System.nanoTime() - startTime) / 1_000_000.0, mainThreadNanos[0] / 1_000_000.0));
+					future.complete(new IslandSnapshot(blocks, entities));
+				}).exceptionally(ex -> {
+					future.completeExceptionally(ex);
+					return null;
+				});
 			}
 		}, 1L, 1L, LocationUtils.getAnyLocationInstance());
 
@@ -87,6 +115,127 @@ public record IslandSnapshot(List<IslandSnapshotBlock> blocks, List<EntitySnapsh
 		return future;
 	}
 
+	/**
+	 * Reads everything of a chunk that has to be read on the main thread. Free
+	 * entities are added to {@code entities} directly, block attached ones are
+	 * kept by the position of the block they are attached to.
+	 */
+	private static ChunkCapture captureChunk(World world, ChunkPos pos, CaptureBounds bounds, BoundingBox box,
+			Optional<HellblockWorld<?>> hellblockWorld, List<EntitySnapshot> entities) {
+		final Chunk chunk = world.getChunkAt(pos.x(), pos.z());
+		final ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+
+		final Map<Long, IslandSnapshotBlock> tiles = new HashMap<>();
+		for (BlockState state : chunk.getTileEntities()) {
+			if (bounds.contains(state.getX(), state.getY(), state.getZ()) && !state.getType().isAir()) {
+				tiles.put(PackedPositionList.pack(state.getX(), state.getY(), state.getZ()),
+						IslandSnapshotBlock.fromBlockState(state, List.of()));
+			}
+		}
+
+		final Map<Long, List<EntitySnapshot>> attached = new HashMap<>();
+		for (Entity entity : chunk.getEntities()) {
+			final Location loc = entity.getLocation();
+			if (entity instanceof Player || !box.contains(loc.toVector())) {
+				continue;
+			}
+			if (isBlockAttachedEntity(entity)) {
+				final Block anchor = entity instanceof Hanging hanging
+						? loc.getBlock().getRelative(hanging.getAttachedFace())
+						: loc.getBlock();
+				attached.computeIfAbsent(PackedPositionList.pack(anchor.getX(), anchor.getY(), anchor.getZ()),
+						key -> new ArrayList<>()).add(EntitySnapshot.fromEntity(entity));
+			} else {
+				entities.add(EntitySnapshot.fromEntity(entity));
+			}
+		}
+
+		final Map<Long, String> customBlocks = new HashMap<>();
+		hellblockWorld.flatMap(hw -> hw.getLoadedChunk(pos)).ifPresent(customChunk -> {
+			for (CustomSection section : customChunk.sections()) {
+				section.blockMap().forEach((blockPos, state) -> {
+					final Pos3 pos3 = blockPos.toPos3(pos);
+					if (bounds.contains(pos3.x(), pos3.y(), pos3.z())) {
+						customBlocks.put(PackedPositionList.pack(pos3.x(), pos3.y(), pos3.z()),
+								state.type().type().key().asString());
+					}
+				});
+			}
+		});
+
+		return new ChunkCapture(snapshot, tiles, attached, customBlocks);
+	}
+
+	/**
+	 * Collects the non-air blocks of a captured chunk. Runs on a worker thread.
+	 * Attached entities whose block is not part of the snapshot are added to
+	 * {@code entities} instead.
+	 */
+	private static List<IslandSnapshotBlock> scanChunk(ChunkCapture capture, CaptureBounds bounds,
+			List<EntitySnapshot> entities) {
+		final ChunkSnapshot snapshot = capture.snapshot();
+		final int fromX = Math.max(bounds.minX(), snapshot.getX() << 4);
+		final int toX = Math.min(bounds.maxX(), (snapshot.getX() << 4) + 15);
+		final int fromZ = Math.max(bounds.minZ(), snapshot.getZ() << 4);
+		final int toZ = Math.min(bounds.maxZ(), (snapshot.getZ() << 4) + 15);
+		final List<IslandSnapshotBlock> blocks = new ArrayList<>();
+
+		for (int section = (bounds.minY() - bounds.worldMinY()) >> 4; section <= (bounds.maxY()
+				- bounds.worldMinY()) >> 4; section++) {
+			if (snapshot.isSectionEmpty(section)) {
+				continue;
+			}
+			final int sectionMinY = bounds.worldMinY() + (section << 4);
+			final int fromY = Math.max(bounds.minY(), sectionMinY);
+			final int toY = Math.min(bounds.maxY(), sectionMinY + 15);
+
+			for (int x = fromX; x <= toX; x++) {
+				for (int y = fromY; y <= toY; y++) {
+					for (int z = fromZ; z <= toZ; z++) {
+						final Material type = snapshot.getBlockType(x & 15, y, z & 15);
+						if (type.isAir()) {
+							continue;
+						}
+						final long key = PackedPositionList.pack(x, y, z);
+						final List<EntitySnapshot> attached = capture.attached().remove(key);
+						final String customBlock = capture.customBlocks().get(key);
+						final IslandSnapshotBlock tile = capture.tiles().get(key);
+
+						if (tile != null) {
+							CompoundBinaryTag tileData = tile.tileData();
+							if (customBlock != null && !tileData.contains("customBlockId")) {
+								tileData = tileData.putString("customBlockId", customBlock);
+							}
+							blocks.add(new IslandSnapshotBlock(x, y, z, tile.type(), tile.blockData(),
+									tile.inventory(), tileData, attached));
+						} else {
+							blocks.add(new IslandSnapshotBlock(x, y, z, type,
+									snapshot.getBlockData(x & 15, y, z & 15).getAsString(), null,
+									customBlock != null
+											? CompoundBinaryTag.builder().putString("customBlockId", customBlock)
+													.build()
+											: null,
+									attached));
+						}
+					}
+				}
+			}
+		}
+
+		capture.attached().values().forEach(entities::addAll);
+		return blocks;
+	}
+
+	private record CaptureBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int worldMinY) {
+		boolean contains(int x, int y, int z) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+		}
+	}
+
+	private record ChunkCapture(ChunkSnapshot snapshot, Map<Long, IslandSnapshotBlock> tiles,
+			Map<Long, List<EntitySnapshot>> attached, Map<Long, String> customBlocks) {
+	}
+
 	/**
 	 * Restore a snapshot into the given world at the original positions. Runs in
 	 * sync batches.
@@ -149,23 +298,4 @@ public record IslandSnapshot(List<IslandSnapshotBlock> blocks, List<EntitySnapsh
 		return entity instanceof Hanging || entity instanceof Shulker
 				|| (entity instanceof ArmorStand stand && stand.isVisible() && stand.isSmall());
 	}
-
-	/**
-	 * Find entities that are attached to a block at the given location.
-	 * 
-	 * @param loc the block location
-	 * @return list of attached entity snapshots
-	 */
-	private static List<EntitySnapshot> findAttachedEntities(Location loc) {
-		final World world = loc.getWorld();
-		if (world == null) {
-			return List.of();
-		}
-
-		final Block block = loc.getBlock();
-		final BoundingBox box = block.getBoundingBox();
-
-		return world.getNearbyEntities(box).stream().filter(IslandSnapshot::isBlockAttachedEntity)
-				.map(EntitySnapshot::fromEntity).toList();
-	}
-}
\ No newline at end of file
+}
@@ -116,8 +116,9 @@ public record IslandSnapshotBlock(@JsonProperty("x") int x, @JsonProperty("y") i
 	 * inventories, tile entity data, and attached entities.
 	 * 
 	 * @param state          The BlockState to capture
-	 * @param nearbyEntities A list of nearby EntitySnapshots (for performance, only
-	 *                       entities within 5 blocks should be provided)
+	 * @param nearbyEntities The entities attached to the block if the caller
+	 *                       already collected them, or {@code null} to look them
+	 *                       up around the block
 	 * @return The captured IslandSnapshotBlock
 	 */
 	@SuppressWarnings("deprecation")
@@ -328,7 +329,8 @@ public record IslandSnapshotBlock(@JsonProperty("x") int x, @JsonProperty("y") i
 		});
 
 		// Entities attached to the block
-		final List<EntitySnapshot> entitySnapshots = findAttachedEntities(state.getLocation());
+		final List<EntitySnapshot> entitySnapshots = nearbyEntities != null ? nearbyEntities
+				: findAttachedEntities(state.getLocation());
 
 		return new IslandSnapshotBlock(state.getX(), state.getY(), state.getZ(), state.getType(),
 				state.getBlockData().getAsString(), inv.isEmpty() ? null : inv,
@@ -868,7 +870,7 @@ public record IslandSnapshotBlock(@JsonProperty("x") int x, @JsonProperty("y") i
 	 * @param item The ItemStack to convert
 	 * @return The CompoundBinaryTag representing the ItemStack
 	 */
-	private static CompoundBinaryTag itemStackToNBT(ItemStack item) {
+	static CompoundBinaryTag itemStackToNBT(ItemStack item) {
 		if (item == null) {
 			return CompoundBinaryTag.empty();
 		}
@@ -977,7 +979,7 @@ public record IslandSnapshotBlock(@JsonProperty("x") int x, @JsonProperty("y") i
 	 * @param tag The CompoundBinaryTag to convert
 	 * @return The reconstructed ItemStack
 	 */
-	private static ItemStack itemStackFromNBT(CompoundBinaryTag tag) {
+	static ItemStack itemStackFromNBT(CompoundBinaryTag tag) {
 		// Deserialize ItemStack from Bukkit ConfigurationSerializable map stored in NBT
 		final Map<String, Object> map = new HashMap<>();
 		tag.keySet().forEach(key -> map.put(key, tagToObject(tag.get(key))));
@@ -31,6 +31,8 @@ public class SchematicData {
 	public CompoundBinaryTag palette;
 	public Integer version;
 
+	private volatile SchematicPalette resolvedPalette;
+
 	public SchematicData(short width, short length, short height, List<CompoundBinaryTag> tileEntities,
 			List<CompoundBinaryTag> entities, byte[] blockdata, CompoundBinaryTag palette, Integer version) {
 		this.width = width;
@@ -49,6 +51,22 @@ public class SchematicData {
 		this(width, length, height, tileEntities, null, blockdata, palette, version);
 	}
 
+	/**
+	 * Get the palette of this schematic resolved to block data. It is resolved on
+	 * first use and kept with this schematic, so a cached schematic only parses its
+	 * palette once.
+	 *
+	 * @return The resolved palette.
+	 */
+	public SchematicPalette getResolvedPalette() {
+		SchematicPalette resolved = resolvedPalette;
+		if (resolved == null) {
+			resolved = SchematicPalette.resolve(this);
+			resolvedPalette = resolved;
+		}
+		return resolved;
+	}
+
 	/**
 	 * Load a schematic from a file.
 	 *
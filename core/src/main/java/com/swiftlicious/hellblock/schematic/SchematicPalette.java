@@ -0,0 +1,130 @@
+package com.swiftlicious.hellblock.schematic;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.IntBinaryTag;
+
+/**
+ * The palette and block data of a schematic, parsed once for pasting.
+ * <p>
+ * Palette entries are resolved to {@link BlockData} up front and indexed by
+ * palette id, and the block data is decoded to one palette id per block, so a
+ * paste only needs two array lookups per block instead of searching the palette
+ * and parsing the block string again.
+ */
+public final class SchematicPalette {
+
+	private final BlockData[] blockData;
+	private final boolean[] air;
+	private final int[] blocks;
+
+	private SchematicPalette(BlockData[] blockData, boolean[] air, int[] blocks) {
+		this.blockData = blockData;
+		this.air = air;
+		this.blocks = blocks;
+	}
+
+	/**
+	 * Resolves the palette and decodes the block data of a schematic.
+	 *
+	 * @param schematic the schematic
+	 * @return the resolved palette
+	 */
+	@NotNull
+	public static SchematicPalette resolve(@NotNull SchematicData schematic) {
+		int size = 0;
+		for (String key : schematic.palette.keySet()) {
+			if (schematic.palette.get(key) instanceof IntBinaryTag id) {
+				size = Math.max(size, id.value() + 1);
+			}
+		}
+
+		final BlockData[] blockData = new BlockData[size];
+		final boolean[] air = new boolean[size];
+		for (String key : schematic.palette.keySet()) {
+			final BinaryTag tag = schematic.palette.get(key);
+			if (!(tag instanceof IntBinaryTag id) || id.value() < 0) {
+				continue;
+			}
+			air[id.value()] = key.contains("air");
+			try {
+				blockData[id.value()] = Bukkit.createBlockData(key);
+			} catch (IllegalArgumentException ex) {
+				HellblockPlugin.getInstance().getPluginLogger()
+						.warn("Skipping unknown block '" + key + "' in schematic palette: " + ex.getMessage());
+			}
+		}
+
+		final int volume = schematic.width * schematic.height * schematic.length;
+		return new SchematicPalette(blockData, air, decode(schematic.blockdata, volume));
+	}
+
+	/**
+	 * Decodes the palette ids of every block. Sponge schematics store them as
+	 * varints; data that does not decode to exactly one id per block, such as a
+	 * converted legacy schematic with more than 127 palette entries, is read as
+	 * one unsigned byte per block instead.
+	 */
+	private static int[] decode(byte[] data, int volume) {
+		final int[] blocks = new int[volume];
+		int index = 0;
+		int position = 0;
+		while (position < data.length && index < volume) {
+			int value = 0;
+			int shift = 0;
+			byte current;
+			do {
+				if (position >= data.length || shift > 28) {
+					return decodeBytes(data, volume);
+				}
+				current = data[position++];
+				value |= (current & 0x7F) << shift;
+				shift += 7;
+			} while ((current & 0x80) != 0);
+			blocks[index++] = value;
+		}
+		if (index != volume || position != data.length) {
+			return decodeBytes(data, volume);
+		}
+		return blocks;
+	}
+
+	private static int[] decodeBytes(byte[] data, int volume) {
+		final int[] blocks = new int[volume];
+		for (int i = 0; i < Math.min(volume, data.length); i++) {
+			blocks[i] = data[i] & 0xFF;
+		}
+		return blocks;
+	}
+
+	/**
+	 * @param index the block index, {@code y * width * length + z * width + x}
+	 * @return the block data at the index, or {@code null} if its palette entry
+	 *         could not be resolved
+	 */
+	@Nullable
+	public BlockData blockData(int index) {
+		final int id = blocks[index];
+		return id < blockData.length ? blockData[id] : null;
+	}
+
+	/**
+	 * @param index the block index, {@code y * width * length + z * width + x}
+	 * @return whether the block at the index is any kind of air
+	 */
+	public boolean isAir(int index) {
+		final int id = blocks[index];
+		if (id < air.length && air[id]) {
+			return true;
+		}
+		final BlockData data = blockData(index);
+		return data != null && data.getMaterial() == Material.AIR;
+	}
+}
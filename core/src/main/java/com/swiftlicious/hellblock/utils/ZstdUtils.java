@@ -0,0 +1,94 @@
+package com.swiftlicious.hellblock.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.database.dependency.Dependency;
+
+/**
+ * Utility class for Zstandard compression.
+ * <p>
+ * zstd-jni is loaded through the isolated dependency class loader, so its
+ * methods are resolved reflectively once, on first use, and shared by every
+ * caller. If the library can't be loaded a warning is logged once and
+ * {@link #isAvailable()} returns {@code false} from then on.
+ */
+public class ZstdUtils {
+
+	private ZstdUtils() {
+		throw new UnsupportedOperationException("This class cannot be instantiated");
+	}
+
+	private static volatile Method compressMethod;
+	private static volatile Method decompressMethod;
+	private static volatile boolean unavailable;
+
+	/**
+	 * Loads zstd if that was not attempted yet.
+	 *
+	 * @return whether zstd can be used
+	 */
+	public static boolean isAvailable() {
+		if (compressMethod != null) {
+			return true;
+		}
+		if (unavailable) {
+			return false;
+		}
+		synchronized (ZstdUtils.class) {
+			if (compressMethod == null && !unavailable) {
+				try {
+					final ClassLoader classLoader = HellblockPlugin.getInstance().getDependencyManager()
+							.obtainClassLoaderWith(EnumSet.of(Dependency.ZSTD));
+					final Class<?> zstd = classLoader.loadClass("com.github.luben.zstd.Zstd");
+					decompressMethod = zstd.getMethod("decompress", byte[].class, byte[].class);
+					compressMethod = zstd.getMethod("compress", byte[].class);
+				} catch (ReflectiveOperationException | RuntimeException ex) {
+					unavailable = true;
+					HellblockPlugin.getInstance().getPluginLogger().warn("zstd is unavailable", ex);
+				}
+			}
+			return compressMethod != null;
+		}
+	}
+
+	/**
+	 * Compresses data.
+	 *
+	 * @param data the data to compress
+	 * @return the compressed data
+	 * @throws IllegalStateException if zstd is unavailable
+	 */
+	public static byte[] compress(byte[] data) {
+		requireAvailable();
+		try {
+			return (byte[]) compressMethod.invoke(null, (Object) data);
+		} catch (IllegalAccessException | InvocationTargetException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	/**
+	 * Decompresses data into a buffer of the original size.
+	 *
+	 * @param decompressedData the buffer to hold the decompressed data
+	 * @param compressedData   the compressed data
+	 * @throws IllegalStateException if zstd is unavailable
+	 */
+	public static void decompress(byte[] decompressedData, byte[] compressedData) {
+		requireAvailable();
+		try {
+			decompressMethod.invoke(null, decompressedData, compressedData);
+		} catch (IllegalAccessException | InvocationTargetException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+
+	private static void requireAvailable() {
+		if (!isAvailable()) {
+			throw new IllegalStateException("zstd is unavailable");
+		}
+	}
+}
@@ -1,23 +1,118 @@
 package com.swiftlicious.hellblock.utils.extras;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.context.Context;
 import com.swiftlicious.hellblock.handlers.ExpressionHelper;
+import com.swiftlicious.hellblock.placeholders.PlaceholderManager;
+
+import net.objecthunter.exp4j.Expression;
 
+/**
+ * A math value backed by an expression that may contain {@code {placeholder}}
+ * arguments.
+ * <p>
+ * The expression is parsed once, with every placeholder replaced by a variable
+ * that is bound to the numeric value of the placeholder on evaluation. Each
+ * thread evaluates its own copy of the parsed expression. If the expression
+ * can't be parsed that way, or a placeholder doesn't resolve to a number, the
+ * expression is rendered as text and parsed again, as before.
+ */
 public class ExpressionMathValue<T> implements MathValue<T> {
 
+	private static final String VARIABLE_PREFIX = "_p";
+
 	private final TextValue<T> raw;
+	private final String[] placeholders;
+	private final ThreadLocal<Expression> compiled;
 
 	public ExpressionMathValue(String raw) {
 		this.raw = TextValue.auto(raw);
+		final Map<String, String> variables = new LinkedHashMap<>();
+		final Expression expression = compile(raw, variables);
+		this.placeholders = variables.keySet().toArray(String[]::new);
+		this.compiled = expression != null ? ThreadLocal.withInitial(() -> new Expression(expression)) : null;
 	}
 
 	@Override
 	public double evaluate(Context<T> context) {
-		return ExpressionHelper.evaluate(raw.render(context));
+		final Expression expression = bind(context);
+		return expression != null ? expression.evaluate() : ExpressionHelper.evaluate(raw.render(context));
 	}
 
 	@Override
 	public double evaluate(Context<T> context, boolean parseRawPlaceholders) {
-		return ExpressionHelper.evaluate(raw.render(context, parseRawPlaceholders));
+		final Expression expression = bind(context);
+		return expression != null ? expression.evaluate()
+				: ExpressionHelper.evaluate(raw.render(context, parseRawPlaceholders));
+	}
+
+	/**
+	 * Binds the placeholders of the context to the compiled expression of the
+	 * current thread.
+	 *
+	 * @return the bound expression, or {@code null} if the text has to be rendered
+	 */
+	@Nullable
+	private Expression bind(Context<T> context) {
+		if (compiled == null) {
+			return null;
+		}
+		final Expression expression = compiled.get();
+		if (placeholders.length == 0) {
+			return expression;
+		}
+
+		final Map<String, String> replacements = context.placeholderMap();
+		final OfflinePlayer player = context.holder() instanceof OfflinePlayer offlinePlayer ? offlinePlayer : null;
+		final PlaceholderManager manager = HellblockPlugin.getInstance().getPlaceholderManager();
+		for (int i = 0; i < placeholders.length; i++) {
+			final String value = manager.parseSingle(player, placeholders[i], replacements);
+			try {
+				expression.setVariable(VARIABLE_PREFIX + i, Double.parseDouble(value));
+			} catch (NumberFormatException ex) {
+				return null;
+			}
+		}
+		return expression;
+	}
+
+	/**
+	 * Parses the expression with one variable per distinct placeholder.
+	 *
+	 * @param raw       the configured expression
+	 * @param variables receives the variable name of each placeholder, in order
+	 * @return the parsed expression, or {@code null} if it only works as rendered
+	 *         text
+	 */
+	@Nullable
+	private static Expression compile(String raw, Map<String, String> variables) {
+		// PlaceholderAPI placeholders are resolved on the rendered text only
+		if (raw.indexOf('%') >= 0) {
+			return null;
+		}
+
+		final Matcher matcher = TextValue.pattern.matcher(raw);
+		final StringBuilder template = new StringBuilder();
+		while (matcher.find()) {
+			final String variable = variables.computeIfAbsent(matcher.group(),
+					placeholder -> VARIABLE_PREFIX + variables.size());
+			matcher.appendReplacement(template, variable);
+		}
+		matcher.appendTail(template);
+
+		try {
+			return ExpressionHelper.compile(template.toString(), variables.values());
+		} catch (IllegalArgumentException ex) {
+			// e.g. placeholders that are joined into a single number
+			variables.clear();
+			return null;
+		}
 	}
 }
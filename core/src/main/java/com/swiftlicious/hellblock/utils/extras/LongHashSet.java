@@ -0,0 +1,149 @@
+package com.swiftlicious.hellblock.utils.extras;
+
+import java.util.Arrays;
+
+/**
+ * A hash set of primitive {@code long} values.
+ * <p>
+ * Values are stored in a single array with open addressing and linear probing,
+ * so an element takes nine bytes of array space instead of a node and a boxed
+ * {@link Long}. Removal shifts the following entries of the probe sequence
+ * back, so no tombstones accumulate. The set is not synchronized.
+ */
+public final class LongHashSet {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75F;
+
+	private long[] keys;
+	private boolean[] used;
+	private int size;
+	private int mask;
+	private int resizeAt;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public LongHashSet() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty set sized for a number of elements.
+	 *
+	 * @param expectedSize the number of elements to size the set for
+	 */
+	public LongHashSet(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public boolean contains(long value) {
+		return used[find(value)];
+	}
+
+	/**
+	 * Adds a value to the set.
+	 *
+	 * @return {@code true} if the value was not present before
+	 */
+	public boolean add(long value) {
+		final int slot = find(value);
+		if (used[slot]) {
+			return false;
+		}
+		keys[slot] = value;
+		used[slot] = true;
+		if (++size > resizeAt) {
+			rehash(keys.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes a value from the set.
+	 *
+	 * @return {@code true} if the value was present
+	 */
+	public boolean remove(long value) {
+		int slot = find(value);
+		if (!used[slot]) {
+			return false;
+		}
+		size--;
+		// Move later entries of the probe sequence into the gap
+		int next = slot;
+		while (true) {
+			next = (next + 1) & mask;
+			if (!used[next]) {
+				break;
+			}
+			final int home = PackedLongs.mix(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				keys[slot] = keys[next];
+				slot = next;
+			}
+		}
+		used[slot] = false;
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	/**
+	 * @return all values of the set, in no particular order
+	 */
+	public long[] toArray() {
+		final long[] result = new long[size];
+		int index = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (used[i]) {
+				result[index++] = keys[i];
+			}
+		}
+		return result;
+	}
+
+	private int find(long value) {
+		int slot = PackedLongs.mix(value) & mask;
+		while (used[slot] && keys[slot] != value) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldKeys = keys;
+		final boolean[] oldUsed = used;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldUsed[i]) {
+				final int slot = find(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				used[slot] = true;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		resizeAt = (int) (capacity * LOAD_FACTOR);
+	}
+
+	private static int capacityFor(int expectedSize) {
+		final long needed = (long) Math.ceil(Math.max(0, expectedSize) / (double) LOAD_FACTOR) + 1;
+		return (int) Math.max(MIN_CAPACITY, Long.highestOneBit(needed - 1) << 1);
+	}
+}
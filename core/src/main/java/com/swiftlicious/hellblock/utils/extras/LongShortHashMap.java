@@ -0,0 +1,201 @@
+package com.swiftlicious.hellblock.utils.extras;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code long} keys to primitive {@code short}
+ * values.
+ * <p>
+ * Entries are stored in two parallel arrays with open addressing and linear
+ * probing, so an entry takes eleven bytes of array space instead of a node, a
+ * boxed key and a boxed value. Removal shifts the following entries of the
+ * probe sequence back, so no tombstones accumulate. The map is not
+ * synchronized.
+ */
+public final class LongShortHashMap {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75F;
+
+	private final short missingValue;
+
+	private long[] keys;
+	private short[] values;
+	private boolean[] used;
+	private int size;
+	private int mask;
+	private int resizeAt;
+
+	/**
+	 * Creates an empty map.
+	 *
+	 * @param missingValue the value returned for keys that are not mapped
+	 */
+	public LongShortHashMap(short missingValue) {
+		this(missingValue, MIN_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty map sized for a number of entries.
+	 *
+	 * @param missingValue    the value returned for keys that are not mapped
+	 * @param expectedEntries the number of entries to size the map for
+	 */
+	public LongShortHashMap(short missingValue, int expectedEntries) {
+		this.missingValue = missingValue;
+		allocate(capacityFor(expectedEntries));
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public boolean containsKey(long key) {
+		return used[find(key)];
+	}
+
+	/**
+	 * @return the value of the key, or the missing value
+	 */
+	public short get(long key) {
+		final int slot = find(key);
+		return used[slot] ? values[slot] : missingValue;
+	}
+
+	/**
+	 * Maps a key to a value.
+	 *
+	 * @return the previous value, or the missing value
+	 */
+	public short put(long key, short value) {
+		final int slot = find(key);
+		if (used[slot]) {
+			final short previous = values[slot];
+			values[slot] = value;
+			return previous;
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		used[slot] = true;
+		if (++size > resizeAt) {
+			rehash(keys.length << 1);
+		}
+		return missingValue;
+	}
+
+	/**
+	 * Removes the mapping of a key.
+	 *
+	 * @return the removed value, or the missing value
+	 */
+	public short remove(long key) {
+		int slot = find(key);
+		if (!used[slot]) {
+			return missingValue;
+		}
+		final short previous = values[slot];
+		size--;
+		// Move later entries of the probe sequence into the gap
+		int next = slot;
+		while (true) {
+			next = (next + 1) & mask;
+			if (!used[next]) {
+				break;
+			}
+			final int home = PackedLongs.mix(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				keys[slot] = keys[next];
+				values[slot] = values[next];
+				slot = next;
+			}
+		}
+		used[slot] = false;
+		return previous;
+	}
+
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	/**
+	 * Calls the consumer for every entry, in no particular order. The map must
+	 * not be modified meanwhile.
+	 */
+	public void forEach(EntryConsumer consumer) {
+		for (int i = 0; i < keys.length; i++) {
+			if (used[i]) {
+				consumer.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return the keys of all entries, in no particular order
+	 */
+	public long[] keys() {
+		final long[] result = new long[size];
+		int index = 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (used[i]) {
+				result[index++] = keys[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Estimates the heap used by the backing arrays.
+	 *
+	 * @return the size in bytes
+	 */
+	public long estimateBytes() {
+		// Three array headers plus 8 + 2 + 1 bytes per slot
+		return 3L * 16 + (long) keys.length * 11;
+	}
+
+	private int find(long key) {
+		int slot = PackedLongs.mix(key) & mask;
+		while (used[slot] && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void rehash(int capacity) {
+		final long[] oldKeys = keys;
+		final short[] oldValues = values;
+		final boolean[] oldUsed = used;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldUsed[i]) {
+				final int slot = find(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				used[slot] = true;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new short[capacity];
+		used = new boolean[capacity];
+		mask = capacity - 1;
+		resizeAt = (int) (capacity * LOAD_FACTOR);
+	}
+
+	private static int capacityFor(int expectedEntries) {
+		final long needed = (long) Math.ceil(Math.max(0, expectedEntries) / (double) LOAD_FACTOR) + 1;
+		return (int) Math.max(MIN_CAPACITY, Long.highestOneBit(needed - 1) << 1);
+	}
+
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(long key, short value);
+	}
+}
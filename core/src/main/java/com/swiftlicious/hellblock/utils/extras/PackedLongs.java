@@ -0,0 +1,63 @@
+package com.swiftlicious.hellblock.utils.extras;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Helpers shared by the primitive {@code long} keyed collections and the
+ * formats that store their keys.
+ */
+public final class PackedLongs {
+
+	private PackedLongs() {
+		throw new UnsupportedOperationException("This class cannot be instantiated");
+	}
+
+	/**
+	 * Spreads the bits of a key before it is masked to a table index. Packed
+	 * coordinates differ mostly in their low bits, which would otherwise crowd
+	 * into a few buckets.
+	 *
+	 * @param key the key
+	 * @return the mixed hash
+	 */
+	public static int mix(long key) {
+		final long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Writes an unsigned variable length number, seven bits per byte.
+	 *
+	 * @param out   the output
+	 * @param value the value, treated as unsigned
+	 * @throws IOException if writing fails
+	 */
+	public static void writeVarLong(DataOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	/**
+	 * Reads a number written by {@link #writeVarLong(DataOutput, long)}.
+	 *
+	 * @param in the input
+	 * @return the value
+	 * @throws IOException if reading fails or the number is malformed
+	 */
+	public static long readVarLong(DataInput in) throws IOException {
+		long value = 0L;
+		for (int shift = 0; shift < 64; shift += 7) {
+			final int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable length number");
+	}
+}
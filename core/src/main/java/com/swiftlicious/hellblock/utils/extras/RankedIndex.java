@@ -0,0 +1,269 @@
+package com.swiftlicious.hellblock.utils.extras;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keys ordered by score, highest first, that answer rank and top N queries
+ * without sorting every entry.
+ * <p>
+ * The entries are kept in a treap whose nodes know the size of their subtree,
+ * so updates and rank lookups take logarithmic time and a top N query only
+ * visits N entries. Equal scores are ordered by key, which keeps ranks stable.
+ * All methods are synchronized.
+ *
+ * @param <K> the key type
+ */
+public final class RankedIndex<K extends Comparable<? super K>> {
+
+	private final Map<K, Node<K>> nodes = new HashMap<>();
+	private Node<K> root;
+	private long version;
+
+	/**
+	 * Sets the score of a key, adding it if it is not indexed yet.
+	 *
+	 * @param key   the key
+	 * @param score the new score
+	 * @return whether the index changed
+	 */
+	public synchronized boolean update(@NotNull K key, double score) {
+		final Node<K> existing = nodes.get(key);
+		if (existing != null) {
+			if (Double.compare(existing.score, score) == 0) {
+				return false;
+			}
+			root = remove(root, existing);
+		}
+		final Node<K> node = new Node<>(key, score, ThreadLocalRandom.current().nextInt());
+		nodes.put(key, node);
+		root = insert(root, node);
+		version++;
+		return true;
+	}
+
+	/**
+	 * Removes a key from the index.
+	 *
+	 * @param key the key
+	 * @return whether the key was indexed
+	 */
+	public synchronized boolean remove(@NotNull K key) {
+		final Node<K> existing = nodes.remove(key);
+		if (existing == null) {
+			return false;
+		}
+		root = remove(root, existing);
+		version++;
+		return true;
+	}
+
+	/**
+	 * Replaces every entry, e.g. after reading all scores from storage.
+	 *
+	 * @param scores the scores by key
+	 */
+	public synchronized void rebuild(@NotNull Map<K, Double> scores) {
+		nodes.clear();
+		root = null;
+		scores.forEach((key, score) -> {
+			final Node<K> node = new Node<>(key, score, ThreadLocalRandom.current().nextInt());
+			nodes.put(key, node);
+			root = insert(root, node);
+		});
+		version++;
+	}
+
+	public synchronized void clear() {
+		nodes.clear();
+		root = null;
+		version++;
+	}
+
+	/**
+	 * @return the score of the key, or {@code null} if it is not indexed
+	 */
+	@Nullable
+	public synchronized Double score(@NotNull K key) {
+		final Node<K> node = nodes.get(key);
+		return node != null ? node.score : null;
+	}
+
+	/**
+	 * Gets the position of a key, starting at 1 for the highest score.
+	 *
+	 * @param key the key
+	 * @return the rank, or {@code -1} if the key is not indexed
+	 */
+	public synchronized int rank(@NotNull K key) {
+		final Node<K> target = nodes.get(key);
+		if (target == null) {
+			return -1;
+		}
+		int before = 0;
+		Node<K> node = root;
+		while (node != null) {
+			final int compare = compare(target, node);
+			if (compare < 0) {
+				node = node.left;
+			} else if (compare > 0) {
+				before += size(node.left) + 1;
+				node = node.right;
+			} else {
+				return before + size(node.left) + 1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the highest scored keys.
+	 *
+	 * @param limit the maximum number of entries
+	 * @return the keys and their scores, highest first
+	 */
+	@NotNull
+	public synchronized LinkedHashMap<K, Double> top(int limit) {
+		final LinkedHashMap<K, Double> result = new LinkedHashMap<>();
+		final Deque<Node<K>> stack = new ArrayDeque<>();
+		Node<K> node = root;
+		while (result.size() < limit && (node != null || !stack.isEmpty())) {
+			while (node != null) {
+				stack.push(node);
+				node = node.left;
+			}
+			node = stack.pop();
+			result.put(node.key, node.score);
+			node = node.right;
+		}
+		return result;
+	}
+
+	public synchronized int size() {
+		return nodes.size();
+	}
+
+	/**
+	 * @return a counter that changes whenever an entry changes
+	 */
+	public synchronized long version() {
+		return version;
+	}
+
+	private int compare(Node<K> a, Node<K> b) {
+		final int byScore = Double.compare(b.score, a.score);
+		return byScore != 0 ? byScore : a.key.compareTo(b.key);
+	}
+
+	private Node<K> insert(Node<K> tree, Node<K> node) {
+		if (tree == null) {
+			return node;
+		}
+		if (node.priority > tree.priority) {
+			final Node<K>[] parts = split(tree, node);
+			node.left = parts[0];
+			node.right = parts[1];
+			node.resize();
+			return node;
+		}
+		if (compare(node, tree) < 0) {
+			tree.left = insert(tree.left, node);
+		} else {
+			tree.right = insert(tree.right, node);
+		}
+		tree.resize();
+		return tree;
+	}
+
+	private Node<K> remove(Node<K> tree, Node<K> node) {
+		if (tree == null) {
+			return null;
+		}
+		if (tree == node) {
+			final Node<K> merged = merge(node.left, node.right);
+			node.left = null;
+			node.right = null;
+			return merged;
+		}
+		if (compare(node, tree) < 0) {
+			tree.left = remove(tree.left, node);
+		} else {
+			tree.right = remove(tree.right, node);
+		}
+		tree.resize();
+		return tree;
+	}
+
+	/**
+	 * Splits a tree into the nodes ordered before the pivot and the rest.
+	 */
+	@SuppressWarnings("unchecked")
+	private Node<K>[] split(Node<K> tree, Node<K> pivot) {
+		if (tree == null) {
+			return new Node[2];
+		}
+		final Node<K>[] parts;
+		if (compare(tree, pivot) < 0) {
+			parts = split(tree.right, pivot);
+			tree.right = parts[0];
+			parts[0] = tree;
+		} else {
+			parts = split(tree.left, pivot);
+			tree.left = parts[1];
+			parts[1] = tree;
+		}
+		tree.resize();
+		return parts;
+	}
+
+	/**
+	 * Merges two trees, every node of {@code a} ordered before those of
+	 * {@code b}.
+	 */
+	private Node<K> merge(Node<K> a, Node<K> b) {
+		if (a == null) {
+			return b;
+		}
+		if (b == null) {
+			return a;
+		}
+		if (a.priority > b.priority) {
+			a.right = merge(a.right, b);
+			a.resize();
+			return a;
+		}
+		b.left = merge(a, b.left);
+		b.resize();
+		return b;
+	}
+
+	private static int size(Node<?> node) {
+		return node != null ? node.size : 0;
+	}
+
+	private static final class Node<K> {
+		final K key;
+		final double score;
+		final int priority;
+		Node<K> left;
+		Node<K> right;
+		int size = 1;
+
+		Node(K key, double score, int priority) {
+			this.key = key;
+			this.score = score;
+			this.priority = priority;
+		}
+
+		void resize() {
+			size = 1 + RankedIndex.size(left) + RankedIndex.size(right);
+		}
+	}
+}
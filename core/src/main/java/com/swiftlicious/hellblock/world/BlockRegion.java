@@ -0,0 +1,66 @@
+package com.swiftlicious.hellblock.world;
+
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Inclusive integer block region used to bound block scans.
+ *
+ * @param minX the minimum block x coordinate
+ * @param minY the minimum block y coordinate
+ * @param minZ the minimum block z coordinate
+ * @param maxX the maximum block x coordinate
+ * @param maxY the maximum block y coordinate
+ * @param maxZ the maximum block z coordinate
+ */
+public record BlockRegion(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+
+	/**
+	 * Creates a region covering every block touched by the given bounding box.
+	 *
+	 * @param box the bounding box
+	 * @return the block region
+	 */
+	@NotNull
+	public static BlockRegion of(@NotNull BoundingBox box) {
+		return new BlockRegion((int) Math.floor(box.getMinX()), (int) Math.floor(box.getMinY()),
+				(int) Math.floor(box.getMinZ()), (int) Math.ceil(box.getMaxX()), (int) Math.ceil(box.getMaxY()),
+				(int) Math.ceil(box.getMaxZ()));
+	}
+
+	/**
+	 * Creates a region around a center block.
+	 *
+	 * @param center           the center block
+	 * @param horizontalRadius the radius on the x and z axes
+	 * @param below            the number of blocks below the center
+	 * @param above            the number of blocks above the center
+	 * @return the block region
+	 */
+	@NotNull
+	public static BlockRegion around(@NotNull Pos3 center, int horizontalRadius, int below, int above) {
+		return new BlockRegion(center.x() - horizontalRadius, center.y() - below, center.z() - horizontalRadius,
+				center.x() + horizontalRadius, center.y() + above, center.z() + horizontalRadius);
+	}
+
+	/**
+	 * @return whether the given block lies inside this region
+	 */
+	public boolean contains(int x, int y, int z) {
+		return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+	}
+
+	/**
+	 * @return the lowest section ID overlapped by this region
+	 */
+	public int minSectionID() {
+		return minY >> 4;
+	}
+
+	/**
+	 * @return the highest section ID overlapped by this region
+	 */
+	public int maxSectionID() {
+		return maxY >> 4;
+	}
+}
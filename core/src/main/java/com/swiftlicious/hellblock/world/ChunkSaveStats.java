@@ -0,0 +1,71 @@
+package com.swiftlicious.hellblock.world;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Save counters of a single {@link HellblockWorld}. A save only serializes the
+ * chunks that changed since they were last written, these counters show how
+ * many chunks were written and skipped.
+ */
+public final class ChunkSaveStats {
+
+	private final LongAdder saves = new LongAdder();
+	private final LongAdder dirtyChunks = new LongAdder();
+	private final LongAdder cleanChunks = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+	private final LongAdder saveNanos = new LongAdder();
+	private volatile int lastDirtyChunks;
+	private volatile int lastCleanChunks;
+	private volatile long lastBytes;
+
+	/**
+	 * Records a world save.
+	 *
+	 * @param dirty the number of serialized chunks
+	 * @param clean the number of skipped chunks
+	 * @param bytes the size of the serialized chunks
+	 * @param nanos the time the save took
+	 */
+	public void record(int dirty, int clean, long bytes, long nanos) {
+		this.saves.increment();
+		this.dirtyChunks.add(dirty);
+		this.cleanChunks.add(clean);
+		this.bytes.add(bytes);
+		this.saveNanos.add(nanos);
+		this.lastDirtyChunks = dirty;
+		this.lastCleanChunks = clean;
+		this.lastBytes = bytes;
+	}
+
+	public long saves() {
+		return saves.sum();
+	}
+
+	public long dirtyChunks() {
+		return dirtyChunks.sum();
+	}
+
+	public long cleanChunks() {
+		return cleanChunks.sum();
+	}
+
+	public long bytes() {
+		return bytes.sum();
+	}
+
+	public long saveNanos() {
+		return saveNanos.sum();
+	}
+
+	public int lastDirtyChunks() {
+		return lastDirtyChunks;
+	}
+
+	public int lastCleanChunks() {
+		return lastCleanChunks;
+	}
+
+	public long lastBytes() {
+		return lastBytes;
+	}
+}
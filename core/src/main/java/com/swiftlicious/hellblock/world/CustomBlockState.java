@@ -4,6 +4,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -16,9 +17,13 @@ import net.kyori.adventure.nbt.CompoundBinaryTag;
 public class CustomBlockState implements CustomBlockStateInterface {
 
 	private static final Set<String> AIR_KEYS = Set.of("minecraft:air", "hellblock:air", "custom:air", "void");
+	private static final AtomicIntegerFieldUpdater<CustomBlockState> MOD_COUNT = AtomicIntegerFieldUpdater
+			.newUpdater(CustomBlockState.class, "modCount");
 
 	private final SynchronizedNBTCompound compound;
 	private final CustomBlock owner;
+	// Bumped on every in-place change, see CustomSection#modCount()
+	private volatile int modCount;
 
 	protected CustomBlockState(CustomBlock owner, CompoundBinaryTag compoundTag) {
 		this.compound = new SynchronizedNBTCompound(compoundTag);
@@ -45,7 +50,7 @@ public class CustomBlockState implements CustomBlockStateInterface {
 
 	@Override
 	public void clearInventory() {
-		compound().remove("Items");
+		remove("Items");
 	}
 
 	@Override
@@ -65,6 +70,7 @@ public class CustomBlockState implements CustomBlockStateInterface {
 
 	public void set(String key, BinaryTag tag) {
 		compound.put(key, tag);
+		MOD_COUNT.incrementAndGet(this);
 	}
 
 	public BinaryTag get(String key) {
@@ -73,6 +79,12 @@ public class CustomBlockState implements CustomBlockStateInterface {
 
 	public void remove(String key) {
 		compound.remove(key);
+		MOD_COUNT.incrementAndGet(this);
+	}
+
+	@Override
+	public int modCount() {
+		return modCount;
 	}
 
 	public SynchronizedNBTCompound compound() {
@@ -87,6 +87,14 @@ public interface CustomBlockStateInterface {
 		}
 	}
 
+	/**
+	 * Gets the number of changes made to the data of this block state since it was
+	 * created. Used to detect chunks that need to be saved again.
+	 *
+	 * @return The modification count of this block state.
+	 */
+	int modCount();
+
 	/**
 	 * Serializes the NBT data of this block state to a byte array.
 	 *
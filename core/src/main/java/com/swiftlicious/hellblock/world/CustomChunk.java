@@ -8,17 +8,19 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import org.bukkit.World;
-import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
 import com.swiftlicious.hellblock.HellblockPlugin;
-import com.swiftlicious.hellblock.handlers.VersionHelper;
+import com.swiftlicious.hellblock.listeners.FarmingHandler;
 import com.swiftlicious.hellblock.utils.ChunkUtils;
 import com.swiftlicious.hellblock.utils.RandomUtils;
 
+import net.kyori.adventure.key.Key;
+
 public final class CustomChunk implements CustomChunkInterface {
 
 	private final HellblockWorld<?> world;
@@ -26,6 +28,8 @@ public final class CustomChunk implements CustomChunkInterface {
 	private final ConcurrentMap<Integer, CustomSection> loadedSections;
 	private final PriorityBlockingQueue<DelayedTickTask> queue;
 	private final Set<BlockPos> tickedBlocks;
+	private final AtomicLong modCount = new AtomicLong();
+	private volatile long savedModCount;
 	private long lastUnloadTime;
 	private int loadedSeconds;
 	private int lazySeconds;
@@ -129,14 +133,8 @@ public final class CustomChunk implements CustomChunkInterface {
 			final int x = chunkPos.x();
 			final int z = chunkPos.z();
 
-			if (VersionHelper.isPaperFork()) {
-				// Paper: remove plugin ticket
-				try {
-					bukkitWorld.getClass().getMethod("removePluginChunkTicket", int.class, int.class, Plugin.class)
-							.invoke(bukkitWorld, x, z, HellblockPlugin.getInstance());
-				} catch (Exception ignored) {
-				}
-			}
+			// Paper: remove plugin ticket
+			WorldReflection.removePluginChunkTicket(bukkitWorld, x, z, HellblockPlugin.getInstance());
 		}
 	}
 
@@ -149,24 +147,12 @@ public final class CustomChunk implements CustomChunkInterface {
 			final int x = chunkPos.x();
 			final int z = chunkPos.z();
 
-			if (VersionHelper.isPaperFork()) {
-				try {
-					bukkitWorld.getClass().getMethod("removePluginChunkTicket", int.class, int.class, Plugin.class)
-							.invoke(bukkitWorld, x, z, HellblockPlugin.getInstance());
-				} catch (Exception ignored) {
-				}
-			}
+			WorldReflection.removePluginChunkTicket(bukkitWorld, x, z, HellblockPlugin.getInstance());
 		}
 	}
 
 	private void addPluginChunkTicket(World world, int x, int z) {
-		if (VersionHelper.isPaperFork()) {
-			try {
-				world.getClass().getMethod("addPluginChunkTicket", int.class, int.class, Plugin.class).invoke(world, x,
-						z, HellblockPlugin.getInstance());
-			} catch (Exception ignored) {
-			}
-		}
+		WorldReflection.addPluginChunkTicket(world, x, z, HellblockPlugin.getInstance());
 	}
 
 	@Override
@@ -193,6 +179,8 @@ public final class CustomChunk implements CustomChunkInterface {
 	public void timer() {
 		final WorldSetting setting = world.setting();
 		final int interval = setting.minTickUnit();
+		// The tick position alone does not dirty the chunk, a save may store it a
+		// few seconds behind
 		this.loadedSeconds++;
 		// if loadedSeconds reach another recycle, rearrange the tasks
 		if (this.loadedSeconds < interval) {
@@ -202,6 +190,8 @@ public final class CustomChunk implements CustomChunkInterface {
 		this.tickedBlocks.clear();
 		this.queue.clear();
 		this.arrangeTasks(interval);
+		// The scheduled tasks are saved with the chunk
+		this.modCount.incrementAndGet();
 	}
 
 	private void arrangeTasks(int unit) {
@@ -229,6 +219,9 @@ public final class CustomChunk implements CustomChunkInterface {
 	@Override
 	public void updateLastUnloadTime() {
 		this.lastUnloadTime = System.currentTimeMillis();
+		// The unload time decides how long the chunk is ticked offline, so it has to
+		// reach the disk
+		this.modCount.incrementAndGet();
 	}
 
 	@Override
@@ -259,6 +252,7 @@ public final class CustomChunk implements CustomChunkInterface {
 
 		CustomSection section = maybeSection.get();
 		Optional<CustomBlockState> removed = section.removeBlockState(pos);
+		removed.ifPresent(state -> notifyFarmIndex(location, state, null));
 
 		// Optional: log if section is now empty
 		if (section.canPrune()) {
@@ -287,7 +281,16 @@ public final class CustomChunk implements CustomChunkInterface {
 		}
 
 		arrangeScheduledTickTaskForNewBlock(pos);
-		return section.addBlockState(pos, block);
+		final Optional<CustomBlockState> previous = section.addBlockState(pos, block);
+		notifyFarmIndex(location, previous.orElse(null), block);
+		return previous;
+	}
+
+	private void notifyFarmIndex(Pos3 location, CustomBlockState previous, CustomBlockState current) {
+		final FarmingHandler farming = HellblockPlugin.getInstance().getFarmingManager();
+		if (farming != null) {
+			farming.getFarmIndex().onBlockStateChanged(world, location, previous, current);
+		}
 	}
 
 	@NotNull
@@ -307,6 +310,7 @@ public final class CustomChunk implements CustomChunkInterface {
 		return getLoadedSection(sectionID).orElseGet(() -> {
 			final CustomSection section = new CustomSection(sectionID);
 			this.loadedSections.put(sectionID, section);
+			this.modCount.incrementAndGet();
 			return section;
 		});
 	}
@@ -316,9 +320,45 @@ public final class CustomChunk implements CustomChunkInterface {
 		return loadedSections.values().toArray(new CustomSection[0]);
 	}
 
+	@Override
+	public int scan(@NotNull Set<Key> keys, @NotNull BlockRegion region, @NotNull PackedPositionList out) {
+		int found = 0;
+		for (int sectionID = region.minSectionID(); sectionID <= region.maxSectionID(); sectionID++) {
+			final CustomSection section = loadedSections.get(sectionID);
+			if (section != null) {
+				found += section.scan(chunkPos, keys, region, out);
+			}
+		}
+		return found;
+	}
+
 	@Override
 	public Optional<CustomSection> removeSection(int sectionID) {
-		return Optional.ofNullable(loadedSections.remove(sectionID));
+		final CustomSection removed = loadedSections.remove(sectionID);
+		if (removed != null) {
+			// Take over the changes of the section so the count keeps increasing
+			this.modCount.addAndGet(removed.modCount() + 1L);
+		}
+		return Optional.ofNullable(removed);
+	}
+
+	@Override
+	public long modCount() {
+		long count = this.modCount.get();
+		for (CustomSection section : loadedSections.values()) {
+			count += section.modCount();
+		}
+		return count;
+	}
+
+	@Override
+	public long savedModCount() {
+		return savedModCount;
+	}
+
+	@Override
+	public void markSaved(long modCount) {
+		this.savedModCount = modCount;
 	}
 
 	@Override
@@ -358,6 +398,9 @@ public final class CustomChunk implements CustomChunkInterface {
 				break;
 			}
 		}
+		if (i > 0) {
+			this.modCount.incrementAndGet();
+		}
 	}
 
 	@Override
@@ -380,5 +423,6 @@ public final class CustomChunk implements CustomChunkInterface {
 		if (random > loadedSeconds) {
 			queue.add(new DelayedTickTask(random, pos));
 		}
+		this.modCount.incrementAndGet();
 	}
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 
+import net.kyori.adventure.key.Key;
+
 /**
  * Interface representing a chunk in the Hellblock plugin
  */
@@ -186,6 +188,18 @@ public interface CustomChunkInterface {
 	 */
 	CustomSection[] sections();
 
+	/**
+	 * Scans the stored block states of every loaded section overlapping the
+	 * given region and appends the positions of blocks whose type key is
+	 * contained in the given set.
+	 *
+	 * @param keys   The block type keys to match.
+	 * @param region The region the matched positions must lie in.
+	 * @param out    The list receiving the packed positions of matching blocks.
+	 * @return The number of positions appended to the list.
+	 */
+	int scan(@NotNull Set<Key> keys, @NotNull BlockRegion region, @NotNull PackedPositionList out);
+
 	/**
 	 * Removes a section by its ID.
 	 *
@@ -195,6 +209,33 @@ public interface CustomChunkInterface {
 	 */
 	Optional<CustomSection> removeSection(int sectionID);
 
+	/**
+	 * Gets the modification count of this chunk, covering its sections, the block
+	 * states they hold, the tick schedule and the unload time. The count only
+	 * grows, so the chunk changed since its last save if and only if the count
+	 * differs from {@link #savedModCount()}.
+	 *
+	 * @return The modification count of this chunk.
+	 */
+	long modCount();
+
+	/**
+	 * Gets the modification count the chunk had when it was last saved, or
+	 * {@code 0} if it was loaded from storage and never saved since.
+	 *
+	 * @return The modification count of the last save.
+	 */
+	long savedModCount();
+
+	/**
+	 * Records that the chunk was saved with the given modification count. The
+	 * count has to be read before the chunk is serialized, so changes made while
+	 * saving are picked up by the next save.
+	 *
+	 * @param modCount The modification count read before serializing the chunk.
+	 */
+	void markSaved(long modCount);
+
 	/**
 	 * Checks if the chunk can be pruned (removed from memory or storage).
 	 *
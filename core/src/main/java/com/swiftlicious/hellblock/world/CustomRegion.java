@@ -1,12 +1,19 @@
 package com.swiftlicious.hellblock.world;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
 
 public class CustomRegion implements CustomRegionInterface {
 
@@ -15,6 +22,13 @@ public class CustomRegion implements CustomRegionInterface {
 	private final ConcurrentMap<ChunkPos, byte[]> cachedChunks;
 	private AtomicBoolean isLoaded = new AtomicBoolean(false);
 
+	// Lazily read chunk storage, chunks are copied into the cache on first access
+	private volatile RegionChunkSource source;
+	// Chunks whose copy in the source is outdated (rewritten or removed)
+	private final Set<ChunkPos> overriddenChunks = ConcurrentHashMap.newKeySet();
+	// Chunks changed since the region was last written
+	private final Set<ChunkPos> dirtyChunks = ConcurrentHashMap.newKeySet();
+
 	protected CustomRegion(HellblockWorld<?> world, RegionPos regionPos) {
 		this.world = world;
 		this.cachedChunks = new ConcurrentHashMap<>();
@@ -54,7 +68,24 @@ public class CustomRegion implements CustomRegionInterface {
 
 	@Override
 	public byte[] getCachedChunkBytes(ChunkPos pos) {
-		return this.cachedChunks.get(pos);
+		final byte[] cached = this.cachedChunks.get(pos);
+		final RegionChunkSource chunkSource = this.source;
+		if (cached != null || chunkSource == null || this.overriddenChunks.contains(pos)) {
+			return cached;
+		}
+
+		try {
+			final byte[] stored = chunkSource.readChunk(pos);
+			if (stored == null) {
+				return null;
+			}
+			final byte[] previous = this.cachedChunks.putIfAbsent(pos, stored);
+			return previous != null ? previous : stored;
+		} catch (IOException ex) {
+			HellblockPlugin.getInstance().getPluginLogger()
+					.warn("[" + world.worldName() + "] Failed to read chunk " + pos + " of region " + regionPos, ex);
+			return null;
+		}
 	}
 
 	@NotNull
@@ -65,21 +96,63 @@ public class CustomRegion implements CustomRegionInterface {
 
 	@Override
 	public boolean removeCachedChunk(ChunkPos pos) {
-		return cachedChunks.remove(pos) != null;
+		final RegionChunkSource chunkSource = this.source;
+		final boolean stored = chunkSource != null && !this.overriddenChunks.contains(pos)
+				&& chunkSource.storedChunks().contains(pos);
+		this.overriddenChunks.add(pos);
+		final boolean removed = cachedChunks.remove(pos) != null || stored;
+		if (removed) {
+			this.dirtyChunks.add(pos);
+		}
+		return removed;
 	}
 
 	@Override
 	public void setCachedChunk(ChunkPos pos, byte[] data) {
+		this.overriddenChunks.add(pos);
 		this.cachedChunks.put(pos, data);
+		this.dirtyChunks.add(pos);
 	}
 
 	@Override
 	public Map<ChunkPos, byte[]> dataToSave() {
+		final RegionChunkSource chunkSource = this.source;
+		if (chunkSource != null) {
+			// Pull in everything that was not accessed yet
+			chunkSource.storedChunks().forEach(this::getCachedChunkBytes);
+		}
 		return new HashMap<>(cachedChunks);
 	}
 
 	@Override
 	public boolean canPrune() {
-		return cachedChunks.isEmpty();
+		if (!cachedChunks.isEmpty()) {
+			return false;
+		}
+		final RegionChunkSource chunkSource = this.source;
+		return chunkSource == null || this.overriddenChunks.containsAll(chunkSource.storedChunks());
+	}
+
+	@Override
+	public void attachSource(@Nullable RegionChunkSource source) {
+		this.source = source;
+		this.overriddenChunks.clear();
+	}
+
+	@Override
+	@NotNull
+	public Set<ChunkPos> takeDirtyChunks() {
+		final Set<ChunkPos> taken = new HashSet<>();
+		for (ChunkPos pos : this.dirtyChunks) {
+			if (this.dirtyChunks.remove(pos)) {
+				taken.add(pos);
+			}
+		}
+		return taken;
+	}
+
+	@Override
+	public void markDirty(@NotNull Collection<ChunkPos> positions) {
+		this.dirtyChunks.addAll(positions);
 	}
-}
\ No newline at end of file
+}
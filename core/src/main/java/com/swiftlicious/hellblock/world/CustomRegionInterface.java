@@ -1,8 +1,11 @@
 package com.swiftlicious.hellblock.world;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Interface representing a region in the Hellblock plugin
@@ -81,4 +84,27 @@ public interface CustomRegionInterface {
 	 * @return true if the region can be pruned, false otherwise.
 	 */
 	boolean canPrune();
-}
\ No newline at end of file
+
+	/**
+	 * Sets the storage chunks that are not cached yet are read from on demand.
+	 *
+	 * @param source The chunk source, or null to rely on the cache only.
+	 */
+	void attachSource(@Nullable RegionChunkSource source);
+
+	/**
+	 * Returns the chunks changed since the last call and clears their dirty
+	 * state. Chunks that are no longer cached were removed.
+	 *
+	 * @return The positions of the changed chunks.
+	 */
+	@NotNull
+	Set<ChunkPos> takeDirtyChunks();
+
+	/**
+	 * Marks chunks as changed, for example after writing them failed.
+	 *
+	 * @param positions The positions of the chunks.
+	 */
+	void markDirty(@NotNull Collection<ChunkPos> positions);
+}
@@ -2,15 +2,20 @@ package com.swiftlicious.hellblock.world;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jetbrains.annotations.NotNull;
 
+import net.kyori.adventure.key.Key;
+
 public class CustomSection implements CustomSectionInterface {
 
 	private final int sectionID;
 	private final ConcurrentMap<BlockPos, CustomBlockState> blocks;
+	private final AtomicLong modCount = new AtomicLong();
 
 	protected CustomSection(int sectionID) {
 		this.sectionID = sectionID;
@@ -36,13 +41,40 @@ public class CustomSection implements CustomSectionInterface {
 	@NotNull
 	@Override
 	public Optional<CustomBlockState> removeBlockState(BlockPos pos) {
-		return Optional.ofNullable(blocks.remove(pos));
+		final CustomBlockState removed = blocks.remove(pos);
+		if (removed != null) {
+			detach(removed);
+		}
+		return Optional.ofNullable(removed);
 	}
 
 	@NotNull
 	@Override
 	public Optional<CustomBlockState> addBlockState(BlockPos pos, CustomBlockState block) {
-		return Optional.ofNullable(blocks.put(pos, block));
+		final CustomBlockState previous = blocks.put(pos, block);
+		if (previous != null) {
+			detach(previous);
+		} else {
+			modCount.incrementAndGet();
+		}
+		return Optional.ofNullable(previous);
+	}
+
+	/**
+	 * Keeps {@link #modCount()} increasing when a state leaves the section, by
+	 * taking over the changes the state contributed so far.
+	 */
+	private void detach(CustomBlockState state) {
+		modCount.addAndGet(state.modCount() + 1L);
+	}
+
+	@Override
+	public long modCount() {
+		long count = modCount.get();
+		for (CustomBlockState state : blocks.values()) {
+			count += state.modCount();
+		}
+		return count;
 	}
 
 	@Override
@@ -59,4 +91,24 @@ public class CustomSection implements CustomSectionInterface {
 	public Map<BlockPos, CustomBlockState> blockMap() {
 		return blocks;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public int scan(@NotNull ChunkPos chunkPos, @NotNull Set<Key> keys, @NotNull BlockRegion region,
+			@NotNull PackedPositionList out) {
+		final int before = out.size();
+		final int baseX = chunkPos.x() << 4;
+		final int baseZ = chunkPos.z() << 4;
+		blocks.forEach((pos, state) -> {
+			if (!keys.contains(state.type().type())) {
+				return;
+			}
+			final int x = baseX + pos.x();
+			final int y = pos.y();
+			final int z = baseZ + pos.z();
+			if (region.contains(x, y, z)) {
+				out.add(x, y, z);
+			}
+		});
+		return out.size() - before;
+	}
+}
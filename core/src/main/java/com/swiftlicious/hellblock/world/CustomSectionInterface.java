@@ -2,10 +2,13 @@ package com.swiftlicious.hellblock.world;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 import org.jetbrains.annotations.NotNull;
 
+import net.kyori.adventure.key.Key;
+
 /**
  * Interface representing a section of a chunk in the Hellblock plugin
  */
@@ -74,6 +77,16 @@ public interface CustomSectionInterface {
 	@NotNull
 	Optional<CustomBlockState> addBlockState(BlockPos pos, CustomBlockState block);
 
+	/**
+	 * Gets the modification count of this section. The count grows whenever a
+	 * block state is added, removed or replaced, and whenever one of the stored
+	 * block states is changed in place, so two equal counts mean that the section
+	 * did not change in between.
+	 *
+	 * @return The modification count of this section.
+	 */
+	long modCount();
+
 	/**
 	 * Checks if the section can be pruned (removed from memory or storage).
 	 *
@@ -95,4 +108,20 @@ public interface CustomSectionInterface {
 	 * @return A {@link Map} of {@link BlockPos} to {@link CustomBlockState}.
 	 */
 	Map<BlockPos, CustomBlockState> blockMap();
-}
\ No newline at end of file
+
+	/**
+	 * Scans the stored block states of this section and appends the world
+	 * position of every block whose type key is contained in the given set.
+	 * <p>
+	 * Only stored entries are visited, so the cost depends on the number of custom
+	 * blocks in the section rather than on the volume of the region.
+	 *
+	 * @param chunkPos The position of the chunk this section belongs to.
+	 * @param keys     The block type keys to match.
+	 * @param region   The region the matched positions must lie in.
+	 * @param out      The list receiving the packed positions of matching blocks.
+	 * @return The number of positions appended to the list.
+	 */
+	int scan(@NotNull ChunkPos chunkPos, @NotNull Set<Key> keys, @NotNull BlockRegion region,
+			@NotNull PackedPositionList out);
+}
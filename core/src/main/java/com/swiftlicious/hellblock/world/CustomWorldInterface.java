@@ -12,6 +12,8 @@ import org.jetbrains.annotations.NotNull;
 
 import com.swiftlicious.hellblock.world.adapter.WorldAdapter;
 
+import net.kyori.adventure.key.Key;
+
 /**
  * Interface representing a custom world in the Hellblock plugin
  *
@@ -125,6 +127,22 @@ public interface CustomWorldInterface<W> {
 	 */
 	int getChunkBlockAmount(Pos3 pos3, Class<? extends CustomBlock> clazz);
 
+	/**
+	 * Collects the positions of all stored blocks within a region whose type key
+	 * is contained in the given set.
+	 * <p>
+	 * Only the stored entries of the chunks overlapping the region are visited,
+	 * which makes this far cheaper than probing every position of the region.
+	 * Chunks that are not cached are read from storage without loading the
+	 * Bukkit chunk, and chunks that do not exist are skipped.
+	 *
+	 * @param region The region to scan.
+	 * @param keys   The block type keys to match.
+	 * @return The packed positions of all matching blocks.
+	 */
+	@NotNull
+	PackedPositionList scanBlocks(@NotNull BlockRegion region, @NotNull Set<Key> keys);
+
 	/**
 	 * Gets all the loaded chunks in this world.
 	 *
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -20,10 +21,13 @@ import org.jetbrains.annotations.Nullable;
 
 import com.swiftlicious.hellblock.HellblockPlugin;
 import com.swiftlicious.hellblock.handlers.VersionHelper;
+import com.swiftlicious.hellblock.listeners.FarmingHandler;
 import com.swiftlicious.hellblock.scheduler.SchedulerAdapter;
 import com.swiftlicious.hellblock.scheduler.SchedulerTask;
 import com.swiftlicious.hellblock.world.adapter.WorldAdapter;
 
+import net.kyori.adventure.key.Key;
+
 public class HellblockWorld<W> implements CustomWorldInterface<W> {
 
 	private final ConcurrentMap<ChunkPos, CustomChunk> loadedChunks = new ConcurrentHashMap<>(512);
@@ -40,6 +44,7 @@ public class HellblockWorld<W> implements CustomWorldInterface<W> {
 	private final WorldAdapter<W> adapter;
 	private final WorldExtraData extraData;
 	private final WorldScheduler scheduler;
+	private final ChunkSaveStats saveStats = new ChunkSaveStats();
 
 	private final long worldInitTime = System.currentTimeMillis();
 
@@ -119,6 +124,21 @@ public class HellblockWorld<W> implements CustomWorldInterface<W> {
 		return i;
 	}
 
+	@NotNull
+	@Override
+	public PackedPositionList scanBlocks(@NotNull BlockRegion region, @NotNull Set<Key> keys) {
+		final PackedPositionList result = new PackedPositionList();
+		if (keys.isEmpty()) {
+			return result;
+		}
+		for (int chunkX = region.minX() >> 4; chunkX <= region.maxX() >> 4; chunkX++) {
+			for (int chunkZ = region.minZ() >> 4; chunkZ <= region.maxZ() >> 4; chunkZ++) {
+				getChunk(ChunkPos.of(chunkX, chunkZ)).ifPresent(chunk -> chunk.scan(keys, region, result));
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public CustomChunk[] loadedChunks() {
 		return this.loadedChunks.values().toArray(new CustomChunk[0]);
@@ -301,17 +321,67 @@ public class HellblockWorld<W> implements CustomWorldInterface<W> {
 
 	private void save() {
 		final long time1 = System.currentTimeMillis();
-		this.loadedChunks.values().forEach(chunk -> this.adapter.saveChunk(this, chunk));
-		this.lazyChunks.values().forEach(chunk -> this.adapter.saveChunk(this, chunk));
+		final long start = System.nanoTime();
+		int dirty = 0;
+		long bytes = 0;
+		final List<CustomChunk> chunks = new ArrayList<>(this.loadedChunks.size() + this.lazyChunks.size());
+		chunks.addAll(this.loadedChunks.values());
+		chunks.addAll(this.lazyChunks.values());
+		for (CustomChunk chunk : chunks) {
+			final int size = saveChunkIfDirty(chunk);
+			if (size >= 0) {
+				dirty++;
+				bytes += size;
+			}
+		}
 		this.loadedRegions.values().forEach(region -> this.adapter.saveRegion(this, region));
+		// Persist the farm index together with the chunk data it was derived from
+		final FarmingHandler farming = HellblockPlugin.getInstance().getFarmingManager();
+		if (farming != null) {
+			farming.getFarmIndex().save();
+		}
 		final long time2 = System.currentTimeMillis();
-		final int chunkSize = this.lazyChunks.size() + this.loadedChunks.size();
+		final int chunkSize = chunks.size();
+		final int dirtyChunks = dirty;
+		final long writtenBytes = bytes;
+		this.saveStats.record(dirtyChunks, chunkSize - dirtyChunks, writtenBytes, System.nanoTime() - start);
 		if (chunkSize > 0) {
 			HellblockPlugin.getInstance().debug(() -> "Took " + (time2 - time1) + "ms to save world " + this.worldName
-					+ ". Saved " + chunkSize + " chunks.");
+					+ ". Saved " + dirtyChunks + " of " + chunkSize + " chunks (" + writtenBytes + " bytes).");
 		}
 	}
 
+	/**
+	 * Hands the chunk to the adapter unless it did not change since its last
+	 * save.
+	 *
+	 * @return the size of the serialized chunk, or -1 if it was not saved
+	 */
+	private int saveChunkIfDirty(CustomChunk chunk) {
+		// Read before serializing, changes made meanwhile are saved next time
+		final long modCount = chunk.modCount();
+		if (modCount == chunk.savedModCount()) {
+			return -1;
+		}
+		final int size = this.adapter.saveChunk(this, chunk);
+		if (size < 0) {
+			// Not saved, keep it dirty
+			return 0;
+		}
+		chunk.markSaved(modCount);
+		return size;
+	}
+
+	/**
+	 * Gets the chunk save counters of this world.
+	 *
+	 * @return the save counters
+	 */
+	@NotNull
+	public ChunkSaveStats saveStats() {
+		return saveStats;
+	}
+
 	@Override
 	public void setTicking(boolean tick) {
 		if (tick) {
@@ -457,7 +527,7 @@ public class HellblockWorld<W> implements CustomWorldInterface<W> {
 		if (lazy) {
 			this.lazyChunks.put(pos, chunk);
 		} else {
-			this.adapter.saveChunk(this, chunk);
+			saveChunkIfDirty(chunk);
 		}
 		return true;
 	}
@@ -472,7 +542,7 @@ public class HellblockWorld<W> implements CustomWorldInterface<W> {
 		if (lazy) {
 			this.lazyChunks.put(pos, removed);
 		} else {
-			this.adapter.saveChunk(this, removed);
+			saveChunkIfDirty(removed);
 		}
 		return true;
 	}
@@ -483,7 +553,7 @@ public class HellblockWorld<W> implements CustomWorldInterface<W> {
 		if (removed == null) {
 			return false;
 		}
-		this.adapter.saveChunk(this, removed);
+		saveChunkIfDirty(removed);
 		return true;
 	}
 
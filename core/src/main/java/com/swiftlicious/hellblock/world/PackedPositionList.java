@@ -0,0 +1,144 @@
+package com.swiftlicious.hellblock.world;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Growable list of block positions packed into primitive {@code long} values.
+ * <p>
+ * Positions use the same layout as vanilla Minecraft: 26 bits for x, 26 bits
+ * for z and 12 bits for y. This is enough for every valid world coordinate and
+ * lets block scans return thousands of positions without allocating a
+ * {@link Pos3} per entry.
+ */
+public final class PackedPositionList {
+
+	private static final int PACKED_XZ_BITS = 26;
+	private static final int PACKED_Y_BITS = 12;
+	private static final long PACKED_XZ_MASK = (1L << PACKED_XZ_BITS) - 1L;
+	private static final long PACKED_Y_MASK = (1L << PACKED_Y_BITS) - 1L;
+	private static final int Z_OFFSET = PACKED_Y_BITS;
+	private static final int X_OFFSET = PACKED_Y_BITS + PACKED_XZ_BITS;
+
+	private long[] positions;
+	private int size;
+
+	public PackedPositionList() {
+		this(16);
+	}
+
+	public PackedPositionList(int initialCapacity) {
+		this.positions = new long[Math.max(1, initialCapacity)];
+	}
+
+	/**
+	 * Packs the given block coordinates into a single {@code long}.
+	 *
+	 * @param x the block x coordinate
+	 * @param y the block y coordinate
+	 * @param z the block z coordinate
+	 * @return the packed position
+	 */
+	public static long pack(int x, int y, int z) {
+		return ((x & PACKED_XZ_MASK) << X_OFFSET) | ((z & PACKED_XZ_MASK) << Z_OFFSET) | (y & PACKED_Y_MASK);
+	}
+
+	/**
+	 * @param packed a position created by {@link #pack(int, int, int)}
+	 * @return the block x coordinate
+	 */
+	public static int unpackX(long packed) {
+		return (int) (packed << (64 - X_OFFSET - PACKED_XZ_BITS) >> (64 - PACKED_XZ_BITS));
+	}
+
+	/**
+	 * @param packed a position created by {@link #pack(int, int, int)}
+	 * @return the block y coordinate
+	 */
+	public static int unpackY(long packed) {
+		return (int) (packed << (64 - PACKED_Y_BITS) >> (64 - PACKED_Y_BITS));
+	}
+
+	/**
+	 * @param packed a position created by {@link #pack(int, int, int)}
+	 * @return the block z coordinate
+	 */
+	public static int unpackZ(long packed) {
+		return (int) (packed << (64 - Z_OFFSET - PACKED_XZ_BITS) >> (64 - PACKED_XZ_BITS));
+	}
+
+	/**
+	 * Appends a position to the list.
+	 *
+	 * @param x the block x coordinate
+	 * @param y the block y coordinate
+	 * @param z the block z coordinate
+	 */
+	public void add(int x, int y, int z) {
+		add(pack(x, y, z));
+	}
+
+	/**
+	 * Appends an already packed position to the list.
+	 *
+	 * @param packed the packed position
+	 */
+	public void add(long packed) {
+		if (size == positions.length) {
+			positions = Arrays.copyOf(positions, positions.length << 1);
+		}
+		positions[size++] = packed;
+	}
+
+	/**
+	 * @param index the index of the position
+	 * @return the packed position at the given index
+	 */
+	public long get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return positions[index];
+	}
+
+	/**
+	 * Unpacks the position at the given index into a {@link Pos3}.
+	 *
+	 * @param index the index of the position
+	 * @return the unpacked position
+	 */
+	@NotNull
+	public Pos3 toPos3(int index) {
+		final long packed = get(index);
+		return new Pos3(unpackX(packed), unpackY(packed), unpackZ(packed));
+	}
+
+	/**
+	 * @return the number of positions in the list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return whether the list contains no positions
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all positions while keeping the backing array for reuse.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * @return a copy of the packed positions, trimmed to {@link #size()}
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(positions, size);
+	}
+}
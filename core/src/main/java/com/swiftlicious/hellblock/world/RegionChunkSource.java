@@ -0,0 +1,30 @@
+package com.swiftlicious.hellblock.world;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Backing storage a {@link CustomRegion} reads its chunk data from on demand,
+ * instead of holding every chunk of the region in memory from the start.
+ */
+public interface RegionChunkSource {
+
+	/**
+	 * Reads the stored data of a chunk.
+	 *
+	 * @param pos the chunk position
+	 * @return the serialized chunk, or {@code null} if the chunk is not stored
+	 * @throws IOException if the stored data can't be read
+	 */
+	@Nullable
+	byte[] readChunk(@NotNull ChunkPos pos) throws IOException;
+
+	/**
+	 * @return the positions of every chunk stored in this source
+	 */
+	@NotNull
+	Set<ChunkPos> storedChunks();
+}
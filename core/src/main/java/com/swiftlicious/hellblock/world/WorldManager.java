@@ -2,7 +2,6 @@ package com.swiftlicious.hellblock.world;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,13 +33,13 @@ import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.ChunkEvent;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
 import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.event.world.WorldSaveEvent;
 import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.EventExecutor;
-import org.bukkit.plugin.Plugin;
 import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -125,6 +124,9 @@ public class WorldManager implements WorldManagerInterface, Listener {
 
 	private SchedulerTask idleTask = null;
 
+	private final WorldPool worldPool;
+	private final Set<String> suspendedWorlds = ConcurrentHashMap.newKeySet();
+
 	private Listener entitiesLoadListener;
 
 	private CompletableFuture<Void> loadComplete = new CompletableFuture<>();
@@ -137,6 +139,10 @@ public class WorldManager implements WorldManagerInterface, Listener {
 
 	public WorldManager(HellblockPlugin plugin) {
 		this.instance = plugin;
+		this.worldPool = new WorldPool(plugin);
+		plugin.registerPerformanceReporter(new WorldSaveReporter(worlds::values));
+		plugin.registerPerformanceReporter(worldPool);
+		plugin.registerPerformanceReporter(WorldReflection.reporter());
 	}
 
 	@Override
@@ -147,6 +153,7 @@ public class WorldManager implements WorldManagerInterface, Listener {
 		}
 
 		this.setupWorldAdapter();
+		instance.debug("World API fast paths: " + WorldReflection.report());
 		// Delay loadWorldsFromConfig until after shared world is created
 		if (!instance.getConfigManager().perPlayerWorlds()) {
 			final String sharedWorldName = instance.getConfigManager().worldName();
@@ -177,6 +184,7 @@ public class WorldManager implements WorldManagerInterface, Listener {
 			this.idleTask.cancel();
 			this.idleTask = null;
 		}
+		this.worldPool.stop();
 		if (entitiesLoadListener != null) {
 			HandlerList.unregisterAll(entitiesLoadListener);
 			entitiesLoadListener = null;
@@ -186,20 +194,22 @@ public class WorldManager implements WorldManagerInterface, Listener {
 	@Override
 	public void disable() {
 		unload();
+		// Blank worlds that were never claimed would only waste disk space
+		this.worldPool.release();
+		this.suspendedWorlds.clear();
 		if (!worlds.isEmpty()) {
 			instance.debug("Saving " + worlds.size() + " hellblock world" + (worlds.size() == 1 ? "" : "s") + ".");
 		}
 		// Remove plugin chunk tickets (only for our worlds)
-		if (VersionHelper.isPaperFork()) {
+		if (WorldReflection.has(WorldReflection.Capability.CHUNK_TICKET_CLEANUP)) {
 			for (HellblockWorld<?> hellblockWorld : worlds.values()) {
 				World world = hellblockWorld.bukkitWorld();
 				if (world != null) {
 					try {
-						Method removeTickets = World.class.getMethod("removePluginChunkTickets", Plugin.class);
-						removeTickets.invoke(world, instance);
+						WorldReflection.removePluginChunkTickets(world, instance);
 						instance.debug(() -> "Cleared plugin chunk tickets for world: " + world.getName());
-					} catch (Exception e) {
-						instance.getPluginLogger().warn("Failed to clear chunk tickets for " + world.getName(), e);
+					} catch (Throwable t) {
+						instance.getPluginLogger().warn("Failed to clear chunk tickets for " + world.getName(), t);
 					}
 				}
 			}
@@ -266,6 +276,7 @@ public class WorldManager implements WorldManagerInterface, Listener {
 		}
 		registerEntitiesLoadListener();
 		reapplyFortressBiomes();
+		this.worldPool.start();
 	}
 
 	/**
@@ -298,41 +309,28 @@ public class WorldManager implements WorldManagerInterface, Listener {
 	}
 
 	private void registerEntitiesLoadListener() {
-		try {
-			@SuppressWarnings("unchecked")
-			Class<? extends Event> typedEventClass = (Class<? extends Event>) Class
-					.forName("org.bukkit.event.world.EntitiesLoadEvent");
-			Method getChunkMethod = typedEventClass.getMethod("getChunk");
-			Method getWorldMethod = typedEventClass.getMethod("getWorld");
-
-			this.entitiesLoadListener = new Listener() {
-			}; // Still needed for context
-
-			EventExecutor executor = (listenerInstance, event) -> {
-				if (!typedEventClass.isInstance(event))
-					return;
-
-				try {
-					Chunk chunk = (Chunk) getChunkMethod.invoke(event);
-					World world = (World) getWorldMethod.invoke(event);
+		final Class<? extends Event> typedEventClass = WorldReflection.entitiesLoadEvent();
+		if (typedEventClass == null) {
+			// EntitiesLoadEvent not available in this version — skip
+			return;
+		}
 
-					getWorld(world).filter(customWorld -> customWorld.setting().offlineTick()).ifPresent(
-							customWorld -> notifyOfflineUpdates(customWorld, ChunkPos.fromBukkitChunk(chunk)));
+		this.entitiesLoadListener = new Listener() {
+		}; // Still needed for context
 
-				} catch (Throwable t) {
-					t.printStackTrace();
-				}
-			};
+		// EntitiesLoadEvent is a ChunkEvent, so the chunk and world need no reflection
+		EventExecutor executor = (listenerInstance, event) -> {
+			if (!(typedEventClass.isInstance(event) && event instanceof ChunkEvent chunkEvent))
+				return;
 
-			Bukkit.getPluginManager().registerEvent(typedEventClass, this.entitiesLoadListener, EventPriority.NORMAL,
-					executor, instance, true // ignoreCancelled
-			);
+			Chunk chunk = chunkEvent.getChunk();
+			getWorld(chunkEvent.getWorld()).filter(customWorld -> customWorld.setting().offlineTick())
+					.ifPresent(customWorld -> notifyOfflineUpdates(customWorld, ChunkPos.fromBukkitChunk(chunk)));
+		};
 
-		} catch (ClassNotFoundException ignored) {
-			// EntitiesLoadEvent not available in this version — skip
-		} catch (Throwable t) {
-			t.printStackTrace();
-		}
+		Bukkit.getPluginManager().registerEvent(typedEventClass, this.entitiesLoadListener, EventPriority.NORMAL,
+				executor, instance, true // ignoreCancelled
+		);
 	}
 
 	/**
@@ -700,6 +698,29 @@ public class WorldManager implements WorldManagerInterface, Listener {
 	public void markWorldAccess(@NotNull String worldName) {
 		instance.getCoopManager().getCachedIslandOwnerDataNow(worldName)
 				.ifPresent(data -> data.getHellblockData().updateLastWorldAccess());
+		if (suspendedWorlds.remove(worldName)) {
+			Optional.ofNullable(worlds.get(worldName)).ifPresent(world -> world.setTicking(true));
+			instance.debug("Resumed suspended world: " + worldName);
+		}
+	}
+
+	/**
+	 * Gets the pool of pre-generated per-player worlds.
+	 *
+	 * @return the world pool
+	 */
+	@NotNull
+	public WorldPool getWorldPool() {
+		return this.worldPool;
+	}
+
+	/**
+	 * Gets the number of idle worlds that are suspended instead of unloaded.
+	 *
+	 * @return the number of suspended worlds
+	 */
+	public int getSuspendedWorldCount() {
+		return suspendedWorlds.size();
 	}
 
 	/**
@@ -722,6 +743,10 @@ public class WorldManager implements WorldManagerInterface, Listener {
 	 * <p>
 	 * This helps reduce memory usage by unloading inactive per-player worlds while
 	 * keeping track of their last access times in {@link #lastAccess}.
+	 * <p>
+	 * With {@code suspend-idle-worlds} enabled the world is suspended instead: it
+	 * stays registered but stops ticking and releases its chunks, so the next
+	 * visit does not have to load the world again.
 	 */
 	private void tryUnloadIdleWorlds() {
 		if (!instance.getConfigManager().perPlayerWorlds()) {
@@ -740,6 +765,10 @@ public class WorldManager implements WorldManagerInterface, Listener {
 			if ((now - lastUsed) > TimeUnit.MINUTES.toMillis(10)) {
 				World world = Bukkit.getWorld(worldName);
 				if (world != null && world.getPlayers().isEmpty()) {
+					if (instance.getConfigManager().suspendIdleWorlds()) {
+						suspendWorld(world);
+						continue;
+					}
 					unloadWorld(world, false);
 					boolean unloaded = Bukkit.unloadWorld(world, true);
 					if (unloaded) {
@@ -750,6 +779,28 @@ public class WorldManager implements WorldManagerInterface, Listener {
 		}
 	}
 
+	/**
+	 * Stops ticking an idle world and releases its chunks without unloading it.
+	 *
+	 * @param world the idle world
+	 */
+	private void suspendWorld(@NotNull World world) {
+		final HellblockWorld<?> hellblockWorld = worlds.get(world.getName());
+		if (hellblockWorld == null || !suspendedWorlds.add(world.getName())) {
+			return;
+		}
+		hellblockWorld.setTicking(false);
+		hellblockWorld.save(false, false);
+		int released = 0;
+		for (Chunk chunk : world.getLoadedChunks()) {
+			if (world.unloadChunkRequest(chunk.getX(), chunk.getZ())) {
+				released++;
+			}
+		}
+		final int releasedChunks = released;
+		instance.debug(() -> "Suspended idle world: " + world.getName() + " (" + releasedChunks + " chunks released)");
+	}
+
 	/**
 	 * Converts all islands between shared world format and per-player world format.
 	 *
@@ -1021,6 +1072,7 @@ public class WorldManager implements WorldManagerInterface, Listener {
 
 	@Override
 	public boolean unloadWorld(World world, boolean disabling) {
+		suspendedWorlds.remove(world.getName());
 		final HellblockWorld<?> removedWorld = worlds.remove(world.getName());
 		if (removedWorld == null) {
 			return false;
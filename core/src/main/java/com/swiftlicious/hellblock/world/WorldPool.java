@@ -0,0 +1,299 @@
+package com.swiftlicious.hellblock.world;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.HellblockPlugin;
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.scheduler.SchedulerTask;
+import com.swiftlicious.hellblock.utils.LocationUtils;
+
+/**
+ * Keeps a number of blank per-player worlds generated ahead of time.
+ * <p>
+ * Per-player worlds are named after the island they belong to, and a loaded
+ * world can't be renamed. The pool therefore reserves the next island IDs from
+ * {@link com.swiftlicious.hellblock.generation.HellblockHandler#nextHellblockID()}
+ * and generates the worlds of those IDs. Creating an island claims one of the
+ * reserved IDs, so its world is already loaded when the island is pasted.
+ * <p>
+ * The pool is refilled in the background, one world at a time and only while
+ * the server keeps up, so generating worlds never competes with a lagging main
+ * thread. Worlds that were not claimed are deleted on shutdown.
+ * <p>
+ * A claim lasts until the island creation either finishes or gives up. When it
+ * gives up, the world goes back to the pool if nothing was placed in it yet, and
+ * is deleted otherwise, so a failed creation never leaves a world behind.
+ */
+public class WorldPool implements PerformanceReporter {
+
+	/** How often the pool checks whether it needs another world, in ticks. */
+	private static final long REFILL_INTERVAL_TICKS = 20L;
+
+	protected final HellblockPlugin instance;
+
+	private final Deque<Integer> ready = new ArrayDeque<>();
+	private final Set<Integer> claims = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean refilling = new AtomicBoolean(false);
+	private SchedulerTask refillTask;
+
+	private final LongAdder claimed = new LongAdder();
+	private final LongAdder missed = new LongAdder();
+	private final LongAdder returned = new LongAdder();
+	private final LongAdder discarded = new LongAdder();
+	private final LongAdder pooledWaits = new LongAdder();
+	private final LongAdder pooledWaitNanos = new LongAdder();
+	private final LongAdder generatedWaits = new LongAdder();
+	private final LongAdder generatedWaitNanos = new LongAdder();
+	private final AtomicLong maxGeneratedWaitNanos = new AtomicLong();
+	private final LongAdder refills = new LongAdder();
+	private final LongAdder refillNanos = new LongAdder();
+	private final AtomicLong maxRefillNanos = new AtomicLong();
+	private final LongAdder refillFailures = new LongAdder();
+
+	public WorldPool(HellblockPlugin plugin) {
+		this.instance = plugin;
+	}
+
+	/**
+	 * Starts refilling the pool, only used with per-player worlds.
+	 */
+	public void start() {
+		if (!instance.getConfigManager().perPlayerWorlds() || instance.getConfigManager().worldPoolSize() <= 0) {
+			return;
+		}
+		if (this.refillTask == null || this.refillTask.isCancelled()) {
+			this.refillTask = instance.getScheduler().sync().runRepeating(this::refill, REFILL_INTERVAL_TICKS,
+					REFILL_INTERVAL_TICKS, LocationUtils.getAnyLocationInstance());
+		}
+	}
+
+	/**
+	 * Stops refilling the pool. Ready worlds stay reserved for a reload.
+	 */
+	public void stop() {
+		if (this.refillTask != null && !this.refillTask.isCancelled()) {
+			this.refillTask.cancel();
+		}
+		this.refillTask = null;
+	}
+
+	/**
+	 * Unloads and deletes the worlds that were not claimed. Called on shutdown.
+	 */
+	public void release() {
+		stop();
+		final Deque<Integer> unclaimed;
+		synchronized (ready) {
+			unclaimed = new ArrayDeque<>(ready);
+			ready.clear();
+		}
+		unclaimed.forEach(this::deleteWorld);
+	}
+
+	/**
+	 * Takes a reserved island ID whose world is already generated.
+	 * <p>
+	 * The ID stays reserved by the ID allocator until the island creation
+	 * finishes, the same as an ID returned by {@code nextHellblockID()}.
+	 *
+	 * @return the island ID, or empty if the pool is empty
+	 */
+	@NotNull
+	public Optional<Integer> claim() {
+		final Integer islandId;
+		synchronized (ready) {
+			islandId = ready.poll();
+		}
+		if (islandId == null) {
+			missed.increment();
+			return Optional.empty();
+		}
+		// Should the world have been unloaded meanwhile, it is loaded again on demand
+		claims.add(islandId);
+		claimed.increment();
+		instance.debug("Claimed pooled world for island ID " + islandId);
+		return Optional.of(islandId);
+	}
+
+	/**
+	 * Ends the claim of an island whose creation finished.
+	 *
+	 * @param islandId the claimed island ID
+	 */
+	public void finishClaim(int islandId) {
+		claims.remove(islandId);
+	}
+
+	/**
+	 * Gives back a claimed world whose island creation did not finish. The world
+	 * is offered first to the next creation if it is still loaded, otherwise it
+	 * is deleted.
+	 * <p>
+	 * Must only be called while nothing was placed in the world yet; use
+	 * {@link #discardClaim(int)} otherwise.
+	 *
+	 * @param islandId the claimed island ID
+	 * @return {@code true} if the world is back in the pool, in which case the ID
+	 *         stays reserved
+	 */
+	public boolean returnClaim(int islandId) {
+		if (!claims.remove(islandId)) {
+			return false;
+		}
+		if (Bukkit.getWorld(instance.getWorldManager().getHellblockWorldFormat(islandId)) == null) {
+			discard(islandId);
+			return false;
+		}
+		synchronized (ready) {
+			ready.addFirst(islandId);
+		}
+		returned.increment();
+		instance.debug("Returned pooled world for island ID " + islandId);
+		return true;
+	}
+
+	/**
+	 * Deletes a claimed world whose island creation failed after it started
+	 * placing the island.
+	 *
+	 * @param islandId the claimed island ID
+	 * @return {@code true} if the ID was claimed from the pool
+	 */
+	public boolean discardClaim(int islandId) {
+		if (!claims.remove(islandId)) {
+			return false;
+		}
+		discard(islandId);
+		return true;
+	}
+
+	private void discard(int islandId) {
+		discarded.increment();
+		instance.getScheduler().executeSync(() -> deleteWorld(islandId));
+	}
+
+	private void deleteWorld(int islandId) {
+		final String worldName = instance.getWorldManager().getHellblockWorldFormat(islandId);
+		try {
+			final World world = Bukkit.getWorld(worldName);
+			if (world != null) {
+				instance.getWorldManager().unloadWorld(world, true);
+				Bukkit.unloadWorld(world, false);
+			}
+			instance.getWorldManager().adapter().deleteWorld(worldName);
+			instance.debug("Deleted pooled world " + worldName);
+		} catch (Exception ex) {
+			instance.getPluginLogger().warn("Failed to delete pooled world " + worldName, ex);
+		}
+	}
+
+	/**
+	 * Records how long an island creation waited for its world.
+	 *
+	 * @param loaded whether the world was already loaded, e.g. claimed from the
+	 *               pool
+	 * @param nanos  the time spent waiting
+	 */
+	public void recordWorldWait(boolean loaded, long nanos) {
+		if (loaded) {
+			pooledWaits.increment();
+			pooledWaitNanos.add(nanos);
+		} else {
+			generatedWaits.increment();
+			generatedWaitNanos.add(nanos);
+			maxGeneratedWaitNanos.accumulateAndGet(nanos, Math::max);
+		}
+	}
+
+	/**
+	 * Gets the number of worlds ready to be claimed.
+	 *
+	 * @return the pool depth
+	 */
+	public int getDepth() {
+		synchronized (ready) {
+			return ready.size();
+		}
+	}
+
+	private void refill() {
+		if (getDepth() >= instance.getConfigManager().worldPoolSize()) {
+			return;
+		}
+		if (instance.getTpsMonitor().getRecentTps() < instance.getConfigManager().worldPoolMinTps()) {
+			return;
+		}
+		if (!refilling.compareAndSet(false, true)) {
+			return;
+		}
+
+		final long start = System.nanoTime();
+		instance.getHellblockHandler().nextHellblockID().thenCompose(islandId -> {
+			final String worldName = instance.getWorldManager().getHellblockWorldFormat(islandId);
+			return instance.getWorldManager().adapter().createWorld(worldName).thenAccept(world -> {
+				final long elapsed = System.nanoTime() - start;
+				refills.increment();
+				refillNanos.add(elapsed);
+				maxRefillNanos.accumulateAndGet(elapsed, Math::max);
+				synchronized (ready) {
+					ready.add(islandId);
+				}
+				instance.debug("Generated pooled world %s in %.1fms".formatted(worldName, elapsed / 1_000_000.0));
+			}).whenComplete((result, ex) -> {
+				if (ex != null) {
+					// The world never made it into the pool, so its ID must not stay reserved
+					instance.getHellblockHandler().releaseIslandId(islandId);
+				}
+			});
+		}).whenComplete((result, ex) -> {
+			if (ex != null) {
+				refillFailures.increment();
+				instance.getPluginLogger().warn("Failed to generate a pooled world", ex);
+			}
+			refilling.set(false);
+		});
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "world-pool";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		final long pooledCount = pooledWaits.sum();
+		final long generatedCount = generatedWaits.sum();
+		final long generated = refills.sum();
+		report.put("Depth", getDepth() + "/" + instance.getConfigManager().worldPoolSize());
+		report.put("Refilling", String.valueOf(refilling.get()));
+		report.put("Claims", claimed.sum() + " claimed, " + missed.sum() + " missed, " + returned.sum() + " returned, "
+				+ discarded.sum() + " discarded");
+		report.put("World wait (loaded)", pooledCount == 0 ? "n/a"
+				: "%.2fms avg".formatted(pooledWaitNanos.sum() / 1_000_000.0 / pooledCount));
+		report.put("World wait (generated)", generatedCount == 0 ? "n/a"
+				: "%.1fms avg, %.1fms max".formatted(generatedWaitNanos.sum() / 1_000_000.0 / generatedCount,
+						maxGeneratedWaitNanos.get() / 1_000_000.0));
+		report.put("Refill time", generated == 0 ? "n/a"
+				: "%.1fms avg, %.1fms max".formatted(refillNanos.sum() / 1_000_000.0 / generated,
+						maxRefillNanos.get() / 1_000_000.0));
+		report.put("Refill failures", String.valueOf(refillFailures.sum()));
+		report.put("Suspended worlds", String.valueOf(instance.getWorldManager().getSuspendedWorldCount()));
+		return report;
+	}
+}
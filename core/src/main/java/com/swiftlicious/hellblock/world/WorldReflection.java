@@ -0,0 +1,261 @@
+package com.swiftlicious.hellblock.world;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+import com.swiftlicious.hellblock.handlers.VersionHelper;
+
+/**
+ * Version dependent world APIs used on hot paths, such as chunk tickets which
+ * are added and removed on every custom chunk load and unload.
+ * <p>
+ * Every target is looked up once when the class is initialized and kept as a
+ * {@link MethodHandle} in a static final field, which the JIT treats as a
+ * constant, so a call costs about as much as a direct call instead of a
+ * {@code Method.invoke}. Missing targets leave their {@link Capability}
+ * unavailable and the calls become no-ops.
+ */
+public final class WorldReflection {
+
+	private WorldReflection() {
+		throw new UnsupportedOperationException("This class cannot be instantiated");
+	}
+
+	/**
+	 * Optional server features resolved by this class.
+	 */
+	public enum Capability {
+		/** {@code World#addPluginChunkTicket} and {@code #removePluginChunkTicket} */
+		CHUNK_TICKETS,
+		/** {@code World#removePluginChunkTickets(Plugin)} */
+		CHUNK_TICKET_CLEANUP,
+		/** {@code EntitiesLoadEvent} and {@code EntitiesUnloadEvent} */
+		ENTITIES_EVENTS
+	}
+
+	/* --- Handle cache --- */
+	private static final MethodHandle ADD_CHUNK_TICKET; // (World, int, int, Plugin) void
+	private static final MethodHandle REMOVE_CHUNK_TICKET; // (World, int, int, Plugin) void
+	private static final MethodHandle REMOVE_CHUNK_TICKETS; // (World, Plugin) void
+
+	private static final Class<? extends Event> ENTITIES_LOAD_EVENT;
+	private static final Class<? extends Event> ENTITIES_UNLOAD_EVENT;
+	private static final MethodHandle ENTITIES_LOAD_GET_ENTITIES; // (Event) List
+	private static final MethodHandle ENTITIES_UNLOAD_GET_ENTITIES; // (Event) List
+
+	private static final Set<Capability> CAPABILITIES;
+	private static final Map<Capability, String> MISSING = new LinkedHashMap<>();
+	private static final LongAdder FAILURES = new LongAdder();
+
+	static {
+		final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		final EnumSet<Capability> capabilities = EnumSet.noneOf(Capability.class);
+
+		MethodHandle addTicket = null, removeTicket = null, removeTickets = null;
+		if (VersionHelper.isPaperForkPreInit()) {
+			try {
+				final MethodType ticketType = MethodType.methodType(void.class, World.class, int.class, int.class,
+						Plugin.class);
+				addTicket = lookup.unreflect(World.class.getMethod("addPluginChunkTicket", int.class, int.class,
+						Plugin.class)).asType(ticketType);
+				removeTicket = lookup.unreflect(World.class.getMethod("removePluginChunkTicket", int.class,
+						int.class, Plugin.class)).asType(ticketType);
+				capabilities.add(Capability.CHUNK_TICKETS);
+			} catch (ReflectiveOperationException ex) {
+				addTicket = null;
+				removeTicket = null;
+				MISSING.put(Capability.CHUNK_TICKETS, ex.toString());
+			}
+			try {
+				removeTickets = lookup.unreflect(World.class.getMethod("removePluginChunkTickets", Plugin.class))
+						.asType(MethodType.methodType(void.class, World.class, Plugin.class));
+				capabilities.add(Capability.CHUNK_TICKET_CLEANUP);
+			} catch (ReflectiveOperationException ex) {
+				MISSING.put(Capability.CHUNK_TICKET_CLEANUP, ex.toString());
+			}
+		} else {
+			MISSING.put(Capability.CHUNK_TICKETS, "not a Paper server");
+			MISSING.put(Capability.CHUNK_TICKET_CLEANUP, "not a Paper server");
+		}
+		ADD_CHUNK_TICKET = addTicket;
+		REMOVE_CHUNK_TICKET = removeTicket;
+		REMOVE_CHUNK_TICKETS = removeTickets;
+
+		Class<? extends Event> loadEvent = null, unloadEvent = null;
+		MethodHandle loadEntities = null, unloadEntities = null;
+		try {
+			final MethodType entitiesType = MethodType.methodType(List.class, Event.class);
+			loadEvent = Class.forName("org.bukkit.event.world.EntitiesLoadEvent").asSubclass(Event.class);
+			unloadEvent = Class.forName("org.bukkit.event.world.EntitiesUnloadEvent").asSubclass(Event.class);
+			loadEntities = lookup.unreflect(loadEvent.getMethod("getEntities")).asType(entitiesType);
+			unloadEntities = lookup.unreflect(unloadEvent.getMethod("getEntities")).asType(entitiesType);
+			capabilities.add(Capability.ENTITIES_EVENTS);
+		} catch (ReflectiveOperationException ex) {
+			loadEvent = null;
+			unloadEvent = null;
+			loadEntities = null;
+			unloadEntities = null;
+			MISSING.put(Capability.ENTITIES_EVENTS, ex.toString());
+		}
+		ENTITIES_LOAD_EVENT = loadEvent;
+		ENTITIES_UNLOAD_EVENT = unloadEvent;
+		ENTITIES_LOAD_GET_ENTITIES = loadEntities;
+		ENTITIES_UNLOAD_GET_ENTITIES = unloadEntities;
+
+		CAPABILITIES = Collections.unmodifiableSet(capabilities);
+	}
+
+	/**
+	 * Checks whether the running server provides a feature.
+	 *
+	 * @param capability the feature
+	 * @return whether the feature is available
+	 */
+	public static boolean has(@NotNull Capability capability) {
+		return CAPABILITIES.contains(capability);
+	}
+
+	/**
+	 * Adds a plugin chunk ticket, which keeps the chunk loaded.
+	 *
+	 * @return whether the ticket could be added
+	 */
+	public static boolean addPluginChunkTicket(@NotNull World world, int x, int z, @NotNull Plugin plugin) {
+		if (ADD_CHUNK_TICKET == null) {
+			return false;
+		}
+		try {
+			ADD_CHUNK_TICKET.invokeExact(world, x, z, plugin);
+			return true;
+		} catch (Throwable t) {
+			FAILURES.increment();
+			return false;
+		}
+	}
+
+	/**
+	 * Removes a plugin chunk ticket.
+	 *
+	 * @return whether the ticket could be removed
+	 */
+	public static boolean removePluginChunkTicket(@NotNull World world, int x, int z, @NotNull Plugin plugin) {
+		if (REMOVE_CHUNK_TICKET == null) {
+			return false;
+		}
+		try {
+			REMOVE_CHUNK_TICKET.invokeExact(world, x, z, plugin);
+			return true;
+		} catch (Throwable t) {
+			FAILURES.increment();
+			return false;
+		}
+	}
+
+	/**
+	 * Removes every chunk ticket of a plugin in a world.
+	 *
+	 * @throws Throwable if the server failed to remove the tickets
+	 * @return whether the server supports chunk tickets
+	 */
+	public static boolean removePluginChunkTickets(@NotNull World world, @NotNull Plugin plugin) throws Throwable {
+		if (REMOVE_CHUNK_TICKETS == null) {
+			return false;
+		}
+		REMOVE_CHUNK_TICKETS.invokeExact(world, plugin);
+		return true;
+	}
+
+	/**
+	 * @return the {@code EntitiesLoadEvent} class, or {@code null} if it does not
+	 *         exist on this server
+	 */
+	@Nullable
+	public static Class<? extends Event> entitiesLoadEvent() {
+		return ENTITIES_LOAD_EVENT;
+	}
+
+	/**
+	 * @return the {@code EntitiesUnloadEvent} class, or {@code null} if it does
+	 *         not exist on this server
+	 */
+	@Nullable
+	public static Class<? extends Event> entitiesUnloadEvent() {
+		return ENTITIES_UNLOAD_EVENT;
+	}
+
+	/**
+	 * Gets the entities of an {@code EntitiesLoadEvent} or
+	 * {@code EntitiesUnloadEvent}.
+	 *
+	 * @param event the event
+	 * @return the entities, empty for any other event
+	 */
+	@SuppressWarnings("unchecked")
+	@NotNull
+	public static List<Entity> getEntities(@NotNull Event event) {
+		try {
+			if (ENTITIES_LOAD_EVENT != null && ENTITIES_LOAD_EVENT.isInstance(event)) {
+				return (List<Entity>) ENTITIES_LOAD_GET_ENTITIES.invokeExact(event);
+			}
+			if (ENTITIES_UNLOAD_EVENT != null && ENTITIES_UNLOAD_EVENT.isInstance(event)) {
+				return (List<Entity>) ENTITIES_UNLOAD_GET_ENTITIES.invokeExact(event);
+			}
+		} catch (Throwable t) {
+			FAILURES.increment();
+		}
+		return List.of();
+	}
+
+	/**
+	 * Describes which fast paths are active, for the startup log and the
+	 * performance report.
+	 *
+	 * @return the state of every capability
+	 */
+	@NotNull
+	public static Map<String, String> report() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		for (Capability capability : Capability.values()) {
+			report.put(capability.name(),
+					has(capability) ? "method handle" : "unavailable (" + MISSING.get(capability) + ")");
+		}
+		report.put("Failed calls", String.valueOf(FAILURES.sum()));
+		return report;
+	}
+
+	/**
+	 * @return a reporter listing the state of every capability
+	 */
+	@NotNull
+	public static PerformanceReporter reporter() {
+		return new PerformanceReporter() {
+			@Override
+			@NotNull
+			public String getReporterName() {
+				return "world-reflection";
+			}
+
+			@Override
+			@NotNull
+			public Map<String, String> getPerformanceReport() {
+				return report();
+			}
+		};
+	}
+}
@@ -0,0 +1,66 @@
+package com.swiftlicious.hellblock.world;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+
+/**
+ * Reports the {@link ChunkSaveStats} of all loaded Hellblock worlds, summed up
+ * and for the worlds that wrote the most data in their last save.
+ */
+public class WorldSaveReporter implements PerformanceReporter {
+
+	private static final int LISTED_WORLDS = 10;
+
+	private final Supplier<Collection<HellblockWorld<?>>> worlds;
+
+	public WorldSaveReporter(@NotNull Supplier<Collection<HellblockWorld<?>>> worlds) {
+		this.worlds = worlds;
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "chunk-saves";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		long saves = 0, dirty = 0, clean = 0, bytes = 0, nanos = 0;
+		final Collection<HellblockWorld<?>> loaded = worlds.get();
+		for (HellblockWorld<?> world : loaded) {
+			final ChunkSaveStats stats = world.saveStats();
+			saves += stats.saves();
+			dirty += stats.dirtyChunks();
+			clean += stats.cleanChunks();
+			bytes += stats.bytes();
+			nanos += stats.saveNanos();
+		}
+
+		final Map<String, String> report = new LinkedHashMap<>();
+		report.put("Loaded worlds", String.valueOf(loaded.size()));
+		report.put("World saves", String.valueOf(saves));
+		report.put("Written chunks", String.valueOf(dirty));
+		report.put("Skipped chunks", String.valueOf(clean));
+		report.put("Skipped ratio",
+				dirty + clean == 0 ? "n/a" : "%.1f%%".formatted(clean * 100.0 / (dirty + clean)));
+		report.put("Bytes/save", saves == 0 ? "n/a" : String.valueOf(bytes / saves));
+		report.put("Avg save", saves == 0 ? "n/a" : "%.3fms".formatted(nanos / 1_000_000.0 / saves));
+
+		loaded.stream().filter(world -> world.saveStats().saves() > 0)
+				.sorted(Comparator.comparingLong((HellblockWorld<?> world) -> world.saveStats().lastBytes()).reversed())
+				.limit(LISTED_WORLDS).forEach(world -> {
+					final ChunkSaveStats stats = world.saveStats();
+					report.put("Last save " + world.worldName(), "%d dirty, %d clean, %d bytes"
+							.formatted(stats.lastDirtyChunks(), stats.lastCleanChunks(), stats.lastBytes()));
+				});
+		return report;
+	}
+}
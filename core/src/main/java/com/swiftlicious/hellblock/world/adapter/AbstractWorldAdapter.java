@@ -1,9 +1,6 @@
 package com.swiftlicious.hellblock.world.adapter;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,8 +9,7 @@ import java.util.concurrent.PriorityBlockingQueue;
 
 import org.jetbrains.annotations.NotNull;
 
-import com.swiftlicious.hellblock.HellblockPlugin;
-import com.swiftlicious.hellblock.database.dependency.Dependency;
+import com.swiftlicious.hellblock.utils.ZstdUtils;
 import com.swiftlicious.hellblock.world.BlockPos;
 import com.swiftlicious.hellblock.world.ChunkPos;
 import com.swiftlicious.hellblock.world.CustomBlockState;
@@ -37,18 +33,9 @@ public abstract class AbstractWorldAdapter<W> implements WorldAdapter<W> {
 	public static final int CHUNK_VERSION = 2;
 	public static final int REGION_VERSION = 1;
 
-	private final Method decompressMethod;
-	private final Method compressMethod;
-
 	public AbstractWorldAdapter() {
-		final ClassLoader classLoader = HellblockPlugin.getInstance().getDependencyManager()
-				.obtainClassLoaderWith(EnumSet.of(Dependency.ZSTD));
-		try {
-			final Class<?> zstd = classLoader.loadClass("com.github.luben.zstd.Zstd");
-			decompressMethod = zstd.getMethod("decompress", byte[].class, byte[].class);
-			compressMethod = zstd.getMethod("compress", byte[].class);
-		} catch (ReflectiveOperationException e) {
-			throw new RuntimeException(e);
+		if (!ZstdUtils.isAvailable()) {
+			throw new IllegalStateException("zstd is required to store world data");
 		}
 	}
 
@@ -59,12 +46,7 @@ public abstract class AbstractWorldAdapter<W> implements WorldAdapter<W> {
 	 * @param compressedData   the compressed data
 	 */
 	protected void zstdDecompress(byte[] decompressedData, byte[] compressedData) {
-		try {
-			decompressMethod.invoke(null, decompressedData, compressedData);
-		} catch (IllegalAccessException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
-		// Zstd.decompress(decompressedData, compressedData);
+		ZstdUtils.decompress(decompressedData, compressedData);
 	}
 
 	/**
@@ -74,13 +56,7 @@ public abstract class AbstractWorldAdapter<W> implements WorldAdapter<W> {
 	 * @return the compressed data
 	 */
 	protected byte[] zstdCompress(byte[] data) {
-		try {
-			final Object result = compressMethod.invoke(null, (Object) data);
-			return (byte[]) result;
-		} catch (IllegalAccessException | InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
-		// return Zstd.compress(data);
+		return ZstdUtils.compress(data);
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +92,8 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 
 	private static final String TAG_HELLBLOCK_DATA = "hellblock";
 
+	private final RegionIoStats regionStats = new RegionIoStats();
+
 	public BukkitWorldAdapter(HellblockPlugin plugin) {
 		instance = plugin;
 		this.worldFolderProvider = (world -> {
@@ -103,6 +106,7 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 
 		this.regionFileProvider = (world, pos) -> new File(this.worldFolderProvider.apply(world),
 				TAG_HELLBLOCK_DATA + File.separator + getRegionDataFile(pos));
+		plugin.registerPerformanceReporter(regionStats);
 	}
 
 	public void setRegionFileProvider(BiFunction<World, RegionPos, File> regionFileProvider) {
@@ -435,6 +439,48 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 	@Nullable
 	@Override
 	public CustomRegion loadRegion(HellblockWorld<World> world, RegionPos pos, boolean createIfNotExist) {
+		final File legacyFile = getRegionDataFile(world.world(), pos);
+		final File sectorFile = getSectorRegionFile(world.world(), pos);
+
+		// A region only stored in the other format is read from there and converted
+		// to the configured format on its next save
+		if (instance.getConfigManager().sectorRegionFiles()) {
+			if (sectorFile.exists() || !legacyFile.exists()) {
+				return loadSectorRegion(world, pos, sectorFile, createIfNotExist);
+			}
+		} else if (!legacyFile.exists() && sectorFile.exists()) {
+			return loadSectorRegion(world, pos, sectorFile, createIfNotExist);
+		}
+		return loadLegacyRegion(world, pos, createIfNotExist);
+	}
+
+	@Nullable
+	private CustomRegion loadSectorRegion(HellblockWorld<World> world, RegionPos pos, File file,
+			boolean createIfNotExist) {
+		if (!file.exists()) {
+			return createIfNotExist ? world.createRegion(pos) : null;
+		}
+
+		final long start = System.nanoTime();
+		try {
+			final SectorRegionFile source = SectorRegionFile.open(file, pos);
+			final CustomRegion region = world.restoreRegion(pos, new ConcurrentHashMap<>());
+			region.attachSource(source);
+			regionStats.recordLoad(true, System.nanoTime() - start);
+			return region;
+		} catch (IOException ex) {
+			instance.getPluginLogger()
+					.severe("[" + world.worldName() + "] Failed to load sector region " + pos + ", moving it aside", ex);
+			final File corrupted = new File(file.getParentFile(), file.getName() + ".corrupt");
+			if (!file.renameTo(corrupted) && !file.delete()) {
+				instance.getPluginLogger().warn("Failed to remove corrupted region file: " + file.getAbsolutePath());
+			}
+		}
+		return createIfNotExist ? world.createRegion(pos) : null;
+	}
+
+	@Nullable
+	private CustomRegion loadLegacyRegion(HellblockWorld<World> world, RegionPos pos, boolean createIfNotExist) {
 		final File data = getRegionDataFile(world.world(), pos);
 		final File tempFile = new File(data.getParentFile(), data.getName() + ".tmp");
 
@@ -450,10 +496,13 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 		}
 
 		// --- Step 3: Try normal load ---
+		final long start = System.nanoTime();
 		try (BufferedInputStream bis = new BufferedInputStream(new FileInputStream(data));
 				DataInputStream in = new DataInputStream(bis)) {
 
-			return deserializeRegion(world, in, pos);
+			final CustomRegion region = deserializeRegion(world, in, pos);
+			regionStats.recordLoad(false, System.nanoTime() - start);
+			return region;
 
 		} catch (EOFException eof) {
 			instance.getPluginLogger().warn(
@@ -544,14 +593,26 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 
 	@Override
 	public void saveRegion(HellblockWorld<World> world, CustomRegion region) {
+		if (instance.getConfigManager().sectorRegionFiles()) {
+			saveSectorRegion(world, region);
+			return;
+		}
+
 		final File file = getRegionDataFile(world.world(), region.regionPos());
+		final File sectorFile = getSectorRegionFile(world.world(), region.regionPos());
+		// The legacy format always writes the whole region
+		final Set<ChunkPos> dirty = region.takeDirtyChunks();
 
 		// --- Step 1: Prune empty regions ---
 		if (region.canPrune()) {
-			if (file.exists() && !file.delete()) {
-				instance.getPluginLogger()
-						.warn("saveRegion: Failed to delete pruned region file: " + file.getAbsolutePath());
-			}
+			deleteRegionFile(file);
+			deleteRegionFile(sectorFile);
+			return;
+		}
+
+		// Nothing changed since the file was written
+		if (dirty.isEmpty() && file.exists() && !sectorFile.exists()) {
+			regionStats.recordSkippedSave();
 			return;
 		}
 
@@ -564,10 +625,12 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 		}
 
 		final long start = System.currentTimeMillis();
+		final long startNanos = System.nanoTime();
 		final File tempFile = new File(parentDir, file.getName() + ".tmp");
 
 		try {
-			final byte[] bytes = serializeRegion(region);
+			final Map<ChunkPos, byte[]> chunks = region.dataToSave();
+			final byte[] bytes = serializeRegion(region.regionPos(), chunks);
 
 			try (FileOutputStream fos = new FileOutputStream(tempFile);
 					BufferedOutputStream bos = new BufferedOutputStream(fos)) {
@@ -585,11 +648,17 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 				instance.getPluginLogger().warn("Atomic move not supported for region " + region.regionPos());
 			}
 
+			regionStats.recordSave(false, chunks.size(), bytes.length, System.nanoTime() - startNanos);
+			if (sectorFile.exists() && deleteRegionFile(sectorFile)) {
+				regionStats.recordConversion();
+			}
+
 			long elapsed = System.currentTimeMillis() - start;
 			instance.debug(
 					() -> "[" + world.worldName() + "] Took " + elapsed + "ms to save region " + region.regionPos());
 
 		} catch (IOException e) {
+			region.markDirty(dirty);
 			instance.getPluginLogger()
 					.severe("[" + world.worldName() + "] Failed to save Hellblock region at " + region.regionPos(), e);
 			if (tempFile.exists())
@@ -597,22 +666,90 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 		}
 	}
 
+	private void saveSectorRegion(HellblockWorld<World> world, CustomRegion region) {
+		final RegionPos pos = region.regionPos();
+		final File file = getSectorRegionFile(world.world(), pos);
+		final File legacyFile = getRegionDataFile(world.world(), pos);
+
+		if (region.canPrune()) {
+			region.takeDirtyChunks();
+			deleteRegionFile(file);
+			deleteRegionFile(legacyFile);
+			return;
+		}
+
+		final File parentDir = file.getParentFile();
+		if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
+			instance.getPluginLogger()
+					.severe("saveRegion: Failed to create region directory: " + parentDir.getAbsolutePath());
+			return;
+		}
+
+		final boolean newFile = !file.exists();
+		final Set<ChunkPos> dirty = region.takeDirtyChunks();
+		final Map<ChunkPos, byte[]> changes = new HashMap<>();
+		if (newFile) {
+			// New region or conversion from the legacy format, write every chunk
+			changes.putAll(region.dataToSave());
+		}
+		for (ChunkPos chunkPos : dirty) {
+			if (!changes.containsKey(chunkPos)) {
+				// No cached data means the chunk was removed
+				changes.put(chunkPos, region.getCachedChunkBytes(chunkPos));
+			}
+		}
+		if (changes.isEmpty()) {
+			regionStats.recordSkippedSave();
+			return;
+		}
+
+		final long start = System.nanoTime();
+		try {
+			final long bytes = SectorRegionFile.write(file, pos, changes);
+			final long elapsed = System.nanoTime() - start;
+			regionStats.recordSave(true, changes.size(), bytes, elapsed);
+			if (legacyFile.exists() && deleteRegionFile(legacyFile)) {
+				regionStats.recordConversion();
+			}
+			instance.debug(() -> "[" + world.worldName() + "] Took " + (elapsed / 1_000_000.0) + "ms to write "
+					+ changes.size() + " chunk(s) of region " + pos);
+		} catch (IOException e) {
+			region.markDirty(dirty);
+			instance.getPluginLogger()
+					.severe("[" + world.worldName() + "] Failed to save Hellblock region at " + pos, e);
+			// A partially written new file would hide the chunks that are still missing
+			if (newFile) {
+				deleteRegionFile(file);
+			}
+		}
+	}
+
+	private boolean deleteRegionFile(File file) {
+		if (file.exists() && !file.delete()) {
+			instance.getPluginLogger().warn("saveRegion: Failed to delete region file: " + file.getAbsolutePath());
+			return false;
+		}
+		return true;
+	}
+
 	@Override
-	public void saveChunk(HellblockWorld<World> world, CustomChunk chunk) {
+	public int saveChunk(HellblockWorld<World> world, CustomChunk chunk) {
 		final RegionPos pos = chunk.chunkPos().toRegionPos();
 		final Optional<CustomRegion> region = world.getLoadedRegion(pos);
 		if (region.isEmpty()) {
 			instance.getPluginLogger().severe("[" + world.worldName() + "] Region " + pos + " unloaded before chunk "
 					+ chunk.chunkPos() + " saving.");
-		} else {
-			final CustomRegion hellblockRegion = region.get();
-			final SerializableChunk serializableChunk = toSerializableChunk(chunk);
-			if (serializableChunk.canPrune()) {
-				hellblockRegion.removeCachedChunk(chunk.chunkPos());
-			} else {
-				hellblockRegion.setCachedChunk(chunk.chunkPos(), serializeChunk(serializableChunk));
-			}
+			return -1;
+		}
+		final CustomRegion hellblockRegion = region.get();
+		final SerializableChunk serializableChunk = toSerializableChunk(chunk);
+		if (serializableChunk.canPrune()) {
+			hellblockRegion.removeCachedChunk(chunk.chunkPos());
+			return 0;
 		}
+		final byte[] bytes = serializeChunk(serializableChunk);
+		hellblockRegion.setCachedChunk(chunk.chunkPos(), bytes);
+		return bytes.length;
 	}
 
 	@Override
@@ -677,15 +814,14 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 		return region;
 	}
 
-	private byte[] serializeRegion(@NotNull CustomRegion region) {
+	private byte[] serializeRegion(@NotNull RegionPos regionPos, @NotNull Map<ChunkPos, byte[]> map) {
 		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		try (DataOutputStream out = new DataOutputStream(baos)) {
 
 			out.writeByte(REGION_VERSION);
-			out.writeInt(region.regionPos().x());
-			out.writeInt(region.regionPos().z());
+			out.writeInt(regionPos.x());
+			out.writeInt(regionPos.z());
 
-			final Map<ChunkPos, byte[]> map = region.dataToSave();
 			out.writeInt(map.size());
 
 			for (Map.Entry<ChunkPos, byte[]> entry : map.entrySet()) {
@@ -704,7 +840,7 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 			return baos.toByteArray();
 
 		} catch (IOException e) {
-			instance.getPluginLogger().severe("serializeRegion: Failed to serialize region " + region.regionPos(), e);
+			instance.getPluginLogger().severe("serializeRegion: Failed to serialize region " + regionPos, e);
 			return new byte[0];
 		}
 	}
@@ -738,6 +874,14 @@ public class BukkitWorldAdapter extends AbstractWorldAdapter<World> {
 		return "r." + regionPos.x() + "." + regionPos.z() + ".mcc";
 	}
 
+	private File getSectorRegionFile(World world, RegionPos regionPos) {
+		final File legacyFile = getRegionDataFile(world, regionPos);
+		final String name = legacyFile.getName();
+		final int extension = name.lastIndexOf('.');
+		return new File(legacyFile.getParentFile(),
+				(extension < 0 ? name : name.substring(0, extension)) + SectorRegionFile.EXTENSION);
+	}
+
 	private byte[] serializeChunk(SerializableChunk serializableChunk) {
 		final ByteArrayOutputStream outByteStream = new ByteArrayOutputStream();
 		final DataOutputStream outStream = new DataOutputStream(outByteStream);
@@ -0,0 +1,195 @@
+package com.swiftlicious.hellblock.world.adapter;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.world.ChunkPos;
+import com.swiftlicious.hellblock.world.RegionPos;
+
+/**
+ * Offline converter from the sequential {@code .mcc} region files to
+ * {@link SectorRegionFile sector region files}.
+ * <p>
+ * The chunk payloads of both formats are identical, so the conversion copies
+ * them without deserializing any chunk. Every converted region is read back
+ * and compared with the source, and the load and save times of both formats
+ * are reported per region, which doubles as a benchmark of the two formats on
+ * real data.
+ * <p>
+ * Run it while the server is stopped, with the server and plugin jars on the
+ * class path:
+ *
+ * <pre>
+ * java -cp server.jar:Hellblock.jar \
+ *     com.swiftlicious.hellblock.world.adapter.RegionFormatConverter &lt;hellblock-folder&gt; [--delete-legacy]
+ * </pre>
+ */
+public final class RegionFormatConverter {
+
+	private static final Pattern LEGACY_NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mcc");
+	private static final int REGION_VERSION = 1;
+	private static final int MAX_CHUNK_BYTES = 4 * 1024 * 1024;
+
+	private RegionFormatConverter() {
+		throw new UnsupportedOperationException("This class cannot be instantiated");
+	}
+
+	/**
+	 * Totals of a conversion run.
+	 *
+	 * @param regions      converted regions
+	 * @param chunks       converted chunks
+	 * @param legacyBytes  size of the legacy files
+	 * @param sectorBytes  size of the written sector files
+	 * @param legacyLoad   time spent reading the legacy files, in nanoseconds
+	 * @param sectorSave   time spent writing the sector files, in nanoseconds
+	 * @param sectorOpen   time spent opening the sector files, in nanoseconds
+	 * @param sectorRead   time spent reading every chunk back, in nanoseconds
+	 * @param failed       regions that could not be converted
+	 */
+	public record Result(int regions, int chunks, long legacyBytes, long sectorBytes, long legacyLoad, long sectorSave,
+			long sectorOpen, long sectorRead, int failed) {
+	}
+
+	/**
+	 * Converts every legacy region file in a folder.
+	 *
+	 * @param folder       the folder holding the {@code r.x.z.mcc} files
+	 * @param deleteLegacy whether to delete legacy files once their conversion
+	 *                     was verified
+	 * @param log          receives one line per region and a summary
+	 * @return the totals of the run
+	 */
+	@NotNull
+	public static Result convert(@NotNull File folder, boolean deleteLegacy, @NotNull Consumer<String> log) {
+		final File[] files = folder.listFiles((dir, name) -> LEGACY_NAME.matcher(name).matches());
+		if (files == null || files.length == 0) {
+			log.accept("No legacy region files found in " + folder.getAbsolutePath());
+			return new Result(0, 0, 0, 0, 0, 0, 0, 0, 0);
+		}
+		Arrays.sort(files);
+
+		int regions = 0, chunks = 0, failed = 0;
+		long legacyBytes = 0, sectorBytes = 0, legacyLoad = 0, sectorSave = 0, sectorOpen = 0, sectorRead = 0;
+		for (File legacyFile : files) {
+			final Matcher matcher = LEGACY_NAME.matcher(legacyFile.getName());
+			if (!matcher.matches()) {
+				continue;
+			}
+			final RegionPos pos = RegionPos.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+			final File sectorFile = new File(folder, "r." + pos.x() + "." + pos.z() + SectorRegionFile.EXTENSION);
+			if (sectorFile.exists()) {
+				log.accept(legacyFile.getName() + ": skipped, " + sectorFile.getName() + " already exists");
+				continue;
+			}
+
+			try {
+				long time = System.nanoTime();
+				final Map<ChunkPos, byte[]> data = readLegacyRegion(legacyFile, pos);
+				final long load = System.nanoTime() - time;
+
+				time = System.nanoTime();
+				SectorRegionFile.write(sectorFile, pos, data);
+				final long save = System.nanoTime() - time;
+
+				time = System.nanoTime();
+				final SectorRegionFile region = SectorRegionFile.open(sectorFile, pos);
+				final long open = System.nanoTime() - time;
+
+				time = System.nanoTime();
+				for (Map.Entry<ChunkPos, byte[]> entry : data.entrySet()) {
+					if (!Arrays.equals(entry.getValue(), region.readChunk(entry.getKey()))) {
+						throw new IOException("Verification failed for chunk " + entry.getKey());
+					}
+				}
+				final long read = System.nanoTime() - time;
+
+				regions++;
+				chunks += data.size();
+				legacyBytes += legacyFile.length();
+				sectorBytes += sectorFile.length();
+				legacyLoad += load;
+				sectorSave += save;
+				sectorOpen += open;
+				sectorRead += read;
+				log.accept(("%s: %d chunks, %d -> %d bytes, legacy load %.3fms, sector save %.3fms, "
+						+ "sector open %.3fms, read all %.3fms").formatted(legacyFile.getName(), data.size(),
+								legacyFile.length(), sectorFile.length(), load / 1e6, save / 1e6, open / 1e6,
+								read / 1e6));
+
+				if (deleteLegacy && !legacyFile.delete()) {
+					log.accept(legacyFile.getName() + ": converted, but the legacy file could not be deleted");
+				}
+			} catch (IOException ex) {
+				failed++;
+				sectorFile.delete();
+				log.accept(legacyFile.getName() + ": failed, " + ex.getMessage());
+			}
+		}
+
+		final Result result = new Result(regions, chunks, legacyBytes, sectorBytes, legacyLoad, sectorSave, sectorOpen,
+				sectorRead, failed);
+		if (regions > 0) {
+			log.accept(("Converted %d region(s) with %d chunk(s), %d failed. Avg per region: legacy load %.3fms, "
+					+ "sector save %.3fms, sector open %.3fms").formatted(regions, chunks, failed,
+							legacyLoad / 1e6 / regions, sectorSave / 1e6 / regions, sectorOpen / 1e6 / regions));
+		} else {
+			log.accept("No region converted, " + failed + " failed.");
+		}
+		return result;
+	}
+
+	@NotNull
+	private static Map<ChunkPos, byte[]> readLegacyRegion(@NotNull File file, @NotNull RegionPos pos)
+			throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			final byte version = in.readByte();
+			if (version != REGION_VERSION) {
+				throw new IOException("Unsupported region version: " + version + " (expected " + REGION_VERSION + ")");
+			}
+			final int regionX = in.readInt();
+			final int regionZ = in.readInt();
+			if (regionX != pos.x() || regionZ != pos.z()) {
+				throw new IOException("Region header mismatch! File=" + regionX + "," + regionZ + " Expected=" + pos);
+			}
+
+			final int chunkCount = in.readInt();
+			final Map<ChunkPos, byte[]> data = new HashMap<>(chunkCount);
+			for (int i = 0; i < chunkCount; i++) {
+				final int chunkX = in.readInt();
+				final int chunkZ = in.readInt();
+				final int length = in.readInt();
+				if (length <= 0 || length > MAX_CHUNK_BYTES) {
+					throw new IOException("Invalid chunk data length: " + length);
+				}
+				final byte[] bytes = new byte[length];
+				in.readFully(bytes);
+				data.put(ChunkPos.of(chunkX, chunkZ), bytes);
+			}
+			return data;
+		}
+	}
+
+	public static void main(String[] args) {
+		if (args.length == 0) {
+			System.out.println("Usage: RegionFormatConverter <hellblock-folder> [--delete-legacy]");
+			return;
+		}
+		final boolean deleteLegacy = Arrays.asList(args).contains("--delete-legacy");
+		final Result result = convert(new File(args[0]), deleteLegacy, System.out::println);
+		if (result.failed() > 0) {
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.swiftlicious.hellblock.world.adapter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.swiftlicious.hellblock.api.PerformanceReporter;
+
+/**
+ * Load and save timings of Hellblock region files, split by file format.
+ */
+public class RegionIoStats implements PerformanceReporter {
+
+	private final Format legacy = new Format();
+	private final Format sector = new Format();
+	private final LongAdder skippedSaves = new LongAdder();
+	private final LongAdder conversions = new LongAdder();
+
+	/**
+	 * Records a region load.
+	 *
+	 * @param sectorFormat whether the region was read from a sector file
+	 * @param nanos        the time it took
+	 */
+	public void recordLoad(boolean sectorFormat, long nanos) {
+		final Format format = sectorFormat ? sector : legacy;
+		format.loads.increment();
+		format.loadNanos.add(nanos);
+	}
+
+	/**
+	 * Records a region save.
+	 *
+	 * @param sectorFormat whether the region was written to a sector file
+	 * @param chunks       the number of chunks written
+	 * @param bytes        the number of bytes written
+	 * @param nanos        the time it took
+	 */
+	public void recordSave(boolean sectorFormat, int chunks, long bytes, long nanos) {
+		final Format format = sectorFormat ? sector : legacy;
+		format.saves.increment();
+		format.chunks.add(chunks);
+		format.bytes.add(bytes);
+		format.saveNanos.add(nanos);
+	}
+
+	/**
+	 * Records a region save that was skipped because no chunk changed.
+	 */
+	public void recordSkippedSave() {
+		skippedSaves.increment();
+	}
+
+	/**
+	 * Records a region that was converted to the other format on save.
+	 */
+	public void recordConversion() {
+		conversions.increment();
+	}
+
+	@Override
+	@NotNull
+	public String getReporterName() {
+		return "region-io";
+	}
+
+	@Override
+	@NotNull
+	public Map<String, String> getPerformanceReport() {
+		final Map<String, String> report = new LinkedHashMap<>();
+		legacy.report("Legacy", report);
+		sector.report("Sector", report);
+		report.put("Saves without changes", String.valueOf(skippedSaves.sum()));
+		report.put("Converted regions", String.valueOf(conversions.sum()));
+		return report;
+	}
+
+	private static final class Format {
+		private final LongAdder loads = new LongAdder();
+		private final LongAdder loadNanos = new LongAdder();
+		private final LongAdder saves = new LongAdder();
+		private final LongAdder saveNanos = new LongAdder();
+		private final LongAdder chunks = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+
+		private void report(String name, Map<String, String> report) {
+			final long loadCount = loads.sum();
+			final long saveCount = saves.sum();
+			report.put(name + " loads", String.valueOf(loadCount));
+			report.put(name + " avg load",
+					loadCount == 0 ? "n/a" : "%.3fms".formatted(loadNanos.sum() / 1_000_000.0 / loadCount));
+			report.put(name + " saves", String.valueOf(saveCount));
+			report.put(name + " avg save",
+					saveCount == 0 ? "n/a" : "%.3fms".formatted(saveNanos.sum() / 1_000_000.0 / saveCount));
+			report.put(name + " chunks/save", saveCount == 0 ? "n/a" : "%.1f".formatted((double) chunks.sum() / saveCount));
+			report.put(name + " bytes/save", saveCount == 0 ? "n/a" : String.valueOf(bytes.sum() / saveCount));
+		}
+	}
+}
@@ -0,0 +1,264 @@
+package com.swiftlicious.hellblock.world.adapter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.swiftlicious.hellblock.world.ChunkPos;
+import com.swiftlicious.hellblock.world.RegionChunkSource;
+import com.swiftlicious.hellblock.world.RegionPos;
+
+/**
+ * Sector based region file, an alternative to the sequential {@code .mcc}
+ * format.
+ * <p>
+ * The file is divided into {@value #SECTOR_SIZE} byte sectors, similar to the
+ * Anvil format. The first sector holds a small preamble, the next two sectors
+ * hold a location table with one {@code (sector offset, sector count)} pair per
+ * chunk of the 32x32 region. Each stored chunk starts on a sector boundary
+ * with its length followed by the serialized chunk.
+ * <p>
+ * Opening a file maps it read-only and only parses the location table; chunks
+ * are copied out of the mapping when they are first requested. Writing only
+ * touches the changed chunks: each one is written to free sectors, the table
+ * is updated once all data is on disk, so an interrupted write leaves the
+ * previous state intact. Sectors of previous copies are reused by later writes.
+ * The file is never truncated, since chunks may still be read through a
+ * mapping of the same file.
+ */
+public final class SectorRegionFile implements RegionChunkSource {
+
+	public static final String EXTENSION = ".mcs";
+	public static final int SECTOR_SIZE = 4096;
+
+	private static final int MAGIC = 0x4842_5253; // "HBRS"
+	private static final int VERSION = 1;
+	private static final int CHUNKS = 32 * 32;
+	private static final int TABLE_OFFSET = SECTOR_SIZE;
+	private static final int TABLE_BYTES = CHUNKS * 2 * Integer.BYTES;
+	private static final int HEADER_SECTORS = 1 + TABLE_BYTES / SECTOR_SIZE;
+	private static final int MAX_CHUNK_BYTES = 4 * 1024 * 1024;
+
+	private final MappedByteBuffer buffer;
+	private final int[] table;
+	private final Set<ChunkPos> storedChunks;
+
+	private SectorRegionFile(RegionPos regionPos, MappedByteBuffer buffer, int[] table) {
+		this.buffer = buffer;
+		this.table = table;
+		final Set<ChunkPos> stored = new HashSet<>();
+		for (int index = 0; index < CHUNKS; index++) {
+			if (table[index * 2] != 0) {
+				stored.add(toChunkPos(regionPos, index));
+			}
+		}
+		this.storedChunks = Collections.unmodifiableSet(stored);
+	}
+
+	/**
+	 * Maps an existing region file for lazy chunk reads. The mapping stays valid
+	 * after this method returns, no file handle is kept open.
+	 *
+	 * @param file      the region file
+	 * @param regionPos the expected region position
+	 * @return the opened region file
+	 * @throws IOException if the file can't be read or is not a valid region
+	 *                     file for the given position
+	 */
+	@NotNull
+	public static SectorRegionFile open(@NotNull File file, @NotNull RegionPos regionPos) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size < (long) HEADER_SECTORS * SECTOR_SIZE) {
+				throw new IOException("Region file is truncated: " + size + " bytes");
+			}
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("Region file is too large to map: " + size + " bytes");
+			}
+
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			checkPreamble(buffer, regionPos);
+
+			final int[] table = new int[CHUNKS * 2];
+			final int sectors = (int) (size / SECTOR_SIZE);
+			for (int index = 0; index < CHUNKS; index++) {
+				final int offset = buffer.getInt(TABLE_OFFSET + index * 8);
+				final int count = buffer.getInt(TABLE_OFFSET + index * 8 + 4);
+				if (offset == 0) {
+					continue;
+				}
+				if (offset < HEADER_SECTORS || count <= 0 || offset + count > sectors) {
+					// Points outside of the file, the chunk is lost but the rest is usable
+					continue;
+				}
+				table[index * 2] = offset;
+				table[index * 2 + 1] = count;
+			}
+			return new SectorRegionFile(regionPos, buffer, table);
+		}
+	}
+
+	@Override
+	@Nullable
+	public byte[] readChunk(@NotNull ChunkPos pos) throws IOException {
+		final int index = indexOf(pos);
+		final int offset = table[index * 2];
+		if (offset == 0) {
+			return null;
+		}
+
+		final int position = offset * SECTOR_SIZE;
+		final int length = buffer.getInt(position);
+		if (length <= 0 || length > table[index * 2 + 1] * SECTOR_SIZE - Integer.BYTES) {
+			throw new IOException("Invalid chunk data length " + length + " for chunk " + pos);
+		}
+		final byte[] data = new byte[length];
+		buffer.get(position + Integer.BYTES, data);
+		return data;
+	}
+
+	@Override
+	@NotNull
+	public Set<ChunkPos> storedChunks() {
+		return storedChunks;
+	}
+
+	/**
+	 * Writes changed chunks into a region file, creating it if necessary.
+	 * Chunks that are not part of {@code changes} are left untouched.
+	 *
+	 * @param file      the region file
+	 * @param regionPos the region position
+	 * @param changes   the new data per chunk; a {@code null} value removes the
+	 *                  chunk
+	 * @return the number of bytes written
+	 * @throws IOException if writing fails
+	 */
+	public static long write(@NotNull File file, @NotNull RegionPos regionPos,
+			@NotNull Map<ChunkPos, byte[]> changes) throws IOException {
+		long written = 0;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final int[] table = new int[CHUNKS * 2];
+			if (channel.size() >= (long) HEADER_SECTORS * SECTOR_SIZE) {
+				final ByteBuffer header = ByteBuffer.allocate(HEADER_SECTORS * SECTOR_SIZE);
+				readFully(channel, header, 0);
+				checkPreamble(header, regionPos);
+				header.position(TABLE_OFFSET);
+				header.asIntBuffer().get(table);
+			} else {
+				final ByteBuffer preamble = ByteBuffer.allocate(HEADER_SECTORS * SECTOR_SIZE);
+				preamble.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, regionPos.x()).putInt(12, regionPos.z());
+				written += writeFully(channel, preamble, 0);
+			}
+
+			// Sectors in use by the current table, including the header
+			int fileSectors = (int) Math.max(HEADER_SECTORS, (channel.size() + SECTOR_SIZE - 1) / SECTOR_SIZE);
+			final BitSet used = new BitSet(fileSectors);
+			used.set(0, HEADER_SECTORS);
+			for (int index = 0; index < CHUNKS; index++) {
+				if (table[index * 2] != 0) {
+					used.set(table[index * 2], table[index * 2] + table[index * 2 + 1]);
+				}
+			}
+
+			for (Map.Entry<ChunkPos, byte[]> entry : changes.entrySet()) {
+				final int index = indexOf(entry.getKey());
+				final byte[] data = entry.getValue();
+				if (data == null) {
+					table[index * 2] = 0;
+					table[index * 2 + 1] = 0;
+					continue;
+				}
+				if (data.length > MAX_CHUNK_BYTES) {
+					throw new IOException("Chunk " + entry.getKey() + " is too large: " + data.length + " bytes");
+				}
+
+				final int count = (Integer.BYTES + data.length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+				final int offset = findFreeRun(used, count, fileSectors);
+				final ByteBuffer payload = ByteBuffer.allocate(count * SECTOR_SIZE);
+				payload.putInt(data.length).put(data).clear();
+				written += writeFully(channel, payload, (long) offset * SECTOR_SIZE);
+
+				used.set(offset, offset + count);
+				fileSectors = Math.max(fileSectors, offset + count);
+				table[index * 2] = offset;
+				table[index * 2 + 1] = count;
+			}
+
+			// Chunk data must be on disk before the table references it
+			channel.force(false);
+			final ByteBuffer tableBuffer = ByteBuffer.allocate(TABLE_BYTES);
+			tableBuffer.asIntBuffer().put(table);
+			written += writeFully(channel, tableBuffer, TABLE_OFFSET);
+			channel.force(false);
+		}
+		return written;
+	}
+
+	private static int findFreeRun(BitSet used, int count, int fileSectors) {
+		int start = HEADER_SECTORS;
+		while (true) {
+			final int free = used.nextClearBit(start);
+			if (free >= fileSectors) {
+				return free;
+			}
+			final int next = used.nextSetBit(free);
+			if (next == -1 || next >= fileSectors || next - free >= count) {
+				return free;
+			}
+			start = next;
+		}
+	}
+
+	private static void checkPreamble(ByteBuffer buffer, RegionPos regionPos) throws IOException {
+		if (buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not a sector region file");
+		}
+		final int version = buffer.getInt(4);
+		if (version != VERSION) {
+			throw new IOException("Unsupported sector region version: " + version + " (expected " + VERSION + ")");
+		}
+		final int regionX = buffer.getInt(8);
+		final int regionZ = buffer.getInt(12);
+		if (regionX != regionPos.x() || regionZ != regionPos.z()) {
+			throw new IOException("Region header mismatch! File=" + regionX + "," + regionZ + " Expected=" + regionPos);
+		}
+	}
+
+	private static int indexOf(ChunkPos pos) {
+		return (pos.x() & 31) + ((pos.z() & 31) << 5);
+	}
+
+	private static ChunkPos toChunkPos(RegionPos regionPos, int index) {
+		return ChunkPos.of(regionPos.x() * 32 + (index & 31), regionPos.z() * 32 + (index >> 5));
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of region file");
+			}
+		}
+		buffer.clear();
+	}
+
+	private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		final int length = buffer.remaining();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, position + buffer.position());
+		}
+		return length;
+	}
+}
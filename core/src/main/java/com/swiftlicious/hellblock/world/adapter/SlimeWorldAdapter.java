@@ -1,6 +1,7 @@
 package com.swiftlicious.hellblock.world.adapter;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
@@ -68,12 +69,12 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 	private final GenerateSlimeWorldFunction generateSlimeWorldFunction;
 	private final CreateSlimeWorldFunction createSlimeWorldFunction;
 
-	private final Method getWorldMethod;
-	private final Method getLoaderMethod;
-	private final Method createEmptyWorldMethod;
-	private final Method generateWorldMethod;
-	private final Method worldExistsMethod;
-	private final Method deleteWorldMethod;
+	private final MethodHandle getWorldHandle;
+	private final MethodHandle getLoaderHandle;
+	private final MethodHandle createEmptyWorldHandle;
+	private final MethodHandle generateWorldHandle;
+	private final MethodHandle worldExistsHandle;
+	private final MethodHandle deleteWorldHandle;
 
 	private SlimeLoader cachedLoader;
 
@@ -86,6 +87,8 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 
 	public SlimeWorldAdapter(HellblockPlugin plugin, int version) {
 		instance = plugin;
+		// Resolved once, the handles avoid the access checks of Method.invoke on every call
+		final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
 		try {
 			if (version == 1) {
 				final Plugin slimePlugin = Bukkit.getPluginManager().getPlugin("SlimeWorldManager");
@@ -93,41 +96,41 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 					throw new IllegalStateException("SlimeWorldManager plugin not found");
 				}
 				final Class<?> slimeClass = Class.forName("com.infernalsuite.aswm.api.SlimePlugin");
-				this.getWorldMethod = slimeClass.getMethod("getWorld", String.class);
-				this.getLoaderMethod = slimeClass.getMethod("getLoader", String.class);
-				this.createEmptyWorldMethod = slimeClass.getMethod("createEmptyWorld", SlimeLoader.class, String.class,
-						Boolean.class, SlimePropertyMap.class);
-				this.generateWorldMethod = slimeClass.getMethod("generateWorld", SlimeWorld.class);
+				this.getWorldHandle = lookup.unreflect(slimeClass.getMethod("getWorld", String.class));
+				this.getLoaderHandle = lookup.unreflect(slimeClass.getMethod("getLoader", String.class));
+				this.createEmptyWorldHandle = lookup.unreflect(slimeClass.getMethod("createEmptyWorld",
+						SlimeLoader.class, String.class, Boolean.class, SlimePropertyMap.class));
+				this.generateWorldHandle = lookup.unreflect(slimeClass.getMethod("generateWorld", SlimeWorld.class));
 				final Class<?> loaderClass = Class.forName("com.infernalsuite.aswm.api.loaders.SlimeLoader");
-				this.worldExistsMethod = loaderClass.getMethod("worldExists", String.class);
-				this.deleteWorldMethod = loaderClass.getMethod("deleteWorld", String.class);
+				this.worldExistsHandle = lookup.unreflect(loaderClass.getMethod("worldExists", String.class));
+				this.deleteWorldHandle = lookup.unreflect(loaderClass.getMethod("deleteWorld", String.class));
 				this.getSlimeWorldFunction = (worldName) -> {
 					try {
-						return (SlimeWorld) this.getWorldMethod.invoke(slimePlugin, worldName);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return (SlimeWorld) this.getWorldHandle.invoke(slimePlugin, worldName);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.getSlimeLoaderFunction = (data) -> {
 					try {
-						return (SlimeLoader) this.getLoaderMethod.invoke(slimePlugin, data);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return (SlimeLoader) this.getLoaderHandle.invoke(slimePlugin, data);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.createSlimeWorldFunction = (worldName, readOnly, properties, loader) -> {
 					try {
-						return (SlimeWorld) this.createEmptyWorldMethod.invoke(slimePlugin, loader, worldName, readOnly,
+						return (SlimeWorld) this.createEmptyWorldHandle.invoke(slimePlugin, loader, worldName, readOnly,
 								properties);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.generateSlimeWorldFunction = (slime) -> {
 					try {
-						return Either.ofFallback((Void) this.generateWorldMethod.invoke(slimePlugin, slime));
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return Either.ofFallback((Void) this.generateWorldHandle.invoke(slimePlugin, slime));
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.worldExistsFunction = (worldName) -> {
@@ -135,9 +138,9 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 						SlimeLoader loader = this.getSlimeLoader();
 						if (loader == null)
 							return false;
-						return (Boolean) this.worldExistsMethod.invoke(loader, worldName);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return (Boolean) this.worldExistsHandle.invoke(loader, worldName);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.deleteSlimeWorldFunction = (worldName) -> {
@@ -145,50 +148,51 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 						SlimeLoader loader = this.getSlimeLoader();
 						if (loader == null)
 							return;
-						this.deleteWorldMethod.invoke(loader, worldName);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						this.deleteWorldHandle.invoke(loader, worldName);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 			} else if (version == 2 && VersionHelper.isPaperFork()) {
 				final Class<?> apiClass = Class.forName("com.infernalsuite.aswm.api.AdvancedSlimePaperAPI");
 				final Object apiInstance = apiClass.getMethod("instance").invoke(null);
-				this.getWorldMethod = apiClass.getMethod("getLoadedWorld", String.class);
+				this.getWorldHandle = lookup.unreflect(apiClass.getMethod("getLoadedWorld", String.class));
 				final Class<?> loaderManagerClass = Class.forName("com.infernalsuite.aswm.plugin.loader.LoaderManager");
-				this.getLoaderMethod = loaderManagerClass.getMethod("getLoader", String.class);
-				this.createEmptyWorldMethod = apiClass.getMethod("createEmptyWorld", String.class, Boolean.class,
-						SlimePropertyMap.class, SlimeLoader.class);
-				this.generateWorldMethod = apiClass.getMethod("loadWorld", SlimeWorld.class, Boolean.class);
+				this.getLoaderHandle = lookup.unreflect(loaderManagerClass.getMethod("getLoader", String.class));
+				this.createEmptyWorldHandle = lookup.unreflect(apiClass.getMethod("createEmptyWorld", String.class,
+						Boolean.class, SlimePropertyMap.class, SlimeLoader.class));
+				this.generateWorldHandle = lookup
+						.unreflect(apiClass.getMethod("loadWorld", SlimeWorld.class, Boolean.class));
 				final Class<?> loaderClass = Class.forName("com.infernalsuite.aswm.api.loaders.SlimeLoader");
-				this.worldExistsMethod = loaderClass.getMethod("worldExists", String.class);
-				this.deleteWorldMethod = loaderClass.getMethod("deleteWorld", String.class);
+				this.worldExistsHandle = lookup.unreflect(loaderClass.getMethod("worldExists", String.class));
+				this.deleteWorldHandle = lookup.unreflect(loaderClass.getMethod("deleteWorld", String.class));
 				this.getSlimeWorldFunction = (worldName) -> {
 					try {
-						return (SlimeWorld) this.getWorldMethod.invoke(apiInstance, worldName);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return (SlimeWorld) this.getWorldHandle.invoke(apiInstance, worldName);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.getSlimeLoaderFunction = (data) -> {
 					try {
-						return (SlimeLoader) this.getLoaderMethod.invoke(apiInstance, data);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return (SlimeLoader) this.getLoaderHandle.invoke(apiInstance, data);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.createSlimeWorldFunction = (worldName, readOnly, properties, loader) -> {
 					try {
-						return (SlimeWorld) this.createEmptyWorldMethod.invoke(apiInstance, worldName, readOnly,
+						return (SlimeWorld) this.createEmptyWorldHandle.invoke(apiInstance, worldName, readOnly,
 								properties, loader);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.generateSlimeWorldFunction = (slime) -> {
 					try {
-						return Either.ofPrimary((SlimeWorld) this.generateWorldMethod.invoke(apiInstance, slime, true));
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return Either.ofPrimary((SlimeWorld) this.generateWorldHandle.invoke(apiInstance, slime, true));
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 				this.worldExistsFunction = (worldName) -> {
@@ -196,9 +200,9 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 						SlimeLoader loader = this.getSlimeLoader();
 						if (loader == null)
 							return false;
-						return (Boolean) this.worldExistsMethod.invoke(loader, worldName);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						return (Boolean) this.worldExistsHandle.invoke(loader, worldName);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 
@@ -207,9 +211,9 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 						SlimeLoader loader = this.getSlimeLoader();
 						if (loader == null)
 							return;
-						this.deleteWorldMethod.invoke(loader, worldName);
-					} catch (ReflectiveOperationException e) {
-						throw new HellblockWorldException(e);
+						this.deleteWorldHandle.invoke(loader, worldName);
+					} catch (Throwable t) {
+						throw new HellblockWorldException(t);
 					}
 				};
 			} else {
@@ -498,7 +502,7 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 	}
 
 	@Override
-	public void saveChunk(HellblockWorld<SlimeWorld> world, CustomChunk chunk) {
+	public int saveChunk(HellblockWorld<SlimeWorld> world, CustomChunk chunk) {
 		CompoundBinaryTag tag = createOrGetDataTag(world.world());
 		final SerializableChunk serializableChunk = toSerializableChunk(chunk);
 
@@ -518,6 +522,8 @@ public class SlimeWorldAdapter extends AbstractWorldAdapter<SlimeWorld> implemen
 		} else {
 			instance.getScheduler().sync().run(runnable, null);
 		}
+		// Chunks are kept as tags in the slime world data
+		return 0;
 	}
 
 	public void saveAllChunks(HellblockWorld<SlimeWorld> world) {
@@ -139,8 +139,11 @@ public interface WorldAdapter<W> extends Comparable<WorldAdapter<W>> {
 	 *
 	 * @param world The Hellblock world instance to which the chunk belongs.
 	 * @param chunk The chunk to be saved.
+	 * @return The size of the serialized chunk in bytes, {@code 0} if the chunk
+	 *         was pruned or the adapter does not store chunks as bytes, or
+	 *         {@code -1} if the chunk could not be saved.
 	 */
-	void saveChunk(HellblockWorld<W> world, CustomChunk chunk);
+	int saveChunk(HellblockWorld<W> world, CustomChunk chunk);
 
 	/**
 	 * Retrieves the name of the given world.
@@ -2,5 +2,7 @@ CREATE TABLE IF NOT EXISTS `{prefix}_data` (
     uuid CHAR(36) NOT NULL UNIQUE,
     lock INT NOT NULL,
     data BLOB NOT NULL,
+    island_id INT NULL,
+    owner_uuid CHAR(36) NULL,
     PRIMARY KEY (uuid)
-);
\ No newline at end of file
+);
@@ -2,5 +2,8 @@ CREATE TABLE IF NOT EXISTS `{prefix}_data` (
     `uuid` CHAR(36) NOT NULL UNIQUE,
     `lock` INT NOT NULL,
     `data` LONGBLOB NOT NULL,
-    PRIMARY KEY (`uuid`)
+    `island_id` INT NULL,
+    `owner_uuid` CHAR(36) NULL,
+    PRIMARY KEY (`uuid`),
+    INDEX `{prefix}_data_island_id_idx` (`island_id`)
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -1,5 +1,7 @@
 CREATE TABLE IF NOT EXISTS "{prefix}_data" (
     uuid UUID PRIMARY KEY,
     lock INTEGER NOT NULL,
-    data BYTEA NOT NULL
-);
\ No newline at end of file
+    data BYTEA NOT NULL,
+    island_id INTEGER NULL,
+    owner_uuid CHAR(36) NULL
+);
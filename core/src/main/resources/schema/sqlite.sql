@@ -1,5 +1,7 @@
 CREATE TABLE IF NOT EXISTS "{prefix}_data" (
     uuid TEXT PRIMARY KEY,
     lock INTEGER NOT NULL,
-    data BLOB NOT NULL
-);
\ No newline at end of file
+    data BLOB NOT NULL,
+    island_id INTEGER NULL,
+    owner_uuid TEXT NULL
+);